@@ -257,6 +257,7 @@ public class SetValueAction extends DebuggerAction {
       value = evaluator.evaluate(evaluationContext);
 
       setValueRunnable.setValue(evaluationContext, value);
+      evaluationContext.getDebugProcess().getVirtualMachineProxy().getValuesCache().clear();
     }
     catch (IllegalArgumentException ex) {
       throw EvaluateExceptionUtil.createEvaluateException(ex.getMessage());
@@ -46,10 +46,7 @@ import com.sun.jdi.ThreadReference;
 import com.sun.jdi.VMDisconnectedException;
 import com.sun.jdi.VirtualMachine;
 import com.sun.jdi.event.*;
-import com.sun.jdi.request.EventRequest;
-import com.sun.jdi.request.EventRequestManager;
-import com.sun.jdi.request.ThreadDeathRequest;
-import com.sun.jdi.request.ThreadStartRequest;
+import com.sun.jdi.request.*;
 
 /**
  * @author lex
@@ -58,6 +55,9 @@ public class DebugProcessEvents extends DebugProcessImpl {
   private static final Logger LOG = Logger.getInstance("#com.intellij.debugger.engine.DebugProcessEvents");
   private DebuggerEventThread myEventThread;
   private final BreakpointManager myBreakpointManager;
+  // requests feeding the index of loaded classes, null if the index is not maintained
+  private ClassPrepareRequest myClassesTrackingPrepareRequest;
+  private ClassUnloadRequest myClassesTrackingUnloadRequest;
 
   public DebugProcessEvents(Project project) {
     super(project);
@@ -172,6 +172,17 @@ public class DebugProcessEvents extends DebugProcessImpl {
                   }
                 });
               }
+              else if (event instanceof ClassPrepareEvent && myClassesTrackingPrepareRequest != null &&
+                       myClassesTrackingPrepareRequest.equals(event.request())) {
+                processed++;
+                // update the index right away rather than in the manager thread, so that lookups see the class as soon as possible
+                myVmProxy.getClassesIndex().classPrepared(((ClassPrepareEvent)event).referenceType());
+              }
+              else if (event instanceof ClassUnloadEvent && myClassesTrackingUnloadRequest != null &&
+                       myClassesTrackingUnloadRequest.equals(event.request())) {
+                processed++;
+                myVmProxy.getClassesIndex().classUnloaded(((ClassUnloadEvent)event).className());
+              }
             }
             
             if (processed == eventSet.size()) {
@@ -317,6 +328,17 @@ public class DebugProcessEvents extends DebugProcessImpl {
       threadDeathRequest.setSuspendPolicy(EventRequest.SUSPEND_NONE);
       threadDeathRequest.enable();
 
+      if (!machineProxy.isJ2ME()) {
+        // the requests must be enabled before the index takes its initial snapshot of loaded classes
+        myClassesTrackingPrepareRequest = requestManager.createClassPrepareRequest();
+        myClassesTrackingPrepareRequest.setSuspendPolicy(EventRequest.SUSPEND_NONE);
+        myClassesTrackingPrepareRequest.enable();
+        myClassesTrackingUnloadRequest = requestManager.createClassUnloadRequest();
+        myClassesTrackingUnloadRequest.setSuspendPolicy(EventRequest.SUSPEND_NONE);
+        myClassesTrackingUnloadRequest.enable();
+        machineProxy.getClassesIndex().startTracking();
+      }
+
       DebuggerManagerEx.getInstanceEx(getProject()).getBreakpointManager().setInitialBreakpointsState();
       myDebugProcessDispatcher.getMulticaster().processAttached(this);
 
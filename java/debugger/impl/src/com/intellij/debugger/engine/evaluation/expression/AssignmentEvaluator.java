@@ -51,6 +51,7 @@ public class AssignmentEvaluator implements Evaluator{
     }
     try {
       modifier.setValue(((Value)right));
+      context.getDebugProcess().getVirtualMachineProxy().getValuesCache().clear();
     }
     catch (ClassNotLoadedException e) {
       if (!context.isAutoLoadClasses()) {
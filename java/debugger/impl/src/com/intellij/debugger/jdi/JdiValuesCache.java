@@ -0,0 +1,285 @@
+/*
+ * Copyright 2000-2012 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.intellij.debugger.jdi;
+
+import com.intellij.debugger.engine.DebugProcessImpl;
+import com.intellij.debugger.engine.DebuggerManagerThreadImpl;
+import com.intellij.debugger.engine.SuspendContextImpl;
+import com.intellij.openapi.diagnostic.Logger;
+import com.sun.jdi.*;
+import com.sun.jdi.request.EventRequest;
+import gnu.trove.TIntObjectHashMap;
+import org.jetbrains.annotations.NonNls;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Fetches values of the debuggee in bulk and keeps them while the whole VM stays suspended.
+ * <p/>
+ * Every JDI call like {@link ObjectReference#getValue(Field)} is a JDWP round-trip, which takes milliseconds over a slow link,
+ * and expanding an object in the variables tree requests every field separately. Instead, the first request of a field value
+ * fetches all instance fields of the object with a single call, the first request of an array element fetches a whole slice
+ * of the array, and the results are reused by later requests.
+ * <p/>
+ * Values are cached only while all threads of the VM are suspended, i.e. when paused by the user or stopped in a
+ * {@link EventRequest#SUSPEND_ALL} context: when only the event thread is suspended, other threads keep running and
+ * may modify the heap at any moment, so values are requested from the VM directly. Reference types and field lists
+ * never change for a given object and are cached regardless.
+ * <p/>
+ * The cache is {@link VirtualMachineProxyImpl#clearCaches() cleared} together with other caches of the VM proxy,
+ * i.e. whenever the VM or a thread is resumed, including method invocations for evaluation, and when a value is modified.
+ * Must be used from the debugger manager thread only.
+ */
+public class JdiValuesCache {
+  private static final Logger LOG = Logger.getInstance("#com.intellij.debugger.jdi.JdiValuesCache");
+  private static final int ARRAY_SLICE_SIZE = 256;
+
+  private final Map<ObjectReference, Map<Field, Value>> myFieldValues = new HashMap<ObjectReference, Map<Field, Value>>();
+  private final Map<ReferenceType, Map<Field, Value>> myStaticValues = new HashMap<ReferenceType, Map<Field, Value>>();
+  private final Map<ArrayReference, ArrayValues> myArrayValues = new HashMap<ArrayReference, ArrayValues>();
+  private final Map<ObjectReference, ReferenceType> myTypes = new HashMap<ObjectReference, ReferenceType>();
+  private final Map<ReferenceType, List<Field>> myAllFields = new HashMap<ReferenceType, List<Field>>();
+
+  private final RoundTrips myFieldRoundTrips = new RoundTrips("fields");
+  private final RoundTrips myStaticRoundTrips = new RoundTrips("static fields");
+  private final RoundTrips myArrayRoundTrips = new RoundTrips("array elements");
+  private final RoundTrips myTypeRoundTrips = new RoundTrips("types");
+
+  private final VirtualMachineProxyImpl myVirtualMachine;
+
+  public JdiValuesCache(@NotNull VirtualMachineProxyImpl virtualMachine) {
+    myVirtualMachine = virtualMachine;
+  }
+
+  public Value getValue(@NotNull ObjectReference object, @NotNull Field field) {
+    DebuggerManagerThreadImpl.assertIsManagerThread();
+    if (field.isStatic()) {
+      return getStaticValue(field.declaringType(), field);
+    }
+    if (!isAllThreadsSuspended()) {
+      return object.getValue(field);
+    }
+    Map<Field, Value> values = myFieldValues.get(object);
+    if (values != null && values.containsKey(field)) {
+      return values.get(field);
+    }
+
+    List<Field> toFetch = new ArrayList<Field>();
+    for (Field each : allFields(referenceType(object))) {
+      if (!each.isStatic() && (values == null || !values.containsKey(each))) {
+        toFetch.add(each);
+      }
+    }
+    if (!toFetch.contains(field)) {
+      toFetch.add(field);
+    }
+
+    long start = System.nanoTime();
+    Map<Field, Value> fetched;
+    try {
+      fetched = object.getValues(toFetch);
+    }
+    catch (IllegalArgumentException e) {
+      // some of the fields are not valid for the object, don't try to be smart
+      fetched = Collections.singletonMap(field, object.getValue(field));
+    }
+    myFieldRoundTrips.add(fetched.size(), System.nanoTime() - start);
+
+    if (values == null) {
+      values = new HashMap<Field, Value>(fetched);
+      myFieldValues.put(object, values);
+    }
+    else {
+      values.putAll(fetched);
+    }
+    return values.get(field);
+  }
+
+  public Value getStaticValue(@NotNull ReferenceType type, @NotNull Field field) {
+    DebuggerManagerThreadImpl.assertIsManagerThread();
+    if (!isAllThreadsSuspended()) {
+      return type.getValue(field);
+    }
+    Map<Field, Value> values = myStaticValues.get(type);
+    if (values != null && values.containsKey(field)) {
+      return values.get(field);
+    }
+
+    List<Field> toFetch = new ArrayList<Field>();
+    for (Field each : type.fields()) {
+      if (each.isStatic() && (values == null || !values.containsKey(each))) {
+        toFetch.add(each);
+      }
+    }
+    if (!toFetch.contains(field)) {
+      toFetch.add(field);
+    }
+
+    long start = System.nanoTime();
+    Map<Field, Value> fetched;
+    try {
+      fetched = type.getValues(toFetch);
+    }
+    catch (IllegalArgumentException e) {
+      fetched = Collections.singletonMap(field, type.getValue(field));
+    }
+    myStaticRoundTrips.add(fetched.size(), System.nanoTime() - start);
+
+    if (values == null) {
+      values = new HashMap<Field, Value>(fetched);
+      myStaticValues.put(type, values);
+    }
+    else {
+      values.putAll(fetched);
+    }
+    return values.get(field);
+  }
+
+  public int getArrayLength(@NotNull ArrayReference array) {
+    DebuggerManagerThreadImpl.assertIsManagerThread();
+    if (!isAllThreadsSuspended()) {
+      return array.length();
+    }
+    return getArrayValues(array).myLength;
+  }
+
+  public Value getArrayValue(@NotNull ArrayReference array, int index) {
+    DebuggerManagerThreadImpl.assertIsManagerThread();
+    if (!isAllThreadsSuspended()) {
+      return array.getValue(index);
+    }
+    ArrayValues values = getArrayValues(array);
+    if (index < 0 || index >= values.myLength) {
+      // let JDI report the problem
+      return array.getValue(index);
+    }
+    int sliceIndex = index / ARRAY_SLICE_SIZE;
+    List<Value> slice = values.mySlices.get(sliceIndex);
+    if (slice == null) {
+      int sliceStart = sliceIndex * ARRAY_SLICE_SIZE;
+      long start = System.nanoTime();
+      slice = array.getValues(sliceStart, Math.min(ARRAY_SLICE_SIZE, values.myLength - sliceStart));
+      myArrayRoundTrips.add(slice.size(), System.nanoTime() - start);
+      values.mySlices.put(sliceIndex, slice);
+    }
+    return slice.get(index % ARRAY_SLICE_SIZE);
+  }
+
+  private boolean isAllThreadsSuspended() {
+    if (myVirtualMachine.isPausePressed()) {
+      return true;
+    }
+    for (SuspendContextImpl context : ((DebugProcessImpl)myVirtualMachine.getDebugProcess()).getSuspendManager().getEventContexts()) {
+      if (context.getSuspendPolicy() == EventRequest.SUSPEND_ALL && !context.isResumed()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private ArrayValues getArrayValues(ArrayReference array) {
+    ArrayValues values = myArrayValues.get(array);
+    if (values == null) {
+      long start = System.nanoTime();
+      int length = array.length();
+      myArrayRoundTrips.add(0, System.nanoTime() - start);
+      values = new ArrayValues(length);
+      myArrayValues.put(array, values);
+    }
+    return values;
+  }
+
+  @NotNull
+  public ReferenceType referenceType(@NotNull ObjectReference object) {
+    DebuggerManagerThreadImpl.assertIsManagerThread();
+    ReferenceType type = myTypes.get(object);
+    if (type == null) {
+      long start = System.nanoTime();
+      type = object.referenceType();
+      myTypeRoundTrips.add(1, System.nanoTime() - start);
+      myTypes.put(object, type);
+    }
+    return type;
+  }
+
+  @NotNull
+  public List<Field> allFields(@NotNull ReferenceType type) {
+    DebuggerManagerThreadImpl.assertIsManagerThread();
+    List<Field> fields = myAllFields.get(type);
+    if (fields == null) {
+      long start = System.nanoTime();
+      fields = type.allFields();
+      myTypeRoundTrips.add(1, System.nanoTime() - start);
+      myAllFields.put(type, fields);
+    }
+    return fields;
+  }
+
+  /**
+   * Drops cached values. Should be called whenever the debuggee state may have been changed.
+   */
+  public void clear() {
+    if (LOG.isDebugEnabled() && myFieldRoundTrips.myCount + myArrayRoundTrips.myCount + myStaticRoundTrips.myCount > 0) {
+      LOG.debug(getStatistics());
+    }
+    myFieldValues.clear();
+    myStaticValues.clear();
+    myArrayValues.clear();
+    myTypes.clear();
+    myAllFields.clear();
+  }
+
+  /**
+   * @return number of JDWP round-trips made through the cache, values fetched and time spent, per kind of request
+   */
+  @NonNls
+  @NotNull
+  public String getStatistics() {
+    return myFieldRoundTrips + "; " + myStaticRoundTrips + "; " + myArrayRoundTrips + "; " + myTypeRoundTrips;
+  }
+
+  private static class ArrayValues {
+    private final int myLength;
+    private final TIntObjectHashMap<List<Value>> mySlices = new TIntObjectHashMap<List<Value>>();
+
+    private ArrayValues(int length) {
+      myLength = length;
+    }
+  }
+
+  private static class RoundTrips {
+    private final String myName;
+    private long myCount;
+    private long myValues;
+    private long myNanos;
+
+    private RoundTrips(@NonNls String name) {
+      myName = name;
+    }
+
+    private void add(int values, long nanos) {
+      myCount++;
+      myValues += values;
+      myNanos += nanos;
+    }
+
+    @NonNls
+    public String toString() {
+      return myName + ": " + myCount + " round-trips, " + myValues + " values, " + myNanos / 1000000 + "ms";
+    }
+  }
+}
@@ -0,0 +1,352 @@
+/*
+ * Copyright 2000-2012 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.intellij.debugger.jdi;
+
+import com.intellij.openapi.diagnostic.Logger;
+import com.sun.jdi.ReferenceType;
+import com.sun.jdi.VirtualMachine;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Debugger-side index of classes loaded in the debuggee, by name and by top-level class name.
+ * <p/>
+ * Every {@link VirtualMachine#classesByName(String)} call is a JDWP round-trip which makes the debuggee scan all its loaded classes,
+ * and {@link ReferenceType#nestedTypes()} goes through all of them on the debugger side. With tens of thousands of classes
+ * in an application server, installing many breakpoints and mapping positions becomes really slow.
+ * <p/>
+ * The index is filled with a single {@link VirtualMachine#allClasses()} call on the first lookup and then maintained
+ * from class prepare and class unload events reported by the requests created in
+ * {@link com.intellij.debugger.engine.DebugProcessEvents}. The requests are enabled before the initial snapshot is taken;
+ * events received while the snapshot is being requested are queued and replayed on top of it, so that no class is missed.
+ * <p/>
+ * Lookups are made in the debugger manager thread, updates come from the event reader thread. Requests to the VM are
+ * never made while holding the index lock, so the event reader thread is not blocked by a slow JDWP round-trip.
+ */
+public class LoadedClassesIndex {
+  private static final Logger LOG = Logger.getInstance("#com.intellij.debugger.jdi.LoadedClassesIndex");
+
+  private final VirtualMachine myVirtualMachine;
+
+  // all the fields below are guarded by this
+  private boolean myTracking;
+  private boolean myInitialized;
+  /**
+   * Class prepare ({@link ReferenceType}) and class unload ({@link String}) events received while the initial snapshot
+   * is being requested, in the order of arrival; {@code null} when no snapshot is being requested.
+   */
+  private List<Object> myPendingEvents;
+  private final Map<String, List<ReferenceType>> myByName = new HashMap<String, List<ReferenceType>>();
+  private final Map<String, List<ReferenceType>> myByTopLevelName = new HashMap<String, List<ReferenceType>>();
+  /**
+   * Names of classes loaded by several class loaders, one of which has been unloaded. Unload events don't tell which
+   * of them has gone, so the classes with these names are requested from the VM on the next lookup.
+   */
+  private final Set<String> myStaleNames = new HashSet<String>();
+  private long myEventCount;
+  private List<ReferenceType> myAllClasses;
+
+  public LoadedClassesIndex(@NotNull VirtualMachine virtualMachine) {
+    myVirtualMachine = virtualMachine;
+  }
+
+  /**
+   * Should be called once the requests reporting class prepare and class unload events are enabled.
+   * Until then all lookups go to the VM.
+   */
+  public synchronized void startTracking() {
+    myTracking = true;
+  }
+
+  public synchronized boolean isTracking() {
+    return myTracking;
+  }
+
+  @NotNull
+  public List<ReferenceType> classesByName(@NotNull String name) {
+    if (ensureInitialized()) {
+      final boolean stale;
+      synchronized (this) {
+        stale = myStaleNames.contains(name);
+      }
+      if (!stale || resolveStale(Collections.singletonList(name))) {
+        synchronized (this) {
+          // the lists are modified by the event reader thread, so don't expose them
+          return copy(myByName.get(name));
+        }
+      }
+    }
+    return myVirtualMachine.classesByName(name);
+  }
+
+  /**
+   * @return the class with the given top-level name and all its nested, local and anonymous classes, i.e. the classes
+   *         usually compiled from the same source file
+   */
+  @NotNull
+  public List<ReferenceType> classesByTopLevelName(@NotNull String topLevelName) {
+    if (ensureInitialized()) {
+      final List<String> stale = new ArrayList<String>();
+      synchronized (this) {
+        for (String name : myStaleNames) {
+          if (topLevelName.equals(getTopLevelName(name))) {
+            stale.add(name);
+          }
+        }
+      }
+      if (resolveStale(stale)) {
+        synchronized (this) {
+          return copy(myByTopLevelName.get(topLevelName));
+        }
+      }
+    }
+    final List<ReferenceType> result = new ArrayList<ReferenceType>();
+    for (ReferenceType type : myVirtualMachine.allClasses()) {
+      if (topLevelName.equals(getTopLevelName(type.name()))) {
+        result.add(type);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Does the same as {@link ReferenceType#nestedTypes()} without going through all loaded classes.
+   */
+  @NotNull
+  public List<ReferenceType> nestedTypes(@NotNull ReferenceType outer) {
+    if (!isTracking()) {
+      return outer.nestedTypes();
+    }
+    final String outerName = outer.name();
+    final List<ReferenceType> result = new ArrayList<ReferenceType>();
+    for (ReferenceType type : classesByTopLevelName(getTopLevelName(outerName))) {
+      final String name = type.name();
+      if (name.length() > outerName.length() && name.startsWith(outerName)) {
+        final char c = name.charAt(outerName.length());
+        if (c == '$' || c == '#') {
+          result.add(type);
+        }
+      }
+    }
+    return result;
+  }
+
+  @NotNull
+  public List<ReferenceType> allClasses() {
+    if (ensureInitialized()) {
+      final List<String> stale;
+      synchronized (this) {
+        stale = new ArrayList<String>(myStaleNames);
+      }
+      if (resolveStale(stale)) {
+        synchronized (this) {
+          if (myAllClasses == null) {
+            final List<ReferenceType> all = new ArrayList<ReferenceType>();
+            for (List<ReferenceType> types : myByName.values()) {
+              all.addAll(types);
+            }
+            myAllClasses = Collections.unmodifiableList(all);
+          }
+          return myAllClasses;
+        }
+      }
+    }
+    return myVirtualMachine.allClasses();
+  }
+
+  /**
+   * Called from the event reader thread for every class prepare event.
+   */
+  public synchronized void classPrepared(@NotNull ReferenceType type) {
+    if (!myInitialized) {
+      if (myPendingEvents != null) {
+        myPendingEvents.add(type);
+      }
+      // otherwise the type will be a part of the initial snapshot
+      return;
+    }
+    myEventCount++;
+    add(type);
+  }
+
+  /**
+   * Called from the event reader thread for every class unload event.
+   */
+  public synchronized void classUnloaded(@NotNull String name) {
+    if (!myInitialized) {
+      if (myPendingEvents != null) {
+        myPendingEvents.add(name);
+      }
+      return;
+    }
+    myEventCount++;
+    unload(name);
+  }
+
+  /**
+   * Takes the initial snapshot of loaded classes if it hasn't been taken yet.
+   *
+   * @return false if lookups should go to the VM, i.e. if tracking hasn't started yet or the snapshot is being taken by another thread
+   */
+  private boolean ensureInitialized() {
+    synchronized (this) {
+      if (!myTracking) {
+        return false;
+      }
+      if (myInitialized) {
+        return true;
+      }
+      if (myPendingEvents != null) {
+        return false;
+      }
+      myPendingEvents = new ArrayList<Object>();
+    }
+
+    final long start = System.currentTimeMillis();
+    List<ReferenceType> snapshot = null;
+    try {
+      snapshot = myVirtualMachine.allClasses();
+    }
+    finally {
+      synchronized (this) {
+        if (snapshot != null) {
+          for (ReferenceType type : snapshot) {
+            add(type);
+          }
+          for (Object event : myPendingEvents) {
+            if (event instanceof ReferenceType) {
+              add((ReferenceType)event);
+            }
+            else {
+              unload((String)event);
+            }
+          }
+          myInitialized = true;
+        }
+        myPendingEvents = null;
+      }
+    }
+    if (LOG.isDebugEnabled()) {
+      LOG.debug(snapshot.size() + " classes indexed in " + (System.currentTimeMillis() - start) + "ms");
+    }
+    return true;
+  }
+
+  private void add(ReferenceType type) {
+    final String name = type.name();
+    final List<ReferenceType> types = getOrCreate(myByName, name);
+    if (types.contains(type)) {
+      return;
+    }
+    types.add(type);
+    getOrCreate(myByTopLevelName, getTopLevelName(name)).add(type);
+    myAllClasses = null;
+  }
+
+  private void unload(String name) {
+    final List<ReferenceType> types = myByName.get(name);
+    if (types == null) {
+      return;
+    }
+    if (types.size() > 1) {
+      myStaleNames.add(name);
+      return;
+    }
+    removeAll(name);
+  }
+
+  private void removeAll(String name) {
+    myByName.remove(name);
+    final String topLevelName = getTopLevelName(name);
+    final List<ReferenceType> sameTopLevel = myByTopLevelName.get(topLevelName);
+    if (sameTopLevel != null) {
+      for (Iterator<ReferenceType> it = sameTopLevel.iterator(); it.hasNext();) {
+        if (name.equals(it.next().name())) {
+          it.remove();
+        }
+      }
+      if (sameTopLevel.isEmpty()) {
+        myByTopLevelName.remove(topLevelName);
+      }
+    }
+    myAllClasses = null;
+  }
+
+  /**
+   * Requests the classes with the given stale names from the VM, outside of the lock, and puts them into the index.
+   *
+   * @return false if classes were prepared or unloaded meanwhile, so the names are still stale and lookups should go to the VM
+   */
+  private boolean resolveStale(@NotNull Collection<String> names) {
+    if (names.isEmpty()) {
+      return true;
+    }
+    final long eventCount;
+    synchronized (this) {
+      eventCount = myEventCount;
+    }
+    final Map<String, List<ReferenceType>> resolved = new HashMap<String, List<ReferenceType>>();
+    for (String name : names) {
+      resolved.put(name, myVirtualMachine.classesByName(name));
+    }
+    synchronized (this) {
+      if (myEventCount != eventCount) {
+        return false;
+      }
+      for (Map.Entry<String, List<ReferenceType>> entry : resolved.entrySet()) {
+        myStaleNames.remove(entry.getKey());
+        removeAll(entry.getKey());
+        for (ReferenceType type : entry.getValue()) {
+          add(type);
+        }
+      }
+    }
+    return true;
+  }
+
+  @NotNull
+  private static List<ReferenceType> copy(@Nullable List<ReferenceType> types) {
+    return types == null ? Collections.<ReferenceType>emptyList() : new ArrayList<ReferenceType>(types);
+  }
+
+  @NotNull
+  private static List<ReferenceType> getOrCreate(Map<String, List<ReferenceType>> map, String key) {
+    List<ReferenceType> types = map.get(key);
+    if (types == null) {
+      // most names belong to a single class
+      types = new ArrayList<ReferenceType>(1);
+      map.put(key, types);
+    }
+    return types;
+  }
+
+  /**
+   * @return the name of the top-level class for the given class name, e.g. {@code a.b.Outer} for {@code a.b.Outer$Inner$1}
+   */
+  @NotNull
+  public static String getTopLevelName(@NotNull String className) {
+    final int start = className.lastIndexOf('.') + 1;
+    for (int i = start; i < className.length(); i++) {
+      final char c = className.charAt(i);
+      if (c == '$' || c == '#') {
+        return className.substring(0, i);
+      }
+    }
+    return className;
+  }
+}
@@ -54,6 +54,8 @@ public class VirtualMachineProxyImpl implements JdiTimer, VirtualMachineProxy {
   private boolean myAllThreadsDirty = true;
   private List<ReferenceType> myAllClasses;
   private Map<ReferenceType, List<ReferenceType>> myNestedClassesCache = new HashMap<ReferenceType, List<ReferenceType>>();
+  private final JdiValuesCache myValuesCache = new JdiValuesCache(this);
+  private final LoadedClassesIndex myClassesIndex;
 
   public Throwable mySuspendLogger = new Throwable();
   private final boolean myVersionHigher_15;
@@ -62,6 +64,7 @@ public class VirtualMachineProxyImpl implements JdiTimer, VirtualMachineProxy {
   public VirtualMachineProxyImpl(DebugProcessImpl debugProcess, @NotNull VirtualMachine virtualMachine) {
     myVirtualMachine = virtualMachine;
     myDebugProcess = debugProcess;
+    myClassesIndex = new LoadedClassesIndex(virtualMachine);
 
     myVersionHigher_15 = versionHigher("1.5");
     myVersionHigher_14 = myVersionHigher_15 || versionHigher("1.4");
@@ -82,13 +85,20 @@ public class VirtualMachineProxyImpl implements JdiTimer, VirtualMachineProxy {
   }
 
   public List<ReferenceType> classesByName(String s) {
-    return myVirtualMachine.classesByName(s);
+    return myClassesIndex.classesByName(s);
+  }
+
+  /**
+   * @return index of loaded classes which serves {@link #classesByName(String)}, {@link #allClasses()} and {@link #nestedTypes(ReferenceType)}
+   */
+  public LoadedClassesIndex getClassesIndex() {
+    return myClassesIndex;
   }
 
   public List<ReferenceType> nestedTypes(ReferenceType refType) {
     List<ReferenceType> nestedTypes = myNestedClassesCache.get(refType);
     if (nestedTypes == null) {
-      final List<ReferenceType> list = refType.nestedTypes();
+      final List<ReferenceType> list = myClassesIndex.nestedTypes(refType);
       final int size = list.size();
       if (size > 0) {
         final Set<ReferenceType> candidates = new HashSet<ReferenceType>();
@@ -122,9 +132,16 @@ public class VirtualMachineProxyImpl implements JdiTimer, VirtualMachineProxy {
     return nestedTypes;
   }
 
+  /**
+   * @return cache of debuggee values which is valid while the whole VM is suspended
+   */
+  public JdiValuesCache getValuesCache() {
+    return myValuesCache;
+  }
+
   public List<ReferenceType> allClasses() {
     if (myAllClasses == null) {
-      myAllClasses = myVirtualMachine.allClasses();
+      myAllClasses = myClassesIndex.allClasses();
     }
     return myAllClasses;
   }
@@ -609,6 +626,7 @@ public class VirtualMachineProxyImpl implements JdiTimer, VirtualMachineProxy {
     }
 
     myAllClasses = null;
+    myValuesCache.clear();
     if (!myNestedClassesCache.isEmpty()) {
       myNestedClassesCache = new HashMap<ReferenceType, List<ReferenceType>>(myNestedClassesCache.size());
     }
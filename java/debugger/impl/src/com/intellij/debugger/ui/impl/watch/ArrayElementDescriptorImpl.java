@@ -61,7 +61,7 @@ public class ArrayElementDescriptorImpl extends ValueDescriptorImpl implements A
 
   public Value calcValue(EvaluationContextImpl evaluationContext) throws EvaluateException {
     try {
-      return myArray.getValue(myIndex);
+      return evaluationContext.getDebugProcess().getVirtualMachineProxy().getValuesCache().getArrayValue(myArray, myIndex);
     }
     catch (ObjectCollectedException e) {
       throw EvaluateExceptionUtil.ARRAY_WAS_COLLECTED;
@@ -25,6 +25,7 @@ import com.intellij.debugger.engine.evaluation.EvaluateExceptionUtil;
 import com.intellij.debugger.engine.evaluation.EvaluationContextImpl;
 import com.intellij.debugger.impl.DebuggerContextImpl;
 import com.intellij.debugger.impl.PositionUtil;
+import com.intellij.debugger.jdi.JdiValuesCache;
 import com.intellij.debugger.settings.NodeRendererSettings;
 import com.intellij.debugger.ui.tree.FieldDescriptor;
 import com.intellij.debugger.ui.tree.NodeDescriptor;
@@ -127,7 +128,8 @@ public class FieldDescriptorImpl extends ValueDescriptorImpl implements FieldDes
   public Value calcValue(EvaluationContextImpl evaluationContext) throws EvaluateException {
     DebuggerManagerThreadImpl.assertIsManagerThread();
     try {
-      return (myObject != null) ? myObject.getValue(myField) : myField.declaringType().getValue(myField);
+      final JdiValuesCache cache = evaluationContext.getDebugProcess().getVirtualMachineProxy().getValuesCache();
+      return (myObject != null) ? cache.getValue(myObject, myField) : cache.getStaticValue(myField.declaringType(), myField);
     }
     catch (ObjectCollectedException e) {
       throw EvaluateExceptionUtil.OBJECT_WAS_COLLECTED;
@@ -19,6 +19,7 @@ import com.intellij.debugger.DebuggerContext;
 import com.intellij.debugger.engine.DebuggerManagerThreadImpl;
 import com.intellij.debugger.engine.evaluation.EvaluateException;
 import com.intellij.debugger.engine.evaluation.EvaluationContext;
+import com.intellij.debugger.jdi.VirtualMachineProxyImpl;
 import com.intellij.debugger.settings.ViewsGeneralSettings;
 import com.intellij.debugger.ui.impl.watch.ArrayElementDescriptorImpl;
 import com.intellij.debugger.ui.impl.watch.MessageDescriptor;
@@ -103,7 +104,8 @@ public class ArrayRenderer extends NodeRendererImpl{
     NodeDescriptorFactory descriptorFactory = builder.getDescriptorManager();
 
     ArrayReference array = (ArrayReference)value;
-    if (array.length() > 0) {
+    final int length = ((VirtualMachineProxyImpl)evaluationContext.getDebugProcess().getVirtualMachineProxy()).getValuesCache().getArrayLength(array);
+    if (length > 0) {
       int added = 0;
 
       if(ENTRIES_LIMIT > END_INDEX - START_INDEX + 1) {
@@ -114,9 +116,9 @@ public class ArrayRenderer extends NodeRendererImpl{
         ENTRIES_LIMIT = 1;
       }
 
-      if(array.length() - 1 >= START_INDEX) {
+      if(length - 1 >= START_INDEX) {
         int start = START_INDEX;
-        int end  = array.length() - 1 < END_INDEX   ? array.length() - 1 : END_INDEX;
+        int end  = length - 1 < END_INDEX   ? length - 1 : END_INDEX;
 
         int idx;
 
@@ -149,7 +151,7 @@ public class ArrayRenderer extends NodeRendererImpl{
         // ...
 
         //when itemENTRIES_LIMIT/2+1...itemENTRIES_LIMIT set is empty, we should not add middle "..." node
-        if(idx >= start && !(ENTRIES_LIMIT == 1 && END_INDEX < array.length())) {
+        if(idx >= start && !(ENTRIES_LIMIT == 1 && END_INDEX < length)) {
           children.add(nodeManager.createMessageNode(new MessageDescriptor(MORE_ELEMENTS, MessageDescriptor.SPECIAL)));
         }
 
@@ -160,7 +162,7 @@ public class ArrayRenderer extends NodeRendererImpl{
       }
 
       if (added == 0) {
-        if(START_INDEX == 0 && array.length() - 1 <= END_INDEX) {
+        if(START_INDEX == 0 && length - 1 <= END_INDEX) {
           children.add(nodeManager.createMessageNode(MessageDescriptor.ALL_ELEMENTS_IN_RANGE_ARE_NULL.getLabel()));
         }
         else {
@@ -172,7 +174,7 @@ public class ArrayRenderer extends NodeRendererImpl{
           children.add(0, nodeManager.createMessageNode(new MessageDescriptor(MORE_ELEMENTS, MessageDescriptor.SPECIAL)));
         }
 
-        if(END_INDEX < array.length() - 1) {
+        if(END_INDEX < length - 1) {
           children.add(nodeManager.createMessageNode(new MessageDescriptor(MORE_ELEMENTS, MessageDescriptor.SPECIAL)));
         }
       }
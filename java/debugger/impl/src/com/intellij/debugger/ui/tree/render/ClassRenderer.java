@@ -22,6 +22,8 @@ import com.intellij.debugger.engine.DebuggerUtils;
 import com.intellij.debugger.engine.evaluation.EvaluateException;
 import com.intellij.debugger.engine.evaluation.EvaluationContext;
 import com.intellij.debugger.engine.jdi.StackFrameProxy;
+import com.intellij.debugger.jdi.JdiValuesCache;
+import com.intellij.debugger.jdi.VirtualMachineProxyImpl;
 import com.intellij.debugger.ui.impl.watch.FieldDescriptorImpl;
 import com.intellij.debugger.ui.impl.watch.MessageDescriptor;
 import com.intellij.debugger.ui.impl.watch.NodeManagerImpl;
@@ -158,9 +160,10 @@ public class ClassRenderer extends NodeRendererImpl{
     List<DebuggerTreeNode> children = new ArrayList<DebuggerTreeNode>();
     if (value instanceof ObjectReference) {
       final ObjectReference objRef = (ObjectReference)value;
-      final ReferenceType refType = objRef.referenceType();
+      final JdiValuesCache cache = ((VirtualMachineProxyImpl)evaluationContext.getDebugProcess().getVirtualMachineProxy()).getValuesCache();
+      final ReferenceType refType = cache.referenceType(objRef);
       // default ObjectReference processing
-      final List<Field> fields = refType.allFields();
+      final List<Field> fields = cache.allFields(refType);
       if (fields.size() > 0) {
         for (final Field field : fields) {
           if (!shouldDisplay(evaluationContext, objRef, field)) {
@@ -916,6 +916,7 @@ public class UnusedDeclarationInspection extends FilteringInspectionTool {
 
     for (RefElement entry : getEntryPointsManager().getEntryPoints()) {
       entry.accept(codeScanner);
+      codeScanner.processPending();
     }
 
     while (codeScanner.newlyInstantiatedClassesCount() != 0) {
@@ -928,11 +929,16 @@ public class UnusedDeclarationInspection extends FilteringInspectionTool {
     return getContext().getExtension(GlobalJavaInspectionContext.CONTEXT).getEntryPointsManager(getContext().getRefManager());
   }
 
+  /**
+   * Marks the elements reachable from the entry points. The elements to visit are kept in a stack rather than
+   * visited recursively, not to overflow the thread stack on long reference chains.
+   */
   private static class CodeScanner extends RefJavaVisitor {
     private final HashMap<RefClass, HashSet<RefMethod>> myClassIDtoMethods;
     private final HashSet<RefClass> myInstantiatedClasses;
     private int myInstantiatedClassesCount;
     private final HashSet<RefMethod> myProcessedMethods;
+    private final ArrayList<RefElement> myPending = new ArrayList<RefElement>();
 
     private CodeScanner() {
       myClassIDtoMethods = new HashMap<RefClass, HashSet<RefMethod>>();
@@ -964,9 +970,7 @@ public class UnusedDeclarationInspection extends FilteringInspectionTool {
             addDelayedMethod(method);
           }
 
-          for (RefMethod refSub : method.getDerivedMethods()) {
-            visitMethod(refSub);
-          }
+          myPending.addAll(method.getDerivedMethods());
         }
       }
     }
@@ -996,10 +1000,7 @@ public class UnusedDeclarationInspection extends FilteringInspectionTool {
         ((RefClassImpl)refClass).setReachable(true);
         myInstantiatedClassesCount++;
 
-        final List<RefMethod> refMethods = refClass.getLibraryMethods();
-        for (RefMethod refMethod : refMethods) {
-          refMethod.accept(this);
-        }
+        myPending.addAll(refClass.getLibraryMethods());
         for (RefClass baseClass : refClass.getBaseClasses()) {
           addInstantiatedClass(baseClass);
         }
@@ -1008,14 +1009,16 @@ public class UnusedDeclarationInspection extends FilteringInspectionTool {
 
     private void makeContentReachable(RefJavaElementImpl refElement) {
       refElement.setReachable(true);
-      for (RefElement refCallee : refElement.getOutReferences()) {
-        refCallee.accept(this);
-      }
+      myPending.addAll(refElement.getOutReferences());
     }
 
     private void makeClassInitializersReachable(RefClass refClass) {
-      for (RefElement refCallee : refClass.getOutReferences()) {
-        refCallee.accept(this);
+      myPending.addAll(refClass.getOutReferences());
+    }
+
+    private void processPending() {
+      while (!myPending.isEmpty()) {
+        myPending.remove(myPending.size() - 1).accept(this);
       }
     }
 
@@ -1049,6 +1052,7 @@ public class UnusedDeclarationInspection extends FilteringInspectionTool {
             RefMethod[] arMethods = methods.toArray(new RefMethod[methods.size()]);
             for (RefMethod arMethod : arMethods) {
               arMethod.accept(this);
+              processPending();
             }
           }
         }
@@ -0,0 +1,4006 @@
+public class Chain {
+  public static void main(String[] args) {
+    m0();
+  }
+  static void m0() { m1(); }
+  static void m1() { m2(); }
+  static void m2() { m3(); }
+  static void m3() { m4(); }
+  static void m4() { m5(); }
+  static void m5() { m6(); }
+  static void m6() { m7(); }
+  static void m7() { m8(); }
+  static void m8() { m9(); }
+  static void m9() { m10(); }
+  static void m10() { m11(); }
+  static void m11() { m12(); }
+  static void m12() { m13(); }
+  static void m13() { m14(); }
+  static void m14() { m15(); }
+  static void m15() { m16(); }
+  static void m16() { m17(); }
+  static void m17() { m18(); }
+  static void m18() { m19(); }
+  static void m19() { m20(); }
+  static void m20() { m21(); }
+  static void m21() { m22(); }
+  static void m22() { m23(); }
+  static void m23() { m24(); }
+  static void m24() { m25(); }
+  static void m25() { m26(); }
+  static void m26() { m27(); }
+  static void m27() { m28(); }
+  static void m28() { m29(); }
+  static void m29() { m30(); }
+  static void m30() { m31(); }
+  static void m31() { m32(); }
+  static void m32() { m33(); }
+  static void m33() { m34(); }
+  static void m34() { m35(); }
+  static void m35() { m36(); }
+  static void m36() { m37(); }
+  static void m37() { m38(); }
+  static void m38() { m39(); }
+  static void m39() { m40(); }
+  static void m40() { m41(); }
+  static void m41() { m42(); }
+  static void m42() { m43(); }
+  static void m43() { m44(); }
+  static void m44() { m45(); }
+  static void m45() { m46(); }
+  static void m46() { m47(); }
+  static void m47() { m48(); }
+  static void m48() { m49(); }
+  static void m49() { m50(); }
+  static void m50() { m51(); }
+  static void m51() { m52(); }
+  static void m52() { m53(); }
+  static void m53() { m54(); }
+  static void m54() { m55(); }
+  static void m55() { m56(); }
+  static void m56() { m57(); }
+  static void m57() { m58(); }
+  static void m58() { m59(); }
+  static void m59() { m60(); }
+  static void m60() { m61(); }
+  static void m61() { m62(); }
+  static void m62() { m63(); }
+  static void m63() { m64(); }
+  static void m64() { m65(); }
+  static void m65() { m66(); }
+  static void m66() { m67(); }
+  static void m67() { m68(); }
+  static void m68() { m69(); }
+  static void m69() { m70(); }
+  static void m70() { m71(); }
+  static void m71() { m72(); }
+  static void m72() { m73(); }
+  static void m73() { m74(); }
+  static void m74() { m75(); }
+  static void m75() { m76(); }
+  static void m76() { m77(); }
+  static void m77() { m78(); }
+  static void m78() { m79(); }
+  static void m79() { m80(); }
+  static void m80() { m81(); }
+  static void m81() { m82(); }
+  static void m82() { m83(); }
+  static void m83() { m84(); }
+  static void m84() { m85(); }
+  static void m85() { m86(); }
+  static void m86() { m87(); }
+  static void m87() { m88(); }
+  static void m88() { m89(); }
+  static void m89() { m90(); }
+  static void m90() { m91(); }
+  static void m91() { m92(); }
+  static void m92() { m93(); }
+  static void m93() { m94(); }
+  static void m94() { m95(); }
+  static void m95() { m96(); }
+  static void m96() { m97(); }
+  static void m97() { m98(); }
+  static void m98() { m99(); }
+  static void m99() { m100(); }
+  static void m100() { m101(); }
+  static void m101() { m102(); }
+  static void m102() { m103(); }
+  static void m103() { m104(); }
+  static void m104() { m105(); }
+  static void m105() { m106(); }
+  static void m106() { m107(); }
+  static void m107() { m108(); }
+  static void m108() { m109(); }
+  static void m109() { m110(); }
+  static void m110() { m111(); }
+  static void m111() { m112(); }
+  static void m112() { m113(); }
+  static void m113() { m114(); }
+  static void m114() { m115(); }
+  static void m115() { m116(); }
+  static void m116() { m117(); }
+  static void m117() { m118(); }
+  static void m118() { m119(); }
+  static void m119() { m120(); }
+  static void m120() { m121(); }
+  static void m121() { m122(); }
+  static void m122() { m123(); }
+  static void m123() { m124(); }
+  static void m124() { m125(); }
+  static void m125() { m126(); }
+  static void m126() { m127(); }
+  static void m127() { m128(); }
+  static void m128() { m129(); }
+  static void m129() { m130(); }
+  static void m130() { m131(); }
+  static void m131() { m132(); }
+  static void m132() { m133(); }
+  static void m133() { m134(); }
+  static void m134() { m135(); }
+  static void m135() { m136(); }
+  static void m136() { m137(); }
+  static void m137() { m138(); }
+  static void m138() { m139(); }
+  static void m139() { m140(); }
+  static void m140() { m141(); }
+  static void m141() { m142(); }
+  static void m142() { m143(); }
+  static void m143() { m144(); }
+  static void m144() { m145(); }
+  static void m145() { m146(); }
+  static void m146() { m147(); }
+  static void m147() { m148(); }
+  static void m148() { m149(); }
+  static void m149() { m150(); }
+  static void m150() { m151(); }
+  static void m151() { m152(); }
+  static void m152() { m153(); }
+  static void m153() { m154(); }
+  static void m154() { m155(); }
+  static void m155() { m156(); }
+  static void m156() { m157(); }
+  static void m157() { m158(); }
+  static void m158() { m159(); }
+  static void m159() { m160(); }
+  static void m160() { m161(); }
+  static void m161() { m162(); }
+  static void m162() { m163(); }
+  static void m163() { m164(); }
+  static void m164() { m165(); }
+  static void m165() { m166(); }
+  static void m166() { m167(); }
+  static void m167() { m168(); }
+  static void m168() { m169(); }
+  static void m169() { m170(); }
+  static void m170() { m171(); }
+  static void m171() { m172(); }
+  static void m172() { m173(); }
+  static void m173() { m174(); }
+  static void m174() { m175(); }
+  static void m175() { m176(); }
+  static void m176() { m177(); }
+  static void m177() { m178(); }
+  static void m178() { m179(); }
+  static void m179() { m180(); }
+  static void m180() { m181(); }
+  static void m181() { m182(); }
+  static void m182() { m183(); }
+  static void m183() { m184(); }
+  static void m184() { m185(); }
+  static void m185() { m186(); }
+  static void m186() { m187(); }
+  static void m187() { m188(); }
+  static void m188() { m189(); }
+  static void m189() { m190(); }
+  static void m190() { m191(); }
+  static void m191() { m192(); }
+  static void m192() { m193(); }
+  static void m193() { m194(); }
+  static void m194() { m195(); }
+  static void m195() { m196(); }
+  static void m196() { m197(); }
+  static void m197() { m198(); }
+  static void m198() { m199(); }
+  static void m199() { m200(); }
+  static void m200() { m201(); }
+  static void m201() { m202(); }
+  static void m202() { m203(); }
+  static void m203() { m204(); }
+  static void m204() { m205(); }
+  static void m205() { m206(); }
+  static void m206() { m207(); }
+  static void m207() { m208(); }
+  static void m208() { m209(); }
+  static void m209() { m210(); }
+  static void m210() { m211(); }
+  static void m211() { m212(); }
+  static void m212() { m213(); }
+  static void m213() { m214(); }
+  static void m214() { m215(); }
+  static void m215() { m216(); }
+  static void m216() { m217(); }
+  static void m217() { m218(); }
+  static void m218() { m219(); }
+  static void m219() { m220(); }
+  static void m220() { m221(); }
+  static void m221() { m222(); }
+  static void m222() { m223(); }
+  static void m223() { m224(); }
+  static void m224() { m225(); }
+  static void m225() { m226(); }
+  static void m226() { m227(); }
+  static void m227() { m228(); }
+  static void m228() { m229(); }
+  static void m229() { m230(); }
+  static void m230() { m231(); }
+  static void m231() { m232(); }
+  static void m232() { m233(); }
+  static void m233() { m234(); }
+  static void m234() { m235(); }
+  static void m235() { m236(); }
+  static void m236() { m237(); }
+  static void m237() { m238(); }
+  static void m238() { m239(); }
+  static void m239() { m240(); }
+  static void m240() { m241(); }
+  static void m241() { m242(); }
+  static void m242() { m243(); }
+  static void m243() { m244(); }
+  static void m244() { m245(); }
+  static void m245() { m246(); }
+  static void m246() { m247(); }
+  static void m247() { m248(); }
+  static void m248() { m249(); }
+  static void m249() { m250(); }
+  static void m250() { m251(); }
+  static void m251() { m252(); }
+  static void m252() { m253(); }
+  static void m253() { m254(); }
+  static void m254() { m255(); }
+  static void m255() { m256(); }
+  static void m256() { m257(); }
+  static void m257() { m258(); }
+  static void m258() { m259(); }
+  static void m259() { m260(); }
+  static void m260() { m261(); }
+  static void m261() { m262(); }
+  static void m262() { m263(); }
+  static void m263() { m264(); }
+  static void m264() { m265(); }
+  static void m265() { m266(); }
+  static void m266() { m267(); }
+  static void m267() { m268(); }
+  static void m268() { m269(); }
+  static void m269() { m270(); }
+  static void m270() { m271(); }
+  static void m271() { m272(); }
+  static void m272() { m273(); }
+  static void m273() { m274(); }
+  static void m274() { m275(); }
+  static void m275() { m276(); }
+  static void m276() { m277(); }
+  static void m277() { m278(); }
+  static void m278() { m279(); }
+  static void m279() { m280(); }
+  static void m280() { m281(); }
+  static void m281() { m282(); }
+  static void m282() { m283(); }
+  static void m283() { m284(); }
+  static void m284() { m285(); }
+  static void m285() { m286(); }
+  static void m286() { m287(); }
+  static void m287() { m288(); }
+  static void m288() { m289(); }
+  static void m289() { m290(); }
+  static void m290() { m291(); }
+  static void m291() { m292(); }
+  static void m292() { m293(); }
+  static void m293() { m294(); }
+  static void m294() { m295(); }
+  static void m295() { m296(); }
+  static void m296() { m297(); }
+  static void m297() { m298(); }
+  static void m298() { m299(); }
+  static void m299() { m300(); }
+  static void m300() { m301(); }
+  static void m301() { m302(); }
+  static void m302() { m303(); }
+  static void m303() { m304(); }
+  static void m304() { m305(); }
+  static void m305() { m306(); }
+  static void m306() { m307(); }
+  static void m307() { m308(); }
+  static void m308() { m309(); }
+  static void m309() { m310(); }
+  static void m310() { m311(); }
+  static void m311() { m312(); }
+  static void m312() { m313(); }
+  static void m313() { m314(); }
+  static void m314() { m315(); }
+  static void m315() { m316(); }
+  static void m316() { m317(); }
+  static void m317() { m318(); }
+  static void m318() { m319(); }
+  static void m319() { m320(); }
+  static void m320() { m321(); }
+  static void m321() { m322(); }
+  static void m322() { m323(); }
+  static void m323() { m324(); }
+  static void m324() { m325(); }
+  static void m325() { m326(); }
+  static void m326() { m327(); }
+  static void m327() { m328(); }
+  static void m328() { m329(); }
+  static void m329() { m330(); }
+  static void m330() { m331(); }
+  static void m331() { m332(); }
+  static void m332() { m333(); }
+  static void m333() { m334(); }
+  static void m334() { m335(); }
+  static void m335() { m336(); }
+  static void m336() { m337(); }
+  static void m337() { m338(); }
+  static void m338() { m339(); }
+  static void m339() { m340(); }
+  static void m340() { m341(); }
+  static void m341() { m342(); }
+  static void m342() { m343(); }
+  static void m343() { m344(); }
+  static void m344() { m345(); }
+  static void m345() { m346(); }
+  static void m346() { m347(); }
+  static void m347() { m348(); }
+  static void m348() { m349(); }
+  static void m349() { m350(); }
+  static void m350() { m351(); }
+  static void m351() { m352(); }
+  static void m352() { m353(); }
+  static void m353() { m354(); }
+  static void m354() { m355(); }
+  static void m355() { m356(); }
+  static void m356() { m357(); }
+  static void m357() { m358(); }
+  static void m358() { m359(); }
+  static void m359() { m360(); }
+  static void m360() { m361(); }
+  static void m361() { m362(); }
+  static void m362() { m363(); }
+  static void m363() { m364(); }
+  static void m364() { m365(); }
+  static void m365() { m366(); }
+  static void m366() { m367(); }
+  static void m367() { m368(); }
+  static void m368() { m369(); }
+  static void m369() { m370(); }
+  static void m370() { m371(); }
+  static void m371() { m372(); }
+  static void m372() { m373(); }
+  static void m373() { m374(); }
+  static void m374() { m375(); }
+  static void m375() { m376(); }
+  static void m376() { m377(); }
+  static void m377() { m378(); }
+  static void m378() { m379(); }
+  static void m379() { m380(); }
+  static void m380() { m381(); }
+  static void m381() { m382(); }
+  static void m382() { m383(); }
+  static void m383() { m384(); }
+  static void m384() { m385(); }
+  static void m385() { m386(); }
+  static void m386() { m387(); }
+  static void m387() { m388(); }
+  static void m388() { m389(); }
+  static void m389() { m390(); }
+  static void m390() { m391(); }
+  static void m391() { m392(); }
+  static void m392() { m393(); }
+  static void m393() { m394(); }
+  static void m394() { m395(); }
+  static void m395() { m396(); }
+  static void m396() { m397(); }
+  static void m397() { m398(); }
+  static void m398() { m399(); }
+  static void m399() { m400(); }
+  static void m400() { m401(); }
+  static void m401() { m402(); }
+  static void m402() { m403(); }
+  static void m403() { m404(); }
+  static void m404() { m405(); }
+  static void m405() { m406(); }
+  static void m406() { m407(); }
+  static void m407() { m408(); }
+  static void m408() { m409(); }
+  static void m409() { m410(); }
+  static void m410() { m411(); }
+  static void m411() { m412(); }
+  static void m412() { m413(); }
+  static void m413() { m414(); }
+  static void m414() { m415(); }
+  static void m415() { m416(); }
+  static void m416() { m417(); }
+  static void m417() { m418(); }
+  static void m418() { m419(); }
+  static void m419() { m420(); }
+  static void m420() { m421(); }
+  static void m421() { m422(); }
+  static void m422() { m423(); }
+  static void m423() { m424(); }
+  static void m424() { m425(); }
+  static void m425() { m426(); }
+  static void m426() { m427(); }
+  static void m427() { m428(); }
+  static void m428() { m429(); }
+  static void m429() { m430(); }
+  static void m430() { m431(); }
+  static void m431() { m432(); }
+  static void m432() { m433(); }
+  static void m433() { m434(); }
+  static void m434() { m435(); }
+  static void m435() { m436(); }
+  static void m436() { m437(); }
+  static void m437() { m438(); }
+  static void m438() { m439(); }
+  static void m439() { m440(); }
+  static void m440() { m441(); }
+  static void m441() { m442(); }
+  static void m442() { m443(); }
+  static void m443() { m444(); }
+  static void m444() { m445(); }
+  static void m445() { m446(); }
+  static void m446() { m447(); }
+  static void m447() { m448(); }
+  static void m448() { m449(); }
+  static void m449() { m450(); }
+  static void m450() { m451(); }
+  static void m451() { m452(); }
+  static void m452() { m453(); }
+  static void m453() { m454(); }
+  static void m454() { m455(); }
+  static void m455() { m456(); }
+  static void m456() { m457(); }
+  static void m457() { m458(); }
+  static void m458() { m459(); }
+  static void m459() { m460(); }
+  static void m460() { m461(); }
+  static void m461() { m462(); }
+  static void m462() { m463(); }
+  static void m463() { m464(); }
+  static void m464() { m465(); }
+  static void m465() { m466(); }
+  static void m466() { m467(); }
+  static void m467() { m468(); }
+  static void m468() { m469(); }
+  static void m469() { m470(); }
+  static void m470() { m471(); }
+  static void m471() { m472(); }
+  static void m472() { m473(); }
+  static void m473() { m474(); }
+  static void m474() { m475(); }
+  static void m475() { m476(); }
+  static void m476() { m477(); }
+  static void m477() { m478(); }
+  static void m478() { m479(); }
+  static void m479() { m480(); }
+  static void m480() { m481(); }
+  static void m481() { m482(); }
+  static void m482() { m483(); }
+  static void m483() { m484(); }
+  static void m484() { m485(); }
+  static void m485() { m486(); }
+  static void m486() { m487(); }
+  static void m487() { m488(); }
+  static void m488() { m489(); }
+  static void m489() { m490(); }
+  static void m490() { m491(); }
+  static void m491() { m492(); }
+  static void m492() { m493(); }
+  static void m493() { m494(); }
+  static void m494() { m495(); }
+  static void m495() { m496(); }
+  static void m496() { m497(); }
+  static void m497() { m498(); }
+  static void m498() { m499(); }
+  static void m499() { m500(); }
+  static void m500() { m501(); }
+  static void m501() { m502(); }
+  static void m502() { m503(); }
+  static void m503() { m504(); }
+  static void m504() { m505(); }
+  static void m505() { m506(); }
+  static void m506() { m507(); }
+  static void m507() { m508(); }
+  static void m508() { m509(); }
+  static void m509() { m510(); }
+  static void m510() { m511(); }
+  static void m511() { m512(); }
+  static void m512() { m513(); }
+  static void m513() { m514(); }
+  static void m514() { m515(); }
+  static void m515() { m516(); }
+  static void m516() { m517(); }
+  static void m517() { m518(); }
+  static void m518() { m519(); }
+  static void m519() { m520(); }
+  static void m520() { m521(); }
+  static void m521() { m522(); }
+  static void m522() { m523(); }
+  static void m523() { m524(); }
+  static void m524() { m525(); }
+  static void m525() { m526(); }
+  static void m526() { m527(); }
+  static void m527() { m528(); }
+  static void m528() { m529(); }
+  static void m529() { m530(); }
+  static void m530() { m531(); }
+  static void m531() { m532(); }
+  static void m532() { m533(); }
+  static void m533() { m534(); }
+  static void m534() { m535(); }
+  static void m535() { m536(); }
+  static void m536() { m537(); }
+  static void m537() { m538(); }
+  static void m538() { m539(); }
+  static void m539() { m540(); }
+  static void m540() { m541(); }
+  static void m541() { m542(); }
+  static void m542() { m543(); }
+  static void m543() { m544(); }
+  static void m544() { m545(); }
+  static void m545() { m546(); }
+  static void m546() { m547(); }
+  static void m547() { m548(); }
+  static void m548() { m549(); }
+  static void m549() { m550(); }
+  static void m550() { m551(); }
+  static void m551() { m552(); }
+  static void m552() { m553(); }
+  static void m553() { m554(); }
+  static void m554() { m555(); }
+  static void m555() { m556(); }
+  static void m556() { m557(); }
+  static void m557() { m558(); }
+  static void m558() { m559(); }
+  static void m559() { m560(); }
+  static void m560() { m561(); }
+  static void m561() { m562(); }
+  static void m562() { m563(); }
+  static void m563() { m564(); }
+  static void m564() { m565(); }
+  static void m565() { m566(); }
+  static void m566() { m567(); }
+  static void m567() { m568(); }
+  static void m568() { m569(); }
+  static void m569() { m570(); }
+  static void m570() { m571(); }
+  static void m571() { m572(); }
+  static void m572() { m573(); }
+  static void m573() { m574(); }
+  static void m574() { m575(); }
+  static void m575() { m576(); }
+  static void m576() { m577(); }
+  static void m577() { m578(); }
+  static void m578() { m579(); }
+  static void m579() { m580(); }
+  static void m580() { m581(); }
+  static void m581() { m582(); }
+  static void m582() { m583(); }
+  static void m583() { m584(); }
+  static void m584() { m585(); }
+  static void m585() { m586(); }
+  static void m586() { m587(); }
+  static void m587() { m588(); }
+  static void m588() { m589(); }
+  static void m589() { m590(); }
+  static void m590() { m591(); }
+  static void m591() { m592(); }
+  static void m592() { m593(); }
+  static void m593() { m594(); }
+  static void m594() { m595(); }
+  static void m595() { m596(); }
+  static void m596() { m597(); }
+  static void m597() { m598(); }
+  static void m598() { m599(); }
+  static void m599() { m600(); }
+  static void m600() { m601(); }
+  static void m601() { m602(); }
+  static void m602() { m603(); }
+  static void m603() { m604(); }
+  static void m604() { m605(); }
+  static void m605() { m606(); }
+  static void m606() { m607(); }
+  static void m607() { m608(); }
+  static void m608() { m609(); }
+  static void m609() { m610(); }
+  static void m610() { m611(); }
+  static void m611() { m612(); }
+  static void m612() { m613(); }
+  static void m613() { m614(); }
+  static void m614() { m615(); }
+  static void m615() { m616(); }
+  static void m616() { m617(); }
+  static void m617() { m618(); }
+  static void m618() { m619(); }
+  static void m619() { m620(); }
+  static void m620() { m621(); }
+  static void m621() { m622(); }
+  static void m622() { m623(); }
+  static void m623() { m624(); }
+  static void m624() { m625(); }
+  static void m625() { m626(); }
+  static void m626() { m627(); }
+  static void m627() { m628(); }
+  static void m628() { m629(); }
+  static void m629() { m630(); }
+  static void m630() { m631(); }
+  static void m631() { m632(); }
+  static void m632() { m633(); }
+  static void m633() { m634(); }
+  static void m634() { m635(); }
+  static void m635() { m636(); }
+  static void m636() { m637(); }
+  static void m637() { m638(); }
+  static void m638() { m639(); }
+  static void m639() { m640(); }
+  static void m640() { m641(); }
+  static void m641() { m642(); }
+  static void m642() { m643(); }
+  static void m643() { m644(); }
+  static void m644() { m645(); }
+  static void m645() { m646(); }
+  static void m646() { m647(); }
+  static void m647() { m648(); }
+  static void m648() { m649(); }
+  static void m649() { m650(); }
+  static void m650() { m651(); }
+  static void m651() { m652(); }
+  static void m652() { m653(); }
+  static void m653() { m654(); }
+  static void m654() { m655(); }
+  static void m655() { m656(); }
+  static void m656() { m657(); }
+  static void m657() { m658(); }
+  static void m658() { m659(); }
+  static void m659() { m660(); }
+  static void m660() { m661(); }
+  static void m661() { m662(); }
+  static void m662() { m663(); }
+  static void m663() { m664(); }
+  static void m664() { m665(); }
+  static void m665() { m666(); }
+  static void m666() { m667(); }
+  static void m667() { m668(); }
+  static void m668() { m669(); }
+  static void m669() { m670(); }
+  static void m670() { m671(); }
+  static void m671() { m672(); }
+  static void m672() { m673(); }
+  static void m673() { m674(); }
+  static void m674() { m675(); }
+  static void m675() { m676(); }
+  static void m676() { m677(); }
+  static void m677() { m678(); }
+  static void m678() { m679(); }
+  static void m679() { m680(); }
+  static void m680() { m681(); }
+  static void m681() { m682(); }
+  static void m682() { m683(); }
+  static void m683() { m684(); }
+  static void m684() { m685(); }
+  static void m685() { m686(); }
+  static void m686() { m687(); }
+  static void m687() { m688(); }
+  static void m688() { m689(); }
+  static void m689() { m690(); }
+  static void m690() { m691(); }
+  static void m691() { m692(); }
+  static void m692() { m693(); }
+  static void m693() { m694(); }
+  static void m694() { m695(); }
+  static void m695() { m696(); }
+  static void m696() { m697(); }
+  static void m697() { m698(); }
+  static void m698() { m699(); }
+  static void m699() { m700(); }
+  static void m700() { m701(); }
+  static void m701() { m702(); }
+  static void m702() { m703(); }
+  static void m703() { m704(); }
+  static void m704() { m705(); }
+  static void m705() { m706(); }
+  static void m706() { m707(); }
+  static void m707() { m708(); }
+  static void m708() { m709(); }
+  static void m709() { m710(); }
+  static void m710() { m711(); }
+  static void m711() { m712(); }
+  static void m712() { m713(); }
+  static void m713() { m714(); }
+  static void m714() { m715(); }
+  static void m715() { m716(); }
+  static void m716() { m717(); }
+  static void m717() { m718(); }
+  static void m718() { m719(); }
+  static void m719() { m720(); }
+  static void m720() { m721(); }
+  static void m721() { m722(); }
+  static void m722() { m723(); }
+  static void m723() { m724(); }
+  static void m724() { m725(); }
+  static void m725() { m726(); }
+  static void m726() { m727(); }
+  static void m727() { m728(); }
+  static void m728() { m729(); }
+  static void m729() { m730(); }
+  static void m730() { m731(); }
+  static void m731() { m732(); }
+  static void m732() { m733(); }
+  static void m733() { m734(); }
+  static void m734() { m735(); }
+  static void m735() { m736(); }
+  static void m736() { m737(); }
+  static void m737() { m738(); }
+  static void m738() { m739(); }
+  static void m739() { m740(); }
+  static void m740() { m741(); }
+  static void m741() { m742(); }
+  static void m742() { m743(); }
+  static void m743() { m744(); }
+  static void m744() { m745(); }
+  static void m745() { m746(); }
+  static void m746() { m747(); }
+  static void m747() { m748(); }
+  static void m748() { m749(); }
+  static void m749() { m750(); }
+  static void m750() { m751(); }
+  static void m751() { m752(); }
+  static void m752() { m753(); }
+  static void m753() { m754(); }
+  static void m754() { m755(); }
+  static void m755() { m756(); }
+  static void m756() { m757(); }
+  static void m757() { m758(); }
+  static void m758() { m759(); }
+  static void m759() { m760(); }
+  static void m760() { m761(); }
+  static void m761() { m762(); }
+  static void m762() { m763(); }
+  static void m763() { m764(); }
+  static void m764() { m765(); }
+  static void m765() { m766(); }
+  static void m766() { m767(); }
+  static void m767() { m768(); }
+  static void m768() { m769(); }
+  static void m769() { m770(); }
+  static void m770() { m771(); }
+  static void m771() { m772(); }
+  static void m772() { m773(); }
+  static void m773() { m774(); }
+  static void m774() { m775(); }
+  static void m775() { m776(); }
+  static void m776() { m777(); }
+  static void m777() { m778(); }
+  static void m778() { m779(); }
+  static void m779() { m780(); }
+  static void m780() { m781(); }
+  static void m781() { m782(); }
+  static void m782() { m783(); }
+  static void m783() { m784(); }
+  static void m784() { m785(); }
+  static void m785() { m786(); }
+  static void m786() { m787(); }
+  static void m787() { m788(); }
+  static void m788() { m789(); }
+  static void m789() { m790(); }
+  static void m790() { m791(); }
+  static void m791() { m792(); }
+  static void m792() { m793(); }
+  static void m793() { m794(); }
+  static void m794() { m795(); }
+  static void m795() { m796(); }
+  static void m796() { m797(); }
+  static void m797() { m798(); }
+  static void m798() { m799(); }
+  static void m799() { m800(); }
+  static void m800() { m801(); }
+  static void m801() { m802(); }
+  static void m802() { m803(); }
+  static void m803() { m804(); }
+  static void m804() { m805(); }
+  static void m805() { m806(); }
+  static void m806() { m807(); }
+  static void m807() { m808(); }
+  static void m808() { m809(); }
+  static void m809() { m810(); }
+  static void m810() { m811(); }
+  static void m811() { m812(); }
+  static void m812() { m813(); }
+  static void m813() { m814(); }
+  static void m814() { m815(); }
+  static void m815() { m816(); }
+  static void m816() { m817(); }
+  static void m817() { m818(); }
+  static void m818() { m819(); }
+  static void m819() { m820(); }
+  static void m820() { m821(); }
+  static void m821() { m822(); }
+  static void m822() { m823(); }
+  static void m823() { m824(); }
+  static void m824() { m825(); }
+  static void m825() { m826(); }
+  static void m826() { m827(); }
+  static void m827() { m828(); }
+  static void m828() { m829(); }
+  static void m829() { m830(); }
+  static void m830() { m831(); }
+  static void m831() { m832(); }
+  static void m832() { m833(); }
+  static void m833() { m834(); }
+  static void m834() { m835(); }
+  static void m835() { m836(); }
+  static void m836() { m837(); }
+  static void m837() { m838(); }
+  static void m838() { m839(); }
+  static void m839() { m840(); }
+  static void m840() { m841(); }
+  static void m841() { m842(); }
+  static void m842() { m843(); }
+  static void m843() { m844(); }
+  static void m844() { m845(); }
+  static void m845() { m846(); }
+  static void m846() { m847(); }
+  static void m847() { m848(); }
+  static void m848() { m849(); }
+  static void m849() { m850(); }
+  static void m850() { m851(); }
+  static void m851() { m852(); }
+  static void m852() { m853(); }
+  static void m853() { m854(); }
+  static void m854() { m855(); }
+  static void m855() { m856(); }
+  static void m856() { m857(); }
+  static void m857() { m858(); }
+  static void m858() { m859(); }
+  static void m859() { m860(); }
+  static void m860() { m861(); }
+  static void m861() { m862(); }
+  static void m862() { m863(); }
+  static void m863() { m864(); }
+  static void m864() { m865(); }
+  static void m865() { m866(); }
+  static void m866() { m867(); }
+  static void m867() { m868(); }
+  static void m868() { m869(); }
+  static void m869() { m870(); }
+  static void m870() { m871(); }
+  static void m871() { m872(); }
+  static void m872() { m873(); }
+  static void m873() { m874(); }
+  static void m874() { m875(); }
+  static void m875() { m876(); }
+  static void m876() { m877(); }
+  static void m877() { m878(); }
+  static void m878() { m879(); }
+  static void m879() { m880(); }
+  static void m880() { m881(); }
+  static void m881() { m882(); }
+  static void m882() { m883(); }
+  static void m883() { m884(); }
+  static void m884() { m885(); }
+  static void m885() { m886(); }
+  static void m886() { m887(); }
+  static void m887() { m888(); }
+  static void m888() { m889(); }
+  static void m889() { m890(); }
+  static void m890() { m891(); }
+  static void m891() { m892(); }
+  static void m892() { m893(); }
+  static void m893() { m894(); }
+  static void m894() { m895(); }
+  static void m895() { m896(); }
+  static void m896() { m897(); }
+  static void m897() { m898(); }
+  static void m898() { m899(); }
+  static void m899() { m900(); }
+  static void m900() { m901(); }
+  static void m901() { m902(); }
+  static void m902() { m903(); }
+  static void m903() { m904(); }
+  static void m904() { m905(); }
+  static void m905() { m906(); }
+  static void m906() { m907(); }
+  static void m907() { m908(); }
+  static void m908() { m909(); }
+  static void m909() { m910(); }
+  static void m910() { m911(); }
+  static void m911() { m912(); }
+  static void m912() { m913(); }
+  static void m913() { m914(); }
+  static void m914() { m915(); }
+  static void m915() { m916(); }
+  static void m916() { m917(); }
+  static void m917() { m918(); }
+  static void m918() { m919(); }
+  static void m919() { m920(); }
+  static void m920() { m921(); }
+  static void m921() { m922(); }
+  static void m922() { m923(); }
+  static void m923() { m924(); }
+  static void m924() { m925(); }
+  static void m925() { m926(); }
+  static void m926() { m927(); }
+  static void m927() { m928(); }
+  static void m928() { m929(); }
+  static void m929() { m930(); }
+  static void m930() { m931(); }
+  static void m931() { m932(); }
+  static void m932() { m933(); }
+  static void m933() { m934(); }
+  static void m934() { m935(); }
+  static void m935() { m936(); }
+  static void m936() { m937(); }
+  static void m937() { m938(); }
+  static void m938() { m939(); }
+  static void m939() { m940(); }
+  static void m940() { m941(); }
+  static void m941() { m942(); }
+  static void m942() { m943(); }
+  static void m943() { m944(); }
+  static void m944() { m945(); }
+  static void m945() { m946(); }
+  static void m946() { m947(); }
+  static void m947() { m948(); }
+  static void m948() { m949(); }
+  static void m949() { m950(); }
+  static void m950() { m951(); }
+  static void m951() { m952(); }
+  static void m952() { m953(); }
+  static void m953() { m954(); }
+  static void m954() { m955(); }
+  static void m955() { m956(); }
+  static void m956() { m957(); }
+  static void m957() { m958(); }
+  static void m958() { m959(); }
+  static void m959() { m960(); }
+  static void m960() { m961(); }
+  static void m961() { m962(); }
+  static void m962() { m963(); }
+  static void m963() { m964(); }
+  static void m964() { m965(); }
+  static void m965() { m966(); }
+  static void m966() { m967(); }
+  static void m967() { m968(); }
+  static void m968() { m969(); }
+  static void m969() { m970(); }
+  static void m970() { m971(); }
+  static void m971() { m972(); }
+  static void m972() { m973(); }
+  static void m973() { m974(); }
+  static void m974() { m975(); }
+  static void m975() { m976(); }
+  static void m976() { m977(); }
+  static void m977() { m978(); }
+  static void m978() { m979(); }
+  static void m979() { m980(); }
+  static void m980() { m981(); }
+  static void m981() { m982(); }
+  static void m982() { m983(); }
+  static void m983() { m984(); }
+  static void m984() { m985(); }
+  static void m985() { m986(); }
+  static void m986() { m987(); }
+  static void m987() { m988(); }
+  static void m988() { m989(); }
+  static void m989() { m990(); }
+  static void m990() { m991(); }
+  static void m991() { m992(); }
+  static void m992() { m993(); }
+  static void m993() { m994(); }
+  static void m994() { m995(); }
+  static void m995() { m996(); }
+  static void m996() { m997(); }
+  static void m997() { m998(); }
+  static void m998() { m999(); }
+  static void m999() { m1000(); }
+  static void m1000() { m1001(); }
+  static void m1001() { m1002(); }
+  static void m1002() { m1003(); }
+  static void m1003() { m1004(); }
+  static void m1004() { m1005(); }
+  static void m1005() { m1006(); }
+  static void m1006() { m1007(); }
+  static void m1007() { m1008(); }
+  static void m1008() { m1009(); }
+  static void m1009() { m1010(); }
+  static void m1010() { m1011(); }
+  static void m1011() { m1012(); }
+  static void m1012() { m1013(); }
+  static void m1013() { m1014(); }
+  static void m1014() { m1015(); }
+  static void m1015() { m1016(); }
+  static void m1016() { m1017(); }
+  static void m1017() { m1018(); }
+  static void m1018() { m1019(); }
+  static void m1019() { m1020(); }
+  static void m1020() { m1021(); }
+  static void m1021() { m1022(); }
+  static void m1022() { m1023(); }
+  static void m1023() { m1024(); }
+  static void m1024() { m1025(); }
+  static void m1025() { m1026(); }
+  static void m1026() { m1027(); }
+  static void m1027() { m1028(); }
+  static void m1028() { m1029(); }
+  static void m1029() { m1030(); }
+  static void m1030() { m1031(); }
+  static void m1031() { m1032(); }
+  static void m1032() { m1033(); }
+  static void m1033() { m1034(); }
+  static void m1034() { m1035(); }
+  static void m1035() { m1036(); }
+  static void m1036() { m1037(); }
+  static void m1037() { m1038(); }
+  static void m1038() { m1039(); }
+  static void m1039() { m1040(); }
+  static void m1040() { m1041(); }
+  static void m1041() { m1042(); }
+  static void m1042() { m1043(); }
+  static void m1043() { m1044(); }
+  static void m1044() { m1045(); }
+  static void m1045() { m1046(); }
+  static void m1046() { m1047(); }
+  static void m1047() { m1048(); }
+  static void m1048() { m1049(); }
+  static void m1049() { m1050(); }
+  static void m1050() { m1051(); }
+  static void m1051() { m1052(); }
+  static void m1052() { m1053(); }
+  static void m1053() { m1054(); }
+  static void m1054() { m1055(); }
+  static void m1055() { m1056(); }
+  static void m1056() { m1057(); }
+  static void m1057() { m1058(); }
+  static void m1058() { m1059(); }
+  static void m1059() { m1060(); }
+  static void m1060() { m1061(); }
+  static void m1061() { m1062(); }
+  static void m1062() { m1063(); }
+  static void m1063() { m1064(); }
+  static void m1064() { m1065(); }
+  static void m1065() { m1066(); }
+  static void m1066() { m1067(); }
+  static void m1067() { m1068(); }
+  static void m1068() { m1069(); }
+  static void m1069() { m1070(); }
+  static void m1070() { m1071(); }
+  static void m1071() { m1072(); }
+  static void m1072() { m1073(); }
+  static void m1073() { m1074(); }
+  static void m1074() { m1075(); }
+  static void m1075() { m1076(); }
+  static void m1076() { m1077(); }
+  static void m1077() { m1078(); }
+  static void m1078() { m1079(); }
+  static void m1079() { m1080(); }
+  static void m1080() { m1081(); }
+  static void m1081() { m1082(); }
+  static void m1082() { m1083(); }
+  static void m1083() { m1084(); }
+  static void m1084() { m1085(); }
+  static void m1085() { m1086(); }
+  static void m1086() { m1087(); }
+  static void m1087() { m1088(); }
+  static void m1088() { m1089(); }
+  static void m1089() { m1090(); }
+  static void m1090() { m1091(); }
+  static void m1091() { m1092(); }
+  static void m1092() { m1093(); }
+  static void m1093() { m1094(); }
+  static void m1094() { m1095(); }
+  static void m1095() { m1096(); }
+  static void m1096() { m1097(); }
+  static void m1097() { m1098(); }
+  static void m1098() { m1099(); }
+  static void m1099() { m1100(); }
+  static void m1100() { m1101(); }
+  static void m1101() { m1102(); }
+  static void m1102() { m1103(); }
+  static void m1103() { m1104(); }
+  static void m1104() { m1105(); }
+  static void m1105() { m1106(); }
+  static void m1106() { m1107(); }
+  static void m1107() { m1108(); }
+  static void m1108() { m1109(); }
+  static void m1109() { m1110(); }
+  static void m1110() { m1111(); }
+  static void m1111() { m1112(); }
+  static void m1112() { m1113(); }
+  static void m1113() { m1114(); }
+  static void m1114() { m1115(); }
+  static void m1115() { m1116(); }
+  static void m1116() { m1117(); }
+  static void m1117() { m1118(); }
+  static void m1118() { m1119(); }
+  static void m1119() { m1120(); }
+  static void m1120() { m1121(); }
+  static void m1121() { m1122(); }
+  static void m1122() { m1123(); }
+  static void m1123() { m1124(); }
+  static void m1124() { m1125(); }
+  static void m1125() { m1126(); }
+  static void m1126() { m1127(); }
+  static void m1127() { m1128(); }
+  static void m1128() { m1129(); }
+  static void m1129() { m1130(); }
+  static void m1130() { m1131(); }
+  static void m1131() { m1132(); }
+  static void m1132() { m1133(); }
+  static void m1133() { m1134(); }
+  static void m1134() { m1135(); }
+  static void m1135() { m1136(); }
+  static void m1136() { m1137(); }
+  static void m1137() { m1138(); }
+  static void m1138() { m1139(); }
+  static void m1139() { m1140(); }
+  static void m1140() { m1141(); }
+  static void m1141() { m1142(); }
+  static void m1142() { m1143(); }
+  static void m1143() { m1144(); }
+  static void m1144() { m1145(); }
+  static void m1145() { m1146(); }
+  static void m1146() { m1147(); }
+  static void m1147() { m1148(); }
+  static void m1148() { m1149(); }
+  static void m1149() { m1150(); }
+  static void m1150() { m1151(); }
+  static void m1151() { m1152(); }
+  static void m1152() { m1153(); }
+  static void m1153() { m1154(); }
+  static void m1154() { m1155(); }
+  static void m1155() { m1156(); }
+  static void m1156() { m1157(); }
+  static void m1157() { m1158(); }
+  static void m1158() { m1159(); }
+  static void m1159() { m1160(); }
+  static void m1160() { m1161(); }
+  static void m1161() { m1162(); }
+  static void m1162() { m1163(); }
+  static void m1163() { m1164(); }
+  static void m1164() { m1165(); }
+  static void m1165() { m1166(); }
+  static void m1166() { m1167(); }
+  static void m1167() { m1168(); }
+  static void m1168() { m1169(); }
+  static void m1169() { m1170(); }
+  static void m1170() { m1171(); }
+  static void m1171() { m1172(); }
+  static void m1172() { m1173(); }
+  static void m1173() { m1174(); }
+  static void m1174() { m1175(); }
+  static void m1175() { m1176(); }
+  static void m1176() { m1177(); }
+  static void m1177() { m1178(); }
+  static void m1178() { m1179(); }
+  static void m1179() { m1180(); }
+  static void m1180() { m1181(); }
+  static void m1181() { m1182(); }
+  static void m1182() { m1183(); }
+  static void m1183() { m1184(); }
+  static void m1184() { m1185(); }
+  static void m1185() { m1186(); }
+  static void m1186() { m1187(); }
+  static void m1187() { m1188(); }
+  static void m1188() { m1189(); }
+  static void m1189() { m1190(); }
+  static void m1190() { m1191(); }
+  static void m1191() { m1192(); }
+  static void m1192() { m1193(); }
+  static void m1193() { m1194(); }
+  static void m1194() { m1195(); }
+  static void m1195() { m1196(); }
+  static void m1196() { m1197(); }
+  static void m1197() { m1198(); }
+  static void m1198() { m1199(); }
+  static void m1199() { m1200(); }
+  static void m1200() { m1201(); }
+  static void m1201() { m1202(); }
+  static void m1202() { m1203(); }
+  static void m1203() { m1204(); }
+  static void m1204() { m1205(); }
+  static void m1205() { m1206(); }
+  static void m1206() { m1207(); }
+  static void m1207() { m1208(); }
+  static void m1208() { m1209(); }
+  static void m1209() { m1210(); }
+  static void m1210() { m1211(); }
+  static void m1211() { m1212(); }
+  static void m1212() { m1213(); }
+  static void m1213() { m1214(); }
+  static void m1214() { m1215(); }
+  static void m1215() { m1216(); }
+  static void m1216() { m1217(); }
+  static void m1217() { m1218(); }
+  static void m1218() { m1219(); }
+  static void m1219() { m1220(); }
+  static void m1220() { m1221(); }
+  static void m1221() { m1222(); }
+  static void m1222() { m1223(); }
+  static void m1223() { m1224(); }
+  static void m1224() { m1225(); }
+  static void m1225() { m1226(); }
+  static void m1226() { m1227(); }
+  static void m1227() { m1228(); }
+  static void m1228() { m1229(); }
+  static void m1229() { m1230(); }
+  static void m1230() { m1231(); }
+  static void m1231() { m1232(); }
+  static void m1232() { m1233(); }
+  static void m1233() { m1234(); }
+  static void m1234() { m1235(); }
+  static void m1235() { m1236(); }
+  static void m1236() { m1237(); }
+  static void m1237() { m1238(); }
+  static void m1238() { m1239(); }
+  static void m1239() { m1240(); }
+  static void m1240() { m1241(); }
+  static void m1241() { m1242(); }
+  static void m1242() { m1243(); }
+  static void m1243() { m1244(); }
+  static void m1244() { m1245(); }
+  static void m1245() { m1246(); }
+  static void m1246() { m1247(); }
+  static void m1247() { m1248(); }
+  static void m1248() { m1249(); }
+  static void m1249() { m1250(); }
+  static void m1250() { m1251(); }
+  static void m1251() { m1252(); }
+  static void m1252() { m1253(); }
+  static void m1253() { m1254(); }
+  static void m1254() { m1255(); }
+  static void m1255() { m1256(); }
+  static void m1256() { m1257(); }
+  static void m1257() { m1258(); }
+  static void m1258() { m1259(); }
+  static void m1259() { m1260(); }
+  static void m1260() { m1261(); }
+  static void m1261() { m1262(); }
+  static void m1262() { m1263(); }
+  static void m1263() { m1264(); }
+  static void m1264() { m1265(); }
+  static void m1265() { m1266(); }
+  static void m1266() { m1267(); }
+  static void m1267() { m1268(); }
+  static void m1268() { m1269(); }
+  static void m1269() { m1270(); }
+  static void m1270() { m1271(); }
+  static void m1271() { m1272(); }
+  static void m1272() { m1273(); }
+  static void m1273() { m1274(); }
+  static void m1274() { m1275(); }
+  static void m1275() { m1276(); }
+  static void m1276() { m1277(); }
+  static void m1277() { m1278(); }
+  static void m1278() { m1279(); }
+  static void m1279() { m1280(); }
+  static void m1280() { m1281(); }
+  static void m1281() { m1282(); }
+  static void m1282() { m1283(); }
+  static void m1283() { m1284(); }
+  static void m1284() { m1285(); }
+  static void m1285() { m1286(); }
+  static void m1286() { m1287(); }
+  static void m1287() { m1288(); }
+  static void m1288() { m1289(); }
+  static void m1289() { m1290(); }
+  static void m1290() { m1291(); }
+  static void m1291() { m1292(); }
+  static void m1292() { m1293(); }
+  static void m1293() { m1294(); }
+  static void m1294() { m1295(); }
+  static void m1295() { m1296(); }
+  static void m1296() { m1297(); }
+  static void m1297() { m1298(); }
+  static void m1298() { m1299(); }
+  static void m1299() { m1300(); }
+  static void m1300() { m1301(); }
+  static void m1301() { m1302(); }
+  static void m1302() { m1303(); }
+  static void m1303() { m1304(); }
+  static void m1304() { m1305(); }
+  static void m1305() { m1306(); }
+  static void m1306() { m1307(); }
+  static void m1307() { m1308(); }
+  static void m1308() { m1309(); }
+  static void m1309() { m1310(); }
+  static void m1310() { m1311(); }
+  static void m1311() { m1312(); }
+  static void m1312() { m1313(); }
+  static void m1313() { m1314(); }
+  static void m1314() { m1315(); }
+  static void m1315() { m1316(); }
+  static void m1316() { m1317(); }
+  static void m1317() { m1318(); }
+  static void m1318() { m1319(); }
+  static void m1319() { m1320(); }
+  static void m1320() { m1321(); }
+  static void m1321() { m1322(); }
+  static void m1322() { m1323(); }
+  static void m1323() { m1324(); }
+  static void m1324() { m1325(); }
+  static void m1325() { m1326(); }
+  static void m1326() { m1327(); }
+  static void m1327() { m1328(); }
+  static void m1328() { m1329(); }
+  static void m1329() { m1330(); }
+  static void m1330() { m1331(); }
+  static void m1331() { m1332(); }
+  static void m1332() { m1333(); }
+  static void m1333() { m1334(); }
+  static void m1334() { m1335(); }
+  static void m1335() { m1336(); }
+  static void m1336() { m1337(); }
+  static void m1337() { m1338(); }
+  static void m1338() { m1339(); }
+  static void m1339() { m1340(); }
+  static void m1340() { m1341(); }
+  static void m1341() { m1342(); }
+  static void m1342() { m1343(); }
+  static void m1343() { m1344(); }
+  static void m1344() { m1345(); }
+  static void m1345() { m1346(); }
+  static void m1346() { m1347(); }
+  static void m1347() { m1348(); }
+  static void m1348() { m1349(); }
+  static void m1349() { m1350(); }
+  static void m1350() { m1351(); }
+  static void m1351() { m1352(); }
+  static void m1352() { m1353(); }
+  static void m1353() { m1354(); }
+  static void m1354() { m1355(); }
+  static void m1355() { m1356(); }
+  static void m1356() { m1357(); }
+  static void m1357() { m1358(); }
+  static void m1358() { m1359(); }
+  static void m1359() { m1360(); }
+  static void m1360() { m1361(); }
+  static void m1361() { m1362(); }
+  static void m1362() { m1363(); }
+  static void m1363() { m1364(); }
+  static void m1364() { m1365(); }
+  static void m1365() { m1366(); }
+  static void m1366() { m1367(); }
+  static void m1367() { m1368(); }
+  static void m1368() { m1369(); }
+  static void m1369() { m1370(); }
+  static void m1370() { m1371(); }
+  static void m1371() { m1372(); }
+  static void m1372() { m1373(); }
+  static void m1373() { m1374(); }
+  static void m1374() { m1375(); }
+  static void m1375() { m1376(); }
+  static void m1376() { m1377(); }
+  static void m1377() { m1378(); }
+  static void m1378() { m1379(); }
+  static void m1379() { m1380(); }
+  static void m1380() { m1381(); }
+  static void m1381() { m1382(); }
+  static void m1382() { m1383(); }
+  static void m1383() { m1384(); }
+  static void m1384() { m1385(); }
+  static void m1385() { m1386(); }
+  static void m1386() { m1387(); }
+  static void m1387() { m1388(); }
+  static void m1388() { m1389(); }
+  static void m1389() { m1390(); }
+  static void m1390() { m1391(); }
+  static void m1391() { m1392(); }
+  static void m1392() { m1393(); }
+  static void m1393() { m1394(); }
+  static void m1394() { m1395(); }
+  static void m1395() { m1396(); }
+  static void m1396() { m1397(); }
+  static void m1397() { m1398(); }
+  static void m1398() { m1399(); }
+  static void m1399() { m1400(); }
+  static void m1400() { m1401(); }
+  static void m1401() { m1402(); }
+  static void m1402() { m1403(); }
+  static void m1403() { m1404(); }
+  static void m1404() { m1405(); }
+  static void m1405() { m1406(); }
+  static void m1406() { m1407(); }
+  static void m1407() { m1408(); }
+  static void m1408() { m1409(); }
+  static void m1409() { m1410(); }
+  static void m1410() { m1411(); }
+  static void m1411() { m1412(); }
+  static void m1412() { m1413(); }
+  static void m1413() { m1414(); }
+  static void m1414() { m1415(); }
+  static void m1415() { m1416(); }
+  static void m1416() { m1417(); }
+  static void m1417() { m1418(); }
+  static void m1418() { m1419(); }
+  static void m1419() { m1420(); }
+  static void m1420() { m1421(); }
+  static void m1421() { m1422(); }
+  static void m1422() { m1423(); }
+  static void m1423() { m1424(); }
+  static void m1424() { m1425(); }
+  static void m1425() { m1426(); }
+  static void m1426() { m1427(); }
+  static void m1427() { m1428(); }
+  static void m1428() { m1429(); }
+  static void m1429() { m1430(); }
+  static void m1430() { m1431(); }
+  static void m1431() { m1432(); }
+  static void m1432() { m1433(); }
+  static void m1433() { m1434(); }
+  static void m1434() { m1435(); }
+  static void m1435() { m1436(); }
+  static void m1436() { m1437(); }
+  static void m1437() { m1438(); }
+  static void m1438() { m1439(); }
+  static void m1439() { m1440(); }
+  static void m1440() { m1441(); }
+  static void m1441() { m1442(); }
+  static void m1442() { m1443(); }
+  static void m1443() { m1444(); }
+  static void m1444() { m1445(); }
+  static void m1445() { m1446(); }
+  static void m1446() { m1447(); }
+  static void m1447() { m1448(); }
+  static void m1448() { m1449(); }
+  static void m1449() { m1450(); }
+  static void m1450() { m1451(); }
+  static void m1451() { m1452(); }
+  static void m1452() { m1453(); }
+  static void m1453() { m1454(); }
+  static void m1454() { m1455(); }
+  static void m1455() { m1456(); }
+  static void m1456() { m1457(); }
+  static void m1457() { m1458(); }
+  static void m1458() { m1459(); }
+  static void m1459() { m1460(); }
+  static void m1460() { m1461(); }
+  static void m1461() { m1462(); }
+  static void m1462() { m1463(); }
+  static void m1463() { m1464(); }
+  static void m1464() { m1465(); }
+  static void m1465() { m1466(); }
+  static void m1466() { m1467(); }
+  static void m1467() { m1468(); }
+  static void m1468() { m1469(); }
+  static void m1469() { m1470(); }
+  static void m1470() { m1471(); }
+  static void m1471() { m1472(); }
+  static void m1472() { m1473(); }
+  static void m1473() { m1474(); }
+  static void m1474() { m1475(); }
+  static void m1475() { m1476(); }
+  static void m1476() { m1477(); }
+  static void m1477() { m1478(); }
+  static void m1478() { m1479(); }
+  static void m1479() { m1480(); }
+  static void m1480() { m1481(); }
+  static void m1481() { m1482(); }
+  static void m1482() { m1483(); }
+  static void m1483() { m1484(); }
+  static void m1484() { m1485(); }
+  static void m1485() { m1486(); }
+  static void m1486() { m1487(); }
+  static void m1487() { m1488(); }
+  static void m1488() { m1489(); }
+  static void m1489() { m1490(); }
+  static void m1490() { m1491(); }
+  static void m1491() { m1492(); }
+  static void m1492() { m1493(); }
+  static void m1493() { m1494(); }
+  static void m1494() { m1495(); }
+  static void m1495() { m1496(); }
+  static void m1496() { m1497(); }
+  static void m1497() { m1498(); }
+  static void m1498() { m1499(); }
+  static void m1499() { m1500(); }
+  static void m1500() { m1501(); }
+  static void m1501() { m1502(); }
+  static void m1502() { m1503(); }
+  static void m1503() { m1504(); }
+  static void m1504() { m1505(); }
+  static void m1505() { m1506(); }
+  static void m1506() { m1507(); }
+  static void m1507() { m1508(); }
+  static void m1508() { m1509(); }
+  static void m1509() { m1510(); }
+  static void m1510() { m1511(); }
+  static void m1511() { m1512(); }
+  static void m1512() { m1513(); }
+  static void m1513() { m1514(); }
+  static void m1514() { m1515(); }
+  static void m1515() { m1516(); }
+  static void m1516() { m1517(); }
+  static void m1517() { m1518(); }
+  static void m1518() { m1519(); }
+  static void m1519() { m1520(); }
+  static void m1520() { m1521(); }
+  static void m1521() { m1522(); }
+  static void m1522() { m1523(); }
+  static void m1523() { m1524(); }
+  static void m1524() { m1525(); }
+  static void m1525() { m1526(); }
+  static void m1526() { m1527(); }
+  static void m1527() { m1528(); }
+  static void m1528() { m1529(); }
+  static void m1529() { m1530(); }
+  static void m1530() { m1531(); }
+  static void m1531() { m1532(); }
+  static void m1532() { m1533(); }
+  static void m1533() { m1534(); }
+  static void m1534() { m1535(); }
+  static void m1535() { m1536(); }
+  static void m1536() { m1537(); }
+  static void m1537() { m1538(); }
+  static void m1538() { m1539(); }
+  static void m1539() { m1540(); }
+  static void m1540() { m1541(); }
+  static void m1541() { m1542(); }
+  static void m1542() { m1543(); }
+  static void m1543() { m1544(); }
+  static void m1544() { m1545(); }
+  static void m1545() { m1546(); }
+  static void m1546() { m1547(); }
+  static void m1547() { m1548(); }
+  static void m1548() { m1549(); }
+  static void m1549() { m1550(); }
+  static void m1550() { m1551(); }
+  static void m1551() { m1552(); }
+  static void m1552() { m1553(); }
+  static void m1553() { m1554(); }
+  static void m1554() { m1555(); }
+  static void m1555() { m1556(); }
+  static void m1556() { m1557(); }
+  static void m1557() { m1558(); }
+  static void m1558() { m1559(); }
+  static void m1559() { m1560(); }
+  static void m1560() { m1561(); }
+  static void m1561() { m1562(); }
+  static void m1562() { m1563(); }
+  static void m1563() { m1564(); }
+  static void m1564() { m1565(); }
+  static void m1565() { m1566(); }
+  static void m1566() { m1567(); }
+  static void m1567() { m1568(); }
+  static void m1568() { m1569(); }
+  static void m1569() { m1570(); }
+  static void m1570() { m1571(); }
+  static void m1571() { m1572(); }
+  static void m1572() { m1573(); }
+  static void m1573() { m1574(); }
+  static void m1574() { m1575(); }
+  static void m1575() { m1576(); }
+  static void m1576() { m1577(); }
+  static void m1577() { m1578(); }
+  static void m1578() { m1579(); }
+  static void m1579() { m1580(); }
+  static void m1580() { m1581(); }
+  static void m1581() { m1582(); }
+  static void m1582() { m1583(); }
+  static void m1583() { m1584(); }
+  static void m1584() { m1585(); }
+  static void m1585() { m1586(); }
+  static void m1586() { m1587(); }
+  static void m1587() { m1588(); }
+  static void m1588() { m1589(); }
+  static void m1589() { m1590(); }
+  static void m1590() { m1591(); }
+  static void m1591() { m1592(); }
+  static void m1592() { m1593(); }
+  static void m1593() { m1594(); }
+  static void m1594() { m1595(); }
+  static void m1595() { m1596(); }
+  static void m1596() { m1597(); }
+  static void m1597() { m1598(); }
+  static void m1598() { m1599(); }
+  static void m1599() { m1600(); }
+  static void m1600() { m1601(); }
+  static void m1601() { m1602(); }
+  static void m1602() { m1603(); }
+  static void m1603() { m1604(); }
+  static void m1604() { m1605(); }
+  static void m1605() { m1606(); }
+  static void m1606() { m1607(); }
+  static void m1607() { m1608(); }
+  static void m1608() { m1609(); }
+  static void m1609() { m1610(); }
+  static void m1610() { m1611(); }
+  static void m1611() { m1612(); }
+  static void m1612() { m1613(); }
+  static void m1613() { m1614(); }
+  static void m1614() { m1615(); }
+  static void m1615() { m1616(); }
+  static void m1616() { m1617(); }
+  static void m1617() { m1618(); }
+  static void m1618() { m1619(); }
+  static void m1619() { m1620(); }
+  static void m1620() { m1621(); }
+  static void m1621() { m1622(); }
+  static void m1622() { m1623(); }
+  static void m1623() { m1624(); }
+  static void m1624() { m1625(); }
+  static void m1625() { m1626(); }
+  static void m1626() { m1627(); }
+  static void m1627() { m1628(); }
+  static void m1628() { m1629(); }
+  static void m1629() { m1630(); }
+  static void m1630() { m1631(); }
+  static void m1631() { m1632(); }
+  static void m1632() { m1633(); }
+  static void m1633() { m1634(); }
+  static void m1634() { m1635(); }
+  static void m1635() { m1636(); }
+  static void m1636() { m1637(); }
+  static void m1637() { m1638(); }
+  static void m1638() { m1639(); }
+  static void m1639() { m1640(); }
+  static void m1640() { m1641(); }
+  static void m1641() { m1642(); }
+  static void m1642() { m1643(); }
+  static void m1643() { m1644(); }
+  static void m1644() { m1645(); }
+  static void m1645() { m1646(); }
+  static void m1646() { m1647(); }
+  static void m1647() { m1648(); }
+  static void m1648() { m1649(); }
+  static void m1649() { m1650(); }
+  static void m1650() { m1651(); }
+  static void m1651() { m1652(); }
+  static void m1652() { m1653(); }
+  static void m1653() { m1654(); }
+  static void m1654() { m1655(); }
+  static void m1655() { m1656(); }
+  static void m1656() { m1657(); }
+  static void m1657() { m1658(); }
+  static void m1658() { m1659(); }
+  static void m1659() { m1660(); }
+  static void m1660() { m1661(); }
+  static void m1661() { m1662(); }
+  static void m1662() { m1663(); }
+  static void m1663() { m1664(); }
+  static void m1664() { m1665(); }
+  static void m1665() { m1666(); }
+  static void m1666() { m1667(); }
+  static void m1667() { m1668(); }
+  static void m1668() { m1669(); }
+  static void m1669() { m1670(); }
+  static void m1670() { m1671(); }
+  static void m1671() { m1672(); }
+  static void m1672() { m1673(); }
+  static void m1673() { m1674(); }
+  static void m1674() { m1675(); }
+  static void m1675() { m1676(); }
+  static void m1676() { m1677(); }
+  static void m1677() { m1678(); }
+  static void m1678() { m1679(); }
+  static void m1679() { m1680(); }
+  static void m1680() { m1681(); }
+  static void m1681() { m1682(); }
+  static void m1682() { m1683(); }
+  static void m1683() { m1684(); }
+  static void m1684() { m1685(); }
+  static void m1685() { m1686(); }
+  static void m1686() { m1687(); }
+  static void m1687() { m1688(); }
+  static void m1688() { m1689(); }
+  static void m1689() { m1690(); }
+  static void m1690() { m1691(); }
+  static void m1691() { m1692(); }
+  static void m1692() { m1693(); }
+  static void m1693() { m1694(); }
+  static void m1694() { m1695(); }
+  static void m1695() { m1696(); }
+  static void m1696() { m1697(); }
+  static void m1697() { m1698(); }
+  static void m1698() { m1699(); }
+  static void m1699() { m1700(); }
+  static void m1700() { m1701(); }
+  static void m1701() { m1702(); }
+  static void m1702() { m1703(); }
+  static void m1703() { m1704(); }
+  static void m1704() { m1705(); }
+  static void m1705() { m1706(); }
+  static void m1706() { m1707(); }
+  static void m1707() { m1708(); }
+  static void m1708() { m1709(); }
+  static void m1709() { m1710(); }
+  static void m1710() { m1711(); }
+  static void m1711() { m1712(); }
+  static void m1712() { m1713(); }
+  static void m1713() { m1714(); }
+  static void m1714() { m1715(); }
+  static void m1715() { m1716(); }
+  static void m1716() { m1717(); }
+  static void m1717() { m1718(); }
+  static void m1718() { m1719(); }
+  static void m1719() { m1720(); }
+  static void m1720() { m1721(); }
+  static void m1721() { m1722(); }
+  static void m1722() { m1723(); }
+  static void m1723() { m1724(); }
+  static void m1724() { m1725(); }
+  static void m1725() { m1726(); }
+  static void m1726() { m1727(); }
+  static void m1727() { m1728(); }
+  static void m1728() { m1729(); }
+  static void m1729() { m1730(); }
+  static void m1730() { m1731(); }
+  static void m1731() { m1732(); }
+  static void m1732() { m1733(); }
+  static void m1733() { m1734(); }
+  static void m1734() { m1735(); }
+  static void m1735() { m1736(); }
+  static void m1736() { m1737(); }
+  static void m1737() { m1738(); }
+  static void m1738() { m1739(); }
+  static void m1739() { m1740(); }
+  static void m1740() { m1741(); }
+  static void m1741() { m1742(); }
+  static void m1742() { m1743(); }
+  static void m1743() { m1744(); }
+  static void m1744() { m1745(); }
+  static void m1745() { m1746(); }
+  static void m1746() { m1747(); }
+  static void m1747() { m1748(); }
+  static void m1748() { m1749(); }
+  static void m1749() { m1750(); }
+  static void m1750() { m1751(); }
+  static void m1751() { m1752(); }
+  static void m1752() { m1753(); }
+  static void m1753() { m1754(); }
+  static void m1754() { m1755(); }
+  static void m1755() { m1756(); }
+  static void m1756() { m1757(); }
+  static void m1757() { m1758(); }
+  static void m1758() { m1759(); }
+  static void m1759() { m1760(); }
+  static void m1760() { m1761(); }
+  static void m1761() { m1762(); }
+  static void m1762() { m1763(); }
+  static void m1763() { m1764(); }
+  static void m1764() { m1765(); }
+  static void m1765() { m1766(); }
+  static void m1766() { m1767(); }
+  static void m1767() { m1768(); }
+  static void m1768() { m1769(); }
+  static void m1769() { m1770(); }
+  static void m1770() { m1771(); }
+  static void m1771() { m1772(); }
+  static void m1772() { m1773(); }
+  static void m1773() { m1774(); }
+  static void m1774() { m1775(); }
+  static void m1775() { m1776(); }
+  static void m1776() { m1777(); }
+  static void m1777() { m1778(); }
+  static void m1778() { m1779(); }
+  static void m1779() { m1780(); }
+  static void m1780() { m1781(); }
+  static void m1781() { m1782(); }
+  static void m1782() { m1783(); }
+  static void m1783() { m1784(); }
+  static void m1784() { m1785(); }
+  static void m1785() { m1786(); }
+  static void m1786() { m1787(); }
+  static void m1787() { m1788(); }
+  static void m1788() { m1789(); }
+  static void m1789() { m1790(); }
+  static void m1790() { m1791(); }
+  static void m1791() { m1792(); }
+  static void m1792() { m1793(); }
+  static void m1793() { m1794(); }
+  static void m1794() { m1795(); }
+  static void m1795() { m1796(); }
+  static void m1796() { m1797(); }
+  static void m1797() { m1798(); }
+  static void m1798() { m1799(); }
+  static void m1799() { m1800(); }
+  static void m1800() { m1801(); }
+  static void m1801() { m1802(); }
+  static void m1802() { m1803(); }
+  static void m1803() { m1804(); }
+  static void m1804() { m1805(); }
+  static void m1805() { m1806(); }
+  static void m1806() { m1807(); }
+  static void m1807() { m1808(); }
+  static void m1808() { m1809(); }
+  static void m1809() { m1810(); }
+  static void m1810() { m1811(); }
+  static void m1811() { m1812(); }
+  static void m1812() { m1813(); }
+  static void m1813() { m1814(); }
+  static void m1814() { m1815(); }
+  static void m1815() { m1816(); }
+  static void m1816() { m1817(); }
+  static void m1817() { m1818(); }
+  static void m1818() { m1819(); }
+  static void m1819() { m1820(); }
+  static void m1820() { m1821(); }
+  static void m1821() { m1822(); }
+  static void m1822() { m1823(); }
+  static void m1823() { m1824(); }
+  static void m1824() { m1825(); }
+  static void m1825() { m1826(); }
+  static void m1826() { m1827(); }
+  static void m1827() { m1828(); }
+  static void m1828() { m1829(); }
+  static void m1829() { m1830(); }
+  static void m1830() { m1831(); }
+  static void m1831() { m1832(); }
+  static void m1832() { m1833(); }
+  static void m1833() { m1834(); }
+  static void m1834() { m1835(); }
+  static void m1835() { m1836(); }
+  static void m1836() { m1837(); }
+  static void m1837() { m1838(); }
+  static void m1838() { m1839(); }
+  static void m1839() { m1840(); }
+  static void m1840() { m1841(); }
+  static void m1841() { m1842(); }
+  static void m1842() { m1843(); }
+  static void m1843() { m1844(); }
+  static void m1844() { m1845(); }
+  static void m1845() { m1846(); }
+  static void m1846() { m1847(); }
+  static void m1847() { m1848(); }
+  static void m1848() { m1849(); }
+  static void m1849() { m1850(); }
+  static void m1850() { m1851(); }
+  static void m1851() { m1852(); }
+  static void m1852() { m1853(); }
+  static void m1853() { m1854(); }
+  static void m1854() { m1855(); }
+  static void m1855() { m1856(); }
+  static void m1856() { m1857(); }
+  static void m1857() { m1858(); }
+  static void m1858() { m1859(); }
+  static void m1859() { m1860(); }
+  static void m1860() { m1861(); }
+  static void m1861() { m1862(); }
+  static void m1862() { m1863(); }
+  static void m1863() { m1864(); }
+  static void m1864() { m1865(); }
+  static void m1865() { m1866(); }
+  static void m1866() { m1867(); }
+  static void m1867() { m1868(); }
+  static void m1868() { m1869(); }
+  static void m1869() { m1870(); }
+  static void m1870() { m1871(); }
+  static void m1871() { m1872(); }
+  static void m1872() { m1873(); }
+  static void m1873() { m1874(); }
+  static void m1874() { m1875(); }
+  static void m1875() { m1876(); }
+  static void m1876() { m1877(); }
+  static void m1877() { m1878(); }
+  static void m1878() { m1879(); }
+  static void m1879() { m1880(); }
+  static void m1880() { m1881(); }
+  static void m1881() { m1882(); }
+  static void m1882() { m1883(); }
+  static void m1883() { m1884(); }
+  static void m1884() { m1885(); }
+  static void m1885() { m1886(); }
+  static void m1886() { m1887(); }
+  static void m1887() { m1888(); }
+  static void m1888() { m1889(); }
+  static void m1889() { m1890(); }
+  static void m1890() { m1891(); }
+  static void m1891() { m1892(); }
+  static void m1892() { m1893(); }
+  static void m1893() { m1894(); }
+  static void m1894() { m1895(); }
+  static void m1895() { m1896(); }
+  static void m1896() { m1897(); }
+  static void m1897() { m1898(); }
+  static void m1898() { m1899(); }
+  static void m1899() { m1900(); }
+  static void m1900() { m1901(); }
+  static void m1901() { m1902(); }
+  static void m1902() { m1903(); }
+  static void m1903() { m1904(); }
+  static void m1904() { m1905(); }
+  static void m1905() { m1906(); }
+  static void m1906() { m1907(); }
+  static void m1907() { m1908(); }
+  static void m1908() { m1909(); }
+  static void m1909() { m1910(); }
+  static void m1910() { m1911(); }
+  static void m1911() { m1912(); }
+  static void m1912() { m1913(); }
+  static void m1913() { m1914(); }
+  static void m1914() { m1915(); }
+  static void m1915() { m1916(); }
+  static void m1916() { m1917(); }
+  static void m1917() { m1918(); }
+  static void m1918() { m1919(); }
+  static void m1919() { m1920(); }
+  static void m1920() { m1921(); }
+  static void m1921() { m1922(); }
+  static void m1922() { m1923(); }
+  static void m1923() { m1924(); }
+  static void m1924() { m1925(); }
+  static void m1925() { m1926(); }
+  static void m1926() { m1927(); }
+  static void m1927() { m1928(); }
+  static void m1928() { m1929(); }
+  static void m1929() { m1930(); }
+  static void m1930() { m1931(); }
+  static void m1931() { m1932(); }
+  static void m1932() { m1933(); }
+  static void m1933() { m1934(); }
+  static void m1934() { m1935(); }
+  static void m1935() { m1936(); }
+  static void m1936() { m1937(); }
+  static void m1937() { m1938(); }
+  static void m1938() { m1939(); }
+  static void m1939() { m1940(); }
+  static void m1940() { m1941(); }
+  static void m1941() { m1942(); }
+  static void m1942() { m1943(); }
+  static void m1943() { m1944(); }
+  static void m1944() { m1945(); }
+  static void m1945() { m1946(); }
+  static void m1946() { m1947(); }
+  static void m1947() { m1948(); }
+  static void m1948() { m1949(); }
+  static void m1949() { m1950(); }
+  static void m1950() { m1951(); }
+  static void m1951() { m1952(); }
+  static void m1952() { m1953(); }
+  static void m1953() { m1954(); }
+  static void m1954() { m1955(); }
+  static void m1955() { m1956(); }
+  static void m1956() { m1957(); }
+  static void m1957() { m1958(); }
+  static void m1958() { m1959(); }
+  static void m1959() { m1960(); }
+  static void m1960() { m1961(); }
+  static void m1961() { m1962(); }
+  static void m1962() { m1963(); }
+  static void m1963() { m1964(); }
+  static void m1964() { m1965(); }
+  static void m1965() { m1966(); }
+  static void m1966() { m1967(); }
+  static void m1967() { m1968(); }
+  static void m1968() { m1969(); }
+  static void m1969() { m1970(); }
+  static void m1970() { m1971(); }
+  static void m1971() { m1972(); }
+  static void m1972() { m1973(); }
+  static void m1973() { m1974(); }
+  static void m1974() { m1975(); }
+  static void m1975() { m1976(); }
+  static void m1976() { m1977(); }
+  static void m1977() { m1978(); }
+  static void m1978() { m1979(); }
+  static void m1979() { m1980(); }
+  static void m1980() { m1981(); }
+  static void m1981() { m1982(); }
+  static void m1982() { m1983(); }
+  static void m1983() { m1984(); }
+  static void m1984() { m1985(); }
+  static void m1985() { m1986(); }
+  static void m1986() { m1987(); }
+  static void m1987() { m1988(); }
+  static void m1988() { m1989(); }
+  static void m1989() { m1990(); }
+  static void m1990() { m1991(); }
+  static void m1991() { m1992(); }
+  static void m1992() { m1993(); }
+  static void m1993() { m1994(); }
+  static void m1994() { m1995(); }
+  static void m1995() { m1996(); }
+  static void m1996() { m1997(); }
+  static void m1997() { m1998(); }
+  static void m1998() { m1999(); }
+  static void m1999() { m2000(); }
+  static void m2000() { m2001(); }
+  static void m2001() { m2002(); }
+  static void m2002() { m2003(); }
+  static void m2003() { m2004(); }
+  static void m2004() { m2005(); }
+  static void m2005() { m2006(); }
+  static void m2006() { m2007(); }
+  static void m2007() { m2008(); }
+  static void m2008() { m2009(); }
+  static void m2009() { m2010(); }
+  static void m2010() { m2011(); }
+  static void m2011() { m2012(); }
+  static void m2012() { m2013(); }
+  static void m2013() { m2014(); }
+  static void m2014() { m2015(); }
+  static void m2015() { m2016(); }
+  static void m2016() { m2017(); }
+  static void m2017() { m2018(); }
+  static void m2018() { m2019(); }
+  static void m2019() { m2020(); }
+  static void m2020() { m2021(); }
+  static void m2021() { m2022(); }
+  static void m2022() { m2023(); }
+  static void m2023() { m2024(); }
+  static void m2024() { m2025(); }
+  static void m2025() { m2026(); }
+  static void m2026() { m2027(); }
+  static void m2027() { m2028(); }
+  static void m2028() { m2029(); }
+  static void m2029() { m2030(); }
+  static void m2030() { m2031(); }
+  static void m2031() { m2032(); }
+  static void m2032() { m2033(); }
+  static void m2033() { m2034(); }
+  static void m2034() { m2035(); }
+  static void m2035() { m2036(); }
+  static void m2036() { m2037(); }
+  static void m2037() { m2038(); }
+  static void m2038() { m2039(); }
+  static void m2039() { m2040(); }
+  static void m2040() { m2041(); }
+  static void m2041() { m2042(); }
+  static void m2042() { m2043(); }
+  static void m2043() { m2044(); }
+  static void m2044() { m2045(); }
+  static void m2045() { m2046(); }
+  static void m2046() { m2047(); }
+  static void m2047() { m2048(); }
+  static void m2048() { m2049(); }
+  static void m2049() { m2050(); }
+  static void m2050() { m2051(); }
+  static void m2051() { m2052(); }
+  static void m2052() { m2053(); }
+  static void m2053() { m2054(); }
+  static void m2054() { m2055(); }
+  static void m2055() { m2056(); }
+  static void m2056() { m2057(); }
+  static void m2057() { m2058(); }
+  static void m2058() { m2059(); }
+  static void m2059() { m2060(); }
+  static void m2060() { m2061(); }
+  static void m2061() { m2062(); }
+  static void m2062() { m2063(); }
+  static void m2063() { m2064(); }
+  static void m2064() { m2065(); }
+  static void m2065() { m2066(); }
+  static void m2066() { m2067(); }
+  static void m2067() { m2068(); }
+  static void m2068() { m2069(); }
+  static void m2069() { m2070(); }
+  static void m2070() { m2071(); }
+  static void m2071() { m2072(); }
+  static void m2072() { m2073(); }
+  static void m2073() { m2074(); }
+  static void m2074() { m2075(); }
+  static void m2075() { m2076(); }
+  static void m2076() { m2077(); }
+  static void m2077() { m2078(); }
+  static void m2078() { m2079(); }
+  static void m2079() { m2080(); }
+  static void m2080() { m2081(); }
+  static void m2081() { m2082(); }
+  static void m2082() { m2083(); }
+  static void m2083() { m2084(); }
+  static void m2084() { m2085(); }
+  static void m2085() { m2086(); }
+  static void m2086() { m2087(); }
+  static void m2087() { m2088(); }
+  static void m2088() { m2089(); }
+  static void m2089() { m2090(); }
+  static void m2090() { m2091(); }
+  static void m2091() { m2092(); }
+  static void m2092() { m2093(); }
+  static void m2093() { m2094(); }
+  static void m2094() { m2095(); }
+  static void m2095() { m2096(); }
+  static void m2096() { m2097(); }
+  static void m2097() { m2098(); }
+  static void m2098() { m2099(); }
+  static void m2099() { m2100(); }
+  static void m2100() { m2101(); }
+  static void m2101() { m2102(); }
+  static void m2102() { m2103(); }
+  static void m2103() { m2104(); }
+  static void m2104() { m2105(); }
+  static void m2105() { m2106(); }
+  static void m2106() { m2107(); }
+  static void m2107() { m2108(); }
+  static void m2108() { m2109(); }
+  static void m2109() { m2110(); }
+  static void m2110() { m2111(); }
+  static void m2111() { m2112(); }
+  static void m2112() { m2113(); }
+  static void m2113() { m2114(); }
+  static void m2114() { m2115(); }
+  static void m2115() { m2116(); }
+  static void m2116() { m2117(); }
+  static void m2117() { m2118(); }
+  static void m2118() { m2119(); }
+  static void m2119() { m2120(); }
+  static void m2120() { m2121(); }
+  static void m2121() { m2122(); }
+  static void m2122() { m2123(); }
+  static void m2123() { m2124(); }
+  static void m2124() { m2125(); }
+  static void m2125() { m2126(); }
+  static void m2126() { m2127(); }
+  static void m2127() { m2128(); }
+  static void m2128() { m2129(); }
+  static void m2129() { m2130(); }
+  static void m2130() { m2131(); }
+  static void m2131() { m2132(); }
+  static void m2132() { m2133(); }
+  static void m2133() { m2134(); }
+  static void m2134() { m2135(); }
+  static void m2135() { m2136(); }
+  static void m2136() { m2137(); }
+  static void m2137() { m2138(); }
+  static void m2138() { m2139(); }
+  static void m2139() { m2140(); }
+  static void m2140() { m2141(); }
+  static void m2141() { m2142(); }
+  static void m2142() { m2143(); }
+  static void m2143() { m2144(); }
+  static void m2144() { m2145(); }
+  static void m2145() { m2146(); }
+  static void m2146() { m2147(); }
+  static void m2147() { m2148(); }
+  static void m2148() { m2149(); }
+  static void m2149() { m2150(); }
+  static void m2150() { m2151(); }
+  static void m2151() { m2152(); }
+  static void m2152() { m2153(); }
+  static void m2153() { m2154(); }
+  static void m2154() { m2155(); }
+  static void m2155() { m2156(); }
+  static void m2156() { m2157(); }
+  static void m2157() { m2158(); }
+  static void m2158() { m2159(); }
+  static void m2159() { m2160(); }
+  static void m2160() { m2161(); }
+  static void m2161() { m2162(); }
+  static void m2162() { m2163(); }
+  static void m2163() { m2164(); }
+  static void m2164() { m2165(); }
+  static void m2165() { m2166(); }
+  static void m2166() { m2167(); }
+  static void m2167() { m2168(); }
+  static void m2168() { m2169(); }
+  static void m2169() { m2170(); }
+  static void m2170() { m2171(); }
+  static void m2171() { m2172(); }
+  static void m2172() { m2173(); }
+  static void m2173() { m2174(); }
+  static void m2174() { m2175(); }
+  static void m2175() { m2176(); }
+  static void m2176() { m2177(); }
+  static void m2177() { m2178(); }
+  static void m2178() { m2179(); }
+  static void m2179() { m2180(); }
+  static void m2180() { m2181(); }
+  static void m2181() { m2182(); }
+  static void m2182() { m2183(); }
+  static void m2183() { m2184(); }
+  static void m2184() { m2185(); }
+  static void m2185() { m2186(); }
+  static void m2186() { m2187(); }
+  static void m2187() { m2188(); }
+  static void m2188() { m2189(); }
+  static void m2189() { m2190(); }
+  static void m2190() { m2191(); }
+  static void m2191() { m2192(); }
+  static void m2192() { m2193(); }
+  static void m2193() { m2194(); }
+  static void m2194() { m2195(); }
+  static void m2195() { m2196(); }
+  static void m2196() { m2197(); }
+  static void m2197() { m2198(); }
+  static void m2198() { m2199(); }
+  static void m2199() { m2200(); }
+  static void m2200() { m2201(); }
+  static void m2201() { m2202(); }
+  static void m2202() { m2203(); }
+  static void m2203() { m2204(); }
+  static void m2204() { m2205(); }
+  static void m2205() { m2206(); }
+  static void m2206() { m2207(); }
+  static void m2207() { m2208(); }
+  static void m2208() { m2209(); }
+  static void m2209() { m2210(); }
+  static void m2210() { m2211(); }
+  static void m2211() { m2212(); }
+  static void m2212() { m2213(); }
+  static void m2213() { m2214(); }
+  static void m2214() { m2215(); }
+  static void m2215() { m2216(); }
+  static void m2216() { m2217(); }
+  static void m2217() { m2218(); }
+  static void m2218() { m2219(); }
+  static void m2219() { m2220(); }
+  static void m2220() { m2221(); }
+  static void m2221() { m2222(); }
+  static void m2222() { m2223(); }
+  static void m2223() { m2224(); }
+  static void m2224() { m2225(); }
+  static void m2225() { m2226(); }
+  static void m2226() { m2227(); }
+  static void m2227() { m2228(); }
+  static void m2228() { m2229(); }
+  static void m2229() { m2230(); }
+  static void m2230() { m2231(); }
+  static void m2231() { m2232(); }
+  static void m2232() { m2233(); }
+  static void m2233() { m2234(); }
+  static void m2234() { m2235(); }
+  static void m2235() { m2236(); }
+  static void m2236() { m2237(); }
+  static void m2237() { m2238(); }
+  static void m2238() { m2239(); }
+  static void m2239() { m2240(); }
+  static void m2240() { m2241(); }
+  static void m2241() { m2242(); }
+  static void m2242() { m2243(); }
+  static void m2243() { m2244(); }
+  static void m2244() { m2245(); }
+  static void m2245() { m2246(); }
+  static void m2246() { m2247(); }
+  static void m2247() { m2248(); }
+  static void m2248() { m2249(); }
+  static void m2249() { m2250(); }
+  static void m2250() { m2251(); }
+  static void m2251() { m2252(); }
+  static void m2252() { m2253(); }
+  static void m2253() { m2254(); }
+  static void m2254() { m2255(); }
+  static void m2255() { m2256(); }
+  static void m2256() { m2257(); }
+  static void m2257() { m2258(); }
+  static void m2258() { m2259(); }
+  static void m2259() { m2260(); }
+  static void m2260() { m2261(); }
+  static void m2261() { m2262(); }
+  static void m2262() { m2263(); }
+  static void m2263() { m2264(); }
+  static void m2264() { m2265(); }
+  static void m2265() { m2266(); }
+  static void m2266() { m2267(); }
+  static void m2267() { m2268(); }
+  static void m2268() { m2269(); }
+  static void m2269() { m2270(); }
+  static void m2270() { m2271(); }
+  static void m2271() { m2272(); }
+  static void m2272() { m2273(); }
+  static void m2273() { m2274(); }
+  static void m2274() { m2275(); }
+  static void m2275() { m2276(); }
+  static void m2276() { m2277(); }
+  static void m2277() { m2278(); }
+  static void m2278() { m2279(); }
+  static void m2279() { m2280(); }
+  static void m2280() { m2281(); }
+  static void m2281() { m2282(); }
+  static void m2282() { m2283(); }
+  static void m2283() { m2284(); }
+  static void m2284() { m2285(); }
+  static void m2285() { m2286(); }
+  static void m2286() { m2287(); }
+  static void m2287() { m2288(); }
+  static void m2288() { m2289(); }
+  static void m2289() { m2290(); }
+  static void m2290() { m2291(); }
+  static void m2291() { m2292(); }
+  static void m2292() { m2293(); }
+  static void m2293() { m2294(); }
+  static void m2294() { m2295(); }
+  static void m2295() { m2296(); }
+  static void m2296() { m2297(); }
+  static void m2297() { m2298(); }
+  static void m2298() { m2299(); }
+  static void m2299() { m2300(); }
+  static void m2300() { m2301(); }
+  static void m2301() { m2302(); }
+  static void m2302() { m2303(); }
+  static void m2303() { m2304(); }
+  static void m2304() { m2305(); }
+  static void m2305() { m2306(); }
+  static void m2306() { m2307(); }
+  static void m2307() { m2308(); }
+  static void m2308() { m2309(); }
+  static void m2309() { m2310(); }
+  static void m2310() { m2311(); }
+  static void m2311() { m2312(); }
+  static void m2312() { m2313(); }
+  static void m2313() { m2314(); }
+  static void m2314() { m2315(); }
+  static void m2315() { m2316(); }
+  static void m2316() { m2317(); }
+  static void m2317() { m2318(); }
+  static void m2318() { m2319(); }
+  static void m2319() { m2320(); }
+  static void m2320() { m2321(); }
+  static void m2321() { m2322(); }
+  static void m2322() { m2323(); }
+  static void m2323() { m2324(); }
+  static void m2324() { m2325(); }
+  static void m2325() { m2326(); }
+  static void m2326() { m2327(); }
+  static void m2327() { m2328(); }
+  static void m2328() { m2329(); }
+  static void m2329() { m2330(); }
+  static void m2330() { m2331(); }
+  static void m2331() { m2332(); }
+  static void m2332() { m2333(); }
+  static void m2333() { m2334(); }
+  static void m2334() { m2335(); }
+  static void m2335() { m2336(); }
+  static void m2336() { m2337(); }
+  static void m2337() { m2338(); }
+  static void m2338() { m2339(); }
+  static void m2339() { m2340(); }
+  static void m2340() { m2341(); }
+  static void m2341() { m2342(); }
+  static void m2342() { m2343(); }
+  static void m2343() { m2344(); }
+  static void m2344() { m2345(); }
+  static void m2345() { m2346(); }
+  static void m2346() { m2347(); }
+  static void m2347() { m2348(); }
+  static void m2348() { m2349(); }
+  static void m2349() { m2350(); }
+  static void m2350() { m2351(); }
+  static void m2351() { m2352(); }
+  static void m2352() { m2353(); }
+  static void m2353() { m2354(); }
+  static void m2354() { m2355(); }
+  static void m2355() { m2356(); }
+  static void m2356() { m2357(); }
+  static void m2357() { m2358(); }
+  static void m2358() { m2359(); }
+  static void m2359() { m2360(); }
+  static void m2360() { m2361(); }
+  static void m2361() { m2362(); }
+  static void m2362() { m2363(); }
+  static void m2363() { m2364(); }
+  static void m2364() { m2365(); }
+  static void m2365() { m2366(); }
+  static void m2366() { m2367(); }
+  static void m2367() { m2368(); }
+  static void m2368() { m2369(); }
+  static void m2369() { m2370(); }
+  static void m2370() { m2371(); }
+  static void m2371() { m2372(); }
+  static void m2372() { m2373(); }
+  static void m2373() { m2374(); }
+  static void m2374() { m2375(); }
+  static void m2375() { m2376(); }
+  static void m2376() { m2377(); }
+  static void m2377() { m2378(); }
+  static void m2378() { m2379(); }
+  static void m2379() { m2380(); }
+  static void m2380() { m2381(); }
+  static void m2381() { m2382(); }
+  static void m2382() { m2383(); }
+  static void m2383() { m2384(); }
+  static void m2384() { m2385(); }
+  static void m2385() { m2386(); }
+  static void m2386() { m2387(); }
+  static void m2387() { m2388(); }
+  static void m2388() { m2389(); }
+  static void m2389() { m2390(); }
+  static void m2390() { m2391(); }
+  static void m2391() { m2392(); }
+  static void m2392() { m2393(); }
+  static void m2393() { m2394(); }
+  static void m2394() { m2395(); }
+  static void m2395() { m2396(); }
+  static void m2396() { m2397(); }
+  static void m2397() { m2398(); }
+  static void m2398() { m2399(); }
+  static void m2399() { m2400(); }
+  static void m2400() { m2401(); }
+  static void m2401() { m2402(); }
+  static void m2402() { m2403(); }
+  static void m2403() { m2404(); }
+  static void m2404() { m2405(); }
+  static void m2405() { m2406(); }
+  static void m2406() { m2407(); }
+  static void m2407() { m2408(); }
+  static void m2408() { m2409(); }
+  static void m2409() { m2410(); }
+  static void m2410() { m2411(); }
+  static void m2411() { m2412(); }
+  static void m2412() { m2413(); }
+  static void m2413() { m2414(); }
+  static void m2414() { m2415(); }
+  static void m2415() { m2416(); }
+  static void m2416() { m2417(); }
+  static void m2417() { m2418(); }
+  static void m2418() { m2419(); }
+  static void m2419() { m2420(); }
+  static void m2420() { m2421(); }
+  static void m2421() { m2422(); }
+  static void m2422() { m2423(); }
+  static void m2423() { m2424(); }
+  static void m2424() { m2425(); }
+  static void m2425() { m2426(); }
+  static void m2426() { m2427(); }
+  static void m2427() { m2428(); }
+  static void m2428() { m2429(); }
+  static void m2429() { m2430(); }
+  static void m2430() { m2431(); }
+  static void m2431() { m2432(); }
+  static void m2432() { m2433(); }
+  static void m2433() { m2434(); }
+  static void m2434() { m2435(); }
+  static void m2435() { m2436(); }
+  static void m2436() { m2437(); }
+  static void m2437() { m2438(); }
+  static void m2438() { m2439(); }
+  static void m2439() { m2440(); }
+  static void m2440() { m2441(); }
+  static void m2441() { m2442(); }
+  static void m2442() { m2443(); }
+  static void m2443() { m2444(); }
+  static void m2444() { m2445(); }
+  static void m2445() { m2446(); }
+  static void m2446() { m2447(); }
+  static void m2447() { m2448(); }
+  static void m2448() { m2449(); }
+  static void m2449() { m2450(); }
+  static void m2450() { m2451(); }
+  static void m2451() { m2452(); }
+  static void m2452() { m2453(); }
+  static void m2453() { m2454(); }
+  static void m2454() { m2455(); }
+  static void m2455() { m2456(); }
+  static void m2456() { m2457(); }
+  static void m2457() { m2458(); }
+  static void m2458() { m2459(); }
+  static void m2459() { m2460(); }
+  static void m2460() { m2461(); }
+  static void m2461() { m2462(); }
+  static void m2462() { m2463(); }
+  static void m2463() { m2464(); }
+  static void m2464() { m2465(); }
+  static void m2465() { m2466(); }
+  static void m2466() { m2467(); }
+  static void m2467() { m2468(); }
+  static void m2468() { m2469(); }
+  static void m2469() { m2470(); }
+  static void m2470() { m2471(); }
+  static void m2471() { m2472(); }
+  static void m2472() { m2473(); }
+  static void m2473() { m2474(); }
+  static void m2474() { m2475(); }
+  static void m2475() { m2476(); }
+  static void m2476() { m2477(); }
+  static void m2477() { m2478(); }
+  static void m2478() { m2479(); }
+  static void m2479() { m2480(); }
+  static void m2480() { m2481(); }
+  static void m2481() { m2482(); }
+  static void m2482() { m2483(); }
+  static void m2483() { m2484(); }
+  static void m2484() { m2485(); }
+  static void m2485() { m2486(); }
+  static void m2486() { m2487(); }
+  static void m2487() { m2488(); }
+  static void m2488() { m2489(); }
+  static void m2489() { m2490(); }
+  static void m2490() { m2491(); }
+  static void m2491() { m2492(); }
+  static void m2492() { m2493(); }
+  static void m2493() { m2494(); }
+  static void m2494() { m2495(); }
+  static void m2495() { m2496(); }
+  static void m2496() { m2497(); }
+  static void m2497() { m2498(); }
+  static void m2498() { m2499(); }
+  static void m2499() { m2500(); }
+  static void m2500() { m2501(); }
+  static void m2501() { m2502(); }
+  static void m2502() { m2503(); }
+  static void m2503() { m2504(); }
+  static void m2504() { m2505(); }
+  static void m2505() { m2506(); }
+  static void m2506() { m2507(); }
+  static void m2507() { m2508(); }
+  static void m2508() { m2509(); }
+  static void m2509() { m2510(); }
+  static void m2510() { m2511(); }
+  static void m2511() { m2512(); }
+  static void m2512() { m2513(); }
+  static void m2513() { m2514(); }
+  static void m2514() { m2515(); }
+  static void m2515() { m2516(); }
+  static void m2516() { m2517(); }
+  static void m2517() { m2518(); }
+  static void m2518() { m2519(); }
+  static void m2519() { m2520(); }
+  static void m2520() { m2521(); }
+  static void m2521() { m2522(); }
+  static void m2522() { m2523(); }
+  static void m2523() { m2524(); }
+  static void m2524() { m2525(); }
+  static void m2525() { m2526(); }
+  static void m2526() { m2527(); }
+  static void m2527() { m2528(); }
+  static void m2528() { m2529(); }
+  static void m2529() { m2530(); }
+  static void m2530() { m2531(); }
+  static void m2531() { m2532(); }
+  static void m2532() { m2533(); }
+  static void m2533() { m2534(); }
+  static void m2534() { m2535(); }
+  static void m2535() { m2536(); }
+  static void m2536() { m2537(); }
+  static void m2537() { m2538(); }
+  static void m2538() { m2539(); }
+  static void m2539() { m2540(); }
+  static void m2540() { m2541(); }
+  static void m2541() { m2542(); }
+  static void m2542() { m2543(); }
+  static void m2543() { m2544(); }
+  static void m2544() { m2545(); }
+  static void m2545() { m2546(); }
+  static void m2546() { m2547(); }
+  static void m2547() { m2548(); }
+  static void m2548() { m2549(); }
+  static void m2549() { m2550(); }
+  static void m2550() { m2551(); }
+  static void m2551() { m2552(); }
+  static void m2552() { m2553(); }
+  static void m2553() { m2554(); }
+  static void m2554() { m2555(); }
+  static void m2555() { m2556(); }
+  static void m2556() { m2557(); }
+  static void m2557() { m2558(); }
+  static void m2558() { m2559(); }
+  static void m2559() { m2560(); }
+  static void m2560() { m2561(); }
+  static void m2561() { m2562(); }
+  static void m2562() { m2563(); }
+  static void m2563() { m2564(); }
+  static void m2564() { m2565(); }
+  static void m2565() { m2566(); }
+  static void m2566() { m2567(); }
+  static void m2567() { m2568(); }
+  static void m2568() { m2569(); }
+  static void m2569() { m2570(); }
+  static void m2570() { m2571(); }
+  static void m2571() { m2572(); }
+  static void m2572() { m2573(); }
+  static void m2573() { m2574(); }
+  static void m2574() { m2575(); }
+  static void m2575() { m2576(); }
+  static void m2576() { m2577(); }
+  static void m2577() { m2578(); }
+  static void m2578() { m2579(); }
+  static void m2579() { m2580(); }
+  static void m2580() { m2581(); }
+  static void m2581() { m2582(); }
+  static void m2582() { m2583(); }
+  static void m2583() { m2584(); }
+  static void m2584() { m2585(); }
+  static void m2585() { m2586(); }
+  static void m2586() { m2587(); }
+  static void m2587() { m2588(); }
+  static void m2588() { m2589(); }
+  static void m2589() { m2590(); }
+  static void m2590() { m2591(); }
+  static void m2591() { m2592(); }
+  static void m2592() { m2593(); }
+  static void m2593() { m2594(); }
+  static void m2594() { m2595(); }
+  static void m2595() { m2596(); }
+  static void m2596() { m2597(); }
+  static void m2597() { m2598(); }
+  static void m2598() { m2599(); }
+  static void m2599() { m2600(); }
+  static void m2600() { m2601(); }
+  static void m2601() { m2602(); }
+  static void m2602() { m2603(); }
+  static void m2603() { m2604(); }
+  static void m2604() { m2605(); }
+  static void m2605() { m2606(); }
+  static void m2606() { m2607(); }
+  static void m2607() { m2608(); }
+  static void m2608() { m2609(); }
+  static void m2609() { m2610(); }
+  static void m2610() { m2611(); }
+  static void m2611() { m2612(); }
+  static void m2612() { m2613(); }
+  static void m2613() { m2614(); }
+  static void m2614() { m2615(); }
+  static void m2615() { m2616(); }
+  static void m2616() { m2617(); }
+  static void m2617() { m2618(); }
+  static void m2618() { m2619(); }
+  static void m2619() { m2620(); }
+  static void m2620() { m2621(); }
+  static void m2621() { m2622(); }
+  static void m2622() { m2623(); }
+  static void m2623() { m2624(); }
+  static void m2624() { m2625(); }
+  static void m2625() { m2626(); }
+  static void m2626() { m2627(); }
+  static void m2627() { m2628(); }
+  static void m2628() { m2629(); }
+  static void m2629() { m2630(); }
+  static void m2630() { m2631(); }
+  static void m2631() { m2632(); }
+  static void m2632() { m2633(); }
+  static void m2633() { m2634(); }
+  static void m2634() { m2635(); }
+  static void m2635() { m2636(); }
+  static void m2636() { m2637(); }
+  static void m2637() { m2638(); }
+  static void m2638() { m2639(); }
+  static void m2639() { m2640(); }
+  static void m2640() { m2641(); }
+  static void m2641() { m2642(); }
+  static void m2642() { m2643(); }
+  static void m2643() { m2644(); }
+  static void m2644() { m2645(); }
+  static void m2645() { m2646(); }
+  static void m2646() { m2647(); }
+  static void m2647() { m2648(); }
+  static void m2648() { m2649(); }
+  static void m2649() { m2650(); }
+  static void m2650() { m2651(); }
+  static void m2651() { m2652(); }
+  static void m2652() { m2653(); }
+  static void m2653() { m2654(); }
+  static void m2654() { m2655(); }
+  static void m2655() { m2656(); }
+  static void m2656() { m2657(); }
+  static void m2657() { m2658(); }
+  static void m2658() { m2659(); }
+  static void m2659() { m2660(); }
+  static void m2660() { m2661(); }
+  static void m2661() { m2662(); }
+  static void m2662() { m2663(); }
+  static void m2663() { m2664(); }
+  static void m2664() { m2665(); }
+  static void m2665() { m2666(); }
+  static void m2666() { m2667(); }
+  static void m2667() { m2668(); }
+  static void m2668() { m2669(); }
+  static void m2669() { m2670(); }
+  static void m2670() { m2671(); }
+  static void m2671() { m2672(); }
+  static void m2672() { m2673(); }
+  static void m2673() { m2674(); }
+  static void m2674() { m2675(); }
+  static void m2675() { m2676(); }
+  static void m2676() { m2677(); }
+  static void m2677() { m2678(); }
+  static void m2678() { m2679(); }
+  static void m2679() { m2680(); }
+  static void m2680() { m2681(); }
+  static void m2681() { m2682(); }
+  static void m2682() { m2683(); }
+  static void m2683() { m2684(); }
+  static void m2684() { m2685(); }
+  static void m2685() { m2686(); }
+  static void m2686() { m2687(); }
+  static void m2687() { m2688(); }
+  static void m2688() { m2689(); }
+  static void m2689() { m2690(); }
+  static void m2690() { m2691(); }
+  static void m2691() { m2692(); }
+  static void m2692() { m2693(); }
+  static void m2693() { m2694(); }
+  static void m2694() { m2695(); }
+  static void m2695() { m2696(); }
+  static void m2696() { m2697(); }
+  static void m2697() { m2698(); }
+  static void m2698() { m2699(); }
+  static void m2699() { m2700(); }
+  static void m2700() { m2701(); }
+  static void m2701() { m2702(); }
+  static void m2702() { m2703(); }
+  static void m2703() { m2704(); }
+  static void m2704() { m2705(); }
+  static void m2705() { m2706(); }
+  static void m2706() { m2707(); }
+  static void m2707() { m2708(); }
+  static void m2708() { m2709(); }
+  static void m2709() { m2710(); }
+  static void m2710() { m2711(); }
+  static void m2711() { m2712(); }
+  static void m2712() { m2713(); }
+  static void m2713() { m2714(); }
+  static void m2714() { m2715(); }
+  static void m2715() { m2716(); }
+  static void m2716() { m2717(); }
+  static void m2717() { m2718(); }
+  static void m2718() { m2719(); }
+  static void m2719() { m2720(); }
+  static void m2720() { m2721(); }
+  static void m2721() { m2722(); }
+  static void m2722() { m2723(); }
+  static void m2723() { m2724(); }
+  static void m2724() { m2725(); }
+  static void m2725() { m2726(); }
+  static void m2726() { m2727(); }
+  static void m2727() { m2728(); }
+  static void m2728() { m2729(); }
+  static void m2729() { m2730(); }
+  static void m2730() { m2731(); }
+  static void m2731() { m2732(); }
+  static void m2732() { m2733(); }
+  static void m2733() { m2734(); }
+  static void m2734() { m2735(); }
+  static void m2735() { m2736(); }
+  static void m2736() { m2737(); }
+  static void m2737() { m2738(); }
+  static void m2738() { m2739(); }
+  static void m2739() { m2740(); }
+  static void m2740() { m2741(); }
+  static void m2741() { m2742(); }
+  static void m2742() { m2743(); }
+  static void m2743() { m2744(); }
+  static void m2744() { m2745(); }
+  static void m2745() { m2746(); }
+  static void m2746() { m2747(); }
+  static void m2747() { m2748(); }
+  static void m2748() { m2749(); }
+  static void m2749() { m2750(); }
+  static void m2750() { m2751(); }
+  static void m2751() { m2752(); }
+  static void m2752() { m2753(); }
+  static void m2753() { m2754(); }
+  static void m2754() { m2755(); }
+  static void m2755() { m2756(); }
+  static void m2756() { m2757(); }
+  static void m2757() { m2758(); }
+  static void m2758() { m2759(); }
+  static void m2759() { m2760(); }
+  static void m2760() { m2761(); }
+  static void m2761() { m2762(); }
+  static void m2762() { m2763(); }
+  static void m2763() { m2764(); }
+  static void m2764() { m2765(); }
+  static void m2765() { m2766(); }
+  static void m2766() { m2767(); }
+  static void m2767() { m2768(); }
+  static void m2768() { m2769(); }
+  static void m2769() { m2770(); }
+  static void m2770() { m2771(); }
+  static void m2771() { m2772(); }
+  static void m2772() { m2773(); }
+  static void m2773() { m2774(); }
+  static void m2774() { m2775(); }
+  static void m2775() { m2776(); }
+  static void m2776() { m2777(); }
+  static void m2777() { m2778(); }
+  static void m2778() { m2779(); }
+  static void m2779() { m2780(); }
+  static void m2780() { m2781(); }
+  static void m2781() { m2782(); }
+  static void m2782() { m2783(); }
+  static void m2783() { m2784(); }
+  static void m2784() { m2785(); }
+  static void m2785() { m2786(); }
+  static void m2786() { m2787(); }
+  static void m2787() { m2788(); }
+  static void m2788() { m2789(); }
+  static void m2789() { m2790(); }
+  static void m2790() { m2791(); }
+  static void m2791() { m2792(); }
+  static void m2792() { m2793(); }
+  static void m2793() { m2794(); }
+  static void m2794() { m2795(); }
+  static void m2795() { m2796(); }
+  static void m2796() { m2797(); }
+  static void m2797() { m2798(); }
+  static void m2798() { m2799(); }
+  static void m2799() { m2800(); }
+  static void m2800() { m2801(); }
+  static void m2801() { m2802(); }
+  static void m2802() { m2803(); }
+  static void m2803() { m2804(); }
+  static void m2804() { m2805(); }
+  static void m2805() { m2806(); }
+  static void m2806() { m2807(); }
+  static void m2807() { m2808(); }
+  static void m2808() { m2809(); }
+  static void m2809() { m2810(); }
+  static void m2810() { m2811(); }
+  static void m2811() { m2812(); }
+  static void m2812() { m2813(); }
+  static void m2813() { m2814(); }
+  static void m2814() { m2815(); }
+  static void m2815() { m2816(); }
+  static void m2816() { m2817(); }
+  static void m2817() { m2818(); }
+  static void m2818() { m2819(); }
+  static void m2819() { m2820(); }
+  static void m2820() { m2821(); }
+  static void m2821() { m2822(); }
+  static void m2822() { m2823(); }
+  static void m2823() { m2824(); }
+  static void m2824() { m2825(); }
+  static void m2825() { m2826(); }
+  static void m2826() { m2827(); }
+  static void m2827() { m2828(); }
+  static void m2828() { m2829(); }
+  static void m2829() { m2830(); }
+  static void m2830() { m2831(); }
+  static void m2831() { m2832(); }
+  static void m2832() { m2833(); }
+  static void m2833() { m2834(); }
+  static void m2834() { m2835(); }
+  static void m2835() { m2836(); }
+  static void m2836() { m2837(); }
+  static void m2837() { m2838(); }
+  static void m2838() { m2839(); }
+  static void m2839() { m2840(); }
+  static void m2840() { m2841(); }
+  static void m2841() { m2842(); }
+  static void m2842() { m2843(); }
+  static void m2843() { m2844(); }
+  static void m2844() { m2845(); }
+  static void m2845() { m2846(); }
+  static void m2846() { m2847(); }
+  static void m2847() { m2848(); }
+  static void m2848() { m2849(); }
+  static void m2849() { m2850(); }
+  static void m2850() { m2851(); }
+  static void m2851() { m2852(); }
+  static void m2852() { m2853(); }
+  static void m2853() { m2854(); }
+  static void m2854() { m2855(); }
+  static void m2855() { m2856(); }
+  static void m2856() { m2857(); }
+  static void m2857() { m2858(); }
+  static void m2858() { m2859(); }
+  static void m2859() { m2860(); }
+  static void m2860() { m2861(); }
+  static void m2861() { m2862(); }
+  static void m2862() { m2863(); }
+  static void m2863() { m2864(); }
+  static void m2864() { m2865(); }
+  static void m2865() { m2866(); }
+  static void m2866() { m2867(); }
+  static void m2867() { m2868(); }
+  static void m2868() { m2869(); }
+  static void m2869() { m2870(); }
+  static void m2870() { m2871(); }
+  static void m2871() { m2872(); }
+  static void m2872() { m2873(); }
+  static void m2873() { m2874(); }
+  static void m2874() { m2875(); }
+  static void m2875() { m2876(); }
+  static void m2876() { m2877(); }
+  static void m2877() { m2878(); }
+  static void m2878() { m2879(); }
+  static void m2879() { m2880(); }
+  static void m2880() { m2881(); }
+  static void m2881() { m2882(); }
+  static void m2882() { m2883(); }
+  static void m2883() { m2884(); }
+  static void m2884() { m2885(); }
+  static void m2885() { m2886(); }
+  static void m2886() { m2887(); }
+  static void m2887() { m2888(); }
+  static void m2888() { m2889(); }
+  static void m2889() { m2890(); }
+  static void m2890() { m2891(); }
+  static void m2891() { m2892(); }
+  static void m2892() { m2893(); }
+  static void m2893() { m2894(); }
+  static void m2894() { m2895(); }
+  static void m2895() { m2896(); }
+  static void m2896() { m2897(); }
+  static void m2897() { m2898(); }
+  static void m2898() { m2899(); }
+  static void m2899() { m2900(); }
+  static void m2900() { m2901(); }
+  static void m2901() { m2902(); }
+  static void m2902() { m2903(); }
+  static void m2903() { m2904(); }
+  static void m2904() { m2905(); }
+  static void m2905() { m2906(); }
+  static void m2906() { m2907(); }
+  static void m2907() { m2908(); }
+  static void m2908() { m2909(); }
+  static void m2909() { m2910(); }
+  static void m2910() { m2911(); }
+  static void m2911() { m2912(); }
+  static void m2912() { m2913(); }
+  static void m2913() { m2914(); }
+  static void m2914() { m2915(); }
+  static void m2915() { m2916(); }
+  static void m2916() { m2917(); }
+  static void m2917() { m2918(); }
+  static void m2918() { m2919(); }
+  static void m2919() { m2920(); }
+  static void m2920() { m2921(); }
+  static void m2921() { m2922(); }
+  static void m2922() { m2923(); }
+  static void m2923() { m2924(); }
+  static void m2924() { m2925(); }
+  static void m2925() { m2926(); }
+  static void m2926() { m2927(); }
+  static void m2927() { m2928(); }
+  static void m2928() { m2929(); }
+  static void m2929() { m2930(); }
+  static void m2930() { m2931(); }
+  static void m2931() { m2932(); }
+  static void m2932() { m2933(); }
+  static void m2933() { m2934(); }
+  static void m2934() { m2935(); }
+  static void m2935() { m2936(); }
+  static void m2936() { m2937(); }
+  static void m2937() { m2938(); }
+  static void m2938() { m2939(); }
+  static void m2939() { m2940(); }
+  static void m2940() { m2941(); }
+  static void m2941() { m2942(); }
+  static void m2942() { m2943(); }
+  static void m2943() { m2944(); }
+  static void m2944() { m2945(); }
+  static void m2945() { m2946(); }
+  static void m2946() { m2947(); }
+  static void m2947() { m2948(); }
+  static void m2948() { m2949(); }
+  static void m2949() { m2950(); }
+  static void m2950() { m2951(); }
+  static void m2951() { m2952(); }
+  static void m2952() { m2953(); }
+  static void m2953() { m2954(); }
+  static void m2954() { m2955(); }
+  static void m2955() { m2956(); }
+  static void m2956() { m2957(); }
+  static void m2957() { m2958(); }
+  static void m2958() { m2959(); }
+  static void m2959() { m2960(); }
+  static void m2960() { m2961(); }
+  static void m2961() { m2962(); }
+  static void m2962() { m2963(); }
+  static void m2963() { m2964(); }
+  static void m2964() { m2965(); }
+  static void m2965() { m2966(); }
+  static void m2966() { m2967(); }
+  static void m2967() { m2968(); }
+  static void m2968() { m2969(); }
+  static void m2969() { m2970(); }
+  static void m2970() { m2971(); }
+  static void m2971() { m2972(); }
+  static void m2972() { m2973(); }
+  static void m2973() { m2974(); }
+  static void m2974() { m2975(); }
+  static void m2975() { m2976(); }
+  static void m2976() { m2977(); }
+  static void m2977() { m2978(); }
+  static void m2978() { m2979(); }
+  static void m2979() { m2980(); }
+  static void m2980() { m2981(); }
+  static void m2981() { m2982(); }
+  static void m2982() { m2983(); }
+  static void m2983() { m2984(); }
+  static void m2984() { m2985(); }
+  static void m2985() { m2986(); }
+  static void m2986() { m2987(); }
+  static void m2987() { m2988(); }
+  static void m2988() { m2989(); }
+  static void m2989() { m2990(); }
+  static void m2990() { m2991(); }
+  static void m2991() { m2992(); }
+  static void m2992() { m2993(); }
+  static void m2993() { m2994(); }
+  static void m2994() { m2995(); }
+  static void m2995() { m2996(); }
+  static void m2996() { m2997(); }
+  static void m2997() { m2998(); }
+  static void m2998() { m2999(); }
+  static void m2999() { m3000(); }
+  static void m3000() { m3001(); }
+  static void m3001() { m3002(); }
+  static void m3002() { m3003(); }
+  static void m3003() { m3004(); }
+  static void m3004() { m3005(); }
+  static void m3005() { m3006(); }
+  static void m3006() { m3007(); }
+  static void m3007() { m3008(); }
+  static void m3008() { m3009(); }
+  static void m3009() { m3010(); }
+  static void m3010() { m3011(); }
+  static void m3011() { m3012(); }
+  static void m3012() { m3013(); }
+  static void m3013() { m3014(); }
+  static void m3014() { m3015(); }
+  static void m3015() { m3016(); }
+  static void m3016() { m3017(); }
+  static void m3017() { m3018(); }
+  static void m3018() { m3019(); }
+  static void m3019() { m3020(); }
+  static void m3020() { m3021(); }
+  static void m3021() { m3022(); }
+  static void m3022() { m3023(); }
+  static void m3023() { m3024(); }
+  static void m3024() { m3025(); }
+  static void m3025() { m3026(); }
+  static void m3026() { m3027(); }
+  static void m3027() { m3028(); }
+  static void m3028() { m3029(); }
+  static void m3029() { m3030(); }
+  static void m3030() { m3031(); }
+  static void m3031() { m3032(); }
+  static void m3032() { m3033(); }
+  static void m3033() { m3034(); }
+  static void m3034() { m3035(); }
+  static void m3035() { m3036(); }
+  static void m3036() { m3037(); }
+  static void m3037() { m3038(); }
+  static void m3038() { m3039(); }
+  static void m3039() { m3040(); }
+  static void m3040() { m3041(); }
+  static void m3041() { m3042(); }
+  static void m3042() { m3043(); }
+  static void m3043() { m3044(); }
+  static void m3044() { m3045(); }
+  static void m3045() { m3046(); }
+  static void m3046() { m3047(); }
+  static void m3047() { m3048(); }
+  static void m3048() { m3049(); }
+  static void m3049() { m3050(); }
+  static void m3050() { m3051(); }
+  static void m3051() { m3052(); }
+  static void m3052() { m3053(); }
+  static void m3053() { m3054(); }
+  static void m3054() { m3055(); }
+  static void m3055() { m3056(); }
+  static void m3056() { m3057(); }
+  static void m3057() { m3058(); }
+  static void m3058() { m3059(); }
+  static void m3059() { m3060(); }
+  static void m3060() { m3061(); }
+  static void m3061() { m3062(); }
+  static void m3062() { m3063(); }
+  static void m3063() { m3064(); }
+  static void m3064() { m3065(); }
+  static void m3065() { m3066(); }
+  static void m3066() { m3067(); }
+  static void m3067() { m3068(); }
+  static void m3068() { m3069(); }
+  static void m3069() { m3070(); }
+  static void m3070() { m3071(); }
+  static void m3071() { m3072(); }
+  static void m3072() { m3073(); }
+  static void m3073() { m3074(); }
+  static void m3074() { m3075(); }
+  static void m3075() { m3076(); }
+  static void m3076() { m3077(); }
+  static void m3077() { m3078(); }
+  static void m3078() { m3079(); }
+  static void m3079() { m3080(); }
+  static void m3080() { m3081(); }
+  static void m3081() { m3082(); }
+  static void m3082() { m3083(); }
+  static void m3083() { m3084(); }
+  static void m3084() { m3085(); }
+  static void m3085() { m3086(); }
+  static void m3086() { m3087(); }
+  static void m3087() { m3088(); }
+  static void m3088() { m3089(); }
+  static void m3089() { m3090(); }
+  static void m3090() { m3091(); }
+  static void m3091() { m3092(); }
+  static void m3092() { m3093(); }
+  static void m3093() { m3094(); }
+  static void m3094() { m3095(); }
+  static void m3095() { m3096(); }
+  static void m3096() { m3097(); }
+  static void m3097() { m3098(); }
+  static void m3098() { m3099(); }
+  static void m3099() { m3100(); }
+  static void m3100() { m3101(); }
+  static void m3101() { m3102(); }
+  static void m3102() { m3103(); }
+  static void m3103() { m3104(); }
+  static void m3104() { m3105(); }
+  static void m3105() { m3106(); }
+  static void m3106() { m3107(); }
+  static void m3107() { m3108(); }
+  static void m3108() { m3109(); }
+  static void m3109() { m3110(); }
+  static void m3110() { m3111(); }
+  static void m3111() { m3112(); }
+  static void m3112() { m3113(); }
+  static void m3113() { m3114(); }
+  static void m3114() { m3115(); }
+  static void m3115() { m3116(); }
+  static void m3116() { m3117(); }
+  static void m3117() { m3118(); }
+  static void m3118() { m3119(); }
+  static void m3119() { m3120(); }
+  static void m3120() { m3121(); }
+  static void m3121() { m3122(); }
+  static void m3122() { m3123(); }
+  static void m3123() { m3124(); }
+  static void m3124() { m3125(); }
+  static void m3125() { m3126(); }
+  static void m3126() { m3127(); }
+  static void m3127() { m3128(); }
+  static void m3128() { m3129(); }
+  static void m3129() { m3130(); }
+  static void m3130() { m3131(); }
+  static void m3131() { m3132(); }
+  static void m3132() { m3133(); }
+  static void m3133() { m3134(); }
+  static void m3134() { m3135(); }
+  static void m3135() { m3136(); }
+  static void m3136() { m3137(); }
+  static void m3137() { m3138(); }
+  static void m3138() { m3139(); }
+  static void m3139() { m3140(); }
+  static void m3140() { m3141(); }
+  static void m3141() { m3142(); }
+  static void m3142() { m3143(); }
+  static void m3143() { m3144(); }
+  static void m3144() { m3145(); }
+  static void m3145() { m3146(); }
+  static void m3146() { m3147(); }
+  static void m3147() { m3148(); }
+  static void m3148() { m3149(); }
+  static void m3149() { m3150(); }
+  static void m3150() { m3151(); }
+  static void m3151() { m3152(); }
+  static void m3152() { m3153(); }
+  static void m3153() { m3154(); }
+  static void m3154() { m3155(); }
+  static void m3155() { m3156(); }
+  static void m3156() { m3157(); }
+  static void m3157() { m3158(); }
+  static void m3158() { m3159(); }
+  static void m3159() { m3160(); }
+  static void m3160() { m3161(); }
+  static void m3161() { m3162(); }
+  static void m3162() { m3163(); }
+  static void m3163() { m3164(); }
+  static void m3164() { m3165(); }
+  static void m3165() { m3166(); }
+  static void m3166() { m3167(); }
+  static void m3167() { m3168(); }
+  static void m3168() { m3169(); }
+  static void m3169() { m3170(); }
+  static void m3170() { m3171(); }
+  static void m3171() { m3172(); }
+  static void m3172() { m3173(); }
+  static void m3173() { m3174(); }
+  static void m3174() { m3175(); }
+  static void m3175() { m3176(); }
+  static void m3176() { m3177(); }
+  static void m3177() { m3178(); }
+  static void m3178() { m3179(); }
+  static void m3179() { m3180(); }
+  static void m3180() { m3181(); }
+  static void m3181() { m3182(); }
+  static void m3182() { m3183(); }
+  static void m3183() { m3184(); }
+  static void m3184() { m3185(); }
+  static void m3185() { m3186(); }
+  static void m3186() { m3187(); }
+  static void m3187() { m3188(); }
+  static void m3188() { m3189(); }
+  static void m3189() { m3190(); }
+  static void m3190() { m3191(); }
+  static void m3191() { m3192(); }
+  static void m3192() { m3193(); }
+  static void m3193() { m3194(); }
+  static void m3194() { m3195(); }
+  static void m3195() { m3196(); }
+  static void m3196() { m3197(); }
+  static void m3197() { m3198(); }
+  static void m3198() { m3199(); }
+  static void m3199() { m3200(); }
+  static void m3200() { m3201(); }
+  static void m3201() { m3202(); }
+  static void m3202() { m3203(); }
+  static void m3203() { m3204(); }
+  static void m3204() { m3205(); }
+  static void m3205() { m3206(); }
+  static void m3206() { m3207(); }
+  static void m3207() { m3208(); }
+  static void m3208() { m3209(); }
+  static void m3209() { m3210(); }
+  static void m3210() { m3211(); }
+  static void m3211() { m3212(); }
+  static void m3212() { m3213(); }
+  static void m3213() { m3214(); }
+  static void m3214() { m3215(); }
+  static void m3215() { m3216(); }
+  static void m3216() { m3217(); }
+  static void m3217() { m3218(); }
+  static void m3218() { m3219(); }
+  static void m3219() { m3220(); }
+  static void m3220() { m3221(); }
+  static void m3221() { m3222(); }
+  static void m3222() { m3223(); }
+  static void m3223() { m3224(); }
+  static void m3224() { m3225(); }
+  static void m3225() { m3226(); }
+  static void m3226() { m3227(); }
+  static void m3227() { m3228(); }
+  static void m3228() { m3229(); }
+  static void m3229() { m3230(); }
+  static void m3230() { m3231(); }
+  static void m3231() { m3232(); }
+  static void m3232() { m3233(); }
+  static void m3233() { m3234(); }
+  static void m3234() { m3235(); }
+  static void m3235() { m3236(); }
+  static void m3236() { m3237(); }
+  static void m3237() { m3238(); }
+  static void m3238() { m3239(); }
+  static void m3239() { m3240(); }
+  static void m3240() { m3241(); }
+  static void m3241() { m3242(); }
+  static void m3242() { m3243(); }
+  static void m3243() { m3244(); }
+  static void m3244() { m3245(); }
+  static void m3245() { m3246(); }
+  static void m3246() { m3247(); }
+  static void m3247() { m3248(); }
+  static void m3248() { m3249(); }
+  static void m3249() { m3250(); }
+  static void m3250() { m3251(); }
+  static void m3251() { m3252(); }
+  static void m3252() { m3253(); }
+  static void m3253() { m3254(); }
+  static void m3254() { m3255(); }
+  static void m3255() { m3256(); }
+  static void m3256() { m3257(); }
+  static void m3257() { m3258(); }
+  static void m3258() { m3259(); }
+  static void m3259() { m3260(); }
+  static void m3260() { m3261(); }
+  static void m3261() { m3262(); }
+  static void m3262() { m3263(); }
+  static void m3263() { m3264(); }
+  static void m3264() { m3265(); }
+  static void m3265() { m3266(); }
+  static void m3266() { m3267(); }
+  static void m3267() { m3268(); }
+  static void m3268() { m3269(); }
+  static void m3269() { m3270(); }
+  static void m3270() { m3271(); }
+  static void m3271() { m3272(); }
+  static void m3272() { m3273(); }
+  static void m3273() { m3274(); }
+  static void m3274() { m3275(); }
+  static void m3275() { m3276(); }
+  static void m3276() { m3277(); }
+  static void m3277() { m3278(); }
+  static void m3278() { m3279(); }
+  static void m3279() { m3280(); }
+  static void m3280() { m3281(); }
+  static void m3281() { m3282(); }
+  static void m3282() { m3283(); }
+  static void m3283() { m3284(); }
+  static void m3284() { m3285(); }
+  static void m3285() { m3286(); }
+  static void m3286() { m3287(); }
+  static void m3287() { m3288(); }
+  static void m3288() { m3289(); }
+  static void m3289() { m3290(); }
+  static void m3290() { m3291(); }
+  static void m3291() { m3292(); }
+  static void m3292() { m3293(); }
+  static void m3293() { m3294(); }
+  static void m3294() { m3295(); }
+  static void m3295() { m3296(); }
+  static void m3296() { m3297(); }
+  static void m3297() { m3298(); }
+  static void m3298() { m3299(); }
+  static void m3299() { m3300(); }
+  static void m3300() { m3301(); }
+  static void m3301() { m3302(); }
+  static void m3302() { m3303(); }
+  static void m3303() { m3304(); }
+  static void m3304() { m3305(); }
+  static void m3305() { m3306(); }
+  static void m3306() { m3307(); }
+  static void m3307() { m3308(); }
+  static void m3308() { m3309(); }
+  static void m3309() { m3310(); }
+  static void m3310() { m3311(); }
+  static void m3311() { m3312(); }
+  static void m3312() { m3313(); }
+  static void m3313() { m3314(); }
+  static void m3314() { m3315(); }
+  static void m3315() { m3316(); }
+  static void m3316() { m3317(); }
+  static void m3317() { m3318(); }
+  static void m3318() { m3319(); }
+  static void m3319() { m3320(); }
+  static void m3320() { m3321(); }
+  static void m3321() { m3322(); }
+  static void m3322() { m3323(); }
+  static void m3323() { m3324(); }
+  static void m3324() { m3325(); }
+  static void m3325() { m3326(); }
+  static void m3326() { m3327(); }
+  static void m3327() { m3328(); }
+  static void m3328() { m3329(); }
+  static void m3329() { m3330(); }
+  static void m3330() { m3331(); }
+  static void m3331() { m3332(); }
+  static void m3332() { m3333(); }
+  static void m3333() { m3334(); }
+  static void m3334() { m3335(); }
+  static void m3335() { m3336(); }
+  static void m3336() { m3337(); }
+  static void m3337() { m3338(); }
+  static void m3338() { m3339(); }
+  static void m3339() { m3340(); }
+  static void m3340() { m3341(); }
+  static void m3341() { m3342(); }
+  static void m3342() { m3343(); }
+  static void m3343() { m3344(); }
+  static void m3344() { m3345(); }
+  static void m3345() { m3346(); }
+  static void m3346() { m3347(); }
+  static void m3347() { m3348(); }
+  static void m3348() { m3349(); }
+  static void m3349() { m3350(); }
+  static void m3350() { m3351(); }
+  static void m3351() { m3352(); }
+  static void m3352() { m3353(); }
+  static void m3353() { m3354(); }
+  static void m3354() { m3355(); }
+  static void m3355() { m3356(); }
+  static void m3356() { m3357(); }
+  static void m3357() { m3358(); }
+  static void m3358() { m3359(); }
+  static void m3359() { m3360(); }
+  static void m3360() { m3361(); }
+  static void m3361() { m3362(); }
+  static void m3362() { m3363(); }
+  static void m3363() { m3364(); }
+  static void m3364() { m3365(); }
+  static void m3365() { m3366(); }
+  static void m3366() { m3367(); }
+  static void m3367() { m3368(); }
+  static void m3368() { m3369(); }
+  static void m3369() { m3370(); }
+  static void m3370() { m3371(); }
+  static void m3371() { m3372(); }
+  static void m3372() { m3373(); }
+  static void m3373() { m3374(); }
+  static void m3374() { m3375(); }
+  static void m3375() { m3376(); }
+  static void m3376() { m3377(); }
+  static void m3377() { m3378(); }
+  static void m3378() { m3379(); }
+  static void m3379() { m3380(); }
+  static void m3380() { m3381(); }
+  static void m3381() { m3382(); }
+  static void m3382() { m3383(); }
+  static void m3383() { m3384(); }
+  static void m3384() { m3385(); }
+  static void m3385() { m3386(); }
+  static void m3386() { m3387(); }
+  static void m3387() { m3388(); }
+  static void m3388() { m3389(); }
+  static void m3389() { m3390(); }
+  static void m3390() { m3391(); }
+  static void m3391() { m3392(); }
+  static void m3392() { m3393(); }
+  static void m3393() { m3394(); }
+  static void m3394() { m3395(); }
+  static void m3395() { m3396(); }
+  static void m3396() { m3397(); }
+  static void m3397() { m3398(); }
+  static void m3398() { m3399(); }
+  static void m3399() { m3400(); }
+  static void m3400() { m3401(); }
+  static void m3401() { m3402(); }
+  static void m3402() { m3403(); }
+  static void m3403() { m3404(); }
+  static void m3404() { m3405(); }
+  static void m3405() { m3406(); }
+  static void m3406() { m3407(); }
+  static void m3407() { m3408(); }
+  static void m3408() { m3409(); }
+  static void m3409() { m3410(); }
+  static void m3410() { m3411(); }
+  static void m3411() { m3412(); }
+  static void m3412() { m3413(); }
+  static void m3413() { m3414(); }
+  static void m3414() { m3415(); }
+  static void m3415() { m3416(); }
+  static void m3416() { m3417(); }
+  static void m3417() { m3418(); }
+  static void m3418() { m3419(); }
+  static void m3419() { m3420(); }
+  static void m3420() { m3421(); }
+  static void m3421() { m3422(); }
+  static void m3422() { m3423(); }
+  static void m3423() { m3424(); }
+  static void m3424() { m3425(); }
+  static void m3425() { m3426(); }
+  static void m3426() { m3427(); }
+  static void m3427() { m3428(); }
+  static void m3428() { m3429(); }
+  static void m3429() { m3430(); }
+  static void m3430() { m3431(); }
+  static void m3431() { m3432(); }
+  static void m3432() { m3433(); }
+  static void m3433() { m3434(); }
+  static void m3434() { m3435(); }
+  static void m3435() { m3436(); }
+  static void m3436() { m3437(); }
+  static void m3437() { m3438(); }
+  static void m3438() { m3439(); }
+  static void m3439() { m3440(); }
+  static void m3440() { m3441(); }
+  static void m3441() { m3442(); }
+  static void m3442() { m3443(); }
+  static void m3443() { m3444(); }
+  static void m3444() { m3445(); }
+  static void m3445() { m3446(); }
+  static void m3446() { m3447(); }
+  static void m3447() { m3448(); }
+  static void m3448() { m3449(); }
+  static void m3449() { m3450(); }
+  static void m3450() { m3451(); }
+  static void m3451() { m3452(); }
+  static void m3452() { m3453(); }
+  static void m3453() { m3454(); }
+  static void m3454() { m3455(); }
+  static void m3455() { m3456(); }
+  static void m3456() { m3457(); }
+  static void m3457() { m3458(); }
+  static void m3458() { m3459(); }
+  static void m3459() { m3460(); }
+  static void m3460() { m3461(); }
+  static void m3461() { m3462(); }
+  static void m3462() { m3463(); }
+  static void m3463() { m3464(); }
+  static void m3464() { m3465(); }
+  static void m3465() { m3466(); }
+  static void m3466() { m3467(); }
+  static void m3467() { m3468(); }
+  static void m3468() { m3469(); }
+  static void m3469() { m3470(); }
+  static void m3470() { m3471(); }
+  static void m3471() { m3472(); }
+  static void m3472() { m3473(); }
+  static void m3473() { m3474(); }
+  static void m3474() { m3475(); }
+  static void m3475() { m3476(); }
+  static void m3476() { m3477(); }
+  static void m3477() { m3478(); }
+  static void m3478() { m3479(); }
+  static void m3479() { m3480(); }
+  static void m3480() { m3481(); }
+  static void m3481() { m3482(); }
+  static void m3482() { m3483(); }
+  static void m3483() { m3484(); }
+  static void m3484() { m3485(); }
+  static void m3485() { m3486(); }
+  static void m3486() { m3487(); }
+  static void m3487() { m3488(); }
+  static void m3488() { m3489(); }
+  static void m3489() { m3490(); }
+  static void m3490() { m3491(); }
+  static void m3491() { m3492(); }
+  static void m3492() { m3493(); }
+  static void m3493() { m3494(); }
+  static void m3494() { m3495(); }
+  static void m3495() { m3496(); }
+  static void m3496() { m3497(); }
+  static void m3497() { m3498(); }
+  static void m3498() { m3499(); }
+  static void m3499() { m3500(); }
+  static void m3500() { m3501(); }
+  static void m3501() { m3502(); }
+  static void m3502() { m3503(); }
+  static void m3503() { m3504(); }
+  static void m3504() { m3505(); }
+  static void m3505() { m3506(); }
+  static void m3506() { m3507(); }
+  static void m3507() { m3508(); }
+  static void m3508() { m3509(); }
+  static void m3509() { m3510(); }
+  static void m3510() { m3511(); }
+  static void m3511() { m3512(); }
+  static void m3512() { m3513(); }
+  static void m3513() { m3514(); }
+  static void m3514() { m3515(); }
+  static void m3515() { m3516(); }
+  static void m3516() { m3517(); }
+  static void m3517() { m3518(); }
+  static void m3518() { m3519(); }
+  static void m3519() { m3520(); }
+  static void m3520() { m3521(); }
+  static void m3521() { m3522(); }
+  static void m3522() { m3523(); }
+  static void m3523() { m3524(); }
+  static void m3524() { m3525(); }
+  static void m3525() { m3526(); }
+  static void m3526() { m3527(); }
+  static void m3527() { m3528(); }
+  static void m3528() { m3529(); }
+  static void m3529() { m3530(); }
+  static void m3530() { m3531(); }
+  static void m3531() { m3532(); }
+  static void m3532() { m3533(); }
+  static void m3533() { m3534(); }
+  static void m3534() { m3535(); }
+  static void m3535() { m3536(); }
+  static void m3536() { m3537(); }
+  static void m3537() { m3538(); }
+  static void m3538() { m3539(); }
+  static void m3539() { m3540(); }
+  static void m3540() { m3541(); }
+  static void m3541() { m3542(); }
+  static void m3542() { m3543(); }
+  static void m3543() { m3544(); }
+  static void m3544() { m3545(); }
+  static void m3545() { m3546(); }
+  static void m3546() { m3547(); }
+  static void m3547() { m3548(); }
+  static void m3548() { m3549(); }
+  static void m3549() { m3550(); }
+  static void m3550() { m3551(); }
+  static void m3551() { m3552(); }
+  static void m3552() { m3553(); }
+  static void m3553() { m3554(); }
+  static void m3554() { m3555(); }
+  static void m3555() { m3556(); }
+  static void m3556() { m3557(); }
+  static void m3557() { m3558(); }
+  static void m3558() { m3559(); }
+  static void m3559() { m3560(); }
+  static void m3560() { m3561(); }
+  static void m3561() { m3562(); }
+  static void m3562() { m3563(); }
+  static void m3563() { m3564(); }
+  static void m3564() { m3565(); }
+  static void m3565() { m3566(); }
+  static void m3566() { m3567(); }
+  static void m3567() { m3568(); }
+  static void m3568() { m3569(); }
+  static void m3569() { m3570(); }
+  static void m3570() { m3571(); }
+  static void m3571() { m3572(); }
+  static void m3572() { m3573(); }
+  static void m3573() { m3574(); }
+  static void m3574() { m3575(); }
+  static void m3575() { m3576(); }
+  static void m3576() { m3577(); }
+  static void m3577() { m3578(); }
+  static void m3578() { m3579(); }
+  static void m3579() { m3580(); }
+  static void m3580() { m3581(); }
+  static void m3581() { m3582(); }
+  static void m3582() { m3583(); }
+  static void m3583() { m3584(); }
+  static void m3584() { m3585(); }
+  static void m3585() { m3586(); }
+  static void m3586() { m3587(); }
+  static void m3587() { m3588(); }
+  static void m3588() { m3589(); }
+  static void m3589() { m3590(); }
+  static void m3590() { m3591(); }
+  static void m3591() { m3592(); }
+  static void m3592() { m3593(); }
+  static void m3593() { m3594(); }
+  static void m3594() { m3595(); }
+  static void m3595() { m3596(); }
+  static void m3596() { m3597(); }
+  static void m3597() { m3598(); }
+  static void m3598() { m3599(); }
+  static void m3599() { m3600(); }
+  static void m3600() { m3601(); }
+  static void m3601() { m3602(); }
+  static void m3602() { m3603(); }
+  static void m3603() { m3604(); }
+  static void m3604() { m3605(); }
+  static void m3605() { m3606(); }
+  static void m3606() { m3607(); }
+  static void m3607() { m3608(); }
+  static void m3608() { m3609(); }
+  static void m3609() { m3610(); }
+  static void m3610() { m3611(); }
+  static void m3611() { m3612(); }
+  static void m3612() { m3613(); }
+  static void m3613() { m3614(); }
+  static void m3614() { m3615(); }
+  static void m3615() { m3616(); }
+  static void m3616() { m3617(); }
+  static void m3617() { m3618(); }
+  static void m3618() { m3619(); }
+  static void m3619() { m3620(); }
+  static void m3620() { m3621(); }
+  static void m3621() { m3622(); }
+  static void m3622() { m3623(); }
+  static void m3623() { m3624(); }
+  static void m3624() { m3625(); }
+  static void m3625() { m3626(); }
+  static void m3626() { m3627(); }
+  static void m3627() { m3628(); }
+  static void m3628() { m3629(); }
+  static void m3629() { m3630(); }
+  static void m3630() { m3631(); }
+  static void m3631() { m3632(); }
+  static void m3632() { m3633(); }
+  static void m3633() { m3634(); }
+  static void m3634() { m3635(); }
+  static void m3635() { m3636(); }
+  static void m3636() { m3637(); }
+  static void m3637() { m3638(); }
+  static void m3638() { m3639(); }
+  static void m3639() { m3640(); }
+  static void m3640() { m3641(); }
+  static void m3641() { m3642(); }
+  static void m3642() { m3643(); }
+  static void m3643() { m3644(); }
+  static void m3644() { m3645(); }
+  static void m3645() { m3646(); }
+  static void m3646() { m3647(); }
+  static void m3647() { m3648(); }
+  static void m3648() { m3649(); }
+  static void m3649() { m3650(); }
+  static void m3650() { m3651(); }
+  static void m3651() { m3652(); }
+  static void m3652() { m3653(); }
+  static void m3653() { m3654(); }
+  static void m3654() { m3655(); }
+  static void m3655() { m3656(); }
+  static void m3656() { m3657(); }
+  static void m3657() { m3658(); }
+  static void m3658() { m3659(); }
+  static void m3659() { m3660(); }
+  static void m3660() { m3661(); }
+  static void m3661() { m3662(); }
+  static void m3662() { m3663(); }
+  static void m3663() { m3664(); }
+  static void m3664() { m3665(); }
+  static void m3665() { m3666(); }
+  static void m3666() { m3667(); }
+  static void m3667() { m3668(); }
+  static void m3668() { m3669(); }
+  static void m3669() { m3670(); }
+  static void m3670() { m3671(); }
+  static void m3671() { m3672(); }
+  static void m3672() { m3673(); }
+  static void m3673() { m3674(); }
+  static void m3674() { m3675(); }
+  static void m3675() { m3676(); }
+  static void m3676() { m3677(); }
+  static void m3677() { m3678(); }
+  static void m3678() { m3679(); }
+  static void m3679() { m3680(); }
+  static void m3680() { m3681(); }
+  static void m3681() { m3682(); }
+  static void m3682() { m3683(); }
+  static void m3683() { m3684(); }
+  static void m3684() { m3685(); }
+  static void m3685() { m3686(); }
+  static void m3686() { m3687(); }
+  static void m3687() { m3688(); }
+  static void m3688() { m3689(); }
+  static void m3689() { m3690(); }
+  static void m3690() { m3691(); }
+  static void m3691() { m3692(); }
+  static void m3692() { m3693(); }
+  static void m3693() { m3694(); }
+  static void m3694() { m3695(); }
+  static void m3695() { m3696(); }
+  static void m3696() { m3697(); }
+  static void m3697() { m3698(); }
+  static void m3698() { m3699(); }
+  static void m3699() { m3700(); }
+  static void m3700() { m3701(); }
+  static void m3701() { m3702(); }
+  static void m3702() { m3703(); }
+  static void m3703() { m3704(); }
+  static void m3704() { m3705(); }
+  static void m3705() { m3706(); }
+  static void m3706() { m3707(); }
+  static void m3707() { m3708(); }
+  static void m3708() { m3709(); }
+  static void m3709() { m3710(); }
+  static void m3710() { m3711(); }
+  static void m3711() { m3712(); }
+  static void m3712() { m3713(); }
+  static void m3713() { m3714(); }
+  static void m3714() { m3715(); }
+  static void m3715() { m3716(); }
+  static void m3716() { m3717(); }
+  static void m3717() { m3718(); }
+  static void m3718() { m3719(); }
+  static void m3719() { m3720(); }
+  static void m3720() { m3721(); }
+  static void m3721() { m3722(); }
+  static void m3722() { m3723(); }
+  static void m3723() { m3724(); }
+  static void m3724() { m3725(); }
+  static void m3725() { m3726(); }
+  static void m3726() { m3727(); }
+  static void m3727() { m3728(); }
+  static void m3728() { m3729(); }
+  static void m3729() { m3730(); }
+  static void m3730() { m3731(); }
+  static void m3731() { m3732(); }
+  static void m3732() { m3733(); }
+  static void m3733() { m3734(); }
+  static void m3734() { m3735(); }
+  static void m3735() { m3736(); }
+  static void m3736() { m3737(); }
+  static void m3737() { m3738(); }
+  static void m3738() { m3739(); }
+  static void m3739() { m3740(); }
+  static void m3740() { m3741(); }
+  static void m3741() { m3742(); }
+  static void m3742() { m3743(); }
+  static void m3743() { m3744(); }
+  static void m3744() { m3745(); }
+  static void m3745() { m3746(); }
+  static void m3746() { m3747(); }
+  static void m3747() { m3748(); }
+  static void m3748() { m3749(); }
+  static void m3749() { m3750(); }
+  static void m3750() { m3751(); }
+  static void m3751() { m3752(); }
+  static void m3752() { m3753(); }
+  static void m3753() { m3754(); }
+  static void m3754() { m3755(); }
+  static void m3755() { m3756(); }
+  static void m3756() { m3757(); }
+  static void m3757() { m3758(); }
+  static void m3758() { m3759(); }
+  static void m3759() { m3760(); }
+  static void m3760() { m3761(); }
+  static void m3761() { m3762(); }
+  static void m3762() { m3763(); }
+  static void m3763() { m3764(); }
+  static void m3764() { m3765(); }
+  static void m3765() { m3766(); }
+  static void m3766() { m3767(); }
+  static void m3767() { m3768(); }
+  static void m3768() { m3769(); }
+  static void m3769() { m3770(); }
+  static void m3770() { m3771(); }
+  static void m3771() { m3772(); }
+  static void m3772() { m3773(); }
+  static void m3773() { m3774(); }
+  static void m3774() { m3775(); }
+  static void m3775() { m3776(); }
+  static void m3776() { m3777(); }
+  static void m3777() { m3778(); }
+  static void m3778() { m3779(); }
+  static void m3779() { m3780(); }
+  static void m3780() { m3781(); }
+  static void m3781() { m3782(); }
+  static void m3782() { m3783(); }
+  static void m3783() { m3784(); }
+  static void m3784() { m3785(); }
+  static void m3785() { m3786(); }
+  static void m3786() { m3787(); }
+  static void m3787() { m3788(); }
+  static void m3788() { m3789(); }
+  static void m3789() { m3790(); }
+  static void m3790() { m3791(); }
+  static void m3791() { m3792(); }
+  static void m3792() { m3793(); }
+  static void m3793() { m3794(); }
+  static void m3794() { m3795(); }
+  static void m3795() { m3796(); }
+  static void m3796() { m3797(); }
+  static void m3797() { m3798(); }
+  static void m3798() { m3799(); }
+  static void m3799() { m3800(); }
+  static void m3800() { m3801(); }
+  static void m3801() { m3802(); }
+  static void m3802() { m3803(); }
+  static void m3803() { m3804(); }
+  static void m3804() { m3805(); }
+  static void m3805() { m3806(); }
+  static void m3806() { m3807(); }
+  static void m3807() { m3808(); }
+  static void m3808() { m3809(); }
+  static void m3809() { m3810(); }
+  static void m3810() { m3811(); }
+  static void m3811() { m3812(); }
+  static void m3812() { m3813(); }
+  static void m3813() { m3814(); }
+  static void m3814() { m3815(); }
+  static void m3815() { m3816(); }
+  static void m3816() { m3817(); }
+  static void m3817() { m3818(); }
+  static void m3818() { m3819(); }
+  static void m3819() { m3820(); }
+  static void m3820() { m3821(); }
+  static void m3821() { m3822(); }
+  static void m3822() { m3823(); }
+  static void m3823() { m3824(); }
+  static void m3824() { m3825(); }
+  static void m3825() { m3826(); }
+  static void m3826() { m3827(); }
+  static void m3827() { m3828(); }
+  static void m3828() { m3829(); }
+  static void m3829() { m3830(); }
+  static void m3830() { m3831(); }
+  static void m3831() { m3832(); }
+  static void m3832() { m3833(); }
+  static void m3833() { m3834(); }
+  static void m3834() { m3835(); }
+  static void m3835() { m3836(); }
+  static void m3836() { m3837(); }
+  static void m3837() { m3838(); }
+  static void m3838() { m3839(); }
+  static void m3839() { m3840(); }
+  static void m3840() { m3841(); }
+  static void m3841() { m3842(); }
+  static void m3842() { m3843(); }
+  static void m3843() { m3844(); }
+  static void m3844() { m3845(); }
+  static void m3845() { m3846(); }
+  static void m3846() { m3847(); }
+  static void m3847() { m3848(); }
+  static void m3848() { m3849(); }
+  static void m3849() { m3850(); }
+  static void m3850() { m3851(); }
+  static void m3851() { m3852(); }
+  static void m3852() { m3853(); }
+  static void m3853() { m3854(); }
+  static void m3854() { m3855(); }
+  static void m3855() { m3856(); }
+  static void m3856() { m3857(); }
+  static void m3857() { m3858(); }
+  static void m3858() { m3859(); }
+  static void m3859() { m3860(); }
+  static void m3860() { m3861(); }
+  static void m3861() { m3862(); }
+  static void m3862() { m3863(); }
+  static void m3863() { m3864(); }
+  static void m3864() { m3865(); }
+  static void m3865() { m3866(); }
+  static void m3866() { m3867(); }
+  static void m3867() { m3868(); }
+  static void m3868() { m3869(); }
+  static void m3869() { m3870(); }
+  static void m3870() { m3871(); }
+  static void m3871() { m3872(); }
+  static void m3872() { m3873(); }
+  static void m3873() { m3874(); }
+  static void m3874() { m3875(); }
+  static void m3875() { m3876(); }
+  static void m3876() { m3877(); }
+  static void m3877() { m3878(); }
+  static void m3878() { m3879(); }
+  static void m3879() { m3880(); }
+  static void m3880() { m3881(); }
+  static void m3881() { m3882(); }
+  static void m3882() { m3883(); }
+  static void m3883() { m3884(); }
+  static void m3884() { m3885(); }
+  static void m3885() { m3886(); }
+  static void m3886() { m3887(); }
+  static void m3887() { m3888(); }
+  static void m3888() { m3889(); }
+  static void m3889() { m3890(); }
+  static void m3890() { m3891(); }
+  static void m3891() { m3892(); }
+  static void m3892() { m3893(); }
+  static void m3893() { m3894(); }
+  static void m3894() { m3895(); }
+  static void m3895() { m3896(); }
+  static void m3896() { m3897(); }
+  static void m3897() { m3898(); }
+  static void m3898() { m3899(); }
+  static void m3899() { m3900(); }
+  static void m3900() { m3901(); }
+  static void m3901() { m3902(); }
+  static void m3902() { m3903(); }
+  static void m3903() { m3904(); }
+  static void m3904() { m3905(); }
+  static void m3905() { m3906(); }
+  static void m3906() { m3907(); }
+  static void m3907() { m3908(); }
+  static void m3908() { m3909(); }
+  static void m3909() { m3910(); }
+  static void m3910() { m3911(); }
+  static void m3911() { m3912(); }
+  static void m3912() { m3913(); }
+  static void m3913() { m3914(); }
+  static void m3914() { m3915(); }
+  static void m3915() { m3916(); }
+  static void m3916() { m3917(); }
+  static void m3917() { m3918(); }
+  static void m3918() { m3919(); }
+  static void m3919() { m3920(); }
+  static void m3920() { m3921(); }
+  static void m3921() { m3922(); }
+  static void m3922() { m3923(); }
+  static void m3923() { m3924(); }
+  static void m3924() { m3925(); }
+  static void m3925() { m3926(); }
+  static void m3926() { m3927(); }
+  static void m3927() { m3928(); }
+  static void m3928() { m3929(); }
+  static void m3929() { m3930(); }
+  static void m3930() { m3931(); }
+  static void m3931() { m3932(); }
+  static void m3932() { m3933(); }
+  static void m3933() { m3934(); }
+  static void m3934() { m3935(); }
+  static void m3935() { m3936(); }
+  static void m3936() { m3937(); }
+  static void m3937() { m3938(); }
+  static void m3938() { m3939(); }
+  static void m3939() { m3940(); }
+  static void m3940() { m3941(); }
+  static void m3941() { m3942(); }
+  static void m3942() { m3943(); }
+  static void m3943() { m3944(); }
+  static void m3944() { m3945(); }
+  static void m3945() { m3946(); }
+  static void m3946() { m3947(); }
+  static void m3947() { m3948(); }
+  static void m3948() { m3949(); }
+  static void m3949() { m3950(); }
+  static void m3950() { m3951(); }
+  static void m3951() { m3952(); }
+  static void m3952() { m3953(); }
+  static void m3953() { m3954(); }
+  static void m3954() { m3955(); }
+  static void m3955() { m3956(); }
+  static void m3956() { m3957(); }
+  static void m3957() { m3958(); }
+  static void m3958() { m3959(); }
+  static void m3959() { m3960(); }
+  static void m3960() { m3961(); }
+  static void m3961() { m3962(); }
+  static void m3962() { m3963(); }
+  static void m3963() { m3964(); }
+  static void m3964() { m3965(); }
+  static void m3965() { m3966(); }
+  static void m3966() { m3967(); }
+  static void m3967() { m3968(); }
+  static void m3968() { m3969(); }
+  static void m3969() { m3970(); }
+  static void m3970() { m3971(); }
+  static void m3971() { m3972(); }
+  static void m3972() { m3973(); }
+  static void m3973() { m3974(); }
+  static void m3974() { m3975(); }
+  static void m3975() { m3976(); }
+  static void m3976() { m3977(); }
+  static void m3977() { m3978(); }
+  static void m3978() { m3979(); }
+  static void m3979() { m3980(); }
+  static void m3980() { m3981(); }
+  static void m3981() { m3982(); }
+  static void m3982() { m3983(); }
+  static void m3983() { m3984(); }
+  static void m3984() { m3985(); }
+  static void m3985() { m3986(); }
+  static void m3986() { m3987(); }
+  static void m3987() { m3988(); }
+  static void m3988() { m3989(); }
+  static void m3989() { m3990(); }
+  static void m3990() { m3991(); }
+  static void m3991() { m3992(); }
+  static void m3992() { m3993(); }
+  static void m3993() { m3994(); }
+  static void m3994() { m3995(); }
+  static void m3995() { m3996(); }
+  static void m3996() { m3997(); }
+  static void m3997() { m3998(); }
+  static void m3998() { m3999(); }
+  static void m3999() { }
+  static void unused() { m2000(); }
+}
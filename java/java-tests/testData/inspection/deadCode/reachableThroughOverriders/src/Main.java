@@ -0,0 +1,19 @@
+public class Main {
+  public static void main(String[] args) {
+    Base b = create();
+    b.run();
+    shared();
+  }
+  static Base create() { return new Impl(); }
+  static void shared() { leaf(); }
+  static void leaf() { }
+  static void unused() { shared(); }
+}
+
+abstract class Base {
+  abstract void run();
+}
+
+class Impl extends Base {
+  void run() { Main.shared(); }
+}
@@ -114,6 +114,28 @@ public class UnusedDeclarationTest extends InspectionTestCase {
     doTest();
   }
 
+  public void testdeepChainOfCalls() throws Exception {
+    boolean old = myTool.ADD_MAINS_TO_ENTRIES;
+    myTool.ADD_MAINS_TO_ENTRIES = true;
+    try {
+      doTest();
+    }
+    finally {
+      myTool.ADD_MAINS_TO_ENTRIES = old;
+    }
+  }
+
+  public void testreachableThroughOverriders() throws Exception {
+    boolean old = myTool.ADD_MAINS_TO_ENTRIES;
+    myTool.ADD_MAINS_TO_ENTRIES = true;
+    try {
+      doTest();
+    }
+    finally {
+      myTool.ADD_MAINS_TO_ENTRIES = old;
+    }
+  }
+
   public void testreachableFromFieldInitializer() throws Exception {
     doTest();
   }
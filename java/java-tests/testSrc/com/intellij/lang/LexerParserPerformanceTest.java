@@ -0,0 +1,222 @@
+/*
+ * Copyright 2000-2012 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.intellij.lang;
+
+import com.intellij.lexer.Lexer;
+import com.intellij.openapi.application.ex.PathManagerEx;
+import com.intellij.openapi.fileTypes.FileType;
+import com.intellij.openapi.fileTypes.FileTypeManager;
+import com.intellij.openapi.fileTypes.LanguageFileType;
+import com.intellij.openapi.util.io.FileUtil;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiFileFactory;
+import com.intellij.testFramework.LightPlatformTestCase;
+import com.intellij.testFramework.PlatformTestUtil;
+import com.intellij.util.ThrowableRunnable;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs the lexers and the parsers of Java, XML and HTML over a corpus of large test data files, with a performance
+ * assertion per language. The message of every assertion reports tokens per second and bytes allocated per token
+ * (when the VM can count allocations) for lexing, and bytes allocated per char for parsing.
+ * Also checks that the lexers produce contiguous tokens covering the whole text, and that the parsers keep the text intact.
+ * <p/>
+ * Other languages have no corpus in the test data of this module, add their files to {@link #CORPUS} to cover them.
+ */
+public class LexerParserPerformanceTest extends LightPlatformTestCase {
+  private static final String[] CORPUS = {
+    "/codeInsight/daemonCodeAnalyzer/advHighlighting/aClassLoader.java",
+    "/codeInsight/daemonCodeAnalyzer/advHighlighting/aThinlet.java",
+    "/psi/repositoryUse/src/StressClass.java",
+    "/moduleRootManager/convertor34/scr25298/before/library.table.xml",
+    "/moduleRootManager/convertor34/scr25298/after/applicationLibraries.xml",
+    "/codeInsight/externalJavadoc/String/7/page.html",
+    "/codeInsight/externalJavadoc/packageSummary/util/page.html",
+  };
+  // the corpus of every language is processed repeatedly, until this many chars are done, so that timings are meaningful
+  private static final int LEXED_CHARS = 2 * 1024 * 1024;
+  private static final int PARSED_CHARS = 512 * 1024;
+  private static final int LEXED_CHARS_PER_MS = 2000;
+  private static final int PARSED_CHARS_PER_MS = 200;
+
+  private Map<Language, List<CorpusFile>> myCorpus;
+
+  @Override
+  protected void setUp() throws Exception {
+    super.setUp();
+    myCorpus = new LinkedHashMap<Language, List<CorpusFile>>();
+    for (String path : CORPUS) {
+      final CorpusFile file = new CorpusFile(new File(PathManagerEx.getTestDataPath() + path));
+      List<CorpusFile> files = myCorpus.get(file.language);
+      if (files == null) {
+        files = new ArrayList<CorpusFile>();
+        myCorpus.put(file.language, files);
+      }
+      files.add(file);
+    }
+  }
+
+  @Override
+  protected void tearDown() throws Exception {
+    myCorpus = null;
+    super.tearDown();
+  }
+
+  public void testLexing() throws Exception {
+    for (Map.Entry<Language, List<CorpusFile>> entry : myCorpus.entrySet()) {
+      final List<CorpusFile> files = entry.getValue();
+      final Lexer lexer = getParserDefinition(entry.getKey()).createLexer(getProject());
+      for (CorpusFile file : files) {
+        lex(lexer, file, true); // warms up too
+      }
+
+      final long allocatedBefore = getAllocatedBytes();
+      final long start = System.nanoTime();
+      int tokens = 0;
+      for (CorpusFile file : files) {
+        tokens += lex(lexer, file, false);
+      }
+      final long nanos = Math.max(1, System.nanoTime() - start);
+      final long allocated = allocatedBefore < 0 ? -1 : getAllocatedBytes() - allocatedBefore;
+
+      final int chars = getChars(files);
+      final int repeats = Math.max(1, LEXED_CHARS / chars);
+      String message = "Lexing " + entry.getKey().getID() + ", " + chars + " chars x " + repeats + ", " + tokens + " tokens" +
+                       ", " + tokens * 1000000000L / nanos + " tokens/s";
+      if (allocated >= 0) {
+        message += ", " + allocated / tokens + " bytes/token";
+      }
+      PlatformTestUtil.startPerformanceTest(message, chars * repeats / LEXED_CHARS_PER_MS, new ThrowableRunnable() {
+        @Override
+        public void run() throws Exception {
+          for (int i = 0; i < repeats; i++) {
+            for (CorpusFile file : files) {
+              lex(lexer, file, false);
+            }
+          }
+        }
+      }).cpuBound().assertTiming();
+    }
+  }
+
+  public void testParsing() throws Exception {
+    for (Map.Entry<Language, List<CorpusFile>> entry : myCorpus.entrySet()) {
+      final List<CorpusFile> files = entry.getValue();
+      for (CorpusFile file : files) {
+        final PsiFile psiFile = parse(file);
+        assertEquals("Text changed by parser: " + file.name, file.text, psiFile.getNode().getText());
+      }
+
+      final long allocatedBefore = getAllocatedBytes();
+      for (CorpusFile file : files) {
+        parse(file);
+      }
+      final long allocated = allocatedBefore < 0 ? -1 : getAllocatedBytes() - allocatedBefore;
+
+      final int chars = getChars(files);
+      final int repeats = Math.max(1, PARSED_CHARS / chars);
+      String message = "Parsing " + entry.getKey().getID() + ", " + chars + " chars x " + repeats;
+      if (allocated >= 0) {
+        message += ", " + allocated / chars + " bytes/char";
+      }
+      PlatformTestUtil.startPerformanceTest(message, chars * repeats / PARSED_CHARS_PER_MS, new ThrowableRunnable() {
+        @Override
+        public void run() throws Exception {
+          for (int i = 0; i < repeats; i++) {
+            for (CorpusFile file : files) {
+              parse(file);
+            }
+          }
+        }
+      }).cpuBound().assertTiming();
+    }
+  }
+
+  private static int getChars(List<CorpusFile> files) {
+    int chars = 0;
+    for (CorpusFile file : files) {
+      chars += file.text.length();
+    }
+    return chars;
+  }
+
+  private static int lex(Lexer lexer, CorpusFile file, boolean check) {
+    final CharSequence text = file.text;
+    lexer.start(text);
+    int tokens = 0;
+    int offset = 0;
+    while (lexer.getTokenType() != null) {
+      if (check) {
+        assertEquals("Gap or overlap before token " + lexer.getTokenType() + " in " + file.name, offset, lexer.getTokenStart());
+        offset = lexer.getTokenEnd();
+      }
+      tokens++;
+      lexer.advance();
+    }
+    if (check) {
+      assertEquals("Text not lexed to the end: " + file.name, text.length(), offset);
+    }
+    return tokens;
+  }
+
+  private PsiFile parse(CorpusFile file) {
+    final PsiFile psiFile = PsiFileFactory.getInstance(getProject()).createFileFromText(file.name, file.language, file.text);
+    psiFile.getNode().getFirstChildNode(); // parses the lazy file element
+    return psiFile;
+  }
+
+  /**
+   * @return number of bytes allocated by the current thread, or -1 if the VM can't tell
+   */
+  private static long getAllocatedBytes() {
+    final ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+    if (bean instanceof com.sun.management.ThreadMXBean) {
+      final com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean)bean;
+      if (sunBean.isThreadAllocatedMemorySupported() && sunBean.isThreadAllocatedMemoryEnabled()) {
+        return sunBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+      }
+    }
+    return -1;
+  }
+
+  private static ParserDefinition getParserDefinition(Language language) {
+    return LanguageParserDefinitions.INSTANCE.forLanguage(language);
+  }
+
+  private static class CorpusFile {
+    private final String name;
+    private final String text;
+    private final Language language;
+
+    private CorpusFile(File file) throws IOException {
+      name = file.getName();
+      text = StringUtil.convertLineSeparators(FileUtil.loadFile(file));
+      final FileType fileType = FileTypeManager.getInstance().getFileTypeByFileName(name);
+      assertTrue(name, fileType instanceof LanguageFileType);
+      language = ((LanguageFileType)fileType).getLanguage();
+      assertNotNull(name, getParserDefinition(language));
+    }
+  }
+}
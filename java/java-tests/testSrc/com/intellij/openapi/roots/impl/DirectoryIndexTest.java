@@ -16,6 +16,7 @@
 package com.intellij.openapi.roots.impl;
 
 import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ex.PathManagerEx;
 import com.intellij.openapi.command.WriteCommandAction;
 import com.intellij.openapi.diagnostic.Logger;
 import com.intellij.openapi.fileTypes.FileTypeManager;
@@ -473,6 +474,20 @@ public class DirectoryIndexTest extends IdeaTestCase {
     checkInfo(mySrcDir1, myModule, true, false, true, false, "", myModule);
   }
 
+  public void testJarDirectoriesSameAsWalk() throws Exception {
+    final String jarPath = PathManagerEx.getTestDataPath() + "/psi/generics22/collect-2.2.jar";
+    final VirtualFile jarRoot = JarFileSystem.getInstance().findFileByPath(jarPath + JarFileSystem.JAR_SEPARATOR);
+    assertNotNull(jarRoot);
+    ModuleRootModificationUtil.addModuleLibrary(myModule, "jar", singletonList(jarRoot.getUrl()), singletonList(jarRoot.getUrl()));
+    ModuleRootModificationUtil.addModuleLibrary(myModule2, "jar sources", ContainerUtil.<String>emptyList(), singletonList(jarRoot.getUrl()));
+
+    ((DirectoryIndexImpl)myIndex).checkJarDirectoriesConsistency();
+
+    final VirtualFile util = jarRoot.findFileByRelativePath("java/util");
+    assertNotNull(util);
+    checkInfo(util, null, false, false, true, true, "java.util", myModule);
+  }
+
 
   public void testExcludeCompilerOutputOutsideOfContentRoot() throws Exception {
     final ProjectFileIndex fileIndex = ProjectRootManager.getInstance(myProject).getFileIndex();
@@ -46,6 +46,12 @@ public class JarHandlerBase {
   private static final long DEFAULT_LENGTH = 0L;
   private static final long DEFAULT_TIMESTAMP = -1L;
 
+  /**
+   * Read jars through {@link MappedJarFile} instead of {@link ZipFile}: no file handle is kept open per jar,
+   * and much less heap is taken by entries.
+   */
+  private static final boolean ourMapJars = "true".equals(System.getProperty("idea.jar.mmap"));
+
   private final TimedReference<JarFile> myJarFile = new TimedReference<JarFile>(null);
   private Reference<Map<String, EntryInfo>> myRelPathsToEntries = new SoftReference<Map<String, EntryInfo>>(null);
   private final Object lock = new Object();
@@ -71,6 +77,11 @@ public class JarHandlerBase {
   protected void clear() {
     synchronized (lock) {
       myRelPathsToEntries = null;
+      final JarFile jar = myJarFile.get();
+      if (jar instanceof MappedJarFile) {
+        // release the mapping right away, the jar is likely to be rewritten
+        ((MappedJarFile)jar).close();
+      }
       myJarFile.set(null);
     }
   }
@@ -124,6 +135,15 @@ public class JarHandlerBase {
   @Nullable
   protected JarFile createJarFile() {
     final File originalFile = getOriginalFile();
+    if (ourMapJars) {
+      final File file = getMirrorFile(originalFile);
+      try {
+        return MappedJarFile.open(file);
+      }
+      catch (IOException e) {
+        LOG.info("Falling back to ZipFile: " + e.getMessage() + ": " + file.getPath());
+      }
+    }
     try {
       @SuppressWarnings("IOResourceOpenedButNotSafelyClosed") final ZipFile zipFile = new ZipFile(getMirrorFile(originalFile));
 
@@ -279,13 +299,13 @@ public class JarHandlerBase {
 
   @NotNull
   public byte[] contentsToByteArray(@NotNull final VirtualFile file) throws IOException {
-    final JarFile.JarEntry entry = convertToEntry(file);
-    if (entry == null) {
-      return ArrayUtil.EMPTY_BYTE_ARRAY;
-    }
     synchronized (lock) {
+      // the entry must come from the same jar instance it is read with: the jar may be released and reopened meanwhile
       final JarFile jar = getJar();
-      assert jar != null : file;
+      final JarFile.JarEntry entry = jar == null ? null : jar.getEntry(getRelativePath(file));
+      if (entry == null) {
+        return ArrayUtil.EMPTY_BYTE_ARRAY;
+      }
 
       final InputStream stream = jar.getInputStream(entry);
       assert stream != null : file;
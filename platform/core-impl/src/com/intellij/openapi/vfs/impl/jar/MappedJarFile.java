@@ -0,0 +1,484 @@
+/*
+ * Copyright 2000-2012 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.intellij.openapi.vfs.impl.jar;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.util.io.BufferExposingByteArrayInputStream;
+import com.intellij.openapi.vfs.CharsetToolkit;
+import com.intellij.openapi.vfs.JarFile;
+import com.intellij.util.ArrayUtil;
+import com.intellij.util.io.DirectBufferWrapper;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import sun.nio.ch.DirectBuffer;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.util.*;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipFile;
+
+/**
+ * Read-only jar reader working over a memory-mapped file.
+ * <p/>
+ * Unlike {@link ZipFile}, it doesn't keep a native file handle open and doesn't create an entry object per jar entry:
+ * the only per-entry data kept on the heap is a name and an offset of its central directory record in the mapping,
+ * sorted by name. Everything else is read from the mapping on demand, and entry contents are read by slicing it.
+ * The reader is thread-safe, so the contents of different entries may be read concurrently.
+ * <p/>
+ * The mapping is released by {@link #close()}, which waits for the reads in progress; reads after that fail.
+ * If the file gets truncated while mapped, reading past its end raises {@link InternalError}, which is reported as an {@link IOException}.
+ * <p/>
+ * ZIP64 archives are not supported, {@link #open(File)} fails for them and the caller should fall back to {@link ZipFile}.
+ */
+public class MappedJarFile implements JarFile, Disposable {
+  private static final Logger LOG = Logger.getInstance("#com.intellij.openapi.vfs.impl.jar.MappedJarFile");
+
+  private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+  private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+  private static final int END_SIGNATURE = 0x06054b50;
+  private static final int LOCAL_HEADER_SIZE = 30;
+  private static final int CENTRAL_HEADER_SIZE = 46;
+  private static final int END_SIZE = 22;
+  private static final int MAX_COMMENT_SIZE = 0xFFFF;
+
+  private static final int STORED = 0;
+  private static final int DEFLATED = 8;
+
+  private final File myFile;
+  private final ByteBuffer myBuffer;
+  /** Offset of the archive start in the file, non-zero for archives with a prefix, e.g. self-extracting ones */
+  private final int myBase;
+  /** Entry names, sorted */
+  private final String[] myNames;
+  /** Offsets of the central directory records in the mapping, in the order of {@link #myNames} */
+  private final int[] myRecords;
+  /** Indices in {@link #myNames} in the order of the central directory */
+  private final int[] myDirectoryOrder;
+
+  /** Read lock is held while the mapping is accessed, write lock is taken to release it */
+  private final ReadWriteLock myLock = new ReentrantReadWriteLock();
+  // guarded by myLock
+  private boolean myClosed;
+  // guarded by this
+  private ZipFile myZipFile;
+
+  private MappedJarFile(@NotNull File file, @NotNull ByteBuffer buffer) throws IOException {
+    myFile = file;
+    myBuffer = buffer;
+
+    final int end = findEndOfCentralDirectory(buffer);
+    if (end < 0) {
+      throw new IOException("End of central directory not found");
+    }
+    final int total = u16(end + 10);
+    final long directorySize = u32(end + 12);
+    final long directoryOffset = u32(end + 16);
+    if (total == 0xFFFF || directorySize == 0xFFFFFFFFL || directoryOffset == 0xFFFFFFFFL) {
+      throw new IOException("ZIP64 archives are not supported");
+    }
+    final int start = end - (int)directorySize;
+    if (directorySize > end || start < directoryOffset) {
+      throw new IOException("Invalid central directory");
+    }
+    myBase = start - (int)directoryOffset;
+
+    List<String> names = new ArrayList<String>(total);
+    List<Integer> records = new ArrayList<Integer>(total);
+    int record = start;
+    while (record < end) {
+      if (record + CENTRAL_HEADER_SIZE > end || buffer.getInt(record) != CENTRAL_HEADER_SIGNATURE) {
+        throw new IOException("Invalid central directory record at " + record);
+      }
+      final int nameLength = u16(record + 28);
+      names.add(decodeName(record + CENTRAL_HEADER_SIZE, nameLength));
+      records.add(record);
+      record += CENTRAL_HEADER_SIZE + nameLength + u16(record + 30) + u16(record + 32);
+    }
+
+    final int count = names.size();
+    Integer[] sorted = new Integer[count];
+    for (int i = 0; i < count; i++) {
+      sorted[i] = i;
+    }
+    final String[] unsorted = ArrayUtil.toStringArray(names);
+    Arrays.sort(sorted, new Comparator<Integer>() {
+      @Override
+      public int compare(Integer o1, Integer o2) {
+        return unsorted[o1].compareTo(unsorted[o2]);
+      }
+    });
+
+    myNames = new String[count];
+    myRecords = new int[count];
+    myDirectoryOrder = new int[count];
+    for (int i = 0; i < count; i++) {
+      final int index = sorted[i];
+      myNames[i] = unsorted[index];
+      myRecords[i] = records.get(index);
+      myDirectoryOrder[index] = i;
+    }
+  }
+
+  /**
+   * Maps the given file and reads its central directory.
+   *
+   * @throws IOException if the file can't be read or isn't a zip archive supported by this reader
+   */
+  @NotNull
+  public static MappedJarFile open(@NotNull File file) throws IOException {
+    final RandomAccessFile raf = new RandomAccessFile(file, "r");
+    try {
+      final FileChannel channel = raf.getChannel();
+      final long size = channel.size();
+      if (size > Integer.MAX_VALUE) {
+        throw new IOException("File is too large: " + size);
+      }
+      // the mapping stays valid after the channel is closed
+      final ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size).order(ByteOrder.LITTLE_ENDIAN);
+      try {
+        return new MappedJarFile(file, buffer);
+      }
+      catch (IOException e) {
+        unmap(buffer);
+        throw e;
+      }
+      catch (InternalError e) {
+        unmap(buffer);
+        throw truncated(file, e);
+      }
+    }
+    finally {
+      raf.close();
+    }
+  }
+
+  @Nullable
+  @Override
+  public JarEntry getEntry(String name) {
+    int index = Arrays.binarySearch(myNames, name);
+    if (index < 0 && !name.endsWith("/")) {
+      // same as ZipFile does
+      index = Arrays.binarySearch(myNames, name + "/");
+    }
+    return index < 0 ? null : new Entry(index);
+  }
+
+  @Override
+  public InputStream getInputStream(JarEntry entry) throws IOException {
+    return new BufferExposingByteArrayInputStream(((Entry)entry).contentsToByteArray());
+  }
+
+  @NotNull
+  private byte[] contentsToByteArray(@NotNull Entry entry) throws IOException {
+    final Lock lock = myLock.readLock();
+    lock.lock();
+    try {
+      if (myClosed) {
+        throw new IOException("Jar file is closed: " + myFile.getPath());
+      }
+      return doContentsToByteArray(entry);
+    }
+    catch (InternalError e) {
+      throw truncated(myFile, e);
+    }
+    finally {
+      lock.unlock();
+    }
+  }
+
+  @NotNull
+  private byte[] doContentsToByteArray(@NotNull Entry entry) throws IOException {
+    final int record = myRecords[entry.myIndex];
+    final int method = u16(record + 10);
+    final long compressedSize = u32(record + 20);
+    final long size = u32(record + 24);
+
+    final long local = u32(record + 42) + myBase;
+    if (local + LOCAL_HEADER_SIZE > myBuffer.limit() || myBuffer.getInt((int)local) != LOCAL_HEADER_SIGNATURE) {
+      throw new IOException("Invalid local header of " + entry.getName());
+    }
+    final long data = local + LOCAL_HEADER_SIZE + u16((int)local + 26) + u16((int)local + 28);
+    if (data + compressedSize > myBuffer.limit() || size > Integer.MAX_VALUE) {
+      throw new IOException("Invalid size of " + entry.getName());
+    }
+
+    if (method == STORED) {
+      if (size != compressedSize) {
+        throw new IOException("Invalid size of " + entry.getName());
+      }
+      return slice((int)data, (int)size, 0);
+    }
+    if (method != DEFLATED) {
+      throw new IOException("Unsupported compression method " + method + " of " + entry.getName());
+    }
+
+    // Inflater needs an extra dummy byte when the zlib header is omitted
+    final byte[] input = slice((int)data, (int)compressedSize, 1);
+    final byte[] result = new byte[(int)size];
+    final Inflater inflater = new Inflater(true);
+    try {
+      inflater.setInput(input);
+      int inflated = 0;
+      while (inflated < result.length) {
+        final int n = inflater.inflate(result, inflated, result.length - inflated);
+        if (n == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+          break;
+        }
+        inflated += n;
+      }
+      if (inflated != result.length) {
+        throw new IOException("Unexpected end of " + entry.getName());
+      }
+    }
+    catch (DataFormatException e) {
+      throw new IOException(e.getMessage() + ": " + entry.getName());
+    }
+    finally {
+      inflater.end();
+    }
+    return result;
+  }
+
+  @Override
+  public Enumeration<? extends JarEntry> entries() {
+    return new Enumeration<JarEntry>() {
+      private int myNext;
+
+      @Override
+      public boolean hasMoreElements() {
+        return myNext < myDirectoryOrder.length;
+      }
+
+      @Override
+      public JarEntry nextElement() {
+        if (myNext >= myDirectoryOrder.length) {
+          throw new NoSuchElementException();
+        }
+        return new Entry(myDirectoryOrder[myNext++]);
+      }
+    };
+  }
+
+  /**
+   * The archive isn't kept open by the reader itself, so a {@link ZipFile} is opened on the first call for the callers which need
+   * that API. It is shared by all the callers and closed by {@link #close()}.
+   */
+  @Nullable
+  @Override
+  public synchronized ZipFile getZipFile() {
+    if (myZipFile == null && !isClosed()) {
+      try {
+        myZipFile = new ZipFile(myFile);
+      }
+      catch (IOException e) {
+        LOG.warn(e.getMessage() + ": " + myFile.getPath());
+      }
+    }
+    return myZipFile;
+  }
+
+  /**
+   * Releases the mapping and closes the {@link ZipFile} returned by {@link #getZipFile()}, if any.
+   */
+  public void close() {
+    final Lock lock = myLock.writeLock();
+    lock.lock();
+    try {
+      if (myClosed) {
+        return;
+      }
+      myClosed = true;
+      unmap(myBuffer);
+    }
+    finally {
+      lock.unlock();
+    }
+
+    final ZipFile zipFile;
+    synchronized (this) {
+      zipFile = myZipFile;
+      myZipFile = null;
+    }
+    if (zipFile != null) {
+      try {
+        zipFile.close();
+      }
+      catch (IOException e) {
+        LOG.warn(e.getMessage() + ": " + myFile.getPath());
+      }
+    }
+  }
+
+  private boolean isClosed() {
+    final Lock lock = myLock.readLock();
+    lock.lock();
+    try {
+      return myClosed;
+    }
+    finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public void dispose() {
+    close();
+  }
+
+  public int size() {
+    return myNames.length;
+  }
+
+  private byte[] slice(int offset, int length, int extra) {
+    final byte[] bytes = new byte[length + extra];
+    // a duplicate has its own position, so concurrent reads don't interfere
+    final ByteBuffer buffer = myBuffer.duplicate();
+    buffer.position(offset);
+    buffer.get(bytes, 0, length);
+    return bytes;
+  }
+
+  /**
+   * Reads a 32-bit field of the central directory record of an entry.
+   *
+   * @return -1 if the jar has been closed or truncated
+   */
+  private long readRecord(int index, int offset) {
+    final Lock lock = myLock.readLock();
+    lock.lock();
+    try {
+      if (myClosed) {
+        return -1;
+      }
+      return u32(myRecords[index] + offset);
+    }
+    catch (InternalError e) {
+      LOG.warn(truncated(myFile, e));
+      return -1;
+    }
+    finally {
+      lock.unlock();
+    }
+  }
+
+  private static IOException truncated(File file, InternalError e) {
+    // reading a mapping beyond the end of a truncated file raises SIGBUS, which the JVM reports as InternalError
+    final IOException exception = new IOException("Jar file has been truncated or modified: " + file.getPath());
+    exception.initCause(e);
+    return exception;
+  }
+
+  private static void unmap(ByteBuffer buffer) {
+    if (buffer instanceof DirectBuffer && !DirectBufferWrapper.disposeDirectBuffer((DirectBuffer)buffer)) {
+      LOG.info("Failed to unmap jar file buffer");
+    }
+  }
+
+  private String decodeName(int offset, int length) {
+    final char[] chars = new char[length];
+    for (int i = 0; i < length; i++) {
+      final byte b = myBuffer.get(offset + i);
+      if (b < 0) {
+        return new String(slice(offset, length, 0), CharsetToolkit.UTF8_CHARSET);
+      }
+      chars[i] = (char)b;
+    }
+    return new String(chars);
+  }
+
+  private int u16(int offset) {
+    return myBuffer.getShort(offset) & 0xFFFF;
+  }
+
+  private long u32(int offset) {
+    return myBuffer.getInt(offset) & 0xFFFFFFFFL;
+  }
+
+  private static int findEndOfCentralDirectory(ByteBuffer buffer) {
+    final int last = buffer.limit() - END_SIZE;
+    final int first = Math.max(0, last - MAX_COMMENT_SIZE);
+    for (int i = last; i >= first; i--) {
+      if (buffer.getInt(i) == END_SIGNATURE && i + END_SIZE + (buffer.getShort(i + 20) & 0xFFFF) <= buffer.limit()) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static long dosToJavaTime(long time) {
+    final Calendar calendar = new GregorianCalendar((int)(((time >> 25) & 0x7f) + 1980),
+                                                    (int)(((time >> 21) & 0x0f) - 1),
+                                                    (int)((time >> 16) & 0x1f),
+                                                    (int)((time >> 11) & 0x1f),
+                                                    (int)((time >> 5) & 0x3f),
+                                                    (int)((time << 1) & 0x3e));
+    return calendar.getTimeInMillis();
+  }
+
+  public class Entry implements JarEntry {
+    private final int myIndex;
+
+    private Entry(int index) {
+      myIndex = index;
+    }
+
+    /**
+     * Reads the entry from the jar it was obtained from. Entries may be read concurrently.
+     */
+    @NotNull
+    public byte[] contentsToByteArray() throws IOException {
+      return MappedJarFile.this.contentsToByteArray(this);
+    }
+
+    @Override
+    public String getName() {
+      return myNames[myIndex];
+    }
+
+    /**
+     * @return size of the entry, or -1 if unknown, like {@link java.util.zip.ZipEntry#getSize()}
+     */
+    @Override
+    public long getSize() {
+      return readRecord(myIndex, 24);
+    }
+
+    /**
+     * @return modification time of the entry, or -1 if unknown, like {@link java.util.zip.ZipEntry#getTime()}
+     */
+    @Override
+    public long getTime() {
+      final long time = readRecord(myIndex, 12);
+      return time == -1 ? -1 : dosToJavaTime(time);
+    }
+
+    @Override
+    public boolean isDirectory() {
+      return getName().endsWith("/");
+    }
+  }
+}
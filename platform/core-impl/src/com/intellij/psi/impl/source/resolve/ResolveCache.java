@@ -39,12 +39,19 @@ import org.jetbrains.annotations.Nullable;
 import java.util.Map;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class ResolveCache {
   private static final Logger LOG = Logger.getInstance("#com.intellij.psi.impl.source.resolve.ResolveCache");
   private final ConcurrentMap[] myMaps = new ConcurrentMap[2*2*2]; //boolean physical, boolean incompleteCode, boolean isPoly
   private final AtomicInteger myClearCount = new AtomicInteger(0);
   private final RecursionGuard myGuard = RecursionManager.createGuard("resolveCache");
+  private static final boolean ourCollectStatistics = "true".equals(System.getProperty("idea.resolve.cache.statistics"));
+  private final AtomicLong myHits = new AtomicLong();
+  private final AtomicLong myMisses = new AtomicLong();
+  private final AtomicLong myNotCached = new AtomicLong();
+  private final AtomicLong myClears = new AtomicLong();
+  private final AtomicLong myClearedEntries = new AtomicLong();
 
   public static ResolveCache getInstance(Project project) {
     ProgressIndicatorProvider.checkCanceled(); // We hope this method is being called often enough to cancel daemon processes smoothly
@@ -87,7 +94,39 @@ public class ResolveCache {
   public void clearCache(boolean isPhysical) {
     myClearCount.incrementAndGet();
     int startIndex = isPhysical ? 0 : 1;
-    for (int i=startIndex;i<2;i++)for (int j=0;j<2;j++)for (int k=0;k<2;k++) myMaps[i*4+j*2+k].clear();
+    for (int i=startIndex;i<2;i++)for (int j=0;j<2;j++)for (int k=0;k<2;k++) {
+      ConcurrentMap map = myMaps[i * 4 + j * 2 + k];
+      if (ourCollectStatistics) {
+        myClearedEntries.addAndGet(map.size());
+      }
+      map.clear();
+    }
+    if (ourCollectStatistics) {
+      myClears.incrementAndGet();
+    }
+  }
+
+  /**
+   * @return hit/miss counts of the cache since the statistics were last reset, or null if they are not collected
+   * (collecting is enabled with -Didea.resolve.cache.statistics=true)
+   */
+  @Nullable
+  public String getStatistics() {
+    if (!ourCollectStatistics) return null;
+    long hits = myHits.get();
+    long misses = myMisses.get();
+    long total = hits + misses;
+    return "hits: " + hits + (total == 0 ? "" : " (" + hits * 100 / total + "%)") +
+           "; misses: " + misses + " (not cached: " + myNotCached.get() + ")" +
+           "; invalidations: " + myClears.get() + " (entries dropped: " + myClearedEntries.get() + ")";
+  }
+
+  public void resetStatistics() {
+    myHits.set(0);
+    myMisses.set(0);
+    myNotCached.set(0);
+    myClears.set(0);
+    myClearedEntries.set(0);
   }
 
   @Nullable
@@ -105,8 +144,14 @@ public class ResolveCache {
     Getter<TResult> reference = map.get(ref);
     TResult result = reference == null ? null : reference.get();
     if (result != null) {
+      if (ourCollectStatistics) {
+        myHits.incrementAndGet();
+      }
       return result;
     }
+    if (ourCollectStatistics) {
+      myMisses.incrementAndGet();
+    }
 
     Computable<TResult> computable = new Computable<TResult>() {
       @Override
@@ -123,6 +168,9 @@ public class ResolveCache {
     if (stamp.mayCacheNow() && clearCountOnStart == myClearCount.intValue()) {
       cache(ref, map, result, isPoly);
     }
+    else if (ourCollectStatistics) {
+      myNotCached.incrementAndGet();
+    }
     return result;
   }
 
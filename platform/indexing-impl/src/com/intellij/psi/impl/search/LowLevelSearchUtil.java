@@ -22,6 +22,7 @@ import com.intellij.openapi.diagnostic.Logger;
 import com.intellij.openapi.progress.ProgressIndicator;
 import com.intellij.openapi.util.Pair;
 import com.intellij.openapi.util.TextRange;
+import com.intellij.psi.FileViewProvider;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiLanguageInjectionHost;
@@ -159,6 +160,19 @@ public class LowLevelSearchUtil {
       LOG.error("Range for element: '"+scope+"' = "+range+" is out of file '" + file + "' range: " + file.getTextLength());
     }
 
+    if (WordOffsetsIndex.ENABLED && scope instanceof PsiFile && scopeStart == 0 && endOffset == buffer.length() &&
+        WordOffsetsIndex.isApplicable(searcher)) {
+      final FileViewProvider viewProvider = file.getViewProvider();
+      final int[] offsets = WordOffsetsIndex.getOffsets(viewProvider, viewProvider.getModificationStamp(), buffer, searcher.getPattern());
+      if (offsets != null) {
+        for (int offset : offsets) {
+          if (progress != null) progress.checkCanceled();
+          if (!processTreeUp(processor, scope, searcher, offset, processInjectedPsi, progress)) return false;
+        }
+        return true;
+      }
+    }
+
     final char[] bufferArray = CharArrayUtil.fromSequenceWithoutCopying(buffer);
 
     do {
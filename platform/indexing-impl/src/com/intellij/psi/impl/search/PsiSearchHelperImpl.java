@@ -54,6 +54,8 @@ import java.util.concurrent.atomic.AtomicInteger;
 
 public class PsiSearchHelperImpl implements PsiSearchHelper {
   private static final Logger LOG = Logger.getInstance("#com.intellij.psi.impl.search.PsiSearchHelperImpl");
+  // JobLauncher runs a task per batch as long as there are fewer than 20 batches per core
+  private static final int FILE_BATCHES_PER_CORE = 8;
 
   private final PsiManagerEx myManager;
 
@@ -221,8 +223,7 @@ public class PsiSearchHelperImpl implements PsiSearchHelper {
       final AtomicBoolean pceThrown = new AtomicBoolean(false);
 
       final int size = files.size();
-      AsyncFuture<Boolean>
-        completed = JobLauncher.getInstance().invokeConcurrentlyUnderProgressAsync(files, progress, false, new Processor<VirtualFile>() {
+      final Processor<VirtualFile> fileProcessor = new Processor<VirtualFile>() {
         @Override
         public boolean process(final VirtualFile vfile) {
           final PsiFile file = ApplicationManager.getApplication().runReadAction(new Computable<PsiFile>() {
@@ -272,6 +273,16 @@ public class PsiSearchHelperImpl implements PsiSearchHelper {
           }
           return !canceled.get();
         }
+      };
+      AsyncFuture<Boolean>
+        completed = JobLauncher.getInstance().invokeConcurrentlyUnderProgressAsync(splitBySize(files), progress, false, new Processor<List<VirtualFile>>() {
+        @Override
+        public boolean process(List<VirtualFile> batch) {
+          for (VirtualFile vfile : batch) {
+            if (!fileProcessor.process(vfile)) return false;
+          }
+          return true;
+        }
       });
 
       final AsyncFutureResult<Boolean> ourResult = AsyncFutureFactory.getInstance().createAsyncFutureResult();
@@ -299,6 +310,48 @@ public class PsiSearchHelperImpl implements PsiSearchHelper {
       });
   }
 
+  /**
+   * JobLauncher hands contiguous chunks of the list to its workers, so a few large files next to each other keep one worker
+   * busy long after the others are done. Files are dealt into batches of about the same total length instead,
+   * the largest files first, each one to the batch which is the smallest so far.
+   */
+  @NotNull
+  private static List<List<VirtualFile>> splitBySize(@NotNull List<VirtualFile> files) {
+    if (files.isEmpty()) return Collections.emptyList();
+    final int batchCount = Math.min(files.size(), Runtime.getRuntime().availableProcessors() * FILE_BATCHES_PER_CORE);
+    final List<VirtualFile> sorted = new ArrayList<VirtualFile>(files);
+    Collections.sort(sorted, new Comparator<VirtualFile>() {
+      @Override
+      public int compare(VirtualFile o1, VirtualFile o2) {
+        final long l1 = o1.getLength();
+        final long l2 = o2.getLength();
+        return l1 > l2 ? -1 : l1 == l2 ? 0 : 1;
+      }
+    });
+
+    final long[] batchLengths = new long[batchCount];
+    final PriorityQueue<Integer> smallestFirst = new PriorityQueue<Integer>(batchCount, new Comparator<Integer>() {
+      @Override
+      public int compare(Integer o1, Integer o2) {
+        final long l1 = batchLengths[o1];
+        final long l2 = batchLengths[o2];
+        return l1 < l2 ? -1 : l1 == l2 ? 0 : 1;
+      }
+    });
+    final List<List<VirtualFile>> batches = new ArrayList<List<VirtualFile>>(batchCount);
+    for (int i = 0; i < batchCount; i++) {
+      batches.add(new ArrayList<VirtualFile>());
+      smallestFirst.add(i);
+    }
+    for (VirtualFile file : sorted) {
+      final int batch = smallestFirst.poll();
+      batches.get(batch).add(file);
+      batchLengths[batch] += Math.max(1, file.getLength());
+      smallestFirst.add(batch);
+    }
+    return batches;
+  }
+
   @NotNull
   private List<VirtualFile> getFilesWithText(@NotNull GlobalSearchScope scope,
                                              final short searchContext,
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2000-2012 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.intellij.psi.impl.search;
+
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.UserDataHolder;
+import com.intellij.util.ArrayUtil;
+import com.intellij.util.text.StringSearcher;
+import gnu.trove.TIntArrayList;
+import gnu.trove.TIntObjectHashMap;
+import gnu.trove.TIntObjectProcedure;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.SoftReference;
+
+/**
+ * Offsets of all words in a file text, by word hash, so that searching a file for a word doesn't need to scan its text.
+ * <p/>
+ * Words are found exactly as {@link LowLevelSearchUtil#searchWord} finds identifier patterns: as runs of Java identifier
+ * characters other than '$', plus the tails of runs following a backslash, which may be escape sequences.
+ * <p/>
+ * Building the index costs about as much as a single scan, so it's built only when the same text is searched
+ * the second time, e.g. for several words of one search request or by the next search. It's kept softly
+ * in the view provider together with the modification stamp of the text it was built for, and is dropped as soon as
+ * the stamp changes.
+ */
+class WordOffsetsIndex {
+  static final boolean ENABLED = "true".equals(System.getProperty("idea.search.word.offsets"));
+
+  private static final Key<SoftReference<WordOffsetsIndex>> KEY = Key.create("WORD_OFFSETS_INDEX");
+
+  private final long myModificationStamp;
+  private final int myTextLength;
+  private final TIntObjectHashMap<int[]> myOffsets; // null if the text has been searched once only
+
+  private WordOffsetsIndex(long modificationStamp, int textLength, @Nullable TIntObjectHashMap<int[]> offsets) {
+    myModificationStamp = modificationStamp;
+    myTextLength = textLength;
+    myOffsets = offsets;
+  }
+
+  static boolean isApplicable(@NotNull StringSearcher searcher) {
+    if (!searcher.isCaseSensitive() || !searcher.isJavaIdentifier() || !searcher.isForwardDirection()) return false;
+    final String pattern = searcher.getPattern();
+    for (int i = 0; i < pattern.length(); i++) {
+      if (!isWordPart(pattern.charAt(i))) return false;
+    }
+    return true;
+  }
+
+  /**
+   * @param modificationStamp modification stamp of the text, e.g. {@link com.intellij.psi.FileViewProvider#getModificationStamp()}
+   * @return sorted offsets of the word in the text, or null if the text should be scanned
+   */
+  @Nullable
+  static int[] getOffsets(@NotNull UserDataHolder holder, long modificationStamp, @NotNull CharSequence text, @NotNull String word) {
+    final SoftReference<WordOffsetsIndex> ref = holder.getUserData(KEY);
+    WordOffsetsIndex index = ref != null ? ref.get() : null;
+    if (index == null || index.myModificationStamp != modificationStamp || index.myTextLength != text.length()) {
+      holder.putUserData(KEY, new SoftReference<WordOffsetsIndex>(new WordOffsetsIndex(modificationStamp, text.length(), null)));
+      return null;
+    }
+    if (index.myOffsets == null) {
+      index = build(modificationStamp, text);
+      holder.putUserData(KEY, new SoftReference<WordOffsetsIndex>(index));
+    }
+    return index.getOffsets(text, word);
+  }
+
+  @NotNull
+  static WordOffsetsIndex build(long modificationStamp, @NotNull CharSequence text) {
+    final TIntObjectHashMap<TIntArrayList> lists = new TIntObjectHashMap<TIntArrayList>();
+    final int length = text.length();
+    int i = 0;
+    while (i < length) {
+      if (!isWordPart(text.charAt(i))) {
+        i++;
+        continue;
+      }
+      final int start = i;
+      int hash = 0;
+      while (i < length && isWordPart(text.charAt(i))) {
+        hash = 31 * hash + text.charAt(i);
+        i++;
+      }
+      add(lists, hash, start);
+      if (start > 0 && text.charAt(start - 1) == '\\' && i - start > 1) {
+        add(lists, hashCode(text, start + 1, i), start + 1);
+      }
+    }
+
+    final TIntObjectHashMap<int[]> offsets = new TIntObjectHashMap<int[]>(lists.size());
+    lists.forEachEntry(new TIntObjectProcedure<TIntArrayList>() {
+      @Override
+      public boolean execute(int hash, TIntArrayList list) {
+        offsets.put(hash, list.toNativeArray());
+        return true;
+      }
+    });
+    return new WordOffsetsIndex(modificationStamp, length, offsets);
+  }
+
+  /**
+   * @param text the text the index was built for
+   */
+  @NotNull
+  int[] getOffsets(@NotNull CharSequence text, @NotNull String word) {
+    final int[] candidates = myOffsets.get(word.hashCode());
+    if (candidates == null) return ArrayUtil.EMPTY_INT_ARRAY;
+
+    final TIntArrayList result = new TIntArrayList(candidates.length);
+    for (int offset : candidates) {
+      if (isWordAt(text, offset, word)) {
+        result.add(offset);
+      }
+    }
+    return result.size() == candidates.length ? candidates : result.toNativeArray();
+  }
+
+  private static boolean isWordAt(CharSequence text, int offset, String word) {
+    final int end = offset + word.length();
+    if (end > text.length() || end < text.length() && isWordPart(text.charAt(end))) return false;
+    for (int i = 0; i < word.length(); i++) {
+      if (text.charAt(offset + i) != word.charAt(i)) return false;
+    }
+    return true;
+  }
+
+  private static void add(TIntObjectHashMap<TIntArrayList> lists, int hash, int offset) {
+    TIntArrayList list = lists.get(hash);
+    if (list == null) {
+      list = new TIntArrayList(2);
+      lists.put(hash, list);
+    }
+    list.add(offset);
+  }
+
+  private static int hashCode(CharSequence text, int start, int end) {
+    int hash = 0;
+    for (int i = start; i < end; i++) {
+      hash = 31 * hash + text.charAt(i);
+    }
+    return hash;
+  }
+
+  private static boolean isWordPart(char c) {
+    return Character.isJavaIdentifierPart(c) && c != '$';
+  }
+}
@@ -18,6 +18,7 @@ package com.intellij.codeInsight.actions;
 
 import com.intellij.codeInsight.CodeInsightBundle;
 import com.intellij.codeInsight.CodeInsightUtilBase;
+import com.intellij.concurrency.JobLauncher;
 import com.intellij.lang.LanguageFormatting;
 import com.intellij.openapi.application.ApplicationManager;
 import com.intellij.openapi.application.ModalityState;
@@ -41,6 +42,7 @@ import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.*;
 import com.intellij.psi.util.PsiUtilCore;
 import com.intellij.util.IncorrectOperationException;
+import com.intellij.util.Processor;
 import com.intellij.util.SequentialModalProgressTask;
 import com.intellij.util.SequentialTask;
 import org.jetbrains.annotations.NotNull;
@@ -52,6 +54,7 @@ import java.util.concurrent.FutureTask;
 
 public abstract class AbstractLayoutCodeProcessor {
   private static final Logger LOG = Logger.getInstance("#com.intellij.codeInsight.actions.AbstractLayoutCodeProcessor");
+  private static final boolean ourPreloadFiles = "true".equals(System.getProperty("idea.reformat.preload.files"));
 
   protected final Project myProject;
   private final Module myModule;
@@ -237,6 +240,8 @@ public abstract class AbstractLayoutCodeProcessor {
       progress.setText(myProgressText);
     }
 
+    final List<Document> preloaded = ourPreloadFiles && files.size() > 1 ? preloadFiles(files, progress) : Collections.<Document>emptyList();
+
     final List<FutureTask<Boolean>> tasks = new ArrayList<FutureTask<Boolean>>(files.size());
     for(int i = 0; i < files.size(); i++) {
       PsiFile file = files.get(i);
@@ -264,7 +269,7 @@ public abstract class AbstractLayoutCodeProcessor {
       @Override
       public void run() {
         SequentialModalProgressTask progressTask = new SequentialModalProgressTask(myProject, myCommandName);
-        ReformatFilesTask reformatFilesTask = new ReformatFilesTask(tasks);
+        ReformatFilesTask reformatFilesTask = new ReformatFilesTask(tasks, preloaded);
         reformatFilesTask.setCompositeTask(progressTask);
         progressTask.setTask(reformatFilesTask);
         ProgressManager.getInstance().run(progressTask);
@@ -272,6 +277,29 @@ public abstract class AbstractLayoutCodeProcessor {
     };
   }
 
+  /**
+   * Loads the documents and the syntax trees of the files concurrently, while the files are processed one by one
+   * in the write action later. The documents are returned to keep them from being collected until then.
+   */
+  @NotNull
+  private List<Document> preloadFiles(@NotNull List<PsiFile> files, @Nullable ProgressIndicator progress) {
+    final List<Document> documents = Collections.synchronizedList(new ArrayList<Document>(files.size()));
+    final PsiDocumentManager documentManager = PsiDocumentManager.getInstance(myProject);
+    JobLauncher.getInstance().invokeConcurrentlyUnderProgress(new ArrayList<PsiFile>(files), progress, true, new Processor<PsiFile>() {
+      @Override
+      public boolean process(PsiFile file) {
+        if (!file.isValid() || !file.isWritable()) return true;
+        final Document document = documentManager.getDocument(file);
+        if (document != null) {
+          documents.add(document);
+        }
+        file.getNode();
+        return true;
+      }
+    });
+    return documents;
+  }
+
   private void runProcessFiles(final PsiFile[] files) {
     // let's just ignore read-only files here
 
@@ -525,12 +553,15 @@ public abstract class AbstractLayoutCodeProcessor {
 
     private final List<FutureTask<Boolean>> myTasks;
     private final int                       myTotalTasksNumber;
+    // keeps the preloaded documents reachable until the files are processed
+    private final List<Document>            myPreloadedDocuments;
     
     private SequentialModalProgressTask myCompositeTask;
 
-    ReformatFilesTask(@NotNull List<FutureTask<Boolean>> tasks) {
+    ReformatFilesTask(@NotNull List<FutureTask<Boolean>> tasks, @NotNull List<Document> preloadedDocuments) {
       myTasks = tasks;
       myTotalTasksNumber = myTasks.size();
+      myPreloadedDocuments = new ArrayList<Document>(preloadedDocuments);
     }
 
     @Override
@@ -579,6 +610,7 @@ public abstract class AbstractLayoutCodeProcessor {
     @Override
     public void stop() {
       myTasks.clear(); 
+      myPreloadedDocuments.clear();
     }
 
     public void setCompositeTask(@Nullable SequentialModalProgressTask compositeTask) {
@@ -89,6 +89,7 @@ public class LocalInspectionsPass extends ProgressableTextEditorHighlightingPass
   private final SeverityRegistrar mySeverityRegistrar;
   private final InspectionProfileWrapper myProfileWrapper;
   private boolean myFailFastOnAcquireReadAction;
+  private InspectionTimings myTimings;
 
   public LocalInspectionsPass(@NotNull PsiFile file,
                               @Nullable Document document,
@@ -122,6 +123,7 @@ public class LocalInspectionsPass extends ProgressableTextEditorHighlightingPass
     assert myProfileWrapper != null;
     mySeverityRegistrar = ((SeverityProvider)myProfileWrapper.getInspectionProfile().getProfileManager()).getSeverityRegistrar();
     LOG.assertTrue(mySeverityRegistrar != null);
+    myTimings = LocalInspectionsProfiling.getSessionTimings();
 
     // initial guess
     setProgressLimit(300 * 2);
@@ -144,6 +146,13 @@ public class LocalInspectionsPass extends ProgressableTextEditorHighlightingPass
     result.clear();
   }
 
+  /**
+   * @param timings to add the time every inspection spends on the file to, instead of the {@link LocalInspectionsProfiling session ones}
+   */
+  public void setTimings(@Nullable InspectionTimings timings) {
+    myTimings = timings;
+  }
+
   public void doInspectInBatch(@NotNull InspectionManagerEx iManager, @NotNull List<LocalInspectionToolWrapper> toolWrappers) {
 
     ProgressIndicator progress = ProgressManager.getInstance().getProgressIndicator();
@@ -310,6 +319,8 @@ public class LocalInspectionsPass extends ProgressableTextEditorHighlightingPass
 
                                                                                    ApplicationManager.getApplication()
                                                                                      .assertReadAccessAllowed();
+                                                                                   final long start = System.nanoTime();
+                                                                                   final long allocatedBefore = LocalInspectionsProfiling.getAllocatedBytes();
                                                                                    final LocalInspectionToolWrapper wrapper = pair.getKey();
                                                                                    LocalInspectionTool tool = wrapper.getTool();
                                                                                    final boolean[] applyIncrementally = {isOnTheFly};
@@ -330,10 +341,12 @@ public class LocalInspectionsPass extends ProgressableTextEditorHighlightingPass
                                                                                                                     isOnTheFly, session,
                                                                                                                     elements, languages);
 
+                                                                                   final InspectionContext context =
+                                                                                     new InspectionContext(wrapper, holder, visitor, languages);
+                                                                                   context.nanos = System.nanoTime() - start;
+                                                                                   context.allocatedBytes = allocatedDelta(allocatedBefore);
                                                                                    synchronized (init) {
-                                                                                     init.add(
-                                                                                       new InspectionContext(wrapper, holder, visitor,
-                                                                                                             languages));
+                                                                                     init.add(context);
                                                                                    }
                                                                                    advanceProgress(1);
 
@@ -384,9 +397,17 @@ public class LocalInspectionsPass extends ProgressableTextEditorHighlightingPass
           
           indicator.checkCanceled();
           ApplicationManager.getApplication().assertReadAccessAllowed();
+          final long start = System.nanoTime();
+          final long allocatedBefore = LocalInspectionsProfiling.getAllocatedBytes();
           acceptElements(elements, context.visitor, context.languageIds);
           advanceProgress(1);
           context.tool.getTool().inspectionFinished(session, context.holder);
+          final InspectionTimings timings = myTimings;
+          if (timings != null) {
+            final long allocated = allocatedDelta(allocatedBefore);
+            timings.add(context.tool.getShortName(), context.nanos + System.nanoTime() - start,
+                        allocated < 0 || context.allocatedBytes < 0 ? -1 : context.allocatedBytes + allocated);
+          }
 
           if (context.holder.hasResults()) {
             appendDescriptors(myFile, context.holder.getResults(), context.tool);
@@ -401,6 +422,10 @@ public class LocalInspectionsPass extends ProgressableTextEditorHighlightingPass
     inspectInjectedPsi(elements, isOnTheFly, indicator, iManager, false, checkDumbAwareness, wrappers);
   }
 
+  private static long allocatedDelta(long allocatedBefore) {
+    return allocatedBefore < 0 ? -1 : LocalInspectionsProfiling.getAllocatedBytes() - allocatedBefore;
+  }
+
   private static void acceptElements(@NotNull List<PsiElement> elements,
                                      @NotNull PsiElementVisitor elementVisitor,
                                      @Nullable Set<String> languages) {
@@ -808,5 +833,7 @@ public class LocalInspectionsPass extends ProgressableTextEditorHighlightingPass
     final ProblemsHolder holder;
     final PsiElementVisitor visitor;
     final Set<String> languageIds;
+    long nanos; // spent visiting the priority elements
+    long allocatedBytes;
   }
 }
@@ -84,7 +84,7 @@ public class LocalInspectionsPassFactory extends AbstractProjectComponent implem
       List<LocalInspectionToolWrapper> tools = super.getInspectionTools(profile);
       List<LocalInspectionToolWrapper> result = new ArrayList<LocalInspectionToolWrapper>(tools.size());
       for (LocalInspectionToolWrapper tool : tools) {
-        if (!tool.runForWholeFile()) result.add(tool);
+        if (!tool.runForWholeFile() && !LocalInspectionsProfiling.isDemoted(tool.getShortName())) result.add(tool);
       }
       return result;
     }
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2000-2012 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.intellij.codeInsight.daemon.impl;
+
+import com.intellij.codeInspection.ex.InspectionTimings;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.util.containers.ConcurrentHashSet;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Collects the time spent (and, optionally, the memory allocated) by every local inspection during highlighting,
+ * for the whole IDE session.
+ * <p/>
+ * With demotion enabled, an inspection which is slow on average after it has been run a number of times is moved from
+ * {@link LocalInspectionsPass} to the whole-file inspections pass, which runs after it with lower priority, so that it
+ * no longer delays the results of the other inspections. A demoted inspection stays demoted till the end of the session.
+ */
+public class LocalInspectionsProfiling {
+  private static final Logger LOG = Logger.getInstance("#com.intellij.codeInsight.daemon.impl.LocalInspectionsProfiling");
+
+  private static final boolean ourDemotionEnabled = "true".equals(System.getProperty("idea.inspections.demote.slow"));
+  private static final boolean ourEnabled = ourDemotionEnabled || "true".equals(System.getProperty("idea.inspections.profile"));
+  private static final boolean ourAllocationsEnabled = ourEnabled && "true".equals(System.getProperty("idea.inspections.profile.allocations"));
+  private static final int MIN_RUNS_TO_DEMOTE = 20;
+  private static final long SLOW_NANOS = Long.getLong("idea.inspections.slow.ms", 100) * 1000000;
+
+  private static final InspectionTimings ourTimings = new InspectionTimings();
+  private static final Set<String> ourDemoted = new ConcurrentHashSet<String>();
+  private static final AtomicInteger ourDemotedCount = new AtomicInteger();
+
+  private LocalInspectionsProfiling() {
+  }
+
+  /**
+   * @return the timings to add the time spent by inspections in highlighting passes to, or null if profiling is disabled
+   */
+  @Nullable
+  public static InspectionTimings getSessionTimings() {
+    return ourEnabled ? ourTimings : null;
+  }
+
+  /**
+   * @return the number of bytes allocated by the current thread so far, or -1 if allocations are not profiled
+   */
+  public static long getAllocatedBytes() {
+    if (!ourAllocationsEnabled) return -1;
+    final ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+    if (bean instanceof com.sun.management.ThreadMXBean) {
+      final com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean)bean;
+      if (sunBean.isThreadAllocatedMemorySupported() && sunBean.isThreadAllocatedMemoryEnabled()) {
+        return sunBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+      }
+    }
+    return -1;
+  }
+
+  public static boolean isDemoted(@NotNull String shortName) {
+    if (!ourDemotionEnabled) return false;
+    if (ourDemoted.contains(shortName)) return true;
+
+    final int count = ourTimings.getCount(shortName);
+    if (count < MIN_RUNS_TO_DEMOTE || ourTimings.getNanos(shortName) / count < SLOW_NANOS) return false;
+    if (ourDemoted.add(shortName)) {
+      ourDemotedCount.incrementAndGet();
+      LOG.info("Inspection " + shortName + " is moved to the whole-file inspections pass: " +
+               ourTimings.getNanos(shortName) / count / 1000000 + " ms on average in " + count + " runs");
+    }
+    return true;
+  }
+
+  /**
+   * @return a number changed every time an inspection is demoted
+   */
+  public static int getDemotedCount() {
+    return ourDemotedCount.get();
+  }
+
+  @NotNull
+  public static String getReport() {
+    final StringBuilder report = new StringBuilder(ourTimings.getReport());
+    if (!ourDemoted.isEmpty()) {
+      report.append("demoted:");
+      for (String shortName : ourDemoted) {
+        report.append(' ').append(shortName);
+      }
+      report.append('\n');
+    }
+    return report.toString();
+  }
+}
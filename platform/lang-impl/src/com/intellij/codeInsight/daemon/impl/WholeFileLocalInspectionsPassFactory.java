@@ -50,6 +50,7 @@ import java.util.Map;
 */
 public class WholeFileLocalInspectionsPassFactory extends AbstractProjectComponent implements TextEditorHighlightingPassFactory {
   private final Map<PsiFile, Boolean> myFileTools = new ConcurrentWeakHashMap<PsiFile, Boolean>();
+  private volatile int myDemotedCount = LocalInspectionsProfiling.getDemotedCount();
   public InspectionProjectProfileManager myProfileManager;
 
   public WholeFileLocalInspectionsPassFactory(Project project, TextEditorHighlightingPassRegistrar highlightingPassRegistrar,
@@ -92,6 +93,12 @@ public class WholeFileLocalInspectionsPassFactory extends AbstractProjectCompone
   @Override
   @Nullable
   public TextEditorHighlightingPass createHighlightingPass(@NotNull final PsiFile file, @NotNull final Editor editor) {
+    final int demotedCount = LocalInspectionsProfiling.getDemotedCount();
+    if (myDemotedCount != demotedCount) {
+      // files without whole-file tools may have got some
+      myDemotedCount = demotedCount;
+      myFileTools.clear();
+    }
     TextRange textRange = FileStatusMap.getDirtyTextRange(editor, Pass.LOCAL_INSPECTIONS);
     if (textRange == null ||
         !InspectionProjectProfileManager.getInstance(file.getProject()).isProfileLoaded() ||
@@ -106,7 +113,7 @@ public class WholeFileLocalInspectionsPassFactory extends AbstractProjectCompone
         List<LocalInspectionToolWrapper> tools = super.getInspectionTools(profile);
         List<LocalInspectionToolWrapper> result = new ArrayList<LocalInspectionToolWrapper>(tools.size());
         for (LocalInspectionToolWrapper tool : tools) {
-          if (tool.runForWholeFile()) result.add(tool);
+          if (tool.runForWholeFile() || LocalInspectionsProfiling.isDemoted(tool.getShortName())) result.add(tool);
         }
         myFileTools.put(file, !result.isEmpty());
         return result;
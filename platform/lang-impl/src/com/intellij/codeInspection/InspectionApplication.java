@@ -20,6 +20,8 @@ import com.intellij.analysis.AnalysisScope;
 import com.intellij.codeInspection.ex.GlobalInspectionContextImpl;
 import com.intellij.codeInspection.ex.InspectionManagerEx;
 import com.intellij.codeInspection.ex.InspectionProfileImpl;
+import com.intellij.codeInspection.ex.InspectionResultsStream;
+import com.intellij.codeInspection.ex.InspectionTimings;
 import com.intellij.codeInspection.ex.XSLTReportConverter;
 import com.intellij.conversion.ConversionListener;
 import com.intellij.conversion.ConversionService;
@@ -48,6 +50,7 @@ import com.intellij.util.StringBuilderSpinAllocator;
 import com.thoughtworks.xstream.io.xml.PrettyPrintWriter;
 import org.jdom.JDOMException;
 import org.jetbrains.annotations.NonNls;
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
@@ -61,6 +64,7 @@ import java.util.*;
 @SuppressWarnings({"UseOfSystemOutOrSystemErr"})
 public class InspectionApplication {
   private static final Logger LOG = Logger.getInstance("#com.intellij.codeInspection.InspectionApplication");
+  private static final int SLOWEST_INSPECTIONS_TO_LOG = 20;
 
   public InspectionToolCmdlineOptionHelpProvider myHelpProvider = null;
   public String myProjectPath = null;
@@ -71,6 +75,10 @@ public class InspectionApplication {
   public String myProfilePath = null;
   public boolean myRunWithEditorSettings = false;
   public boolean myRunGlobalToolsOnly = false;
+  public int myShardIndex = 0;
+  public int myShardCount = 1;
+  public boolean myInspectFilesConcurrently = false;
+  public String myStreamPath = null;
   private Project myProject;
   private int myVerboseLevel = 0;
   public String myOutputFormat = null;
@@ -123,6 +131,7 @@ public class InspectionApplication {
   private void run() {
 
     File tmpDir = null;
+    InspectionResultsStream resultsStream = null;
     try {
       myProjectPath = myProjectPath.replace(File.separatorChar, '/');
       VirtualFile vfsProject = LocalFileSystem.getInstance().findFileByPath(myProjectPath);
@@ -164,6 +173,12 @@ public class InspectionApplication {
       final GlobalInspectionContextImpl inspectionContext = im.createNewGlobalContext(true);
       inspectionContext.setExternalProfile((InspectionProfile)inspectionProfile);
       im.setProfile(inspectionProfile.getName());
+      inspectionContext.setShard(myShardIndex, myShardCount);
+      inspectionContext.setInspectFilesConcurrently(myInspectFilesConcurrently);
+      if (myStreamPath != null) {
+        resultsStream = new InspectionResultsStream(myProject, new File(myStreamPath));
+        inspectionContext.setResultsStream(resultsStream);
+      }
 
       final AnalysisScope scope;
       if (mySourceDirectory == null) {
@@ -223,6 +238,7 @@ public class InspectionApplication {
           logMessageLn(1, "\n" +
                           InspectionsBundle.message("inspection.capitalized.done") +
                           "\n");
+          logTimings(inspectionContext);
         }
       }, new ProgressIndicatorBase() {
         private String lastPrefix = "";
@@ -290,6 +306,9 @@ public class InspectionApplication {
       if (myErrorCodeRequired) System.exit(1);
     }
     finally {
+      if (resultsStream != null) {
+        resultsStream.close();
+      }
       // delete tmp dir
       if (tmpDir != null) {
         FileUtil.delete(tmpDir);
@@ -297,6 +316,21 @@ public class InspectionApplication {
     }
   }
 
+  private void logTimings(@NotNull GlobalInspectionContextImpl context) {
+    final InspectionTimings timings = context.getTimings();
+    final InspectionResultsStream resultsStream = context.getResultsStream();
+    if (resultsStream != null) {
+      resultsStream.timingsFound(timings);
+    }
+
+    final List<String> shortNames = timings.getShortNames();
+    if (shortNames.isEmpty()) return;
+    logMessageLn(1, "Slowest inspections:");
+    for (String shortName : shortNames.subList(0, Math.min(SLOWEST_INSPECTIONS_TO_LOG, shortNames.size()))) {
+      logMessageLn(1, "  " + shortName + ": " + timings.getNanos(shortName) / 1000000 + " ms, " + timings.getCount(shortName) + " files");
+    }
+  }
+
   @Nullable
   private Profile loadInspectionProfile() throws IOException, JDOMException {
     Profile inspectionProfile = null;
@@ -91,6 +91,27 @@ public class InspectionMain implements ApplicationStarter {
         else if ("-t".equals(arg)) {
           myApplication.myErrorCodeRequired = false;
         }
+        else if ("-shard".equals(arg)) {
+          final String shard = args[++i];
+          final int slash = shard.indexOf('/');
+          try {
+            myApplication.myShardIndex = Integer.parseInt(shard.substring(0, slash)) - 1;
+            myApplication.myShardCount = Integer.parseInt(shard.substring(slash + 1));
+          }
+          catch (RuntimeException e) {
+            myApplication.myShardCount = 0;
+          }
+          if (myApplication.myShardIndex < 0 || myApplication.myShardIndex >= myApplication.myShardCount) {
+            System.err.println("invalid shard: " + shard);
+            printHelp();
+          }
+        }
+        else if ("-parallel".equals(arg)) {
+          myApplication.myInspectFilesConcurrently = true;
+        }
+        else if ("-stream".equals(arg)) {
+          myApplication.myStreamPath = args[++i];
+        }
         else {
           System.err.println("unexpected argument: " + arg);
           printHelp();
@@ -67,6 +67,11 @@ public abstract class DescriptorProviderInspection extends InspectionTool implem
     if (refElement == null) return;
     if (descriptions == null || descriptions.length == 0) return;
     if (filterSuppressed) {
+      final GlobalInspectionContextImpl context = getContext();
+      final InspectionResultsStream resultsStream = context == null ? null : context.getResultsStream();
+      if (resultsStream != null) {
+        resultsStream.problemsFound(getShortName(), refElement, descriptions);
+      }
       if (ourOutputPath == null || !(this instanceof LocalInspectionToolWrapper)) {
         synchronized (lock) {
           Map<RefEntity, CommonProblemDescriptor[]> problemElements = getProblemElements();
@@ -98,30 +103,32 @@ public abstract class DescriptorProviderInspection extends InspectionTool implem
     @NonNls final String ext = ".xml";
     final String fileName = ourOutputPath + File.separator + getShortName() + ext;
     final PathMacroManager pathMacroManager = PathMacroManager.getInstance(getContext().getProject());
-    PrintWriter printWriter = null;
-    try {
-      new File(ourOutputPath).mkdirs();
-      final File file = new File(fileName);
-      final CharArrayWriter writer = new CharArrayWriter();
-      if (!file.exists()) {
-        writer.append("<").append(InspectionsBundle.message("inspection.problems")).append(" " + GlobalInspectionContextImpl.LOCAL_TOOL_ATTRIBUTE + "=\"")
-          .append(Boolean.toString(this instanceof LocalInspectionToolWrapper)).append("\">\n");
-      }
-      for (Object o : list) {
-        final Element element = (Element)o;
-        pathMacroManager.collapsePaths(element);
-        JDOMUtil.writeElement(element, writer, "\n");
-      }
-      printWriter = new PrintWriter(new BufferedWriter(new FileWriter(file, true)));
-      printWriter.append("\n");
-      printWriter.append(writer.toString());
-    }
-    catch (IOException e) {
-      LOG.error(e);
-    }
-    finally {
-      if (printWriter != null) {
-        printWriter.close();
+    synchronized (lock) { // files may be inspected concurrently
+      PrintWriter printWriter = null;
+      try {
+        new File(ourOutputPath).mkdirs();
+        final File file = new File(fileName);
+        final CharArrayWriter writer = new CharArrayWriter();
+        if (!file.exists()) {
+          writer.append("<").append(InspectionsBundle.message("inspection.problems")).append(" " + GlobalInspectionContextImpl.LOCAL_TOOL_ATTRIBUTE + "=\"")
+            .append(Boolean.toString(this instanceof LocalInspectionToolWrapper)).append("\">\n");
+        }
+        for (Object o : list) {
+          final Element element = (Element)o;
+          pathMacroManager.collapsePaths(element);
+          JDOMUtil.writeElement(element, writer, "\n");
+        }
+        printWriter = new PrintWriter(new BufferedWriter(new FileWriter(file, true)));
+        printWriter.append("\n");
+        printWriter.append(writer.toString());
+      }
+      catch (IOException e) {
+        LOG.error(e);
+      }
+      finally {
+        if (printWriter != null) {
+          printWriter.close();
+        }
       }
     }
   }
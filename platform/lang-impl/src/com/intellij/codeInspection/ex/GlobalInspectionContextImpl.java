@@ -43,6 +43,7 @@ import com.intellij.openapi.project.ProjectUtil;
 import com.intellij.openapi.ui.MessageType;
 import com.intellij.openapi.util.*;
 import com.intellij.openapi.util.io.FileUtil;
+import com.intellij.openapi.vfs.VfsUtilCore;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.openapi.wm.ToolWindowId;
 import com.intellij.openapi.wm.ToolWindowManager;
@@ -110,6 +111,11 @@ public class GlobalInspectionContextImpl extends UserDataHolderBase implements G
 
   private final Map<Key, GlobalInspectionContextExtension> myExtensions = new HashMap<Key, GlobalInspectionContextExtension>();
   private boolean RUN_GLOBAL_TOOLS_ONLY = false;
+  private int myShardIndex = 0;
+  private int myShardCount = 1;
+  private boolean myInspectFilesConcurrently = false;
+  private InspectionResultsStream myResultsStream = null;
+  private final InspectionTimings myTimings = new InspectionTimings();
 
   private final Map<String, Tools> myTools = new THashMap<String, Tools>();
 
@@ -305,12 +311,41 @@ public class GlobalInspectionContextImpl extends UserDataHolderBase implements G
     return myRefManager;
   }
 
+  /**
+   * Makes offline inspections process only the files of the given shard of the scope, so that the scope can be
+   * inspected by several processes at once. Global tools need the whole scope, so only the first shard runs them.
+   */
+  public void setShard(int index, int count) {
+    LOG.assertTrue(0 <= index && index < count, index + "/" + count);
+    myShardIndex = index;
+    myShardCount = count;
+  }
+
+  public void setInspectFilesConcurrently(boolean inspectFilesConcurrently) {
+    myInspectFilesConcurrently = inspectFilesConcurrently;
+  }
+
+  public void setResultsStream(@Nullable InspectionResultsStream resultsStream) {
+    myResultsStream = resultsStream;
+  }
+
+  @Nullable
+  public InspectionResultsStream getResultsStream() {
+    return myResultsStream;
+  }
+
+  @NotNull
+  public InspectionTimings getTimings() {
+    return myTimings;
+  }
+
   public void launchInspectionsOffline(final AnalysisScope scope,
                                        @Nullable final String outputPath,
                                        final boolean runGlobalToolsOnly,
                                        final InspectionManager manager,
                                        @NotNull final List<File> inspectionsResults) {
     cleanup();
+    myTimings.clear();
 
     myCurrentScope = scope;
 
@@ -541,6 +576,9 @@ public class GlobalInspectionContextImpl extends UserDataHolderBase implements G
     initializeTools(globalTools, localTools, globalSimpleTools);
     final List<InspectionProfileEntry> needRepeatSearchRequest = new ArrayList<InspectionProfileEntry>();
     ((RefManagerImpl)getRefManager()).initializeAnnotators();
+    if (myShardIndex > 0) {
+      globalTools.clear(); // they need the whole scope and are run by the first shard
+    }
     for (Tools tools : globalTools) {
       for (ScopeToolState state : tools.getTools()) {
         final InspectionTool tool = (InspectionTool)state.getTool();
@@ -548,7 +586,9 @@ public class GlobalInspectionContextImpl extends UserDataHolderBase implements G
           if (tool.isGraphNeeded()) {
             ((RefManagerImpl)getRefManager()).findAllDeclarations();
           }
+          final long start = System.nanoTime();
           tool.runInspection(scope, manager);
+          myTimings.add(tool.getShortName(), System.nanoTime() - start);
           if (tool.queryExternalUsagesRequests(manager)) {
             needRepeatSearchRequest.add(tool);
           }
@@ -589,62 +629,32 @@ public class GlobalInspectionContextImpl extends UserDataHolderBase implements G
     }
 
     final Map<String, DescriptorProviderInspection> map = getInspectionWrappersMap(localTools);
+    final List<VirtualFile> filesToInspect = new ArrayList<VirtualFile>();
     scope.accept(new PsiElementVisitor() {
       @Override
       public void visitFile(final PsiFile file) {
         final VirtualFile virtualFile = file.getVirtualFile();
-        if (virtualFile != null) {
-          incrementJobDoneAmount(LOCAL_ANALYSIS, ProjectUtil.calcRelativeToProjectPath(virtualFile, myProject));
-          if (SingleRootFileViewProvider.isTooLargeForIntelligence(virtualFile)) return;
-          if (localScopeFiles != null && !localScopeFiles.add(virtualFile)) return;
-        }
-
-        final FileViewProvider viewProvider = psiManager.findViewProvider(virtualFile);
-        final com.intellij.openapi.editor.Document document = viewProvider == null ? null : viewProvider.getDocument();
-        if (document == null || virtualFile.getFileType().isBinary()) return; //do not inspect binary files
-        final LocalInspectionsPass pass = new LocalInspectionsPass(file, document, 0,
-                                                                   file.getTextLength(), LocalInspectionsPass.EMPTY_PRIORITY_RANGE, true);
-        try {
-          final List<LocalInspectionToolWrapper> lTools = new ArrayList<LocalInspectionToolWrapper>();
-          for (Tools tool : localTools) {
-            final LocalInspectionToolWrapper enabledTool = (LocalInspectionToolWrapper)tool.getEnabledTool(file);
-            if (enabledTool != null) {
-              lTools.add(enabledTool);
-            }
-          }
-          pass.doInspectInBatch((InspectionManagerEx)manager, lTools);
-
-          JobLauncher.getInstance().invokeConcurrentlyUnderProgress(globalSimpleTools, myProgressIndicator, false, new Processor<Tools>() {
-            @Override
-            public boolean process(Tools tools) {
-              GlobalInspectionToolWrapper toolWrapper = (GlobalInspectionToolWrapper)tools.getTool();
-              GlobalSimpleInspectionTool tool = (GlobalSimpleInspectionTool)toolWrapper.getTool();
-              ProblemsHolder problemsHolder = new ProblemsHolder(manager, file, false);
-              GlobalInspectionToolWrapper problemDescriptionProcessor = getProblemDescriptionProcessor(toolWrapper, map);
-              tool.checkFile(file, manager, problemsHolder, GlobalInspectionContextImpl.this, problemDescriptionProcessor);
-              LocalInspectionToolWrapper.addProblemDescriptors(problemsHolder.getResults(), false, GlobalInspectionContextImpl.this, null,
-                                                               CONVERT, toolWrapper);
-              return true;
-            }
-          });
+        if (virtualFile != null && myInspectFilesConcurrently) {
+          filesToInspect.add(virtualFile);
         }
-        catch (ProcessCanceledException e) {
-          throw e;
-        }
-        catch (IndexNotReadyException e) {
-          throw e;
-        }
-        catch (Exception e) {
-          LOG.error("In file: " + file, e);
-        }
-        catch (AssertionError e) {
-          LOG.error("In file: " + file, e);
-        }
-        finally {
-          InjectedLanguageManager.getInstance(myProject).dropFileCaches(file);
+        else {
+          inspectFile(file, localTools, globalSimpleTools, map, manager, localScopeFiles);
         }
       }
     });
+    if (!filesToInspect.isEmpty()) {
+      final boolean completed = JobLauncher.getInstance().invokeConcurrentlyUnderProgress(filesToInspect, myProgressIndicator, false, new Processor<VirtualFile>() {
+        @Override
+        public boolean process(VirtualFile virtualFile) {
+          final PsiFile file = virtualFile.isValid() ? psiManager.findFile(virtualFile) : null;
+          if (file != null) {
+            inspectFile(file, localTools, globalSimpleTools, map, manager, localScopeFiles);
+          }
+          return true;
+        }
+      });
+      if (!completed) throw new ProcessCanceledException();
+    }
     for (Tools tools : globalSimpleTools) {
       GlobalInspectionToolWrapper toolWrapper = (GlobalInspectionToolWrapper)tools.getTool();
       GlobalSimpleInspectionTool tool = (GlobalSimpleInspectionTool)toolWrapper.getTool();
@@ -653,6 +663,96 @@ public class GlobalInspectionContextImpl extends UserDataHolderBase implements G
     }
   }
 
+  private void inspectFile(@NotNull final PsiFile file,
+                           @NotNull List<Tools> localTools,
+                           @NotNull List<Tools> globalSimpleTools,
+                           @NotNull final Map<String, DescriptorProviderInspection> wrappersMap,
+                           @NotNull final InspectionManager manager,
+                           @Nullable Set<VirtualFile> localScopeFiles) {
+    final VirtualFile virtualFile = file.getVirtualFile();
+    if (virtualFile != null) {
+      synchronized (LOCAL_ANALYSIS) {
+        incrementJobDoneAmount(LOCAL_ANALYSIS, ProjectUtil.calcRelativeToProjectPath(virtualFile, myProject));
+      }
+      if (SingleRootFileViewProvider.isTooLargeForIntelligence(virtualFile)) return;
+      if (localScopeFiles != null) {
+        synchronized (localScopeFiles) {
+          if (!localScopeFiles.add(virtualFile)) return;
+        }
+      }
+      if (!isInShard(getShardPath(virtualFile), myShardIndex, myShardCount)) return;
+    }
+
+    final FileViewProvider viewProvider = PsiManager.getInstance(myProject).findViewProvider(virtualFile);
+    final com.intellij.openapi.editor.Document document = viewProvider == null ? null : viewProvider.getDocument();
+    if (document == null || virtualFile.getFileType().isBinary()) return; //do not inspect binary files
+    final LocalInspectionsPass pass = new LocalInspectionsPass(file, document, 0,
+                                                               file.getTextLength(), LocalInspectionsPass.EMPTY_PRIORITY_RANGE, true);
+    pass.setTimings(myTimings);
+    try {
+      final List<LocalInspectionToolWrapper> lTools = new ArrayList<LocalInspectionToolWrapper>();
+      for (Tools tool : localTools) {
+        final LocalInspectionToolWrapper enabledTool = (LocalInspectionToolWrapper)tool.getEnabledTool(file);
+        if (enabledTool != null) {
+          lTools.add(enabledTool);
+        }
+      }
+      pass.doInspectInBatch((InspectionManagerEx)manager, lTools);
+
+      JobLauncher.getInstance().invokeConcurrentlyUnderProgress(globalSimpleTools, myProgressIndicator, false, new Processor<Tools>() {
+        @Override
+        public boolean process(Tools tools) {
+          GlobalInspectionToolWrapper toolWrapper = (GlobalInspectionToolWrapper)tools.getTool();
+          GlobalSimpleInspectionTool tool = (GlobalSimpleInspectionTool)toolWrapper.getTool();
+          ProblemsHolder problemsHolder = new ProblemsHolder(manager, file, false);
+          GlobalInspectionToolWrapper problemDescriptionProcessor = getProblemDescriptionProcessor(toolWrapper, wrappersMap);
+          final long start = System.nanoTime();
+          // the tools are not expected to be thread-safe, while several files may be inspected at once
+          synchronized (tool) {
+            tool.checkFile(file, manager, problemsHolder, GlobalInspectionContextImpl.this, problemDescriptionProcessor);
+          }
+          myTimings.add(toolWrapper.getShortName(), System.nanoTime() - start);
+          LocalInspectionToolWrapper.addProblemDescriptors(problemsHolder.getResults(), false, GlobalInspectionContextImpl.this, null,
+                                                           CONVERT, toolWrapper);
+          return true;
+        }
+      });
+    }
+    catch (ProcessCanceledException e) {
+      throw e;
+    }
+    catch (IndexNotReadyException e) {
+      throw e;
+    }
+    catch (Exception e) {
+      LOG.error("In file: " + file, e);
+    }
+    catch (AssertionError e) {
+      LOG.error("In file: " + file, e);
+    }
+    finally {
+      InjectedLanguageManager.getInstance(myProject).dropFileCaches(file);
+      if (myResultsStream != null) {
+        myResultsStream.flush();
+      }
+    }
+  }
+
+  @NotNull
+  private String getShardPath(@NotNull VirtualFile file) {
+    final VirtualFile baseDir = myProject.getBaseDir();
+    final String relativePath = baseDir == null ? null : VfsUtilCore.getRelativePath(file, baseDir, '/');
+    return relativePath != null ? relativePath : file.getPath();
+  }
+
+  /**
+   * Files are distributed between shards by the hash of their paths relative to the project directory,
+   * so the shards are the same in all processes inspecting the same checkout.
+   */
+  static boolean isInShard(@NotNull String path, int index, int count) {
+    return count <= 1 || (path.hashCode() & Integer.MAX_VALUE) % count == index;
+  }
+
   private static GlobalInspectionToolWrapper getProblemDescriptionProcessor(@NotNull final GlobalInspectionToolWrapper toolWrapper,
                                                                             final Map<String, DescriptorProviderInspection> wrappersMap) {
 
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2000-2012 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.intellij.codeInspection.ex;
+
+import com.intellij.codeInspection.CommonProblemDescriptor;
+import com.intellij.codeInspection.ProblemDescriptor;
+import com.intellij.codeInspection.reference.RefElement;
+import com.intellij.codeInspection.reference.RefEntity;
+import com.intellij.codeInspection.ui.ProblemDescriptionNode;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.io.FileUtil;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.CharsetToolkit;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.*;
+
+/**
+ * Writes problems found by offline inspections to a file as soon as they are found, one problem per line:
+ * the inspection short name, the file path relative to the project directory, the 1-based line number (-1 if unknown)
+ * and the problem description, separated by tabs. Lines starting with '#' carry statistics, e.g. inspection timings.
+ * <p/>
+ * Unlike the XML report, the stream can be read while the inspections are still running, and the streams of
+ * several shards of one run can be simply concatenated.
+ */
+public class InspectionResultsStream {
+  private static final Logger LOG = Logger.getInstance("#com.intellij.codeInspection.ex.InspectionResultsStream");
+
+  private final Project myProject;
+  private final Writer myWriter;
+  private boolean myFailed;
+
+  public InspectionResultsStream(@NotNull Project project, @NotNull File file) throws IOException {
+    myProject = project;
+    FileUtil.createParentDirs(file);
+    myWriter = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), CharsetToolkit.UTF8_CHARSET));
+  }
+
+  public void problemsFound(@NotNull String shortName, @NotNull RefEntity refEntity, @NotNull CommonProblemDescriptor... descriptors) {
+    final PsiElement refPlace = refEntity instanceof RefElement ? ((RefElement)refEntity).getElement() : null;
+    problemsFound(shortName, refPlace, refEntity.getExternalName(), descriptors);
+  }
+
+  void problemsFound(@NotNull String shortName,
+                     @Nullable PsiElement refPlace,
+                     @NotNull String refName,
+                     @NotNull CommonProblemDescriptor... descriptors) {
+    final StringBuilder lines = new StringBuilder();
+    for (CommonProblemDescriptor descriptor : descriptors) {
+      final PsiElement element = descriptor instanceof ProblemDescriptor ? ((ProblemDescriptor)descriptor).getPsiElement() : null;
+      final String path = getPath(element != null ? element : refPlace);
+      final int line = descriptor instanceof ProblemDescriptor ? ((ProblemDescriptor)descriptor).getLineNumber() : -1;
+
+      lines.append(shortName).append('\t')
+        .append(path != null ? path : refName).append('\t')
+        .append(line > 0 ? line : -1).append('\t')
+        .append(escape(ProblemDescriptionNode.renderDescriptionMessage(descriptor, element))).append('\n');
+    }
+    write(lines.toString());
+  }
+
+  public void timingsFound(@NotNull InspectionTimings timings) {
+    final StringBuilder lines = new StringBuilder();
+    for (String shortName : timings.getShortNames()) {
+      lines.append("#time\t").append(shortName).append('\t')
+        .append(timings.getNanos(shortName) / 1000000).append('\t')
+        .append(timings.getCount(shortName)).append('\n');
+    }
+    write(lines.toString());
+  }
+
+  public void flush() {
+    synchronized (myWriter) {
+      try {
+        myWriter.flush();
+      }
+      catch (IOException e) {
+        failed(e);
+      }
+    }
+  }
+
+  public void close() {
+    synchronized (myWriter) {
+      try {
+        myWriter.close();
+      }
+      catch (IOException e) {
+        failed(e);
+      }
+    }
+  }
+
+  private void write(@NotNull String lines) {
+    synchronized (myWriter) {
+      if (myFailed) return;
+      try {
+        myWriter.write(lines);
+      }
+      catch (IOException e) {
+        failed(e);
+      }
+    }
+  }
+
+  private void failed(@NotNull IOException e) {
+    if (!myFailed) {
+      myFailed = true;
+      LOG.error(e);
+    }
+  }
+
+  @Nullable
+  private String getPath(@Nullable PsiElement element) {
+    final PsiFile file = element == null ? null : element.getContainingFile();
+    final VirtualFile virtualFile = file == null ? null : file.getVirtualFile();
+    if (virtualFile == null) return null;
+
+    final VirtualFile baseDir = myProject.getBaseDir();
+    final String relativePath = baseDir == null ? null : VfsUtilCore.getRelativePath(virtualFile, baseDir, '/');
+    return relativePath != null ? relativePath : virtualFile.getPath();
+  }
+
+  @NotNull
+  private static String escape(@NotNull String message) {
+    return StringUtil.escapeStringCharacters(StringUtil.stripHtml(message, false));
+  }
+}
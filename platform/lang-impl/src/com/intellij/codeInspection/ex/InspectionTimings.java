@@ -0,0 +1,119 @@
+/*
+ * Copyright 2000-2012 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.intellij.codeInspection.ex;
+
+import com.intellij.util.ConcurrencyUtil;
+import com.intellij.util.containers.ConcurrentHashMap;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Time spent and memory allocated by inspections, by inspection short name. Can be updated from several threads at once.
+ */
+public class InspectionTimings {
+  private final ConcurrentMap<String, Timing> myTimings = new ConcurrentHashMap<String, Timing>();
+
+  public void add(@NotNull String shortName, long nanos) {
+    add(shortName, nanos, -1);
+  }
+
+  /**
+   * @param allocatedBytes allocated by the inspection, or -1 if unknown
+   */
+  public void add(@NotNull String shortName, long nanos, long allocatedBytes) {
+    Timing timing = myTimings.get(shortName);
+    if (timing == null) {
+      timing = ConcurrencyUtil.cacheOrGet(myTimings, shortName, new Timing());
+    }
+    timing.nanos.addAndGet(nanos);
+    timing.count.incrementAndGet();
+    if (allocatedBytes >= 0) {
+      timing.allocatedBytes.addAndGet(allocatedBytes);
+    }
+  }
+
+  public long getNanos(@NotNull String shortName) {
+    final Timing timing = myTimings.get(shortName);
+    return timing == null ? 0 : timing.nanos.get();
+  }
+
+  /**
+   * @return how many times the inspection was run, e.g. the number of files it has inspected
+   */
+  public int getCount(@NotNull String shortName) {
+    final Timing timing = myTimings.get(shortName);
+    return timing == null ? 0 : timing.count.get();
+  }
+
+  public long getAllocatedBytes(@NotNull String shortName) {
+    final Timing timing = myTimings.get(shortName);
+    return timing == null ? 0 : timing.allocatedBytes.get();
+  }
+
+  /**
+   * @return short names of the timed inspections, the slowest first
+   */
+  @NotNull
+  public List<String> getShortNames() {
+    // the timings may be updated while sorting, so the comparator must only see a snapshot of them
+    final Map<String, Long> nanos = new HashMap<String, Long>();
+    for (Map.Entry<String, Timing> entry : myTimings.entrySet()) {
+      nanos.put(entry.getKey(), entry.getValue().nanos.get());
+    }
+    final List<String> names = new ArrayList<String>(nanos.keySet());
+    Collections.sort(names, new Comparator<String>() {
+      @Override
+      public int compare(String name1, String name2) {
+        final long nanos1 = nanos.get(name1);
+        final long nanos2 = nanos.get(name2);
+        return nanos1 > nanos2 ? -1 : nanos1 == nanos2 ? name1.compareTo(name2) : 1;
+      }
+    });
+    return names;
+  }
+
+  public void clear() {
+    myTimings.clear();
+  }
+
+  /**
+   * @return tab-separated table of the timings, the slowest inspections first
+   */
+  @NotNull
+  public String getReport() {
+    final StringBuilder report = new StringBuilder("inspection\tcount\ttotal ms\taverage ms\tallocated bytes\n");
+    for (String shortName : getShortNames()) {
+      final long nanos = getNanos(shortName);
+      final int count = getCount(shortName);
+      report.append(shortName).append('\t')
+        .append(count).append('\t')
+        .append(nanos / 1000000).append('\t')
+        .append(count == 0 ? 0 : nanos / count / 1000000).append('\t')
+        .append(getAllocatedBytes(shortName)).append('\n');
+    }
+    return report.toString();
+  }
+
+  private static class Timing {
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicInteger count = new AtomicInteger();
+    private final AtomicLong allocatedBytes = new AtomicLong();
+  }
+}
@@ -189,6 +189,14 @@ public abstract class RefElementImpl extends RefEntityImpl implements RefElement
     }
   }
 
+  /**
+   * Releases the spare capacity of the reference lists once the graph is built.
+   */
+  void trimReferences() {
+    if (myOutReferences != null) myOutReferences.trimToSize();
+    if (myInReferences != null) myInReferences.trimToSize();
+  }
+
   public void setEntry(boolean entry) {
     setFlag(entry, IS_ENTRY_MASK);
   }
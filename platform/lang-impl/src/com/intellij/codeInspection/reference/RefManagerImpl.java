@@ -48,7 +48,6 @@ import com.intellij.openapi.vfs.LocalFileSystem;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.*;
 import com.intellij.psi.impl.light.LightElement;
-import com.intellij.util.containers.ContainerUtil;
 import gnu.trove.THashMap;
 import org.jdom.Element;
 import org.jetbrains.annotations.NotNull;
@@ -66,6 +65,7 @@ public class RefManagerImpl extends RefManager {
   private AnalysisScope myScope;
   private RefProject myRefProject;
   private Map<PsiAnchor, RefElement> myRefTable = new THashMap<PsiAnchor, RefElement>();
+  private volatile List<RefElement> mySortedElements; // cached until the ref table changes
 
   private Map<Module, RefModule> myModules;
   private final ProjectIterator myProjectIterator;
@@ -128,6 +128,7 @@ public class RefManagerImpl extends RefManager {
     myScope = null;
     myRefProject = null;
     myRefTable = null;
+    mySortedElements = null;
     myModules = null;
     myContext = null;
 
@@ -284,6 +285,7 @@ public class RefManagerImpl extends RefManager {
       long before = System.currentTimeMillis();
       getScope().accept(myProjectIterator);
       myDeclarationsFound = true;
+      trimReferences();
 
       LOG.info("Total duration of processing project usages:" + (System.currentTimeMillis() - before));
     }
@@ -321,21 +323,48 @@ public class RefManagerImpl extends RefManager {
     return myRefTable;
   }
 
+  /**
+   * @return the elements of the ref table grouped by their files
+   */
   @NotNull
   public List<RefElement> getSortedElements() {
     LOG.assertTrue(myRefTable != null);
-    List<RefElement> answer = new ArrayList<RefElement>(myRefTable.values());
-    ContainerUtil.quickSort(answer, new Comparator<RefElement>() {
-      @Override
-      public int compare(RefElement o1, RefElement o2) {
-        VirtualFile v1 = ((RefElementImpl)o1).getVirtualFile();
-        VirtualFile v2 = ((RefElementImpl)o2).getVirtualFile();
+    List<RefElement> sorted = mySortedElements;
+    if (sorted != null) return sorted;
 
-        return (v1 != null ? v1.hashCode() : 0) - (v2 != null ? v2.hashCode() : 0);
+    myLock.readLock().lock();
+    try {
+      final RefElement[] elements = myRefTable.values().toArray(new RefElement[myRefTable.size()]);
+      // sort by the hash of the file, with the original index in the low bits, not to compute the hash in every comparison
+      final long[] keys = new long[elements.length];
+      for (int i = 0; i < elements.length; i++) {
+        final VirtualFile file = ((RefElementImpl)elements[i]).getVirtualFile();
+        keys[i] = (long)(file != null ? file.hashCode() : 0) << 32 | i;
       }
-    });
+      Arrays.sort(keys);
+      final List<RefElement> answer = new ArrayList<RefElement>(elements.length);
+      for (long key : keys) {
+        answer.add(elements[(int)key]);
+      }
+      sorted = Collections.unmodifiableList(answer);
+      mySortedElements = sorted;
+      return sorted;
+    }
+    finally {
+      myLock.readLock().unlock();
+    }
+  }
 
-    return answer;
+  private void trimReferences() {
+    myLock.readLock().lock();
+    try {
+      for (RefElement refElement : myRefTable.values()) {
+        ((RefElementImpl)refElement).trimReferences();
+      }
+    }
+    finally {
+      myLock.readLock().unlock();
+    }
   }
 
   @Override
@@ -346,6 +375,7 @@ public class RefManagerImpl extends RefManager {
   public void removeReference(RefElement refElem) {
     myLock.writeLock().lock();
     try {
+      mySortedElements = null;
       final Map<PsiAnchor, RefElement> refTable = getRefTable();
       final PsiElement element = refElem.getElement();
       final RefManagerExtension extension = element != null ? getExtension(element.getLanguage()) : null;
@@ -523,6 +553,7 @@ public class RefManagerImpl extends RefManager {
   protected void putToRefTable(final PsiElement element, final RefElement ref) {
     myLock.writeLock().lock();
     try {
+      mySortedElements = null;
       getRefTable().put(ApplicationManager.getApplication().runReadAction(
           new Computable<PsiAnchor>() {
             @Override
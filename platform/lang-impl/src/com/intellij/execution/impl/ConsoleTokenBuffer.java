@@ -0,0 +1,200 @@
+/*
+ * Copyright 2000-2012 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.intellij.execution.impl;
+
+import com.intellij.execution.filters.HyperlinkInfo;
+import com.intellij.execution.ui.ConsoleViewContentType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+import static com.intellij.execution.impl.ConsoleViewImpl.TokenInfo;
+
+/**
+ * Tokens of the text already pushed to the console document, ordered by offset.
+ * <p/>
+ * The console document works as a cyclic buffer: new text is appended to its end and the oldest text is cut from its start.
+ * A plain array list of tokens makes every such cut cost O(number of tokens), because all remaining tokens have to be moved
+ * and their offsets adjusted. This list keeps tokens at a growable ring array instead, so that removal of the first tokens
+ * is O(1) amortized, and doesn't touch offsets of the remaining tokens on a cut either: it only accumulates the length of the
+ * cut text as a base shift that is subtracted on read. The offsets are rebased only when the shift outgrows the text covered
+ * by the tokens, so a cut costs O(1) amortized as well.
+ * <p/>
+ * That's why {@link TokenInfo#startOffset} and {@link TokenInfo#endOffset} of the tokens held here are not document offsets,
+ * use {@link #getStartOffset(int)} and {@link #getEndOffset(int)} to get them. Relative changes of the token offsets are fine.
+ * <p/>
+ * Reads have no side effects, so the list may be read from several threads as long as nobody modifies it.
+ */
+class ConsoleTokenBuffer extends AbstractList<TokenInfo> implements RandomAccess {
+  private static final int INITIAL_CAPACITY = 16;
+
+  private TokenInfo[] myTokens = new TokenInfo[INITIAL_CAPACITY];
+  private int myHead;
+  private int mySize;
+  private int myShift;
+
+  @Override
+  public TokenInfo get(int index) {
+    if (index < 0 || index >= mySize) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", size: " + mySize);
+    }
+    return myTokens[slot(index)];
+  }
+
+  /**
+   * @return document offset of the start of the token at the given index
+   */
+  int getStartOffset(int index) {
+    return get(index).startOffset - myShift;
+  }
+
+  /**
+   * @return document offset of the end of the token at the given index
+   */
+  int getEndOffset(int index) {
+    return get(index).endOffset - myShift;
+  }
+
+  /**
+   * Does the same as {@link ConsoleUtil#findTokenInfoIndexByOffset} for the given document offset.
+   */
+  int findTokenIndex(int offset) {
+    return ConsoleUtil.findTokenInfoIndexByOffset(this, offset + myShift);
+  }
+
+  @Override
+  public int size() {
+    return mySize;
+  }
+
+  @Override
+  public boolean add(TokenInfo token) {
+    ensureCapacity(mySize + 1);
+    myTokens[slot(mySize)] = token;
+    mySize++;
+    modCount++;
+    return true;
+  }
+
+  @Override
+  public TokenInfo remove(int index) {
+    TokenInfo token = get(index);
+    removeRange(index, index + 1);
+    return token;
+  }
+
+  @Override
+  public void clear() {
+    myTokens = new TokenInfo[INITIAL_CAPACITY];
+    myHead = 0;
+    mySize = 0;
+    myShift = 0;
+    modCount++;
+  }
+
+  @Override
+  protected void removeRange(int fromIndex, int toIndex) {
+    if (fromIndex < 0 || toIndex > mySize || fromIndex > toIndex) {
+      throw new IndexOutOfBoundsException("From: " + fromIndex + ", to: " + toIndex + ", size: " + mySize);
+    }
+    int removed = toIndex - fromIndex;
+    if (removed == 0) return;
+    if (fromIndex == 0) {
+      for (int i = 0; i < removed; i++) {
+        myTokens[slot(i)] = null;
+      }
+      myHead = slot(removed);
+    }
+    else {
+      int tail = mySize - toIndex;
+      for (int i = 0; i < tail; i++) {
+        int from = slot(toIndex + i);
+        int to = slot(fromIndex + i);
+        myTokens[to] = myTokens[from];
+      }
+      for (int i = mySize - removed; i < mySize; i++) {
+        myTokens[slot(i)] = null;
+      }
+    }
+    mySize -= removed;
+    if (mySize == 0) {
+      // new tokens start from zero offset
+      myShift = 0;
+    }
+    modCount++;
+  }
+
+  /**
+   * Does the same as {@link ConsoleUtil#addToken}.
+   */
+  void addToken(int length, @Nullable HyperlinkInfo info, @NotNull ConsoleViewContentType contentType) {
+    ConsoleUtil.addToken(length, info, contentType, this);
+  }
+
+  /**
+   * Does the same as {@link ConsoleUtil#updateTokensOnTextRemoval} but handles removal from the document start,
+   * which is the case for the cyclic buffer, without moving or updating the tokens that stay.
+   *
+   * @param startOffset  start offset of the removed text (inclusive)
+   * @param endOffset    end offset of the removed text (exclusive)
+   */
+  void removeText(int startOffset, int endOffset) {
+    if (startOffset != 0 || mySize == 0 || endOffset <= 0) {
+      ConsoleUtil.updateTokensOnTextRemoval(this, startOffset + myShift, endOffset + myShift);
+      return;
+    }
+
+    removeRange(0, findTokenIndex(endOffset));
+    if (mySize == 0) return;
+
+    // the first remaining token may have been partially removed
+    TokenInfo first = get(0);
+    if (first.startOffset < endOffset + myShift) {
+      first.startOffset = endOffset + myShift;
+    }
+    myShift += endOffset;
+    if (myShift > getEndOffset(mySize - 1)) {
+      rebase();
+    }
+  }
+
+  private void rebase() {
+    for (int i = 0; i < mySize; i++) {
+      TokenInfo token = myTokens[slot(i)];
+      token.startOffset -= myShift;
+      token.endOffset -= myShift;
+    }
+    myShift = 0;
+  }
+
+  private int slot(int index) {
+    int slot = myHead + index;
+    return slot < myTokens.length ? slot : slot - myTokens.length;
+  }
+
+  private void ensureCapacity(int capacity) {
+    if (capacity <= myTokens.length) return;
+    int newCapacity = Math.max(capacity, myTokens.length * 2);
+    TokenInfo[] tokens = new TokenInfo[newCapacity];
+    for (int i = 0; i < mySize; i++) {
+      tokens[i] = myTokens[slot(i)];
+    }
+    myTokens = tokens;
+    myHead = 0;
+  }
+}
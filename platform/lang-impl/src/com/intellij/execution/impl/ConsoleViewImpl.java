@@ -227,7 +227,7 @@ public class ConsoleViewImpl extends JPanel implements ConsoleView, ObservableCo
    * <p/>
    * Target offsets are anchored to the document here.
    */
-  private final List<TokenInfo> myTokens = new ArrayList<TokenInfo>();
+  private final ConsoleTokenBuffer myTokens = new ConsoleTokenBuffer();
 
   private final TIntObjectHashMap<ConsoleFolding> myFolding = new TIntObjectHashMap<ConsoleFolding>();
 
@@ -575,7 +575,7 @@ public class ConsoleViewImpl extends JPanel implements ConsoleView, ObservableCo
   }
 
   private void addToken(int length, @Nullable HyperlinkInfo info, ConsoleViewContentType contentType) {
-    ConsoleUtil.addToken(length, info, contentType, myTokens);
+    myTokens.addToken(length, info, contentType);
   }
 
   private ModalityState getStateForUpdate() {
@@ -675,7 +675,7 @@ public class ConsoleViewImpl extends JPanel implements ConsoleView, ObservableCo
             document.insertString(document.getTextLength(), strings[i]);
             int lastLine = document.getLineCount() - 1;
             if (lastLine >= 0) {
-              ConsoleUtil.updateTokensOnTextRemoval(myTokens, document.getTextLength(), document.getTextLength() + 1);
+              myTokens.removeText(document.getTextLength(), document.getTextLength() + 1);
               document.deleteString(document.getLineStartOffset(lastLine), document.getTextLength());
             }
           }
@@ -701,7 +701,7 @@ public class ConsoleViewImpl extends JPanel implements ConsoleView, ObservableCo
         TokenInfo token = myTokens.get(i);
         final HyperlinkInfo info = token.getHyperlinkInfo();
         if (info != null) {
-          myHyperlinks.addHyperlink(token.startOffset, token.endOffset, null, info);
+          myHyperlinks.addHyperlink(myTokens.getStartOffset(i), myTokens.getEndOffset(i), null, info);
         }
       }
     }
@@ -841,7 +841,7 @@ public class ConsoleViewImpl extends JPanel implements ConsoleView, ObservableCo
         if (event.getNewLength() == 0) {
           // string has been removed, adjust token ranges
           synchronized (LOCK) {
-            ConsoleUtil.updateTokensOnTextRemoval(myTokens, event.getOffset(), event.getOffset() + event.getOldLength());
+            myTokens.removeText(event.getOffset(), event.getOffset() + event.getOldLength());
             int toRemoveLen = event.getOldLength();
             myContentSize -= Math.min(myContentSize, toRemoveLen);
           }
@@ -868,9 +868,11 @@ public class ConsoleViewImpl extends JPanel implements ConsoleView, ObservableCo
 
   private void highlightUserTokens() {
     if (myTokens.isEmpty()) return;
-    final TokenInfo token = myTokens.get(myTokens.size() - 1);
+    final int lastIndex = myTokens.size() - 1;
+    final TokenInfo token = myTokens.get(lastIndex);
     if (token.contentType == ConsoleViewContentType.USER_INPUT) {
-      String text = myEditor.getDocument().getText().substring(token.startOffset, token.endOffset);
+      final int tokenStart = myTokens.getStartOffset(lastIndex);
+      String text = myEditor.getDocument().getCharsSequence().subSequence(tokenStart, myTokens.getEndOffset(lastIndex)).toString();
       PsiFile file = PsiFileFactory.getInstance(myProject).
         createFileFromText("dummy", myFileType, text, LocalTimeCounter.currentTime(), true);
       Document document = PsiDocumentManager.getInstance(myProject).getDocument(file);
@@ -879,14 +881,14 @@ public class ConsoleViewImpl extends JPanel implements ConsoleView, ObservableCo
       try {
         RangeHighlighter[] allHighlighters = myEditor.getMarkupModel().getAllHighlighters();
         for (RangeHighlighter highlighter : allHighlighters) {
-          if (highlighter.getStartOffset() >= token.startOffset) {
+          if (highlighter.getStartOffset() >= tokenStart) {
             highlighter.dispose();
           }
         }
         HighlighterIterator iterator = ((EditorEx)editor).getHighlighter().createIterator(0);
         while (!iterator.atEnd()) {
           myEditor.getMarkupModel()
-            .addRangeHighlighter(iterator.getStart() + token.startOffset, iterator.getEnd() + token.startOffset, HighlighterLayer.SYNTAX,
+            .addRangeHighlighter(iterator.getStart() + tokenStart, iterator.getEnd() + tokenStart, HighlighterLayer.SYNTAX,
                                  iterator.getTextAttributes(),
                                  HighlighterTargetArea.EXACT_RANGE);
           iterator.advance();
@@ -1124,7 +1126,7 @@ public class ConsoleViewImpl extends JPanel implements ConsoleView, ObservableCo
 
     @Override
     public HighlighterIterator createIterator(final int startOffset) {
-      final int startIndex = ConsoleUtil.findTokenInfoIndexByOffset(myTokens, startOffset);
+      final int startIndex = myTokens.findTokenIndex(startOffset);
 
       return new HighlighterIterator() {
         private int myIndex = startIndex;
@@ -1139,12 +1141,12 @@ public class ConsoleViewImpl extends JPanel implements ConsoleView, ObservableCo
 
         @Override
         public int getStart() {
-          return getTokenInfo() == null ? 0 : getTokenInfo().startOffset;
+          return getTokenInfo() == null ? 0 : myTokens.getStartOffset(myIndex);
         }
 
         @Override
         public int getEnd() {
-          return getTokenInfo() == null ? 0 : getTokenInfo().endOffset;
+          return getTokenInfo() == null ? 0 : myTokens.getEndOffset(myIndex);
         }
 
         @Override
@@ -1552,17 +1554,19 @@ public class ConsoleViewImpl extends JPanel implements ConsoleView, ObservableCo
       }
       if (info.contentType != ConsoleViewContentType.USER_INPUT) {
         insertUserText("temp", offset);
-        final TokenInfo newInfo = consoleView.myTokens.get(consoleView.myTokens.size() - 1);
-        replaceUserText(textToUse, newInfo.startOffset, newInfo.endOffset);
+        final int newIndex = consoleView.myTokens.size() - 1;
+        replaceUserText(textToUse, consoleView.myTokens.getStartOffset(newIndex), consoleView.myTokens.getEndOffset(newIndex));
         return;
       }
 
       final int deferredOffset = myContentSize - buffer.getLength() - buffer.getUserInputLength();
-      if (offset > info.endOffset) {
-        startOffset = info.endOffset;
+      final int lastIndex = consoleView.myTokens.size() - 1;
+      final int tokenEnd = consoleView.myTokens.getEndOffset(lastIndex);
+      if (offset > tokenEnd) {
+        startOffset = tokenEnd;
       }
       else {
-        startOffset = Math.max(deferredOffset, Math.max(info.startOffset, offset));
+        startOffset = Math.max(deferredOffset, Math.max(consoleView.myTokens.getStartOffset(lastIndex), offset));
       }
 
       buffer.addUserText(startOffset - deferredOffset, textToUse);
@@ -1611,8 +1615,11 @@ public class ConsoleViewImpl extends JPanel implements ConsoleView, ObservableCo
 
       final int deferredOffset = myContentSize - buffer.getLength() - buffer.getUserInputLength();
 
-      startOffset = getStartOffset(start, info, deferredOffset);
-      endOffset = getEndOffset(end, info);
+      final int lastIndex = consoleView.myTokens.size() - 1;
+      final int tokenStart = consoleView.myTokens.getStartOffset(lastIndex);
+      final int tokenEnd = consoleView.myTokens.getEndOffset(lastIndex);
+      startOffset = getStartOffset(start, tokenStart, tokenEnd, deferredOffset);
+      endOffset = getEndOffset(end, tokenStart, tokenEnd);
 
       if (startOffset == -1 ||
           endOffset == -1 ||
@@ -1659,8 +1666,11 @@ public class ConsoleViewImpl extends JPanel implements ConsoleView, ObservableCo
       if (myBuffer.getUserInputLength() == 0) return;
 
       final int deferredOffset = myContentSize - buffer.getLength() - buffer.getUserInputLength();
-      startOffset = getStartOffset(offset, info, deferredOffset);
-      endOffset = getEndOffset(offset + length, info);
+      final int lastIndex = consoleView.myTokens.size() - 1;
+      final int tokenStart = consoleView.myTokens.getStartOffset(lastIndex);
+      final int tokenEnd = consoleView.myTokens.getEndOffset(lastIndex);
+      startOffset = getStartOffset(offset, tokenStart, tokenEnd, deferredOffset);
+      endOffset = getEndOffset(offset + length, tokenStart, tokenEnd);
       if (startOffset == -1 ||
           endOffset == -1 ||
           endOffset <= startOffset ||
@@ -1680,13 +1690,13 @@ public class ConsoleViewImpl extends JPanel implements ConsoleView, ObservableCo
   }
 
   //util methods for add, replace, delete methods
-  private static int getStartOffset(int offset, TokenInfo info, int deferredOffset) {
+  private static int getStartOffset(int offset, int tokenStart, int tokenEnd, int deferredOffset) {
     int startOffset;
-    if (offset >= info.startOffset && offset < info.endOffset) {
+    if (offset >= tokenStart && offset < tokenEnd) {
       startOffset = Math.max(offset, deferredOffset);
     }
-    else if (offset < info.startOffset) {
-      startOffset = Math.max(info.startOffset, deferredOffset);
+    else if (offset < tokenStart) {
+      startOffset = Math.max(tokenStart, deferredOffset);
     }
     else {
       startOffset = -1;
@@ -1694,12 +1704,12 @@ public class ConsoleViewImpl extends JPanel implements ConsoleView, ObservableCo
     return startOffset;
   }
 
-  private static int getEndOffset(int offset, TokenInfo info) {
+  private static int getEndOffset(int offset, int tokenStart, int tokenEnd) {
     int endOffset;
-    if (offset > info.endOffset) {
-      endOffset = info.endOffset;
+    if (offset > tokenEnd) {
+      endOffset = tokenEnd;
     }
-    else if (offset <= info.startOffset) {
+    else if (offset <= tokenStart) {
       endOffset = -1;
     }
     else {
@@ -20,9 +20,12 @@ import com.intellij.openapi.extensions.Extensions;
 import com.intellij.openapi.util.TextRange;
 import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.psi.impl.source.codeStyle.PreFormatProcessor;
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 
 /**
@@ -40,6 +43,7 @@ public class FormatTextRanges {
   public static class FormatTextRange {
     private TextRange myRange;
     private final boolean myProcessHeadingWhitespace;
+    @Nullable private FormatTextRanges myOwner;
 
     public FormatTextRange(TextRange range, boolean processHeadingWhitespace) {
       myRange = range;
@@ -109,6 +113,9 @@ public class FormatTextRanges {
 
     public void setTextRange(TextRange range) {
       myRange = range;
+      if (myOwner != null) {
+        myOwner.myIndex = null;
+      }
     }
 
     public TextRange getNonEmptyTextRange() {
@@ -123,7 +130,15 @@ public class FormatTextRanges {
     }
   }
 
+  /**
+   * Number of ranges starting from which the read-only checks, done for every block and white space during formatting,
+   * use {@link RangesIndex} instead of checking the ranges one by one. Reformatting the changed text only may
+   * give hundreds of ranges for a big file.
+   */
+  private static final int INDEX_THRESHOLD = 8;
+
   private final List<FormatTextRange> myRanges = new ArrayList<FormatTextRange>();
+  @Nullable private RangesIndex myIndex;
 
   public FormatTextRanges() {
   }
@@ -133,7 +148,10 @@ public class FormatTextRanges {
   }
 
   public void add(TextRange range, boolean processHeadingWhitespace) {
-    myRanges.add(new FormatTextRange(range, processHeadingWhitespace));
+    FormatTextRange formatTextRange = new FormatTextRange(range, processHeadingWhitespace);
+    formatTextRange.myOwner = this;
+    myRanges.add(formatTextRange);
+    myIndex = null;
   }
 
   /**
@@ -146,6 +164,9 @@ public class FormatTextRanges {
    *                             <code>false</code> if given range intersects at least one of aggregated ranges
    */
   public boolean isWhitespaceReadOnly(TextRange range) {
+    if (myRanges.size() >= INDEX_THRESHOLD) {
+      return getIndex().isWhitespaceReadOnly(range);
+    }
     for (FormatTextRange formatTextRange : myRanges) {
       if (!formatTextRange.isWhitespaceReadOnly(range)) {
         return false;
@@ -165,6 +186,9 @@ public class FormatTextRanges {
    *                              <code>false</code> if given range intersects at least one of aggregated ranges
    */
   public boolean isReadOnly(TextRange range, boolean rootIsRightBlock) {
+    if (myRanges.size() >= INDEX_THRESHOLD) {
+      return getIndex().isReadOnly(range, rootIsRightBlock);
+    }
     for (FormatTextRange formatTextRange : myRanges) {
       if (!formatTextRange.isReadOnly(range, rootIsRightBlock)) {
         return false;
@@ -200,6 +224,102 @@ public class FormatTextRanges {
     return result;
   }
 
+  private RangesIndex getIndex() {
+    RangesIndex index = myIndex;
+    if (index == null) {
+      myIndex = index = new RangesIndex(myRanges);
+    }
+    return index;
+  }
+
+  /**
+   * Answers the same questions as the {@link FormatTextRange#isReadOnly(TextRange, boolean)} and
+   * {@link FormatTextRange#isWhitespaceReadOnly(TextRange)} checks of all the ranges, in logarithmic time:
+   * a range intersects the given one if it starts before the given range end and ends after its start,
+   * so it's enough to know the maximal end among the ranges starting before the given end.
+   */
+  private static class RangesIndex {
+    private final boolean myHasNullRange;
+    private final int myMaxStart;
+    /** Range starts, sorted, and the maximal end of the ranges with the start not more than the one at the same index */
+    private final int[] myStarts;
+    private final int[] myMaxEnds;
+    /** The same for white space checks, which treat the start of the ranges not processing heading white space as exclusive */
+    private final int[] myWhiteSpaceStarts;
+    private final int[] myWhiteSpaceMaxEnds;
+
+    private RangesIndex(@NotNull List<FormatTextRange> ranges) {
+      boolean hasNullRange = false;
+      int maxStart = Integer.MIN_VALUE;
+      List<int[]> bounds = new ArrayList<int[]>(ranges.size());
+      List<int[]> whiteSpaceBounds = new ArrayList<int[]>(ranges.size());
+      for (FormatTextRange range : ranges) {
+        TextRange textRange = range.getTextRange();
+        if (textRange == null) {
+          hasNullRange = true;
+          continue;
+        }
+        maxStart = Math.max(maxStart, textRange.getStartOffset());
+        bounds.add(new int[]{textRange.getStartOffset(), textRange.getEndOffset()});
+        int whiteSpaceStart = range.myProcessHeadingWhitespace ? textRange.getStartOffset() : textRange.getStartOffset() + 1;
+        whiteSpaceBounds.add(new int[]{whiteSpaceStart, textRange.getEndOffset()});
+      }
+      myHasNullRange = hasNullRange;
+      myMaxStart = maxStart;
+
+      myStarts = new int[bounds.size()];
+      myMaxEnds = new int[bounds.size()];
+      fill(bounds, myStarts, myMaxEnds);
+      myWhiteSpaceStarts = new int[whiteSpaceBounds.size()];
+      myWhiteSpaceMaxEnds = new int[whiteSpaceBounds.size()];
+      fill(whiteSpaceBounds, myWhiteSpaceStarts, myWhiteSpaceMaxEnds);
+    }
+
+    private static void fill(List<int[]> bounds, int[] starts, int[] maxEnds) {
+      Collections.sort(bounds, new Comparator<int[]>() {
+        @Override
+        public int compare(int[] o1, int[] o2) {
+          return o1[0] < o2[0] ? -1 : o1[0] == o2[0] ? 0 : 1;
+        }
+      });
+      int maxEnd = Integer.MIN_VALUE;
+      for (int i = 0; i < bounds.size(); i++) {
+        starts[i] = bounds.get(i)[0];
+        maxEnd = Math.max(maxEnd, bounds.get(i)[1]);
+        maxEnds[i] = maxEnd;
+      }
+    }
+
+    private boolean isReadOnly(@NotNull TextRange range, boolean rootIsRightBlock) {
+      if (myHasNullRange) return false;
+      if (rootIsRightBlock && myMaxStart >= range.getEndOffset()) return false;
+      int i = lastNotGreater(myStarts, range.getEndOffset());
+      return i < 0 || myMaxEnds[i] < range.getStartOffset();
+    }
+
+    private boolean isWhitespaceReadOnly(@Nullable TextRange range) {
+      if (myHasNullRange) return false;
+      if (range == null) return true;
+      int i = lastNotGreater(myWhiteSpaceStarts, range.getEndOffset());
+      return i < 0 || myWhiteSpaceMaxEnds[i] <= range.getStartOffset();
+    }
+
+    private static int lastNotGreater(int[] sorted, int value) {
+      int low = 0;
+      int high = sorted.length;
+      while (low < high) {
+        int middle = (low + high) >>> 1;
+        if (sorted[middle] <= value) {
+          low = middle + 1;
+        }
+        else {
+          high = middle;
+        }
+      }
+      return low - 1;
+    }
+  }
+
   @Override
   public String toString() {
     return "FormatTextRanges{" + StringUtil.join(myRanges, StringUtil.createToStringFunction(FormatTextRange.class), ",");
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2000-2012 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.intellij.internal;
+
+import com.intellij.codeInsight.daemon.impl.LocalInspectionsProfiling;
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.ide.CopyPasteManager;
+import com.intellij.openapi.project.DumbAware;
+
+import java.awt.datatransfer.StringSelection;
+
+/**
+ * Writes the time spent by local inspections in highlighting to the log and copies it to the clipboard.
+ * Timings are collected when IDEA is started with -Didea.inspections.profile=true.
+ */
+public class DumpInspectionTimingsAction extends AnAction implements DumbAware {
+  private static final Logger LOG = Logger.getInstance("#com.intellij.internal.DumpInspectionTimingsAction");
+
+  @Override
+  public void actionPerformed(AnActionEvent e) {
+    final String report = LocalInspectionsProfiling.getReport();
+    LOG.info("Local inspection timings:\n" + report);
+    CopyPasteManager.getInstance().setContents(new StringSelection(report));
+  }
+
+  @Override
+  public void update(AnActionEvent e) {
+    e.getPresentation().setEnabled(LocalInspectionsProfiling.getSessionTimings() != null);
+  }
+}
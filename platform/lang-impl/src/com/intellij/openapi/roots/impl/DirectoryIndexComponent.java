@@ -63,6 +63,7 @@ public class DirectoryIndexComponent extends DirectoryIndexImpl {
     myConnection.subscribe(FileTypeManager.TOPIC, new FileTypeListener.Adapter() {
       @Override
       public void fileTypesChanged(FileTypeEvent event) {
+        clearJarDirectories();
         doInitialize();
       }
     });
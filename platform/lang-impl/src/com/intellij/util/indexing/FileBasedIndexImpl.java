@@ -17,6 +17,7 @@
 package com.intellij.util.indexing;
 
 import com.intellij.AppTopics;
+import com.intellij.concurrency.JobLauncher;
 import com.intellij.history.LocalHistory;
 import com.intellij.ide.caches.CacheUpdater;
 import com.intellij.ide.util.DelegatingProgressIndicator;
@@ -128,6 +129,8 @@ public class FileBasedIndexImpl extends FileBasedIndex {
   private volatile int myLocalModCount;
   private volatile int myFilesModCount;
   private final AtomicInteger myUpdatingFiles = new AtomicInteger();
+  private final IndexedRootsCheckpoints myIndexedRootsCheckpoints =
+    new IndexedRootsCheckpoints(new File(PathManager.getIndexRoot(), "indexed_roots"));
   @SuppressWarnings({"FieldCanBeLocal", "UnusedDeclaration"}) private volatile boolean myInitialized;
     // need this variable for memory barrier
 
@@ -638,6 +641,8 @@ public class FileBasedIndexImpl extends FileBasedIndex {
         }
 
         myVfManager.removeVirtualFileListener(myChangedFilesCollector);
+        IndexingStamp.flushCache(null);
+        IndexingStamp.closeStampTable();
 
         //FileUtil.delete(getMarkerFile());
       }
@@ -1640,9 +1645,13 @@ public class FileBasedIndexImpl extends FileBasedIndex {
     myChangedFilesCollector.processFileImpl(project, fileContent, false);
   }
 
-  public void indexFileContent(@Nullable Project project, @NotNull com.intellij.ide.caches.FileContent content) {
+  /**
+   * @return false if some index could not be updated with the file, true otherwise
+   */
+  public boolean indexFileContent(@Nullable Project project, @NotNull com.intellij.ide.caches.FileContent content) {
     myChangedFilesCollector.ensureAllInvalidateTasksCompleted();
     final VirtualFile file = content.getVirtualFile();
+    boolean indexed = true;
 
     FileTypeManagerImpl.cacheFileType(file, file.getFileType());
     try {
@@ -1680,6 +1689,7 @@ public class FileBasedIndexImpl extends FileBasedIndex {
             throw e;
           }
           catch (StorageException e) {
+            indexed = false;
             requestRebuild(indexId);
             LOG.info(e);
           }
@@ -1693,6 +1703,7 @@ public class FileBasedIndexImpl extends FileBasedIndex {
     finally {
       FileTypeManagerImpl.cacheFileType(file, null);
     }
+    return indexed;
   }
 
   private void updateSingleIndex(final ID<?, ?> indexId, @NotNull final VirtualFile file, @Nullable final FileContent currentFC)
@@ -2133,7 +2144,7 @@ public class FileBasedIndexImpl extends FileBasedIndex {
   }
 
   private class UnindexedFilesFinder implements CollectingContentIterator {
-    private final List<VirtualFile> myFiles = new ArrayList<VirtualFile>();
+    private final List<VirtualFile> myFiles = Collections.synchronizedList(new ArrayList<VirtualFile>());
     @Nullable
     private final ProgressIndicator myProgressIndicator;
 
@@ -2294,7 +2305,8 @@ public class FileBasedIndexImpl extends FileBasedIndex {
     }
   }
 
-  private static void cleanupProcessedFlag() {
+  private void cleanupProcessedFlag() {
+    myIndexedRootsCheckpoints.clear();
     final VirtualFile[] roots = ManagingFS.getInstance().getRoots();
     for (VirtualFile root : roots) {
       cleanProcessedFlag(root);
@@ -2324,64 +2336,149 @@ public class FileBasedIndexImpl extends FileBasedIndex {
     // iterate project content
     projectFileIndex.iterateContent(processor);
 
+    List<VirtualFile> roots = collectNonContentRoots(project);
+    if (roots == null) {
+      return;
+    }
+    for (VirtualFile root : roots) {
+      iterateRecursively(root, processor, indicator, IndexedRootsCheckpoints.NO_CHECKPOINT);
+    }
+  }
+
+  /**
+   * Same as {@link #iterateIndexableFiles}, but intended for the thread-safe {@link UnindexedFilesFinder}: library, SDK and
+   * {@link IndexedRootsProvider} roots are visited concurrently, and their subtrees which have not changed since the last
+   * completed scan are skipped, see {@link IndexedRootsCheckpoints}. Project content is always visited completely,
+   * since its exclusions may change without any VFS modification.
+   *
+   * @param scannedRoots receives every fully visited root, with the VFS modification count at the start of the scan;
+   *                     to be passed to {@link #indexedRootsScanCompleted} once all found files are processed
+   */
+  void iterateUnindexedCandidates(@NotNull final ContentIterator processor,
+                                  @NotNull Project project,
+                                  @Nullable final ProgressIndicator indicator,
+                                  @NotNull final TObjectIntHashMap<String> scannedRoots) {
     if (project.isDisposed()) {
       return;
     }
+    final int scanStartModCount = ManagingFS.getInstance().getFilesystemModificationCount();
+    final long configurationStamp = getIndexConfigurationStamp();
+
+    ProjectRootManager.getInstance(project).getFileIndex().iterateContent(processor);
+
+    List<VirtualFile> roots = collectNonContentRoots(project);
+    if (roots == null) {
+      return;
+    }
+    JobLauncher.getInstance().invokeConcurrentlyUnderProgress(roots, indicator, false, new Processor<VirtualFile>() {
+      @Override
+      public boolean process(VirtualFile root) {
+        if (!root.isValid()) return true;
+        int checkpoint = myIndexedRootsCheckpoints.getCheckpoint(root.getUrl(), configurationStamp);
+        iterateRecursively(root, processor, indicator, checkpoint);
+        synchronized (scannedRoots) {
+          scannedRoots.put(root.getUrl(), scanStartModCount);
+        }
+        return true;
+      }
+    });
+  }
+
+  /**
+   * @param failedFiles files found by the scan which could not be indexed; roots containing them are not checkpointed,
+   *                    so that the files are found again by the next scan
+   */
+  void indexedRootsScanCompleted(@NotNull TObjectIntHashMap<String> scannedRoots,
+                                 @NotNull Collection<VirtualFile> failedFiles,
+                                 int checkpointsGeneration) {
+    for (VirtualFile file : failedFiles) {
+      for (VirtualFile each = file; each != null; each = each.getParent()) {
+        scannedRoots.remove(each.getUrl());
+      }
+    }
+    if (scannedRoots.isEmpty()) return;
 
-    Set<VirtualFile> visitedRoots = new THashSet<VirtualFile>();
+    // Writing the indexing stamps of the found files as VFS attributes increments the modification counts of all their ancestors,
+    // so checkpoints taken before the writes would make the next scan visit these roots again. Files changed during the scan
+    // are indexed on their VFS events anyway, so the roots are checkpointed at the count after the stamps are written.
+    IndexingStamp.flushCache(null);
+    final int modCount = ManagingFS.getInstance().getFilesystemModificationCount();
+    scannedRoots.transformValues(new TIntFunction() {
+      @Override
+      public int execute(int scanStartModCount) {
+        return modCount;
+      }
+    });
+    myIndexedRootsCheckpoints.update(scannedRoots, getIndexConfigurationStamp(), checkpointsGeneration);
+  }
+
+  int getIndexedRootsCheckpointsGeneration() {
+    return myIndexedRootsCheckpoints.getGeneration();
+  }
+
+  private long getIndexConfigurationStamp() {
+    long stamp = ManagingFS.getInstance().getCreationTimestamp();
+    List<String> names = new ArrayList<String>();
+    for (ID<?, ?> indexId : myIndices.keySet()) {
+      names.add(indexId.toString());
+      stamp = 31 * stamp + IndexInfrastructure.getIndexCreationStamp(indexId);
+    }
+    Collections.sort(names);
+    return 31 * stamp + names.hashCode();
+  }
+
+  /**
+   * @return library, SDK and {@link IndexedRootsProvider} roots of the project without duplicates, or null if project got disposed
+   */
+  @Nullable
+  private static List<VirtualFile> collectNonContentRoots(@NotNull Project project) {
+    if (project.isDisposed()) {
+      return null;
+    }
+
+    Set<VirtualFile> visitedRoots = new LinkedHashSet<VirtualFile>();
     for (IndexedRootsProvider provider : Extensions.getExtensions(IndexedRootsProvider.EP_NAME)) {
       //important not to depend on project here, to support per-project background reindex
       // each client gives a project to FileBasedIndex
       if (project.isDisposed()) {
-        return;
-      }
-      for (VirtualFile root : IndexableSetContributor.getRootsToIndex(provider)) {
-        if (visitedRoots.add(root)) {
-          iterateRecursively(root, processor, indicator);
-        }
-      }
-      for (VirtualFile root : IndexableSetContributor.getProjectRootsToIndex(provider, project)) {
-        if (visitedRoots.add(root)) {
-          iterateRecursively(root, processor, indicator);
-        }
+        return null;
       }
+      ContainerUtil.addAll(visitedRoots, IndexableSetContributor.getRootsToIndex(provider));
+      ContainerUtil.addAll(visitedRoots, IndexableSetContributor.getProjectRootsToIndex(provider, project));
     }
 
     if (project.isDisposed()) {
-      return;
+      return null;
     }
     // iterate associated libraries
     for (Module module : ModuleManager.getInstance(project).getModules()) {
       if (module.isDisposed()) {
-        return;
+        return null;
       }
       OrderEntry[] orderEntries = ModuleRootManager.getInstance(module).getOrderEntries();
       for (OrderEntry orderEntry : orderEntries) {
         if (orderEntry instanceof LibraryOrSdkOrderEntry) {
           if (orderEntry.isValid()) {
             final LibraryOrSdkOrderEntry entry = (LibraryOrSdkOrderEntry)orderEntry;
-            final VirtualFile[] libSources = entry.getRootFiles(OrderRootType.SOURCES);
-            final VirtualFile[] libClasses = entry.getRootFiles(OrderRootType.CLASSES);
-            for (VirtualFile[] roots : new VirtualFile[][]{libSources, libClasses}) {
-              for (VirtualFile root : roots) {
-                if (visitedRoots.add(root)) {
-                  iterateRecursively(root, processor, indicator);
-                }
-              }
-            }
+            ContainerUtil.addAll(visitedRoots, entry.getRootFiles(OrderRootType.SOURCES));
+            ContainerUtil.addAll(visitedRoots, entry.getRootFiles(OrderRootType.CLASSES));
           }
         }
       }
     }
+    visitedRoots.remove(null);
+    return new ArrayList<VirtualFile>(visitedRoots);
   }
 
   private static void iterateRecursively(@Nullable final VirtualFile root,
                                          @NotNull final ContentIterator processor,
-                                         @Nullable final ProgressIndicator indicator) {
+                                         @Nullable final ProgressIndicator indicator,
+                                         final int checkpoint) {
     if (root == null) {
       return;
     }
 
+    final ManagingFS managingFS = checkpoint == IndexedRootsCheckpoints.NO_CHECKPOINT ? null : ManagingFS.getInstance();
     VfsUtilCore.visitChildrenRecursively(root, new VirtualFileVisitor() {
       @Override
       public boolean visitFile(@NotNull VirtualFile file) {
@@ -2391,8 +2488,10 @@ public class FileBasedIndexImpl extends FileBasedIndex {
         }
         if (!file.isDirectory()) {
           processor.processFile(file);
+          return true;
         }
-        return true;
+        // the subtree has not changed since the last completed scan
+        return managingFS == null || !(file instanceof VirtualFileWithId) || managingFS.getModificationCount(file) > checkpoint;
       }
     });
   }
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2000-2012 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.intellij.util.indexing;
+
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.util.io.FileUtil;
+import com.intellij.util.io.DataOutputStream;
+import com.intellij.util.io.IOUtil;
+import gnu.trove.TObjectIntHashMap;
+import gnu.trove.TObjectIntProcedure;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.*;
+
+/**
+ * Persistent map from an indexed root url to the VFS modification count after the last completed scan for unindexed
+ * files under that root, including the writes of the indexing stamps of the files it found.
+ * <p/>
+ * Since VFS propagates modification counts to all parent records, a directory whose modification count is not greater
+ * than the checkpoint of its root has not changed since that scan, and its subtree does not need to be visited again.
+ * Checkpoints are valid only for the same set of indices, index versions and VFS instance, which is expressed by
+ * the configuration stamp; any index rebuild or file type change {@link #clear() clears} them.
+ *
+ * @see FileBasedIndexImpl#iterateUnindexedCandidates
+ */
+class IndexedRootsCheckpoints {
+  private static final Logger LOG = Logger.getInstance("#com.intellij.util.indexing.IndexedRootsCheckpoints");
+  private static final int VERSION = 1;
+  static final int NO_CHECKPOINT = -1;
+
+  private final File myFile;
+  private TObjectIntHashMap<String> myCheckpoints; // guarded by this
+  private long myConfigurationStamp; // guarded by this
+  private int myGeneration; // guarded by this; incremented on clear() to drop results of scans started before it
+
+  IndexedRootsCheckpoints(@NotNull File file) {
+    myFile = file;
+  }
+
+  synchronized int getGeneration() {
+    return myGeneration;
+  }
+
+  synchronized int getCheckpoint(@NotNull String rootUrl, long configurationStamp) {
+    ensureLoaded(configurationStamp);
+    return myCheckpoints.containsKey(rootUrl) ? myCheckpoints.get(rootUrl) : NO_CHECKPOINT;
+  }
+
+  /**
+   * Records checkpoints of roots which were fully scanned, and whose found files were fully indexed,
+   * unless checkpoints were cleared since the scan started.
+   */
+  synchronized void update(@NotNull TObjectIntHashMap<String> scannedRoots, long configurationStamp, int generation) {
+    if (generation != myGeneration) return;
+    ensureLoaded(configurationStamp);
+    scannedRoots.forEachEntry(new TObjectIntProcedure<String>() {
+      @Override
+      public boolean execute(String url, int modCount) {
+        myCheckpoints.put(url, modCount);
+        return true;
+      }
+    });
+    save();
+  }
+
+  synchronized void clear() {
+    myGeneration++;
+    if (myCheckpoints != null && myCheckpoints.isEmpty()) return;
+    myCheckpoints = new TObjectIntHashMap<String>();
+    FileUtil.delete(myFile);
+  }
+
+  private void ensureLoaded(long configurationStamp) {
+    if (myCheckpoints != null && myConfigurationStamp == configurationStamp) return;
+    myCheckpoints = new TObjectIntHashMap<String>();
+    if (myConfigurationStamp != configurationStamp && myConfigurationStamp != 0) {
+      FileUtil.delete(myFile);
+    }
+    else {
+      load(configurationStamp);
+    }
+    myConfigurationStamp = configurationStamp;
+  }
+
+  private void load(long configurationStamp) {
+    if (!myFile.exists()) return;
+    try {
+      final DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(myFile)));
+      try {
+        if (in.readInt() != VERSION || in.readLong() != configurationStamp) return;
+        final int size = in.readInt();
+        for (int i = 0; i < size; i++) {
+          String url = IOUtil.readString(in);
+          myCheckpoints.put(url, in.readInt());
+        }
+      }
+      finally {
+        in.close();
+      }
+    }
+    catch (IOException e) {
+      LOG.info(e);
+      myCheckpoints.clear();
+    }
+  }
+
+  private void save() {
+    try {
+      FileUtil.createIfDoesntExist(myFile);
+      final DataOutputStream os = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(myFile)));
+      try {
+        os.writeInt(VERSION);
+        os.writeLong(myConfigurationStamp);
+        os.writeInt(myCheckpoints.size());
+        final IOException[] exception = {null};
+        myCheckpoints.forEachEntry(new TObjectIntProcedure<String>() {
+          @Override
+          public boolean execute(String url, int modCount) {
+            try {
+              IOUtil.writeString(url, os);
+              os.writeInt(modCount);
+              return true;
+            }
+            catch (IOException e) {
+              exception[0] = e;
+              return false;
+            }
+          }
+        });
+        if (exception[0] != null) throw exception[0];
+      }
+      finally {
+        os.close();
+      }
+    }
+    catch (IOException e) {
+      LOG.info(e);
+      FileUtil.delete(myFile);
+    }
+  }
+}
@@ -16,18 +16,23 @@
 
 package com.intellij.util.indexing;
 
+import com.intellij.openapi.application.PathManager;
 import com.intellij.openapi.vfs.InvalidVirtualFileAccessException;
 import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileWithId;
 import com.intellij.openapi.vfs.newvfs.FileAttribute;
+import com.intellij.openapi.vfs.newvfs.ManagingFS;
 import com.intellij.openapi.vfs.newvfs.NewVirtualFile;
 import com.intellij.util.containers.ConcurrentHashMap;
 import com.intellij.util.io.DataInputOutputUtil;
 import gnu.trove.TObjectLongHashMap;
 import gnu.trove.TObjectLongProcedure;
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
+import java.io.File;
 import java.io.IOException;
 import java.util.concurrent.ArrayBlockingQueue;
 
@@ -47,6 +52,23 @@ public class IndexingStamp {
     private TObjectLongHashMap<ID<?, ?>> myIndexStamps;
     private boolean myIsDirty = false;
 
+    private Timestamps(@NotNull long[] row) {
+      long dominatingIndexStamp = row[2];
+      for (int word = 0; word < 2; word++) {
+        long bits = row[word];
+        while (bits != 0) {
+          int bit = Long.numberOfTrailingZeros(bits);
+          bits &= bits - 1;
+          ID<?, ?> id = ID.findById(word * 64 + bit);
+          if (id != null) {
+            long stamp = IndexInfrastructure.getIndexCreationStamp(id);
+            if (myIndexStamps == null) myIndexStamps = new TObjectLongHashMap<ID<?, ?>>(5, 0.98f);
+            if (stamp <= dominatingIndexStamp) myIndexStamps.put(id, stamp);
+          }
+        }
+      }
+    }
+
     private Timestamps(@Nullable DataInputStream stream) throws IOException {
       if (stream != null) {
         try {
@@ -120,6 +142,82 @@ public class IndexingStamp {
     public boolean isDirty() {
       return myIsDirty;
     }
+
+    /**
+     * @return row for {@link IndexingStampTable} in the format of {@link IndexingStampTable#read}, or null if not representable
+     */
+    @Nullable
+    private long[] toTableRow() {
+      final long[] row = new long[3];
+      if (myIndexStamps != null) {
+        boolean representable = myIndexStamps.forEachEntry(new TObjectLongProcedure<ID<?, ?>>() {
+          @Override
+          public boolean execute(ID<?, ?> id, long stamp) {
+            int uniqueId = id.getUniqueId();
+            if (uniqueId > IndexingStampTable.MAX_INDEX_ID) return false;
+            row[uniqueId >> 6] |= 1L << (uniqueId & 63);
+            row[2] = Math.max(row[2], stamp);
+            return true;
+          }
+        });
+        if (!representable) return null;
+      }
+      return row;
+    }
+  }
+
+  private static final boolean ourUseStampTable = "true".equals(System.getProperty("idea.indexing.stamps.table"));
+  private static final Object ourStampTableLock = new Object();
+  private static volatile IndexingStampTable ourStampTable;
+  private static boolean ourStampTableOpened; // guarded by ourStampTableLock
+
+  @Nullable
+  private static IndexingStampTable getStampTable() {
+    if (!ourUseStampTable) return null;
+    IndexingStampTable table = ourStampTable;
+    if (table != null) return table;
+    synchronized (ourStampTableLock) {
+      if (!ourStampTableOpened) {
+        ourStampTableOpened = true;
+        ourStampTable = IndexingStampTable.open(new File(PathManager.getIndexRoot(), "stamps.table"),
+                                                ManagingFS.getInstance().getCreationTimestamp());
+      }
+      return ourStampTable;
+    }
+  }
+
+  private static void writeTableRow(@NotNull VirtualFile file, @NotNull Timestamps timestamps) {
+    IndexingStampTable table = getStampTable();
+    if (table == null || !(file instanceof VirtualFileWithId)) return;
+    int fileId = ((VirtualFileWithId)file).getId();
+    long[] row = timestamps.toTableRow();
+    if (row == null) {
+      table.invalidate(fileId);
+    }
+    else {
+      table.write(fileId, ManagingFS.getInstance().getModificationCount(file), row[0], row[1], row[2]);
+    }
+  }
+
+  private static void invalidateTableRow(@NotNull VirtualFile file) {
+    IndexingStampTable table = getStampTable();
+    if (table != null && file instanceof VirtualFileWithId) {
+      table.invalidate(((VirtualFileWithId)file).getId());
+    }
+  }
+
+  /**
+   * Checks the memory-mapped stamp table without locking and without reading the file attribute.
+   *
+   * @return null if the table has no up-to-date information about the file
+   */
+  @Nullable
+  private static Boolean isFileIndexedInTable(@NotNull VirtualFile file, @NotNull ID<?, ?> indexName, long indexCreationStamp) {
+    IndexingStampTable table = getStampTable();
+    if (table == null || !(file instanceof NewVirtualFile) || myTimestampsCache.containsKey(file) || !file.isValid()) return null;
+    if (indexCreationStamp != IndexInfrastructure.getIndexCreationStamp(indexName)) return null;
+    return table.isIndexed(((NewVirtualFile)file).getId(), ManagingFS.getInstance().getModificationCount(file),
+                           indexName.getUniqueId(), indexCreationStamp);
   }
 
   private static final ConcurrentHashMap<VirtualFile, Timestamps> myTimestampsCache = new ConcurrentHashMap<VirtualFile, Timestamps>();
@@ -128,6 +226,8 @@ public class IndexingStamp {
 
   public static boolean isFileIndexed(VirtualFile file, ID<?, ?> indexName, final long indexCreationStamp) {
     try {
+      Boolean indexed = isFileIndexedInTable(file, indexName, indexCreationStamp);
+      if (indexed != null) return indexed.booleanValue();
       return getIndexStamp(file, indexName) == indexCreationStamp;
     }
     catch (RuntimeException e) {
@@ -155,13 +255,7 @@ public class IndexingStamp {
         synchronized (myTimestampsCache) { // avoid synchroneous reads TODO:
           timestamps = myTimestampsCache.get(file);
           if (timestamps == null) {
-            final DataInputStream stream = Timestamps.PERSISTENCE.readAttribute(file);
-            try {
-              timestamps = new Timestamps(stream);
-            }
-            catch (IOException e) {
-              throw new RuntimeException(e);
-            }
+            timestamps = readTimestamps(file);
             myTimestampsCache.put(file, timestamps);
           }
         }
@@ -171,11 +265,39 @@ public class IndexingStamp {
     return null;
   }
 
+  @NotNull
+  private static Timestamps readTimestamps(@NotNull VirtualFile file) {
+    IndexingStampTable table = getStampTable();
+    int fileId = ((NewVirtualFile)file).getId();
+    if (table != null) {
+      long[] row = table.read(fileId, ManagingFS.getInstance().getModificationCount(file));
+      if (row != null) return new Timestamps(row);
+    }
+
+    final DataInputStream stream = Timestamps.PERSISTENCE.readAttribute(file);
+    Timestamps timestamps;
+    try {
+      timestamps = new Timestamps(stream);
+    }
+    catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+    if (table != null) {
+      writeTableRow(file, timestamps);
+    }
+    return timestamps;
+  }
+
   public static void update(final VirtualFile file, final ID<?, ?> indexName, final long indexCreationStamp) {
     synchronized (myTimestampsCache) {
       try {
         Timestamps stamp = createOrGetTimeStamp(file);
-        if (stamp != null) stamp.set(indexName, indexCreationStamp);
+        if (stamp != null) {
+          // isFileIndexedInTable() may have checked myTimestampsCache before the file got there and not have read the row yet:
+          // make it fall back to the synchronized path instead of reading the stale row
+          invalidateTableRow(file);
+          stamp.set(indexName, indexCreationStamp);
+        }
       }
       catch (InvalidVirtualFileAccessException ignored /*ok to ignore it here*/) {
       }
@@ -196,24 +318,42 @@ public class IndexingStamp {
       if (files != null) {
         for(VirtualFile file:files) {
           synchronized (myTimestampsCache) {
-            Timestamps timestamp = myTimestampsCache.remove(file);
+            Timestamps timestamp = myTimestampsCache.get(file);
             if (timestamp == null) continue;
-            synchronized (myTimestampsCache) {
-              try {
-                if (timestamp.isDirty() && file.isValid()) {
-                  final DataOutputStream sink = Timestamps.PERSISTENCE.writeAttribute(file);
-                  timestamp.writeToStream(sink);
-                  sink.close();
-                }
-              }
-              catch (IOException e) {
-                throw new RuntimeException(e);
+            try {
+              if (timestamp.isDirty() && file.isValid()) {
+                final DataOutputStream sink = Timestamps.PERSISTENCE.writeAttribute(file);
+                timestamp.writeToStream(sink);
+                sink.close();
+                // the table row must be up-to-date before the file leaves the cache, see isFileIndexedInTable()
+                writeTableRow(file, timestamp);
               }
             }
+            catch (IOException e) {
+              throw new RuntimeException(e);
+            }
+            finally {
+              myTimestampsCache.remove(file);
+            }
           }
         }
       }
-      if (finishedFile != null) myFinishedFiles.offer(finishedFile);
+      if (finishedFile != null) {
+        // other threads may have filled the queue up again meanwhile; a file not in the queue would never be written
+        while (!myFinishedFiles.offer(finishedFile)) {
+          flushCache(null);
+        }
+      }
+    }
+  }
+
+  static void closeStampTable() {
+    synchronized (ourStampTableLock) {
+      IndexingStampTable table = ourStampTable;
+      if (table != null) {
+        ourStampTable = null;
+        table.close();
+      }
     }
   }
 }
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2000-2012 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.intellij.util.indexing;
+
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.util.io.FileUtil;
+import com.intellij.util.io.PagedFileStorage;
+import com.intellij.util.io.ResizeableMappedFile;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+/**
+ * Dense memory-mapped copy of the {@link IndexingStamp} file attributes: one fixed-size row per VFS file id,
+ * holding the dominating index stamp and a bit per index unique id.
+ * <p/>
+ * A row is valid only while the VFS modification count of its file equals the one stored in the row: any change of the
+ * record, including reuse of a deleted file id, bumps the count, and the caller falls back to the file attribute.
+ * Indices with unique ids beyond {@link #MAX_INDEX_ID} are not representable; files indexed by them are not cached.
+ */
+class IndexingStampTable {
+  private static final Logger LOG = Logger.getInstance("#com.intellij.util.indexing.IndexingStampTable");
+
+  private static final int VERSION = 1;
+  static final int MAX_INDEX_ID = 127;
+
+  private static final int MOD_COUNT_OFFSET = 0;
+  private static final int DOMINATING_STAMP_OFFSET = 8;
+  private static final int BITS_OFFSET = 16;
+  private static final int ROW_SIZE = BITS_OFFSET + 16;
+
+  // row 0 is the header, file ids start from 1
+  private static final int HEADER_VERSION_OFFSET = 0;
+  private static final int HEADER_FS_STAMP_OFFSET = 8;
+
+  private final ResizeableMappedFile myStorage;
+  // reads modify the page cache of the storage too, so they are exclusive as well
+  private final Object myLock = new Object();
+
+  private IndexingStampTable(@NotNull ResizeableMappedFile storage) {
+    myStorage = storage;
+  }
+
+  /**
+   * @return table for the given VFS instance, or null if the storage could not be opened
+   */
+  @Nullable
+  static IndexingStampTable open(@NotNull File file, long fsCreationStamp) {
+    try {
+      ResizeableMappedFile storage = createStorage(file);
+      if (storage.length() < ROW_SIZE ||
+          storage.getInt(HEADER_VERSION_OFFSET) != VERSION ||
+          storage.getLong(HEADER_FS_STAMP_OFFSET) != fsCreationStamp) {
+        storage.close();
+        FileUtil.delete(file);
+        FileUtil.delete(new File(file.getPath() + ".len"));
+        storage = createStorage(file);
+        storage.putInt(HEADER_VERSION_OFFSET, VERSION);
+        storage.putLong(HEADER_FS_STAMP_OFFSET, fsCreationStamp);
+        storage.putLong(ROW_SIZE - 8, 0);
+      }
+      return new IndexingStampTable(storage);
+    }
+    catch (IOException e) {
+      LOG.info(e);
+      return null;
+    }
+  }
+
+  private static ResizeableMappedFile createStorage(File file) throws IOException {
+    PagedFileStorage.StorageLockContext context = new PagedFileStorage.StorageLock(false).myDefaultStorageLockContext;
+    return new ResizeableMappedFile(file, 64 * 1024, context, PagedFileStorage.MB, true);
+  }
+
+  /**
+   * @return whether the file is indexed with the given index, or null if the row is absent or outdated
+   */
+  @Nullable
+  Boolean isIndexed(int fileId, int fileModCount, int indexId, long indexCreationStamp) {
+    if (indexId > MAX_INDEX_ID) return null;
+    final int offset = fileId * ROW_SIZE;
+    synchronized (myLock) {
+      if (offset + ROW_SIZE > myStorage.length() || myStorage.getInt(offset + MOD_COUNT_OFFSET) != fileModCount) {
+        return null;
+      }
+      long bits = myStorage.getLong(offset + BITS_OFFSET + (indexId >> 6) * 8);
+      if ((bits & (1L << (indexId & 63))) == 0) return Boolean.FALSE;
+      return indexCreationStamp <= myStorage.getLong(offset + DOMINATING_STAMP_OFFSET);
+    }
+  }
+
+  /**
+   * @return unique ids of indices the file is indexed with, and the dominating stamp in the last element,
+   *         or null if the row is absent or outdated
+   */
+  @Nullable
+  long[] read(int fileId, int fileModCount) {
+    final int offset = fileId * ROW_SIZE;
+    synchronized (myLock) {
+      if (offset + ROW_SIZE > myStorage.length() || myStorage.getInt(offset + MOD_COUNT_OFFSET) != fileModCount) {
+        return null;
+      }
+      return new long[]{
+        myStorage.getLong(offset + BITS_OFFSET),
+        myStorage.getLong(offset + BITS_OFFSET + 8),
+        myStorage.getLong(offset + DOMINATING_STAMP_OFFSET)
+      };
+    }
+  }
+
+  void write(int fileId, int fileModCount, long bits0, long bits1, long dominatingStamp) {
+    final int offset = fileId * ROW_SIZE;
+    synchronized (myLock) {
+      // invalidate first so that a torn row is never considered valid
+      myStorage.putInt(offset + MOD_COUNT_OFFSET, 0);
+      myStorage.putLong(offset + DOMINATING_STAMP_OFFSET, dominatingStamp);
+      myStorage.putLong(offset + BITS_OFFSET, bits0);
+      myStorage.putLong(offset + BITS_OFFSET + 8, bits1);
+      myStorage.putInt(offset + MOD_COUNT_OFFSET, fileModCount);
+    }
+  }
+
+  void invalidate(int fileId) {
+    final int offset = fileId * ROW_SIZE;
+    synchronized (myLock) {
+      if (offset + ROW_SIZE <= myStorage.length()) {
+        myStorage.putInt(offset + MOD_COUNT_OFFSET, 0);
+      }
+    }
+  }
+
+  void close() {
+    synchronized (myLock) {
+      myStorage.close();
+    }
+  }
+}
@@ -23,8 +23,12 @@ import com.intellij.openapi.project.Project;
 import com.intellij.openapi.roots.CollectingContentIterator;
 import com.intellij.openapi.vfs.VfsUtilCore;
 import com.intellij.openapi.vfs.VirtualFile;
+import gnu.trove.THashSet;
+import gnu.trove.TObjectIntHashMap;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -38,6 +42,9 @@ public class UnindexedFilesUpdater implements CacheUpdater {
   private final Project myProject;
   private final AtomicBoolean myFinishedUpdate = new AtomicBoolean();
   private long myStarted;
+  private TObjectIntHashMap<String> myScannedRoots = new TObjectIntHashMap<String>();
+  private int myCheckpointsGeneration;
+  private final Set<VirtualFile> myFailedFiles = Collections.synchronizedSet(new THashSet<VirtualFile>());
 
   public UnindexedFilesUpdater(final Project project, FileBasedIndexImpl index) {
     myIndex = index;
@@ -53,7 +60,10 @@ public class UnindexedFilesUpdater implements CacheUpdater {
   public VirtualFile[] queryNeededFiles(ProgressIndicator indicator) {
     CollectingContentIterator finder = myIndex.createContentIterator(indicator);
     long l = System.currentTimeMillis();
-    myIndex.iterateIndexableFiles(finder, myProject, indicator);
+    myCheckpointsGeneration = myIndex.getIndexedRootsCheckpointsGeneration();
+    myScannedRoots = new TObjectIntHashMap<String>();
+    myFailedFiles.clear();
+    myIndex.iterateUnindexedCandidates(finder, myProject, indicator, myScannedRoots);
     LOG.info("Indexable files iterated in " + (System.currentTimeMillis() - l) + " ms");
     List<VirtualFile> files = finder.getFiles();
 
@@ -65,14 +75,25 @@ public class UnindexedFilesUpdater implements CacheUpdater {
 
   @Override
   public void processFile(final FileContent fileContent) {
-    myIndex.indexFileContent(myProject, fileContent);
-    IndexingStamp.flushCache(fileContent.getVirtualFile());
+    boolean indexed = false;
+    try {
+      indexed = myIndex.indexFileContent(myProject, fileContent);
+    }
+    finally {
+      if (!indexed) {
+        myFailedFiles.add(fileContent.getVirtualFile());
+      }
+      IndexingStamp.flushCache(fileContent.getVirtualFile());
+    }
   }
 
   @Override
   public void updatingDone() {
     if (myFinishedUpdate.compareAndSet(false, true)) {
       myIndex.filesUpdateFinished();
+      synchronized (myFailedFiles) {
+        myIndex.indexedRootsScanCompleted(myScannedRoots, myFailedFiles, myCheckpointsGeneration);
+      }
       LOG.info("Unindexed files update done in " + (System.currentTimeMillis() - myStarted) + " ms");
     }
   }
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2000-2012 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.intellij.internal;
+
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.application.Application;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.impl.ApplicationImpl;
+import com.intellij.openapi.application.impl.LockContentionTracker;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.ide.CopyPasteManager;
+import com.intellij.openapi.project.DumbAware;
+
+import java.awt.datatransfer.StringSelection;
+
+/**
+ * Starts tracking of the read/write lock contention, or, when it's already tracked, writes current lock holders and waiters
+ * and the statistics collected so far to the log, copies them to the clipboard and starts collecting the statistics anew.
+ */
+public class DumpLockContentionAction extends AnAction implements DumbAware {
+  private static final Logger LOG = Logger.getInstance("#com.intellij.internal.DumpLockContentionAction");
+
+  @Override
+  public void actionPerformed(AnActionEvent e) {
+    final LockContentionTracker tracker = getTracker();
+    if (tracker == null) return;
+
+    if (!tracker.isEnabled()) {
+      tracker.setEnabled(true);
+      return;
+    }
+    final String dump = tracker.dump();
+    LOG.info("Lock contention:\n" + dump);
+    CopyPasteManager.getInstance().setContents(new StringSelection(dump));
+    tracker.reset();
+  }
+
+  @Override
+  public void update(AnActionEvent e) {
+    final LockContentionTracker tracker = getTracker();
+    e.getPresentation().setEnabled(tracker != null);
+    e.getPresentation().setText(tracker != null && tracker.isEnabled() ? "Dump lock contention" : "Track lock contention");
+  }
+
+  private static LockContentionTracker getTracker() {
+    final Application application = ApplicationManager.getApplication();
+    return application instanceof ApplicationImpl ? ((ApplicationImpl)application).getLockContentionTracker() : null;
+  }
+}
@@ -92,4 +92,14 @@ public interface ApplicationEx extends Application {
    * @return true if action was run while holding the lock, false if was unable to get the lock and action was not run
    */
   boolean tryRunReadAction(@NotNull Runnable action);
+
+  /**
+   * Runs the action in a read action which is cancelled as soon as some write action has to wait for the lock,
+   * so that long background reads never delay write actions. The action must call
+   * {@link com.intellij.openapi.progress.ProgressManager#checkCanceled()} periodically. If the process the method is called from
+   * is cancelled meanwhile, {@link com.intellij.openapi.progress.ProcessCanceledException} is thrown.
+   *
+   * @return true if action was completed, false if it was not started or was cancelled because of a pending write action
+   */
+  boolean tryRunReadActionWithWriteActionPriority(@NotNull Runnable action);
 }
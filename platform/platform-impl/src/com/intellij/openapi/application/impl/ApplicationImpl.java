@@ -61,6 +61,7 @@ import com.intellij.util.Consumer;
 import com.intellij.util.EventDispatcher;
 import com.intellij.util.ReflectionCache;
 import com.intellij.util.Restarter;
+import com.intellij.util.containers.ConcurrentHashSet;
 import com.intellij.util.containers.Stack;
 import com.intellij.util.io.storage.HeavyProcessLatch;
 import com.intellij.util.ui.UIUtil;
@@ -76,6 +77,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.Method;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -90,6 +92,11 @@ public class ApplicationImpl extends ComponentManagerImpl implements Application
   // writer thread will be always at the queue head and therefore, java.util.concurrent.locks.ReentrantReadWriteLock.NonfairSync.readerShouldBlock()
   // will return true if the write action is pending, exactly as we need
   private final ReentrantReadWriteLock myLock = new ReentrantReadWriteLock(false);
+  private final LockContentionTracker myLockTracker = new LockContentionTracker();
+
+  // read actions started via tryRunReadActionWithWriteActionPriority(); cancelled as soon as a write action has to wait
+  private final Set<ProgressIndicator> myWriteActionPriorityReads = new ConcurrentHashSet<ProgressIndicator>();
+  private volatile boolean myWriteActionPending;
 
   private final ModalityInvokator myInvokator = new ModalityInvokatorImpl();
 
@@ -925,17 +932,12 @@ public class ApplicationImpl extends ComponentManagerImpl implements Application
     }
     else {
       assertReadActionAllowed();
-      try {
-        myLock.readLock().lockInterruptibly();
-      }
-      catch (InterruptedException e) {
-        throw new RuntimeInterruptedException(e);
-      }
+      long acquireTime = acquireReadLock(action.getClass());
       try {
         action.run();
       }
       finally {
-        myLock.readLock().unlock();
+        releaseReadLock(action.getClass(), acquireTime);
       }
     }
   }
@@ -946,21 +948,96 @@ public class ApplicationImpl extends ComponentManagerImpl implements Application
     }
     else {
       assertReadActionAllowed();
-      try {
-        myLock.readLock().lockInterruptibly();
-      }
-      catch (InterruptedException e) {
-        throw new RuntimeInterruptedException(e);
-      }
+      long acquireTime = acquireReadLock(computation.getClass());
       try {
         return computation.compute();
       }
       finally {
-        myLock.readLock().unlock();
+        releaseReadLock(computation.getClass(), acquireTime);
       }
     }
   }
 
+  private long acquireReadLock(@Nullable Class action) {
+    long waitStart = myLockTracker.beforeAcquire(LockContentionTracker.LockKind.READ, action);
+    try {
+      myLock.readLock().lockInterruptibly();
+    }
+    catch (InterruptedException e) {
+      myLockTracker.acquireFailed(waitStart);
+      throw new RuntimeInterruptedException(e);
+    }
+    return myLockTracker.acquired(LockContentionTracker.LockKind.READ, action, waitStart);
+  }
+
+  private void releaseReadLock(@Nullable Class action, long acquireTime) {
+    myLock.readLock().unlock();
+    myLockTracker.released(LockContentionTracker.LockKind.READ, action, acquireTime);
+  }
+
+  /**
+   * @return read/write lock instrumentation; disabled unless <code>-Didea.lock.contention.tracking=true</code> is set
+   */
+  @NotNull
+  public LockContentionTracker getLockContentionTracker() {
+    return myLockTracker;
+  }
+
+  @Override
+  public boolean tryRunReadActionWithWriteActionPriority(@NotNull final Runnable action) {
+    if (isReadAccessAllowed()) {
+      action.run();
+      return true;
+    }
+    if (myWriteActionPending) return false;
+
+    // the read should stop when the process it's run from is cancelled, too
+    final ProgressIndicator outerIndicator = ProgressManager.getInstance().getProgressIndicator();
+    final ProgressIndicator indicator = new EmptyProgressIndicator() {
+      @Override
+      public boolean isCanceled() {
+        return super.isCanceled() || outerIndicator != null && outerIndicator.isCanceled();
+      }
+
+      @Override
+      public void checkCanceled() {
+        if (isCanceled()) {
+          throw new ProcessCanceledException();
+        }
+      }
+    };
+    myWriteActionPriorityReads.add(indicator);
+    try {
+      // write action might have started waiting between the check above and the registration
+      if (myWriteActionPending) return false;
+      final boolean[] completed = {false};
+      ProgressManager.getInstance().runProcess(new Runnable() {
+        @Override
+        public void run() {
+          try {
+            runReadAction(action);
+            completed[0] = true;
+          }
+          catch (ProcessCanceledException ignored) {
+          }
+        }
+      }, indicator);
+      if (outerIndicator != null) {
+        outerIndicator.checkCanceled();
+      }
+      return completed[0] && !indicator.isCanceled();
+    }
+    finally {
+      myWriteActionPriorityReads.remove(indicator);
+    }
+  }
+
+  private void cancelWriteActionPriorityReads() {
+    for (ProgressIndicator indicator : myWriteActionPriorityReads) {
+      indicator.cancel();
+    }
+  }
+
   private static final ThreadLocal<Boolean> exceptionalThreadWithReadAccessFlag = new ThreadLocal<Boolean>();
 
   private static boolean isExceptionalThreadWithReadAccess() {
@@ -1140,15 +1217,22 @@ public class ApplicationImpl extends ComponentManagerImpl implements Application
      //if we are inside read action, do not try to acquire read lock again since it will deadlock if there is a pending writeAction
     boolean mustAcquire = !isReadAccessAllowed();
 
+    long acquireTime = 0;
     if (mustAcquire) {
       LOG.assertTrue(myTestModeFlag || !Thread.holdsLock(PsiLock.LOCK), "Thread must not hold PsiLock while performing readAction");
+      long waitStart = myLockTracker.beforeAcquire(LockContentionTracker.LockKind.READ, action.getClass());
       try {
         // timed version of tryLock() respects fairness unlike the no-args method
-        if (!myLock.readLock().tryLock(0, TimeUnit.MILLISECONDS)) return false;
+        if (!myLock.readLock().tryLock(0, TimeUnit.MILLISECONDS)) {
+          myLockTracker.acquireFailed(waitStart);
+          return false;
+        }
       }
       catch (InterruptedException e) {
+        myLockTracker.acquireFailed(waitStart);
         throw new RuntimeInterruptedException(e);
       }
+      acquireTime = myLockTracker.acquired(LockContentionTracker.LockKind.READ, action.getClass(), waitStart);
     }
 
     try {
@@ -1156,7 +1240,7 @@ public class ApplicationImpl extends ComponentManagerImpl implements Application
     }
     finally {
       if (mustAcquire) {
-        myLock.readLock().unlock();
+        releaseReadLock(action.getClass(), acquireTime);
       }
     }
     return true;
@@ -1211,6 +1295,7 @@ public class ApplicationImpl extends ComponentManagerImpl implements Application
 
   private class WriteAccessToken extends AccessToken {
     private final Class clazz;
+    private final long myAcquireTime;
 
     public WriteAccessToken(Class _clazz) {
       clazz = _clazz;
@@ -1221,8 +1306,11 @@ public class ApplicationImpl extends ComponentManagerImpl implements Application
       final AtomicBoolean stopped = new AtomicBoolean(false);
 
       LOG.assertTrue(isWriteAccessAllowed() || !Thread.holdsLock(PsiLock.LOCK), "Thread must not hold PsiLock while performing writeAction");
+      long waitStart = myLockTracker.beforeAcquire(LockContentionTracker.LockKind.WRITE, _clazz);
       try {
         if (!myLock.writeLock().tryLock()) {
+          myWriteActionPending = true;
+          cancelWriteActionPriorityReads();
           if (ourDumpThreadsOnLongWriteActionWaiting > 0) {
             executeOnPooledThread(new Runnable() {
               @Override
@@ -1245,8 +1333,13 @@ public class ApplicationImpl extends ComponentManagerImpl implements Application
         acquired();
       }
       catch (InterruptedException e) {
+        myLockTracker.acquireFailed(waitStart);
         throw new RuntimeInterruptedException(e);
       }
+      finally {
+        myWriteActionPending = false;
+      }
+      myAcquireTime = myLockTracker.acquired(LockContentionTracker.LockKind.WRITE, _clazz, waitStart);
       stopped.set(true);
 
       myWriteActionsStack.push(_clazz);
@@ -1263,6 +1356,7 @@ public class ApplicationImpl extends ComponentManagerImpl implements Application
       }
       finally {
         myLock.writeLock().unlock();
+        myLockTracker.released(LockContentionTracker.LockKind.WRITE, clazz, myAcquireTime);
         released();
       }
     }
@@ -1307,20 +1401,17 @@ public class ApplicationImpl extends ComponentManagerImpl implements Application
   }
 
   private class ReadAccessToken extends AccessToken {
+    private final long myAcquireTime;
+
     private ReadAccessToken() {
       assertReadActionAllowed();
-      try {
-        myLock.readLock().lockInterruptibly();
-        acquired();
-      }
-      catch (InterruptedException e) {
-        throw new RuntimeInterruptedException(e);
-      }
+      myAcquireTime = acquireReadLock(null);
+      acquired();
     }
 
     @Override
     public void finish() {
-      myLock.readLock().unlock();
+      releaseReadLock(null, myAcquireTime);
       released();
     }
   }
@@ -0,0 +1,227 @@
+/*
+ * Copyright 2000-2012 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.intellij.openapi.application.impl;
+
+import com.intellij.util.ConcurrencyUtil;
+import org.jetbrains.annotations.NonNls;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records who holds and who waits for the application read/write lock, and for how long.
+ * <p/>
+ * Disabled by default; enable with <code>-Didea.lock.contention.tracking=true</code> or {@link #setEnabled(boolean)}.
+ * When disabled, the tracking methods cost a volatile read.
+ */
+public class LockContentionTracker {
+  public enum LockKind {READ, WRITE}
+
+  private volatile boolean myEnabled = "true".equals(System.getProperty("idea.lock.contention.tracking"));
+
+  private final ConcurrentMap<Thread, LockEvent> myHolders = new ConcurrentHashMap<Thread, LockEvent>();
+  private final ConcurrentMap<Thread, LockEvent> myWaiters = new ConcurrentHashMap<Thread, LockEvent>();
+  private final ConcurrentMap<String, Counter> myCounters = new ConcurrentHashMap<String, Counter>();
+
+  public boolean isEnabled() {
+    return myEnabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    myEnabled = enabled;
+    if (!enabled) {
+      myHolders.clear();
+      myWaiters.clear();
+    }
+  }
+
+  public void reset() {
+    myCounters.clear();
+  }
+
+  /**
+   * @return time stamp to be passed to {@link #acquired}, or 0 if tracking is disabled
+   */
+  long beforeAcquire(@NotNull LockKind kind, @Nullable Class action) {
+    if (!myEnabled) return 0;
+    long now = System.nanoTime();
+    myWaiters.put(Thread.currentThread(), new LockEvent(kind, action, now));
+    return now;
+  }
+
+  /**
+   * @return time stamp to be passed to {@link #released}, or 0 if tracking is disabled
+   */
+  long acquired(@NotNull LockKind kind, @Nullable Class action, long waitStart) {
+    if (waitStart == 0) return 0;
+    Thread thread = Thread.currentThread();
+    myWaiters.remove(thread);
+    long now = System.nanoTime();
+    getCounter(kind, action).waited(now - waitStart);
+    myHolders.put(thread, new LockEvent(kind, action, now));
+    return now;
+  }
+
+  void acquireFailed(long waitStart) {
+    if (waitStart == 0) return;
+    myWaiters.remove(Thread.currentThread());
+  }
+
+  void released(@NotNull LockKind kind, @Nullable Class action, long acquireTime) {
+    if (acquireTime == 0) return;
+    myHolders.remove(Thread.currentThread());
+    getCounter(kind, action).held(System.nanoTime() - acquireTime);
+  }
+
+  private Counter getCounter(LockKind kind, Class action) {
+    String key = kind + " " + (action == null ? "<unknown>" : action.getName());
+    Counter counter = myCounters.get(key);
+    if (counter == null) {
+      counter = ConcurrencyUtil.cacheOrGet(myCounters, key, new Counter(key));
+    }
+    return counter;
+  }
+
+  /**
+   * @return    per-action lock statistics, sorted by total time the lock was held
+   */
+  @NotNull
+  public List<Counter> getCounters() {
+    List<Counter> result = new ArrayList<Counter>(myCounters.values());
+    Collections.sort(result, new Comparator<Counter>() {
+      @Override
+      public int compare(Counter o1, Counter o2) {
+        long t1 = o1.getTotalHeldNanos();
+        long t2 = o2.getTotalHeldNanos();
+        return t1 < t2 ? 1 : t1 == t2 ? 0 : -1;
+      }
+    });
+    return result;
+  }
+
+  /**
+   * @return    current lock holders and waiters with their stack traces, followed by per-action statistics
+   */
+  @NonNls
+  @NotNull
+  public String dump() {
+    StringBuilder builder = new StringBuilder();
+    long now = System.nanoTime();
+    builder.append("Holders:\n");
+    dumpThreads(builder, myHolders, now);
+    builder.append("Waiters:\n");
+    dumpThreads(builder, myWaiters, now);
+    builder.append("Statistics:\n");
+    for (Counter counter : getCounters()) {
+      builder.append("  ").append(counter).append('\n');
+    }
+    return builder.toString();
+  }
+
+  private static void dumpThreads(StringBuilder builder, Map<Thread, LockEvent> events, long now) {
+    for (Map.Entry<Thread, LockEvent> entry : events.entrySet()) {
+      Thread thread = entry.getKey();
+      LockEvent event = entry.getValue();
+      builder.append("  ").append(thread.getName()).append(": ").append(event.kind)
+        .append(" for ").append((now - event.timeStamp) / 1000000).append("ms");
+      if (event.action != null) builder.append(" (").append(event.action.getName()).append(')');
+      builder.append('\n');
+      for (StackTraceElement element : thread.getStackTrace()) {
+        builder.append("    at ").append(element).append('\n');
+      }
+    }
+  }
+
+  private static class LockEvent {
+    private final LockKind kind;
+    private final Class action;
+    private final long timeStamp;
+
+    private LockEvent(LockKind kind, Class action, long timeStamp) {
+      this.kind = kind;
+      this.action = action;
+      this.timeStamp = timeStamp;
+    }
+  }
+
+  public static class Counter {
+    private final String myKey;
+    private final AtomicLong myCount = new AtomicLong();
+    private final AtomicLong myTotalWaitNanos = new AtomicLong();
+    private final AtomicLong myMaxWaitNanos = new AtomicLong();
+    private final AtomicLong myTotalHeldNanos = new AtomicLong();
+    private final AtomicLong myMaxHeldNanos = new AtomicLong();
+
+    private Counter(@NotNull String key) {
+      myKey = key;
+    }
+
+    private void waited(long nanos) {
+      myCount.incrementAndGet();
+      myTotalWaitNanos.addAndGet(nanos);
+      updateMax(myMaxWaitNanos, nanos);
+    }
+
+    private void held(long nanos) {
+      myTotalHeldNanos.addAndGet(nanos);
+      updateMax(myMaxHeldNanos, nanos);
+    }
+
+    private static void updateMax(AtomicLong max, long value) {
+      long current;
+      do {
+        current = max.get();
+      }
+      while (value > current && !max.compareAndSet(current, value));
+    }
+
+    @NotNull
+    public String getKey() {
+      return myKey;
+    }
+
+    public long getCount() {
+      return myCount.get();
+    }
+
+    public long getTotalWaitNanos() {
+      return myTotalWaitNanos.get();
+    }
+
+    public long getMaxWaitNanos() {
+      return myMaxWaitNanos.get();
+    }
+
+    public long getTotalHeldNanos() {
+      return myTotalHeldNanos.get();
+    }
+
+    public long getMaxHeldNanos() {
+      return myMaxHeldNanos.get();
+    }
+
+    @NonNls
+    public String toString() {
+      return myKey + ": " + getCount() + " times" +
+             ", waited " + getTotalWaitNanos() / 1000000 + "ms (max " + getMaxWaitNanos() / 1000000 + "ms)" +
+             ", held " + getTotalHeldNanos() / 1000000 + "ms (max " + getMaxHeldNanos() / 1000000 + "ms)";
+    }
+  }
+}
@@ -19,6 +19,8 @@ import com.intellij.openapi.Disposable;
 import com.intellij.openapi.application.Application;
 import com.intellij.openapi.application.ApplicationAdapter;
 import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ex.ApplicationEx;
+import com.intellij.openapi.progress.ProcessCanceledException;
 import com.intellij.openapi.progress.ProgressIndicator;
 import com.intellij.openapi.progress.ProgressManager;
 import org.jetbrains.annotations.NotNull;
@@ -41,7 +43,18 @@ public class ProgressIndicatorUtils {
     return progress;
   }
 
-  public static void runWithWriteActionPriority(final Runnable action) {
+  /**
+   * Runs the action in a read action which is cancelled as soon as a write action is about to start.
+   *
+   * @return true if the action has completed, false if it was cancelled or not started because of a write action
+   * @see ApplicationEx#tryRunReadActionWithWriteActionPriority(Runnable)
+   */
+  public static boolean runWithWriteActionPriority(final Runnable action) {
+    final Application application = ApplicationManager.getApplication();
+    if (application instanceof ApplicationEx) {
+      return ((ApplicationEx)application).tryRunReadActionWithWriteActionPriority(action);
+    }
+
     final ProgressIndicator progressIndicator = new ProgressIndicatorBase();
     final ApplicationAdapter listener = new ApplicationAdapter() {
       @Override
@@ -49,7 +62,6 @@ public class ProgressIndicatorUtils {
         progressIndicator.cancel();
       }
     };
-    final Application application = ApplicationManager.getApplication();
     try {
       application.addApplicationListener(listener);
       ProgressManager.getInstance().runProcess(new Runnable(){
@@ -60,6 +72,10 @@ public class ProgressIndicatorUtils {
             application.runReadAction(action);
           }
         }, progressIndicator);
+      return true;
+    }
+    catch (ProcessCanceledException e) {
+      return false;
     }
     finally {
       application.removeApplicationListener(listener);
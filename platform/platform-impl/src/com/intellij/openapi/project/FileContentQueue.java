@@ -21,16 +21,20 @@ import com.intellij.openapi.diagnostic.Logger;
 import com.intellij.openapi.progress.ProcessCanceledException;
 import com.intellij.openapi.progress.ProgressIndicator;
 import com.intellij.openapi.vfs.InvalidVirtualFileAccessException;
+import com.intellij.openapi.vfs.JarFile;
+import com.intellij.openapi.vfs.JarFileSystem;
 import com.intellij.openapi.vfs.VirtualFile;
+import gnu.trove.TObjectIntHashMap;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
-import java.util.ArrayDeque;
-import java.util.Collection;
-import java.util.Queue;
+import java.util.*;
 import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
 * @author peter
@@ -41,6 +45,7 @@ public class FileContentQueue {
   private static final long SIZE_THRESHOLD = 1024*1024;
   private static final long TAKEN_FILES_THRESHOLD = 1024*1024*3;
   private static final long LARGE_SIZE_REQUEST_THRESHOLD = TAKEN_FILES_THRESHOLD - 1024 * 300; // 300k for other threads
+  private static final int LOADING_THREADS_COUNT = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
 
   private long myTotalSize;
   private long myTakenSize;
@@ -51,37 +56,132 @@ public class FileContentQueue {
   private volatile boolean myContentLoadingThreadTerminated = false;
 
   public void queue(final Collection<VirtualFile> files, @NotNull final ProgressIndicator indicator) {
-    final Runnable contentLoadingRunnable = new Runnable() {
-      public void run() {
-        try {
-          for (VirtualFile file : files) {
-            if (indicator != null) {
-              indicator.checkCanceled();
-            }
-            addLast(file, indicator);
-          }
+    final List<VirtualFile> otherFiles = new ArrayList<VirtualFile>();
+    final Queue<List<VirtualFile>> jars = new ConcurrentLinkedQueue<List<VirtualFile>>(groupByJar(files, otherFiles, indicator));
+    final int loadersCount = Math.max(1, Math.min(LOADING_THREADS_COUNT, jars.size()));
+    final AtomicInteger runningLoaders = new AtomicInteger(loadersCount);
+    final AtomicBoolean canceled = new AtomicBoolean();
 
-          // put end-of-queue marker only if not canceled
+    for (int i = 0; i < loadersCount; i++) {
+      final boolean loadOtherFiles = i == 0;
+      final Runnable contentLoadingRunnable = new Runnable() {
+        public void run() {
+          boolean finished = false;
           try {
-            myQueue.put(new FileContent(null));
+            if (loadOtherFiles) {
+              loadAll(otherFiles, indicator);
+            }
+            List<VirtualFile> jarEntries;
+            while ((jarEntries = jars.poll()) != null) {
+              if (jarEntries.size() > 1) {
+                sortInJarOrder(jarEntries, indicator);
+              }
+              loadAll(jarEntries, indicator);
+            }
+            finished = true;
+          }
+          catch (ProcessCanceledException e) {
+            // Do nothing, exit the thread.
           }
           catch (InterruptedException e) {
             LOG.error(e);
           }
+          finally {
+            if (!finished) {
+              canceled.set(true);
+            }
+            if (runningLoaders.decrementAndGet() == 0) {
+              // put end-of-queue marker only if not canceled
+              if (!canceled.get()) {
+                try {
+                  myQueue.put(new FileContent(null));
+                }
+                catch (InterruptedException e) {
+                  LOG.error(e);
+                }
+              }
+              myContentLoadingThreadTerminated = true;
+            }
+          }
         }
-        catch (ProcessCanceledException e) {
-          // Do nothing, exit the thread.
-        }
-        catch (InterruptedException e) {
-          LOG.error(e);
-        }
-        finally {
-          myContentLoadingThreadTerminated = true;
+      };
+
+      ApplicationManager.getApplication().executeOnPooledThread(contentLoadingRunnable);
+    }
+  }
+
+  private void loadAll(List<VirtualFile> files, @NotNull ProgressIndicator indicator) throws InterruptedException {
+    for (VirtualFile file : files) {
+      indicator.checkCanceled();
+      addLast(file, indicator);
+    }
+  }
+
+  /**
+   * Library jars usually make the most of files to be indexed. Random access to a jar entry means seeking to the entry and
+   * inflating it, so entries of every jar are loaded in the order they're stored in the jar, in a single pass.
+   * Different jars are loaded in parallel, since inflating takes noticeable CPU time.
+   * <p/>
+   * Grouping doesn't open the jars: reading the jar directories to sort the entries is left to the loader threads,
+   * see {@link #sortInJarOrder(List, ProgressIndicator)}.
+   *
+   * @param otherFiles gets files which don't belong to jars
+   * @return entries of every jar
+   */
+  private static Collection<List<VirtualFile>> groupByJar(Collection<VirtualFile> files,
+                                                          List<VirtualFile> otherFiles,
+                                                          @NotNull ProgressIndicator indicator) {
+    final JarFileSystem jarFileSystem = JarFileSystem.getInstance();
+    final Map<VirtualFile, List<VirtualFile>> byJar = new LinkedHashMap<VirtualFile, List<VirtualFile>>();
+    for (VirtualFile file : files) {
+      indicator.checkCanceled();
+      final VirtualFile jar = file.getFileSystem() == jarFileSystem ? jarFileSystem.getVirtualFileForJar(file) : null;
+      if (jar == null) {
+        otherFiles.add(file);
+        continue;
+      }
+      List<VirtualFile> entries = byJar.get(jar);
+      if (entries == null) {
+        entries = new ArrayList<VirtualFile>();
+        byJar.put(jar, entries);
+      }
+      entries.add(file);
+    }
+    return byJar.values();
+  }
+
+  private static void sortInJarOrder(List<VirtualFile> entries, @NotNull ProgressIndicator indicator) {
+    final TObjectIntHashMap<String> positions = new TObjectIntHashMap<String>();
+    try {
+      final JarFile jarFile = JarFileSystem.getInstance().getJarFile(entries.get(0));
+      if (jarFile == null) return;
+      int position = 0;
+      for (Enumeration<? extends JarFile.JarEntry> e = jarFile.entries(); e.hasMoreElements(); ) {
+        if ((position & 0xFF) == 0) {
+          indicator.checkCanceled();
         }
+        positions.put(e.nextElement().getName(), position++);
       }
-    };
+    }
+    catch (IOException e) {
+      LOG.info(e);
+      return;
+    }
 
-    ApplicationManager.getApplication().executeOnPooledThread(contentLoadingRunnable);
+    final TObjectIntHashMap<VirtualFile> filePositions = new TObjectIntHashMap<VirtualFile>(entries.size());
+    for (VirtualFile file : entries) {
+      final String path = file.getPath();
+      final int separator = path.indexOf(JarFileSystem.JAR_SEPARATOR);
+      final String entryName = separator >= 0 ? path.substring(separator + JarFileSystem.JAR_SEPARATOR.length()) : path;
+      filePositions.put(file, positions.containsKey(entryName) ? positions.get(entryName) : Integer.MAX_VALUE);
+    }
+    Collections.sort(entries, new Comparator<VirtualFile>() {
+      public int compare(VirtualFile o1, VirtualFile o2) {
+        final int p1 = filePositions.get(o1);
+        final int p2 = filePositions.get(o2);
+        return p1 < p2 ? -1 : p1 == p2 ? 0 : 1;
+      }
+    });
   }
 
   private void addLast(VirtualFile file, @NotNull final ProgressIndicator indicator) throws InterruptedException {
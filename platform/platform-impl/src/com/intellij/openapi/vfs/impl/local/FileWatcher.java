@@ -70,9 +70,10 @@ public class FileWatcher {
 
   private final Object myLock = new Object();
 
-  private List<String> myDirtyPaths = newArrayList();
-  private List<String> myDirtyRecursivePaths = newArrayList();
-  private List<String> myDirtyDirs = newArrayList();
+  // sets, since a VCS operation reports the same directory for every file created or deleted in it
+  private Set<String> myDirtyPaths = newTroveSet(FileUtil.PATH_HASHING_STRATEGY);
+  private Set<String> myDirtyRecursivePaths = newTroveSet(FileUtil.PATH_HASHING_STRATEGY);
+  private Set<String> myDirtyDirs = newTroveSet(FileUtil.PATH_HASHING_STRATEGY);
   private List<String> myManualWatchRoots = newArrayList();
   private List<String> myRecursiveWatchRoots = newArrayList();
   private List<String> myFlatWatchRoots = newArrayList();
@@ -236,14 +237,55 @@ public class FileWatcher {
     }
   }
 
+  /**
+   * Returns paths reported since the previous call, coalesced: every path is reported once,
+   * and paths under a recursively dirty directory are dropped, since marking the directory covers them.
+   */
   public DirtyPaths getDirtyPaths() {
+    final Set<String> paths;
+    final Set<String> recursivePaths;
+    final Set<String> dirs;
     synchronized (myLock) {
-      final DirtyPaths dirtyPaths = new DirtyPaths(myDirtyPaths, myDirtyRecursivePaths, myDirtyDirs);
-      myDirtyPaths = new ArrayList<String>();
-      myDirtyRecursivePaths = new ArrayList<String>();
-      myDirtyDirs = new ArrayList<String>();
-      return dirtyPaths;
+      paths = myDirtyPaths;
+      recursivePaths = myDirtyRecursivePaths;
+      dirs = myDirtyDirs;
+      myDirtyPaths = newTroveSet(FileUtil.PATH_HASHING_STRATEGY);
+      myDirtyRecursivePaths = newTroveSet(FileUtil.PATH_HASHING_STRATEGY);
+      myDirtyDirs = newTroveSet(FileUtil.PATH_HASHING_STRATEGY);
+    }
+
+    final List<String> recursive = newArrayListWithExpectedSize(recursivePaths.size());
+    for (String path : recursivePaths) {
+      if (!isUnder(getParentPath(path), recursivePaths)) {
+        recursive.add(path);
+      }
+    }
+    return new DirtyPaths(notUnder(paths, recursivePaths), recursive, notUnder(dirs, recursivePaths));
+  }
+
+  private static List<String> notUnder(Set<String> paths, Set<String> roots) {
+    if (roots.isEmpty()) return newArrayList(paths);
+    final List<String> result = newArrayListWithExpectedSize(paths.size());
+    for (String path : paths) {
+      if (!isUnder(path, roots)) {
+        result.add(path);
+      }
+    }
+    return result;
+  }
+
+  private static boolean isUnder(@Nullable String path, Set<String> roots) {
+    while (path != null) {
+      if (roots.contains(path)) return true;
+      path = getParentPath(path);
     }
+    return false;
+  }
+
+  @Nullable
+  private static String getParentPath(String path) {
+    final int index = path.lastIndexOf(File.separatorChar);
+    return index > 0 ? path.substring(0, index) : null;
   }
 
   public List<String> getManualWatchRoots() {
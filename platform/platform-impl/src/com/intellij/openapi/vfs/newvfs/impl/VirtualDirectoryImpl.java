@@ -522,6 +522,19 @@ public class VirtualDirectoryImpl extends VirtualFileSystemEntry {
     }
   }
 
+  public synchronized void addChildren(@NotNull Collection<VirtualFileSystemEntry> files) {
+    final VirtualFileSystemEntry[] a = asArray();
+    if (a != null) {
+      myChildren = ArrayUtil.mergeArrays(a, files.toArray(new VirtualFileSystemEntry[files.size()]));
+    }
+    else {
+      final Map<String, VirtualFileSystemEntry> map = ensureAsMap();
+      for (VirtualFileSystemEntry file : files) {
+        map.put(file.getName(), file);
+      }
+    }
+  }
+
   public synchronized void removeChild(@NotNull VirtualFile file) {
     final VirtualFileSystemEntry[] a = asArray();
     if (a != null) {
@@ -36,6 +36,7 @@ import com.intellij.util.containers.StripedLockIntObjectConcurrentHashMap;
 import com.intellij.util.io.ReplicatorInputStream;
 import com.intellij.util.messages.MessageBus;
 import gnu.trove.THashMap;
+import gnu.trove.THashSet;
 import gnu.trove.TIntArrayList;
 import gnu.trove.TIntHashSet;
 import gnu.trove.TIntObjectHashMap;
@@ -698,15 +699,13 @@ public class PersistentFSImpl extends PersistentFS implements ApplicationCompone
     ContainerUtil.quickSort(deletionEvents, DEPTH_COMPARATOR);
 
     final TIntHashSet invalidIDs = new TIntHashSet(deletionEvents.size());
-    final List<VirtualFile> dirsToBeDeleted = new ArrayList<VirtualFile>();
-    nextEvent:
+    // looking up ancestors rather than checking every directory keeps this linear for mass deletions
+    final Set<VirtualFile> dirsToBeDeleted = new THashSet<VirtualFile>();
     for (EventWrapper wrapper : deletionEvents) {
       final VirtualFile candidate = wrapper.event.getFile();
-      for (VirtualFile file : dirsToBeDeleted) {
-        if (VfsUtilCore.isAncestor(file, candidate, false)) {
-          invalidIDs.add(wrapper.id);
-          continue nextEvent;
-        }
+      if (hasAncestorIn(candidate, dirsToBeDeleted)) {
+        invalidIDs.add(wrapper.id);
+        continue;
       }
 
       if (candidate.isDirectory()) {
@@ -724,6 +723,14 @@ public class PersistentFSImpl extends PersistentFS implements ApplicationCompone
     return filtered;
   }
 
+  private static boolean hasAncestorIn(@NotNull VirtualFile file, @NotNull Set<VirtualFile> dirs) {
+    if (dirs.isEmpty()) return false;
+    for (VirtualFile parent = file.getParent(); parent != null; parent = parent.getParent()) {
+      if (dirs.contains(parent)) return true;
+    }
+    return false;
+  }
+
   @Override
   public void processEvents(@NotNull List<? extends VFileEvent> events) {
     ApplicationManager.getApplication().assertWriteAccessAllowed();
@@ -732,12 +739,73 @@ public class PersistentFSImpl extends PersistentFS implements ApplicationCompone
 
     BulkFileListener publisher = myEventsBus.syncPublisher(VirtualFileManager.VFS_CHANGES);
     publisher.before(events);
-    for (VFileEvent event : events) {
-      applyEvent(event);
+    for (int i = 0, size = events.size(); i < size; ) {
+      final int end = findCreationsEnd(events, i);
+      if (end - i > 1) {
+        applyCreations(events.subList(i, end));
+        i = end;
+      }
+      else {
+        applyEvent(events.get(i++));
+      }
     }
     publisher.after(events);
   }
 
+  /**
+   * @return the end of a run of creation events in the same directory starting at the given index
+   */
+  private static int findCreationsEnd(@NotNull List<? extends VFileEvent> events, int start) {
+    final VFileEvent first = events.get(start);
+    if (!(first instanceof VFileCreateEvent)) return start + 1;
+    final VirtualFile parent = ((VFileCreateEvent)first).getParent();
+    int end = start + 1;
+    while (end < events.size() &&
+           events.get(end) instanceof VFileCreateEvent &&
+           parent.equals(((VFileCreateEvent)events.get(end)).getParent())) {
+      end++;
+    }
+    return end;
+  }
+
+  /**
+   * Does the same as {@link #applyEvent(VFileEvent)} for every event, but updates the children list of the directory
+   * in the records and in memory once, rather than rewriting it for every created file.
+   */
+  private static void applyCreations(@NotNull List<? extends VFileEvent> events) {
+    final VirtualFile parent = ((VFileCreateEvent)events.get(0)).getParent();
+    assert parent instanceof VirtualDirectoryImpl : parent;
+    final VirtualDirectoryImpl dir = (VirtualDirectoryImpl)parent;
+    final NewVirtualFileSystem delegate = getDelegate(parent);
+    final int parentId = getFileId(parent);
+
+    final TIntArrayList childrenIds = new TIntArrayList(events.size());
+    final List<VirtualFileSystemEntry> children = new ArrayList<VirtualFileSystemEntry>(events.size());
+    final Set<String> names = new THashSet<String>(events.size());
+    for (VFileEvent event : events) {
+      try {
+        final String name = ((VFileCreateEvent)event).getChildName();
+        if (!names.add(name)) continue;
+        final VirtualFile fake = new FakeVirtualFile(parent, name);
+        final FileAttributes attributes = delegate.getAttributes(fake);
+        if (attributes != null) {
+          final int childId = createAndFillRecord(delegate, fake, parentId, attributes);
+          childrenIds.add(childId);
+          children.add(dir.createChild(name, childId));
+        }
+      }
+      catch (Exception e) {
+        // Exception applying single event should not prevent other events from applying.
+        LOG.error(e);
+      }
+    }
+
+    if (!childrenIds.isEmpty()) {
+      FSRecords.updateList(parentId, ArrayUtil.mergeArrays(FSRecords.list(parentId), childrenIds.toNativeArray()));
+      dir.addChildren(children);
+    }
+  }
+
   @Override
   @Nullable
   public VirtualFileSystemEntry findRoot(@NotNull String basePath, @NotNull NewVirtualFileSystem fs) {
@@ -15,12 +15,15 @@
  */
 package com.intellij.openapi.vfs.newvfs.persistent;
 
+import com.intellij.openapi.application.Application;
+import com.intellij.openapi.application.ApplicationManager;
 import com.intellij.openapi.diagnostic.Logger;
 import com.intellij.openapi.util.Comparing;
 import com.intellij.openapi.util.io.FileAttributes;
 import com.intellij.openapi.util.io.FileUtil;
 import com.intellij.openapi.vfs.VfsUtil;
 import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.impl.local.LocalFileSystemImpl;
 import com.intellij.openapi.vfs.newvfs.NewVirtualFile;
 import com.intellij.openapi.vfs.newvfs.NewVirtualFileSystem;
 import com.intellij.openapi.vfs.newvfs.events.*;
@@ -31,10 +34,9 @@ import com.intellij.util.containers.Queue;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import static com.intellij.openapi.diagnostic.LogUtil.debug;
 import static com.intellij.util.containers.ContainerUtil.newHashSet;
@@ -44,6 +46,8 @@ import static com.intellij.util.containers.ContainerUtil.newHashSet;
  */
 public class RefreshWorker {
   private static final Logger LOG = Logger.getInstance("#com.intellij.openapi.vfs.newvfs.persistent.RefreshWorker");
+  private static final int STAT_THREADS = Math.min(4, Runtime.getRuntime().availableProcessors());
+  private static final int MIN_FILES_PER_STAT_THREAD = 256;
 
   private final boolean myIsRecursive;
   private final Queue<VirtualFile> myRefreshQueue = new Queue<VirtualFile>(100);
@@ -113,8 +117,20 @@ public class RefreshWorker {
             scheduleDeletion(file.findChild(name));
           }
 
+          final VirtualFile[] children = file.getChildren();
+          final List<VirtualFile> toStat = new ArrayList<VirtualFile>(newNames.size() + children.length);
           for (String name : newNames) {
-            final FileAttributes childAttributes = fs.getAttributes(new FakeVirtualFile(file, name));
+            toStat.add(new FakeVirtualFile(file, name));
+          }
+          for (VirtualFile child : children) {
+            if (!deletedNames.contains(child.getName())) {
+              toStat.add(child);
+            }
+          }
+          final Map<String, FileAttributes> childrenAttributes = getAttributes(fs, toStat);
+
+          for (String name : newNames) {
+            final FileAttributes childAttributes = childrenAttributes.get(name);
             if (childAttributes != null) {
               scheduleCreation(file, name, childAttributes.isDirectory());
             }
@@ -123,9 +139,9 @@ public class RefreshWorker {
             }
           }
 
-          for (VirtualFile child : file.getChildren()) {
+          for (VirtualFile child : children) {
             if (!deletedNames.contains(child.getName())) {
-              final FileAttributes childAttributes = fs.getAttributes(child);
+              final FileAttributes childAttributes = childrenAttributes.get(child.getName());
               if (childAttributes != null) {
                 checkAndScheduleChildRefresh(file, child, childAttributes);
               }
@@ -139,8 +155,20 @@ public class RefreshWorker {
         else {
           final Collection<VirtualFile> cachedChildren = file.getCachedChildren();
           debug(LOG, "cached=%s", cachedChildren);
+          final List<String> names = dir.getSuspiciousNames();
+          debug(LOG, "suspicious=%s", names);
+
+          final List<VirtualFile> toStat = new ArrayList<VirtualFile>(cachedChildren.size() + names.size());
+          toStat.addAll(cachedChildren);
+          for (String name : names) {
+            if (!name.isEmpty()) {
+              toStat.add(new FakeVirtualFile(file, name));
+            }
+          }
+          final Map<String, FileAttributes> childrenAttributes = getAttributes(fs, toStat);
+
           for (VirtualFile child : cachedChildren) {
-            final FileAttributes childAttributes = fs.getAttributes(child);
+            final FileAttributes childAttributes = childrenAttributes.get(child.getName());
             if (childAttributes != null) {
               checkAndScheduleChildRefresh(file, child, childAttributes);
             }
@@ -149,13 +177,10 @@ public class RefreshWorker {
             }
           }
 
-          final List<String> names = dir.getSuspiciousNames();
-          debug(LOG, "suspicious=%s", names);
           for (String name : names) {
             if (name.isEmpty()) continue;
 
-            final VirtualFile fake = new FakeVirtualFile(file, name);
-            final FileAttributes childAttributes = fs.getAttributes(fake);
+            final FileAttributes childAttributes = childrenAttributes.get(name);
             if (childAttributes != null) {
               scheduleCreation(file, name, childAttributes.isDirectory());
             }
@@ -188,6 +213,54 @@ public class RefreshWorker {
     debug(LOG, "root=%s time=%d", root, System.currentTimeMillis() - t);
   }
 
+  /**
+   * Stats the given children of a directory, in parallel for local directories with many children,
+   * e.g. after a VCS branch switch. Attributes of missing files are mapped to null.
+   * Win32LocalFileSystem isn't used in parallel: it gets attributes from a cached directory listing anyway.
+   */
+  @NotNull
+  private static Map<String, FileAttributes> getAttributes(@NotNull final NewVirtualFileSystem fs, @NotNull final List<VirtualFile> files) {
+    final Map<String, FileAttributes> result = new HashMap<String, FileAttributes>(files.size());
+    final int chunks = Math.min(STAT_THREADS, files.size() / MIN_FILES_PER_STAT_THREAD);
+    final Application application = ApplicationManager.getApplication();
+    if (chunks < 2 || !(fs instanceof LocalFileSystemImpl) || application == null) {
+      for (VirtualFile file : files) {
+        result.put(file.getName(), fs.getAttributes(file));
+      }
+      return result;
+    }
+
+    final FileAttributes[] attributes = new FileAttributes[files.size()];
+    final List<Future<?>> futures = new ArrayList<Future<?>>(chunks);
+    for (int i = 0; i < chunks; i++) {
+      final int chunk = i;
+      futures.add(application.executeOnPooledThread(new Runnable() {
+        @Override
+        public void run() {
+          for (int j = chunk; j < attributes.length; j += chunks) {
+            attributes[j] = fs.getAttributes(files.get(j));
+          }
+        }
+      }));
+    }
+    for (Future<?> future : futures) {
+      try {
+        future.get();
+      }
+      catch (InterruptedException e) {
+        throw new RuntimeException(e);
+      }
+      catch (ExecutionException e) {
+        throw new RuntimeException(e.getCause());
+      }
+    }
+
+    for (int i = 0; i < attributes.length; i++) {
+      result.put(files.get(i).getName(), attributes[i]);
+    }
+    return result;
+  }
+
   private void checkAndScheduleChildRefresh(@NotNull VirtualFileSystemEntry parent,
                                             @NotNull VirtualFile child,
                                             @NotNull FileAttributes childAttributes) {
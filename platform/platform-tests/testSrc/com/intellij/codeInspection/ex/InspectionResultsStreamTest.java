@@ -0,0 +1,61 @@
+/*
+ * Copyright 2000-2012 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.intellij.codeInspection.ex;
+
+import com.intellij.codeInspection.InspectionManager;
+import com.intellij.codeInspection.ProblemHighlightType;
+import com.intellij.openapi.util.TextRange;
+import com.intellij.openapi.util.io.FileUtil;
+import com.intellij.psi.PsiFile;
+import com.intellij.testFramework.LightPlatformTestCase;
+
+import java.io.File;
+
+public class InspectionResultsStreamTest extends LightPlatformTestCase {
+  public void testStreamedLines() throws Exception {
+    final PsiFile file = createFile("a.txt", "first\nsecond\n");
+    final String path = file.getVirtualFile().getPath();
+    final InspectionManager manager = InspectionManager.getInstance(getProject());
+
+    final File output = FileUtil.createTempFile("inspections", ".txt");
+    final InspectionResultsStream stream = new InspectionResultsStream(getProject(), output);
+    try {
+      stream.problemsFound("First", file, "a", manager.createProblemDescriptor(
+        file, new TextRange(0, 5), "<b>first</b>\tline", ProblemHighlightType.GENERIC_ERROR_OR_WARNING, false));
+      stream.problemsFound("Second", file, "a", manager.createProblemDescriptor(
+        file, new TextRange(6, 12), "second line", ProblemHighlightType.GENERIC_ERROR_OR_WARNING, false));
+      stream.problemsFound("Unknown", null, "external name", manager.createProblemDescriptor("no place"));
+
+      final InspectionTimings timings = new InspectionTimings();
+      timings.add("First", 3000000);
+      timings.add("First", 2000000);
+      stream.timingsFound(timings);
+    }
+    finally {
+      stream.close();
+    }
+
+    try {
+      assertEquals("First\t" + path + "\t1\tfirst\\tline\n" +
+                   "Second\t" + path + "\t2\tsecond line\n" +
+                   "Unknown\texternal name\t-1\tno place\n" +
+                   "#time\tFirst\t5\t2\n", FileUtil.loadFile(output));
+    }
+    finally {
+      FileUtil.delete(output);
+    }
+  }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2000-2012 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.intellij.codeInspection.ex;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class InspectionShardsTest {
+  @Test
+  public void everyFileInExactlyOneShard() {
+    for (int count = 1; count <= 5; count++) {
+      final int[] sizes = new int[count];
+      for (int i = 0; i < 1000; i++) {
+        final String path = "src/com/example/p" + i % 7 + "/File" + i + ".java";
+        int shards = 0;
+        for (int index = 0; index < count; index++) {
+          if (GlobalInspectionContextImpl.isInShard(path, index, count)) {
+            shards++;
+            sizes[index]++;
+          }
+        }
+        assertEquals(path, 1, shards);
+      }
+      for (int size : sizes) {
+        assertTrue(size > 0);
+      }
+    }
+  }
+
+  @Test
+  public void negativeHashCode() {
+    final String path = "polygenelubricants";
+    assertTrue(path.hashCode() < 0);
+    int shards = 0;
+    for (int index = 0; index < 3; index++) {
+      if (GlobalInspectionContextImpl.isInShard(path, index, 3)) shards++;
+    }
+    assertEquals(1, shards);
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2000-2012 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.intellij.codeInspection.ex;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class InspectionTimingsTest {
+  @Test
+  public void sumsByInspection() {
+    final InspectionTimings timings = new InspectionTimings();
+    timings.add("fast", 1000000);
+    timings.add("slow", 5000000, 100);
+    timings.add("slow", 3000000, -1);
+    timings.add("fast", 2000000, 10);
+
+    assertEquals(Arrays.asList("slow", "fast"), timings.getShortNames());
+    assertEquals(8000000, timings.getNanos("slow"));
+    assertEquals(2, timings.getCount("slow"));
+    assertEquals(100, timings.getAllocatedBytes("slow"));
+    assertEquals(0, timings.getCount("unknown"));
+    assertEquals("inspection\tcount\ttotal ms\taverage ms\tallocated bytes\n" +
+                 "slow\t2\t8\t4\t100\n" +
+                 "fast\t2\t3\t1\t10\n", timings.getReport());
+  }
+
+  @Test
+  public void sortsWhileUpdated() throws InterruptedException {
+    final InspectionTimings timings = new InspectionTimings();
+    final Thread updater = new Thread() {
+      @Override
+      public void run() {
+        final Random random = new Random(42);
+        while (!isInterrupted()) {
+          timings.add("inspection" + random.nextInt(100), random.nextInt(1000));
+        }
+      }
+    };
+    updater.start();
+    try {
+      for (int i = 0; i < 1000; i++) {
+        final List<String> names = timings.getShortNames();
+        assertEquals(new HashSet<String>(names).size(), names.size());
+      }
+    }
+    finally {
+      updater.interrupt();
+      updater.join();
+    }
+  }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2000-2012 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.intellij.execution.impl;
+
+import com.intellij.execution.ui.ConsoleViewContentType;
+import com.intellij.openapi.editor.markup.TextAttributes;
+import com.intellij.testFramework.PlatformTestUtil;
+import com.intellij.util.ThrowableRunnable;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ConsoleTokenBufferTest {
+
+  private static final ConsoleViewContentType IMPORTANT_OUTPUT = new ConsoleViewContentType("IMPORTANT_OUTPUT", (TextAttributes)null);
+  private static final ConsoleViewContentType NORMAL_OUTPUT = new ConsoleViewContentType("NORMAL_OUTPUT", (TextAttributes)null);
+
+  private ConsoleTokenBuffer myTokens;
+  private List<ConsoleViewImpl.TokenInfo> myExpected;
+
+  @Before
+  public void setUp() {
+    myTokens = new ConsoleTokenBuffer();
+    myExpected = new ArrayList<ConsoleViewImpl.TokenInfo>();
+  }
+
+  @Test
+  public void removalFromStartMatchesPlainList() {
+    for (int i = 0; i < 100; i++) {
+      register(i % 2 == 0 ? NORMAL_OUTPUT : IMPORTANT_OUTPUT, i % 7 + 1);
+    }
+    remove(0, 3);
+    remove(0, 10);
+    remove(0, 1);
+    register(NORMAL_OUTPUT, 5);
+    remove(0, 40);
+    remove(10, 12);
+    remove(0, 7);
+    register(IMPORTANT_OUTPUT, 5);
+    register(NORMAL_OUTPUT, 5);
+    remove(0, 1);
+  }
+
+  @Test
+  public void removalOfEverything() {
+    register(NORMAL_OUTPUT, 12);
+    register(IMPORTANT_OUTPUT, 5);
+    remove(0, 17);
+    register(NORMAL_OUTPUT, 3);
+    assertEquals(0, myTokens.getStartOffset(0));
+    assertEquals(3, myTokens.getEndOffset(0));
+  }
+
+  @Test
+  public void cutFromStartKeepsRemainingTokens() {
+    for (int i = 0; i < 10; i++) {
+      register(i % 2 == 0 ? NORMAL_OUTPUT : IMPORTANT_OUTPUT, 10);
+    }
+    ConsoleViewImpl.TokenInfo last = myTokens.get(myTokens.size() - 1);
+    remove(0, 15);
+    assertEquals(100, last.endOffset);
+    assertEquals(85, myTokens.getEndOffset(myTokens.size() - 1));
+
+    // the shift outgrows the remaining text, so the offsets get rebased
+    remove(0, 50);
+    assertEquals(35, last.endOffset);
+  }
+
+  @Test
+  public void lookupAfterCuts() {
+    for (int i = 0; i < 20; i++) {
+      register(i % 2 == 0 ? NORMAL_OUTPUT : IMPORTANT_OUTPUT, i + 1);
+    }
+    remove(0, 7);
+    remove(0, 30);
+    register(NORMAL_OUTPUT, 4);
+    for (int offset = 0; offset <= 200; offset++) {
+      assertEquals(String.valueOf(offset), ConsoleUtil.findTokenInfoIndexByOffset(myExpected, offset), myTokens.findTokenIndex(offset));
+    }
+  }
+
+  @Test
+  public void ringWrapsAround() {
+    for (int i = 0; i < 1000; i++) {
+      register(i % 2 == 0 ? NORMAL_OUTPUT : IMPORTANT_OUTPUT, 10);
+      if (i % 3 == 2) {
+        remove(0, 25);
+      }
+    }
+    myTokens.remove(myTokens.size() - 1);
+    myExpected.remove(myExpected.size() - 1);
+    check();
+  }
+
+  /**
+   * Emulates output of a long test run to a console with the default cyclic buffer size: every flush appends a number
+   * of short differently highlighted lines to the document end, cuts the document start and looks up the tokens of the
+   * visible area.
+   */
+  @Test
+  public void cyclicOutputThroughput() {
+    final int lines = 500000;
+    final int bufferSize = 1024 * 1024;
+    final int linesPerFlush = 100;
+    final int visibleSymbols = 4000;
+    PlatformTestUtil.startPerformanceTest("Console tokens cyclic buffer", 500, new ThrowableRunnable() {
+      @Override
+      public void run() throws Exception {
+        ConsoleTokenBuffer tokens = new ConsoleTokenBuffer();
+        int documentLength = 0;
+        for (int line = 0; line < lines; line++) {
+          int length = 20 + line % 60;
+          tokens.addToken(length, null, line % 3 == 0 ? IMPORTANT_OUTPUT : NORMAL_OUTPUT);
+          documentLength += length;
+          if (line % linesPerFlush == 0 && documentLength > bufferSize) {
+            tokens.removeText(0, documentLength - bufferSize);
+            documentLength = bufferSize;
+            int index = tokens.findTokenIndex(documentLength - visibleSymbols);
+            for (int i = index; i < tokens.size(); i++) {
+              assertTrue(tokens.getEndOffset(i) <= documentLength);
+            }
+          }
+        }
+      }
+    }).cpuBound().assertTiming();
+  }
+
+  private void register(ConsoleViewContentType contentType, int length) {
+    myTokens.addToken(length, null, contentType);
+    ConsoleUtil.addToken(length, null, contentType, myExpected);
+    check();
+  }
+
+  private void remove(int startOffset, int endOffset) {
+    myTokens.removeText(startOffset, endOffset);
+    ConsoleUtil.updateTokensOnTextRemoval(myExpected, startOffset, endOffset);
+    check();
+  }
+
+  private void check() {
+    String message = String.format("Expected: %s, actual: %s", myExpected, myTokens);
+    assertEquals(message, myExpected.size(), myTokens.size());
+    for (int i = 0; i < myExpected.size(); i++) {
+      ConsoleViewImpl.TokenInfo expectedToken = myExpected.get(i);
+      ConsoleViewImpl.TokenInfo actualToken = myTokens.get(i);
+      assertEquals(message, expectedToken.contentType, actualToken.contentType);
+      assertEquals(message, expectedToken.startOffset, myTokens.getStartOffset(i));
+      assertEquals(message, expectedToken.endOffset, myTokens.getEndOffset(i));
+    }
+  }
+}
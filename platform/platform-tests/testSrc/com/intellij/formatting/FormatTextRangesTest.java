@@ -0,0 +1,73 @@
+/*
+ * Copyright 2000-2012 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.intellij.formatting;
+
+import com.intellij.openapi.util.TextRange;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class FormatTextRangesTest {
+
+  @Test
+  public void sameAsCheckingRangesOneByOne() {
+    final Random random = new Random(42);
+    for (int attempt = 0; attempt < 200; attempt++) {
+      final FormatTextRanges ranges = new FormatTextRanges();
+      final int count = 8 + random.nextInt(20);
+      for (int i = 0; i < count; i++) {
+        ranges.add(randomRange(random), random.nextBoolean());
+      }
+      if (attempt % 2 == 0) {
+        // modified ranges must be seen by the index
+        ranges.getRanges().get(random.nextInt(count)).setTextRange(randomRange(random));
+      }
+
+      for (int i = 0; i < 100; i++) {
+        final TextRange range = randomRange(random);
+        final boolean rootIsRightBlock = random.nextBoolean();
+        final String message = ranges + " " + range;
+        assertEquals(message, isReadOnly(ranges, range, rootIsRightBlock), ranges.isReadOnly(range, rootIsRightBlock));
+        assertEquals(message, isWhitespaceReadOnly(ranges, range), ranges.isWhitespaceReadOnly(range));
+      }
+    }
+  }
+
+  private static TextRange randomRange(Random random) {
+    final int start = random.nextInt(200);
+    return new TextRange(start, start + random.nextInt(20));
+  }
+
+  private static boolean isReadOnly(FormatTextRanges ranges, TextRange range, boolean rootIsRightBlock) {
+    for (FormatTextRanges.FormatTextRange formatTextRange : ranges.getRanges()) {
+      if (!formatTextRange.isReadOnly(range, rootIsRightBlock)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isWhitespaceReadOnly(FormatTextRanges ranges, TextRange range) {
+    for (FormatTextRanges.FormatTextRange formatTextRange : ranges.getRanges()) {
+      if (!formatTextRange.isWhitespaceReadOnly(range)) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
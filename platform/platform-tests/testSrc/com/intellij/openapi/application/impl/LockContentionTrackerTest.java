@@ -0,0 +1,112 @@
+/*
+ * Copyright 2000-2012 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.intellij.openapi.application.impl;
+
+import junit.framework.TestCase;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class LockContentionTrackerTest extends TestCase {
+  public void testDisabledTrackerRecordsNothing() {
+    LockContentionTracker tracker = new LockContentionTracker();
+    tracker.setEnabled(false);
+
+    long waitStart = tracker.beforeAcquire(LockContentionTracker.LockKind.READ, String.class);
+    assertEquals(0, waitStart);
+    tracker.released(LockContentionTracker.LockKind.READ, String.class, tracker.acquired(LockContentionTracker.LockKind.READ, String.class, waitStart));
+
+    assertTrue(tracker.getCounters().isEmpty());
+  }
+
+  public void testCountersArePerLockKindAndAction() {
+    LockContentionTracker tracker = new LockContentionTracker();
+    tracker.setEnabled(true);
+
+    for (int i = 0; i < 3; i++) {
+      acquireAndRelease(tracker, LockContentionTracker.LockKind.READ, String.class);
+    }
+    acquireAndRelease(tracker, LockContentionTracker.LockKind.WRITE, String.class);
+    acquireAndRelease(tracker, LockContentionTracker.LockKind.READ, null);
+
+    List<LockContentionTracker.Counter> counters = tracker.getCounters();
+    assertEquals(3, counters.size());
+    assertEquals(3, findCounter(counters, "READ java.lang.String").getCount());
+    assertEquals(1, findCounter(counters, "WRITE java.lang.String").getCount());
+    assertEquals(1, findCounter(counters, "READ <unknown>").getCount());
+
+    tracker.reset();
+    assertTrue(tracker.getCounters().isEmpty());
+  }
+
+  public void testDumpListsHoldersAndWaiters() throws InterruptedException {
+    final LockContentionTracker tracker = new LockContentionTracker();
+    tracker.setEnabled(true);
+
+    long acquireTime = tracker.acquired(LockContentionTracker.LockKind.WRITE, Integer.class,
+                                        tracker.beforeAcquire(LockContentionTracker.LockKind.WRITE, Integer.class));
+
+    final CountDownLatch waiting = new CountDownLatch(1);
+    final CountDownLatch finish = new CountDownLatch(1);
+    Thread waiter = new Thread("lock waiter") {
+      @Override
+      public void run() {
+        long waitStart = tracker.beforeAcquire(LockContentionTracker.LockKind.READ, Long.class);
+        waiting.countDown();
+        try {
+          finish.await();
+        }
+        catch (InterruptedException ignored) {
+        }
+        tracker.acquireFailed(waitStart);
+      }
+    };
+    waiter.start();
+    try {
+      assertTrue(waiting.await(10, TimeUnit.SECONDS));
+
+      String dump = tracker.dump();
+      String holders = dump.substring(dump.indexOf("Holders:"), dump.indexOf("Waiters:"));
+      String waiters = dump.substring(dump.indexOf("Waiters:"), dump.indexOf("Statistics:"));
+      assertTrue(dump, holders.contains(Thread.currentThread().getName() + ": WRITE") && holders.contains("java.lang.Integer"));
+      assertTrue(dump, waiters.contains("lock waiter: READ") && waiters.contains("java.lang.Long"));
+    }
+    finally {
+      finish.countDown();
+      waiter.join();
+    }
+    tracker.released(LockContentionTracker.LockKind.WRITE, Integer.class, acquireTime);
+
+    String dump = tracker.dump();
+    assertFalse(dump, dump.contains("lock waiter"));
+    assertTrue(dump, dump.contains("WRITE java.lang.Integer: 1 times"));
+  }
+
+  private static void acquireAndRelease(LockContentionTracker tracker, LockContentionTracker.LockKind kind, Class action) {
+    long acquireTime = tracker.acquired(kind, action, tracker.beforeAcquire(kind, action));
+    assertTrue(acquireTime != 0);
+    tracker.released(kind, action, acquireTime);
+  }
+
+  private static LockContentionTracker.Counter findCounter(List<LockContentionTracker.Counter> counters, String key) {
+    for (LockContentionTracker.Counter counter : counters) {
+      if (counter.getKey().equals(key)) return counter;
+    }
+    fail("No counter " + key + " in " + counters);
+    return null;
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2000-2012 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.intellij.openapi.application.impl;
+
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ex.ApplicationEx;
+import com.intellij.openapi.progress.EmptyProgressIndicator;
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.testFramework.LightPlatformTestCase;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class WriteActionPriorityReadTest extends LightPlatformTestCase {
+  public void testReadIsCancelledByWaitingWriteAction() throws Exception {
+    final CountDownLatch started = new CountDownLatch(1);
+    Future<Boolean> future = ApplicationManager.getApplication().executeOnPooledThread(new Callable<Boolean>() {
+      @Override
+      public Boolean call() {
+        return getApplicationEx().tryRunReadActionWithWriteActionPriority(new Runnable() {
+          @Override
+          public void run() {
+            started.countDown();
+            while (true) {
+              ProgressManager.checkCanceled();
+            }
+          }
+        });
+      }
+    });
+    assertTrue(started.await(10, TimeUnit.SECONDS));
+
+    ApplicationManager.getApplication().runWriteAction(new Runnable() {
+      @Override
+      public void run() {
+      }
+    });
+
+    assertFalse(future.get(10, TimeUnit.SECONDS));
+  }
+
+  public void testReadIsCompletedWithoutWriteActions() throws Exception {
+    Future<Boolean> future = ApplicationManager.getApplication().executeOnPooledThread(new Callable<Boolean>() {
+      @Override
+      public Boolean call() {
+        return getApplicationEx().tryRunReadActionWithWriteActionPriority(new Runnable() {
+          @Override
+          public void run() {
+            assertTrue(ApplicationManager.getApplication().isReadAccessAllowed());
+          }
+        });
+      }
+    });
+
+    assertTrue(future.get(10, TimeUnit.SECONDS));
+  }
+
+  public void testCancellationOfOuterProcessIsPropagated() throws Exception {
+    Future<Boolean> future = ApplicationManager.getApplication().executeOnPooledThread(new Callable<Boolean>() {
+      @Override
+      public Boolean call() {
+        final ProgressIndicator outer = new EmptyProgressIndicator();
+        try {
+          ProgressManager.getInstance().runProcess(new Runnable() {
+            @Override
+            public void run() {
+              getApplicationEx().tryRunReadActionWithWriteActionPriority(new Runnable() {
+                @Override
+                public void run() {
+                  outer.cancel();
+                  ProgressManager.checkCanceled();
+                }
+              });
+            }
+          }, outer);
+          return false;
+        }
+        catch (ProcessCanceledException e) {
+          return true;
+        }
+      }
+    });
+
+    assertTrue("ProcessCanceledException expected", future.get(10, TimeUnit.SECONDS));
+  }
+
+  private static ApplicationEx getApplicationEx() {
+    return (ApplicationEx)ApplicationManager.getApplication();
+  }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2000-2012 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.intellij.openapi.vcs.changes;
+
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.progress.util.ProgressIndicatorBase;
+import com.intellij.openapi.progress.util.ProgressWrapper;
+import com.intellij.openapi.vcs.FilePath;
+import com.intellij.openapi.vcs.FilePathImpl;
+import com.intellij.openapi.vcs.ProjectLevelVcsManager;
+import com.intellij.openapi.vcs.VcsDirectoryMapping;
+import com.intellij.openapi.vcs.VcsException;
+import com.intellij.openapi.vcs.changes.committed.MockAbstractVcs;
+import com.intellij.openapi.vcs.impl.ProjectLevelVcsManagerImpl;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.testFramework.PlatformTestCase;
+import com.intellij.testFramework.vcs.MockChangeListManagerGate;
+import com.intellij.testFramework.vcs.MockChangelistBuilder;
+import com.intellij.util.Processor;
+
+import java.util.*;
+
+public class ParallelChangesCollectorTest extends PlatformTestCase {
+  private MockAbstractVcs myVcs;
+  private final List<VirtualFile> myRoots = new ArrayList<VirtualFile>();
+
+  @Override
+  protected void setUp() throws Exception {
+    super.setUp();
+    myVcs = new MockAbstractVcs(myProject);
+    final ProjectLevelVcsManagerImpl vcsManager = (ProjectLevelVcsManagerImpl)ProjectLevelVcsManager.getInstance(myProject);
+    vcsManager.registerVcs(myVcs);
+
+    final VirtualFile dir = getVirtualFile(createTempDirectory());
+    final List<VcsDirectoryMapping> mappings = new ArrayList<VcsDirectoryMapping>();
+    for (int i = 0; i < 3; i++) {
+      final VirtualFile root = createChildDirectory(dir, "root" + i);
+      createChildData(root, "a.txt");
+      createChildData(root, "b.txt");
+      createChildData(createChildDirectory(root, "sub"), "c.txt");
+      myRoots.add(root);
+      mappings.add(new VcsDirectoryMapping(root.getPath(), myVcs.getName()));
+    }
+    vcsManager.setDirectoryMappings(mappings);
+  }
+
+  @Override
+  protected void tearDown() throws Exception {
+    ((ProjectLevelVcsManagerImpl)ProjectLevelVcsManager.getInstance(myProject)).unregisterVcs(myVcs);
+    myRoots.clear();
+    super.tearDown();
+  }
+
+  private VcsDirtyScopeImpl createScope() {
+    final VcsDirtyScopeImpl scope = new VcsDirtyScopeImpl(myVcs, myProject);
+    scope.addDirtyFile(new FilePathImpl(myRoots.get(0).findChild("a.txt")));
+    scope.addDirtyFile(new FilePathImpl(myRoots.get(0).findFileByRelativePath("sub/c.txt")));
+    scope.addDirtyDirRecursively(new FilePathImpl(myRoots.get(1)));
+    scope.addDirtyDirRecursively(new FilePathImpl(myRoots.get(2).findChild("sub")));
+    return scope;
+  }
+
+  public void testSplitByRoots() {
+    final VcsDirtyScopeImpl scope = createScope();
+    final List<VcsDirtyScopeImpl> split = scope.splitByRoots();
+    assertNotNull(split);
+    assertEquals(3, split.size());
+
+    final Set<FilePath> files = new HashSet<FilePath>();
+    final Set<FilePath> dirs = new HashSet<FilePath>();
+    for (VcsDirtyScopeImpl rootScope : split) {
+      assertSame(myVcs, rootScope.getVcs());
+      assertEquals(1, rootScope.getAffectedContentRoots().size());
+      final VirtualFile root = rootScope.getAffectedContentRoots().iterator().next();
+      for (FilePath path : rootScope.getDirtyFilesNoExpand()) {
+        assertTrue(path.isUnder(new FilePathImpl(root), false));
+        assertTrue(files.add(path));
+      }
+      for (FilePath path : rootScope.getRecursivelyDirtyDirectories()) {
+        assertTrue(path.isUnder(new FilePathImpl(root), false));
+        assertTrue(dirs.add(path));
+      }
+    }
+    assertEquals(scope.getDirtyFilesNoExpand(), files);
+    assertEquals(scope.getRecursivelyDirtyDirectories(), dirs);
+    assertEquals(new HashSet<VirtualFile>(myRoots), new HashSet<VirtualFile>(scope.getAffectedContentRoots()));
+  }
+
+  public void testSplitByRootsWithSingleRoot() {
+    final VcsDirtyScopeImpl scope = new VcsDirtyScopeImpl(myVcs, myProject);
+    scope.addDirtyDirRecursively(new FilePathImpl(myRoots.get(1)));
+    final List<VcsDirtyScopeImpl> split = scope.splitByRoots();
+    assertNotNull(split);
+    assertEquals(1, split.size());
+    assertNull(ParallelChangesCollector.splitScope(scope));
+  }
+
+  public void testSameAsSerial() throws VcsException {
+    final VcsDirtyScopeImpl scope = createScope();
+    final ListingChangeProvider provider = new ListingChangeProvider();
+    final ProgressIndicator indicator = new ProgressIndicatorBase();
+
+    final MockChangelistBuilder serial = new MockChangelistBuilder();
+    provider.getChanges(scope, serial, indicator, new MockChangeListManagerGate(ChangeListManager.getInstance(myProject)));
+
+    final List<VcsDirtyScopeImpl> split = ParallelChangesCollector.splitScope(scope);
+    assertNotNull(split);
+    final MockChangelistBuilder parallel = new MockChangelistBuilder();
+    ParallelChangesCollector.collect(provider, split, parallel, new MockChangeListManagerGate(ChangeListManager.getInstance(myProject)),
+                                     indicator);
+
+    assertEquals(6, serial.getUnversionedFiles().size());
+    assertEquals(new HashSet<VirtualFile>(serial.getUnversionedFiles()), new HashSet<VirtualFile>(parallel.getUnversionedFiles()));
+    assertEquals(serial.getUnversionedFiles().size(), parallel.getUnversionedFiles().size());
+  }
+
+  public void testProviderRunsUnderCallerIndicator() throws VcsException {
+    final ListingChangeProvider provider = new ListingChangeProvider();
+    final ProgressIndicator indicator = new ProgressIndicatorBase();
+    indicator.start();
+    ParallelChangesCollector.collect(provider, ParallelChangesCollector.splitScope(createScope()), new MockChangelistBuilder(),
+                                     new MockChangeListManagerGate(ChangeListManager.getInstance(myProject)), indicator);
+
+    assertEquals(3, provider.myIndicators.size());
+    for (ProgressIndicator threadIndicator : provider.myIndicators) {
+      assertSame(indicator, ProgressWrapper.unwrap(threadIndicator));
+    }
+    assertTrue(indicator.isRunning());
+  }
+
+  private static class ListingChangeProvider implements ChangeProvider {
+    private final List<ProgressIndicator> myIndicators = Collections.synchronizedList(new ArrayList<ProgressIndicator>());
+
+    @Override
+    public void getChanges(VcsDirtyScope dirtyScope, final ChangelistBuilder builder, ProgressIndicator progress,
+                           ChangeListManagerGate addGate) {
+      myIndicators.add(ProgressManager.getInstance().getProgressIndicator());
+      dirtyScope.iterate(new Processor<FilePath>() {
+        @Override
+        public boolean process(FilePath path) {
+          ProgressManager.checkCanceled();
+          if (!path.isDirectory()) {
+            builder.processUnversionedFile(path.getVirtualFile());
+          }
+          return true;
+        }
+      });
+    }
+
+    @Override
+    public boolean isModifiedDocumentTrackingRequired() {
+      return false;
+    }
+
+    @Override
+    public void doCleanup(List<VirtualFile> files) {
+    }
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2000-2012 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.intellij.openapi.vcs.ex;
+
+import junit.framework.TestCase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class LineStatusTrackerTest extends TestCase {
+  private static final byte[] TYPES = {Range.MODIFIED, Range.INSERTED, Range.DELETED};
+
+  public void testRangeSearchesSameAsScanning() {
+    final Random random = new Random(42);
+    for (int attempt = 0; attempt < 200; attempt++) {
+      final List<Range> ranges = new ArrayList<Range>();
+      int line = random.nextInt(3);
+      final int count = random.nextInt(10);
+      for (int i = 0; i < count; i++) {
+        final byte type = TYPES[random.nextInt(TYPES.length)];
+        final int end = type == Range.DELETED ? line : line + 1 + random.nextInt(3);
+        ranges.add(new Range(line, end, 0, 0, type));
+        line = end + 1 + random.nextInt(3);
+      }
+
+      for (int i = -1; i <= line + 1; i++) {
+        final String message = ranges + ", line " + i;
+        assertSame(message, scanLastRangeBeforeLine(ranges, i), LineStatusTracker.getLastRangeBeforeLine(ranges, i));
+        assertEquals(message, LineStatusTracker.getRangesBefore(ranges, i).size(), LineStatusTracker.getFirstRangeNotBefore(ranges, i));
+        assertEquals(message, ranges.size() - LineStatusTracker.getRangesAfter(ranges, i).size(),
+                     LineStatusTracker.getFirstRangeAfter(ranges, i));
+      }
+    }
+  }
+
+  public void testRecalculationNotRepeatedForSameTexts() {
+    final LineStatusTracker.RecalculationPolicy policy = new LineStatusTracker.RecalculationPolicy();
+    assertTrue(policy.isWorthTrying(1, 1));
+
+    policy.failed(1, 1);
+    assertFalse(policy.isWorthTrying(1, 1));
+    assertTrue(policy.isWorthTrying(2, 1));
+    assertTrue(policy.isWorthTrying(1, 2));
+
+    policy.reset();
+    assertTrue(policy.isWorthTrying(1, 1));
+  }
+
+  public void testRecalculationBacksOff() {
+    final LineStatusTracker.RecalculationPolicy policy = new LineStatusTracker.RecalculationPolicy();
+    final int initial = policy.getDelay();
+    policy.failed(1, 1);
+    assertEquals(initial, policy.getDelay());
+    policy.failed(2, 1);
+    assertEquals(2 * initial, policy.getDelay());
+    policy.failed(3, 1);
+    assertEquals(4 * initial, policy.getDelay());
+
+    for (int i = 0; i < 100; i++) {
+      policy.failed(4 + i, 1);
+    }
+    final int max = policy.getDelay();
+    assertTrue(max > initial);
+    policy.failed(1000, 1);
+    assertEquals(max, policy.getDelay());
+
+    policy.reset();
+    assertEquals(initial, policy.getDelay());
+  }
+
+  // the linear scan the tracker used before the binary search
+  private static Range scanLastRangeBeforeLine(List<Range> ranges, int line) {
+    Range result = null;
+    for (Range range : ranges) {
+      if (range.isMoreThen(line)) return result;
+      result = range;
+    }
+    return result;
+  }
+}
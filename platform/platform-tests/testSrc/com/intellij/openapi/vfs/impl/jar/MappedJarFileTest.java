@@ -0,0 +1,194 @@
+/*
+ * Copyright 2000-2012 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.intellij.openapi.vfs.impl.jar;
+
+import com.intellij.openapi.util.io.FileUtil;
+import com.intellij.openapi.vfs.JarFile;
+import junit.framework.TestCase;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+public class MappedJarFileTest extends TestCase {
+  private File myJar;
+
+  @Override
+  protected void setUp() throws Exception {
+    super.setUp();
+    myJar = FileUtil.createTempFile("mapped", ".jar");
+    final ZipOutputStream out = new ZipOutputStream(new FileOutputStream(myJar));
+    try {
+      out.setComment("comment");
+      out.putNextEntry(new ZipEntry("META-INF/"));
+      out.closeEntry();
+      writeEntry(out, "META-INF/MANIFEST.MF", "Manifest-Version: 1.0\n".getBytes(), false);
+      writeEntry(out, "b/B.class", bytes(10000), false);
+      writeEntry(out, "a/A.class", bytes(100), true);
+      writeEntry(out, "a/ф.txt", "text".getBytes(), false);
+      writeEntry(out, "empty", new byte[0], true);
+    }
+    finally {
+      out.close();
+    }
+  }
+
+  @Override
+  protected void tearDown() throws Exception {
+    FileUtil.delete(myJar);
+    super.tearDown();
+  }
+
+  public void testSameAsZipFile() throws Exception {
+    final MappedJarFile mapped = MappedJarFile.open(myJar);
+    final ZipFile zip = new ZipFile(myJar);
+    try {
+      assertEquals(zip.size(), mapped.size());
+
+      final List<String> zipNames = new ArrayList<String>();
+      final Enumeration<? extends ZipEntry> zipEntries = zip.entries();
+      while (zipEntries.hasMoreElements()) {
+        zipNames.add(zipEntries.nextElement().getName());
+      }
+      final List<String> mappedNames = new ArrayList<String>();
+      final Enumeration<? extends JarFile.JarEntry> mappedEntries = mapped.entries();
+      while (mappedEntries.hasMoreElements()) {
+        mappedNames.add(mappedEntries.nextElement().getName());
+      }
+      // the entries are enumerated in the central directory order
+      assertEquals(zipNames, mappedNames);
+
+      for (String name : zipNames) {
+        final ZipEntry zipEntry = zip.getEntry(name);
+        final JarFile.JarEntry entry = mapped.getEntry(name);
+        assertNotNull(name, entry);
+        assertEquals(name, zipEntry.getSize(), entry.getSize());
+        assertEquals(name, zipEntry.isDirectory(), entry.isDirectory());
+        assertEquals(name, zipEntry.getTime() / 2000, entry.getTime() / 2000);
+        assertTrue(name, Arrays.equals(load(zip.getInputStream(zipEntry)), load(mapped.getInputStream(entry))));
+      }
+
+      assertNotNull(mapped.getEntry("META-INF"));
+      assertTrue(mapped.getEntry("META-INF").isDirectory());
+      assertNull(mapped.getEntry("a"));
+      assertNull(mapped.getEntry("c/C.class"));
+    }
+    finally {
+      zip.close();
+      mapped.close();
+    }
+  }
+
+  public void testClose() throws Exception {
+    final MappedJarFile mapped = MappedJarFile.open(myJar);
+    final JarFile.JarEntry entry = mapped.getEntry("b/B.class");
+    assertEquals(10000, entry.getSize());
+    final ZipFile zip = mapped.getZipFile();
+    assertNotNull(zip);
+    assertSame(zip, mapped.getZipFile());
+
+    mapped.close();
+    assertEquals(-1, entry.getSize());
+    assertNull(mapped.getZipFile());
+    try {
+      mapped.getInputStream(entry);
+      fail();
+    }
+    catch (IOException ignored) {
+    }
+    try {
+      zip.getEntry("b/B.class");
+      fail();
+    }
+    catch (IllegalStateException ignored) {
+    }
+    // the file is not mapped anymore
+    assertTrue(FileUtil.delete(myJar));
+  }
+
+  public void testTruncatedFile() throws Exception {
+    final MappedJarFile mapped = MappedJarFile.open(myJar);
+    try {
+      final JarFile.JarEntry entry = mapped.getEntry("b/B.class");
+      final RandomAccessFile file = new RandomAccessFile(myJar, "rw");
+      try {
+        file.setLength(0);
+      }
+      finally {
+        file.close();
+      }
+      mapped.getInputStream(entry);
+      fail();
+    }
+    catch (IOException ignored) {
+    }
+    finally {
+      mapped.close();
+    }
+  }
+
+  public void testNotAZip() throws Exception {
+    FileUtil.writeToFile(myJar, "not a zip");
+    try {
+      MappedJarFile.open(myJar);
+      fail();
+    }
+    catch (IOException ignored) {
+    }
+  }
+
+  private static void writeEntry(ZipOutputStream out, String name, byte[] content, boolean stored) throws IOException {
+    final ZipEntry entry = new ZipEntry(name);
+    if (stored) {
+      final CRC32 crc = new CRC32();
+      crc.update(content);
+      entry.setMethod(ZipEntry.STORED);
+      entry.setSize(content.length);
+      entry.setCompressedSize(content.length);
+      entry.setCrc(crc.getValue());
+    }
+    out.putNextEntry(entry);
+    out.write(content);
+    out.closeEntry();
+  }
+
+  private static byte[] bytes(int length) {
+    final byte[] bytes = new byte[length];
+    for (int i = 0; i < length; i++) {
+      bytes[i] = (byte)(i % 13);
+    }
+    return bytes;
+  }
+
+  private static byte[] load(InputStream stream) throws IOException {
+    try {
+      return FileUtil.loadBytes(stream);
+    }
+    finally {
+      stream.close();
+    }
+  }
+}
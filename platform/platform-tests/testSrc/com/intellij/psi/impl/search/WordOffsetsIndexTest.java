@@ -0,0 +1,86 @@
+/*
+ * Copyright 2000-2012 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.intellij.psi.impl.search;
+
+import com.intellij.openapi.util.UserDataHolderBase;
+import com.intellij.util.text.StringSearcher;
+import gnu.trove.TIntArrayList;
+import junit.framework.TestCase;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class WordOffsetsIndexTest extends TestCase {
+  private static final String[] WORDS = {"a", "ab", "b", "a_1", "фу", "aa"};
+
+  public void testSameAsScanning() {
+    final Random random = new Random(42);
+    final String alphabet = "ab_1фу$\\ .\n(";
+    for (int attempt = 0; attempt < 500; attempt++) {
+      final StringBuilder text = new StringBuilder();
+      final int length = random.nextInt(60);
+      for (int i = 0; i < length; i++) {
+        text.append(alphabet.charAt(random.nextInt(alphabet.length())));
+      }
+      final WordOffsetsIndex index = WordOffsetsIndex.build(0, text);
+      for (String word : WORDS) {
+        assertEquals("'" + text + "', " + word, Arrays.toString(scan(text, word)), Arrays.toString(index.getOffsets(text, word)));
+      }
+    }
+  }
+
+  public void testEscapes() {
+    final String text = "\"\\nfoo\" foo$bar bar1 \\tbar";
+    final WordOffsetsIndex index = WordOffsetsIndex.build(0, text);
+    assertEquals(Arrays.toString(scan(text, "foo")), Arrays.toString(index.getOffsets(text, "foo")));
+    assertEquals(Arrays.toString(scan(text, "bar")), Arrays.toString(index.getOffsets(text, "bar")));
+    assertEquals(2, index.getOffsets(text, "bar").length);
+  }
+
+  public void testBuiltOnSecondSearch() {
+    final UserDataHolderBase holder = new UserDataHolderBase();
+    final String text = "foo bar foo";
+    assertNull(WordOffsetsIndex.getOffsets(holder, 1, text, "foo"));
+    assertEquals("[0, 8]", Arrays.toString(WordOffsetsIndex.getOffsets(holder, 1, text, "foo")));
+    assertEquals("[4]", Arrays.toString(WordOffsetsIndex.getOffsets(holder, 1, text, "bar")));
+    // same text in another buffer, e.g. a document text and the file content
+    assertEquals("[0, 8]", Arrays.toString(WordOffsetsIndex.getOffsets(holder, 1, new StringBuilder(text), "foo")));
+
+    final String changed = "bar foo foo";
+    assertNull(WordOffsetsIndex.getOffsets(holder, 2, changed, "foo"));
+    assertEquals("[4, 8]", Arrays.toString(WordOffsetsIndex.getOffsets(holder, 2, changed, "foo")));
+  }
+
+  public void testApplicability() {
+    assertTrue(WordOffsetsIndex.isApplicable(new StringSearcher("foo", true, true)));
+    assertFalse(WordOffsetsIndex.isApplicable(new StringSearcher("foo", false, true)));
+    assertFalse(WordOffsetsIndex.isApplicable(new StringSearcher("a.b", true, true)));
+    assertFalse(WordOffsetsIndex.isApplicable(new StringSearcher("a$b", true, true)));
+  }
+
+  private static int[] scan(CharSequence text, String word) {
+    final StringSearcher searcher = new StringSearcher(word, true, true);
+    final TIntArrayList offsets = new TIntArrayList();
+    int offset = 0;
+    while (offset < text.length()) {
+      offset = LowLevelSearchUtil.searchWord(text, offset, text.length(), searcher, null);
+      if (offset < 0) break;
+      offsets.add(offset);
+      offset++;
+    }
+    return offsets.toNativeArray();
+  }
+}
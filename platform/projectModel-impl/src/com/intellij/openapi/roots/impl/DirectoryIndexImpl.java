@@ -47,6 +47,7 @@ import java.util.*;
 
 public class DirectoryIndexImpl extends DirectoryIndex {
   private static final Logger LOG = Logger.getInstance("#com.intellij.openapi.roots.impl.DirectoryIndexImpl");
+  private static final boolean ourCacheJarDirectories = "true".equals(System.getProperty("idea.directory.index.cache.jars"));
 
   protected final Project myProject;
   protected final DirectoryIndexExcludePolicy[] myExcludePolicies;
@@ -55,6 +56,10 @@ public class DirectoryIndexImpl extends DirectoryIndex {
   private boolean myInitialized = false;
   private boolean myDisposed = false;
 
+  private boolean myCacheJarDirectories = ourCacheJarDirectories;
+  // jar root id -> directories of the jar, reused by rebuilds of the index when the roots change
+  private final TIntObjectHashMap<JarDirectories> myJarDirectories = new TIntObjectHashMap<JarDirectories>();
+
   public DirectoryIndexImpl(@NotNull Project project) {
     myProject = project;
     myExcludePolicies = Extensions.getExtensions(DirectoryIndexExcludePolicy.EP_NAME, myProject);
@@ -87,22 +92,56 @@ public class DirectoryIndexImpl extends DirectoryIndex {
     myState = myState.copy();
 
     myState.doInitialize(reverseAllSets);
+    assertSameStates(oldState, myState);
+  }
+
+  /**
+   * Checks that rebuilding the index over the cached directories of jars gives the same result as walking the jars.
+   */
+  @TestOnly
+  public void checkJarDirectoriesConsistency() {
+    assert myInitialized;
+    assert !myDisposed;
+
+    final boolean cacheJarDirectories = myCacheJarDirectories;
+    try {
+      myCacheJarDirectories = false;
+      final IndexState walked = myState.copy();
+      myState = walked;
+      walked.doInitialize(false);
+
+      myCacheJarDirectories = true;
+      clearJarDirectories();
+      for (int i = 0; i < 2; i++) {
+        // the jars are walked to fill the cache first, then the cached directories are replayed
+        myState = myState.copy();
+        myState.doInitialize(false);
+        assertSameStates(walked, myState);
+      }
+    }
+    finally {
+      myCacheJarDirectories = cacheJarDirectories;
+      clearJarDirectories();
+    }
+  }
 
-    int[] keySet = myState.myDirToInfoMap.keys();
+  @TestOnly
+  private static void assertSameStates(@NotNull final IndexState oldState, @NotNull final IndexState newState) {
+    int[] keySet = newState.myDirToInfoMap.keys();
     assert keySet.length == oldState.myDirToInfoMap.keys().length;
     for (int file : keySet) {
-      DirectoryInfo info1 = myState.myDirToInfoMap.get(file);
+      DirectoryInfo info1 = newState.myDirToInfoMap.get(file);
       DirectoryInfo info2 = oldState.myDirToInfoMap.get(file);
       assert info1.equals(info2);
       info1.assertConsistency();
     }
 
-    assert myState.myPackageNameToDirsMap.size() == oldState.myPackageNameToDirsMap.size();
-    myState.myPackageNameToDirsMap.forEachEntry(new TObjectIntProcedure<String>() {
+    assert newState.myPackageNameToDirsMap.size() == oldState.myPackageNameToDirsMap.size();
+    newState.myPackageNameToDirsMap.forEachEntry(new TObjectIntProcedure<String>() {
       @Override
       public boolean execute(String packageName, int i) {
         int[] dirs = oldState.getDirsForPackage(packageName);
-        int[] dirs1 = myState.getDirsForPackage(packageName);
+        int[] dirs1 = newState.getDirsForPackage(packageName);
 
         TIntHashSet set1 = new TIntHashSet();
         set1.addAll(dirs);
@@ -140,6 +179,105 @@ public class DirectoryIndexImpl extends DirectoryIndex {
     IndexState newState = new IndexState();
     newState.doInitialize(false);
     myState = newState;
+    dropUnusedJarDirectories();
+  }
+
+  /**
+   * Makes the next rebuild of the index walk the jars again, e.g. when the set of ignored files changes.
+   */
+  protected void clearJarDirectories() {
+    synchronized (myJarDirectories) {
+      myJarDirectories.clear();
+    }
+  }
+
+  private void dropUnusedJarDirectories() {
+    synchronized (myJarDirectories) {
+      myJarDirectories.retainEntries(new TIntObjectProcedure<JarDirectories>() {
+        @Override
+        public boolean execute(int rootId, JarDirectories directories) {
+          boolean used = directories.myUsed;
+          directories.myUsed = false;
+          return used;
+        }
+      });
+    }
+  }
+
+  /**
+   * @return the cached directories of a jar root, or null if the root isn't a jar root or the caching is off
+   */
+  @Nullable
+  private JarDirectories getJarDirectories(@NotNull VirtualFile root) {
+    if (!myCacheJarDirectories || root.getParent() != null || !root.isDirectory() ||
+        !StandardFileSystems.JAR_PROTOCOL.equals(root.getFileSystem().getProtocol())) {
+      return null;
+    }
+    VirtualFile jar = StandardFileSystems.getVirtualFileForJar(root);
+    if (jar == null) return null;
+
+    long timeStamp = jar.getTimeStamp();
+    long length = jar.getLength();
+    int rootId = getId(root);
+    synchronized (myJarDirectories) {
+      JarDirectories directories = myJarDirectories.get(rootId);
+      if (directories == null || directories.myTimeStamp != timeStamp || directories.myLength != length) {
+        directories = new JarDirectories(root, timeStamp, length);
+        myJarDirectories.put(rootId, directories);
+      }
+      directories.myUsed = true;
+      return directories;
+    }
+  }
+
+  /**
+   * Not ignored directories of a jar in the order they are visited by the index, so that the library roots which
+   * didn't change since the previous rebuild don't have to be walked again. Contents of a jar can't change
+   * without its time stamp or length changing.
+   */
+  private static class JarDirectories {
+    private final long myTimeStamp;
+    private final long myLength;
+    private final int[] myIds;
+    private final String[] myNames;
+    /** Index of the parent directory, -1 for the root */
+    private final int[] myParents;
+    /** Index following the last descendant of the directory */
+    private final int[] mySubtreeEnds;
+    private volatile boolean myUsed;
+
+    private JarDirectories(@NotNull VirtualFile root, long timeStamp, long length) {
+      myTimeStamp = timeStamp;
+      myLength = length;
+
+      final TIntArrayList ids = new TIntArrayList();
+      final List<String> names = new ArrayList<String>();
+      final TIntArrayList parents = new TIntArrayList();
+      final TIntArrayList ends = new TIntArrayList();
+      final TIntArrayList stack = new TIntArrayList();
+      VfsUtilCore.visitChildrenRecursively(root, new VirtualFileVisitor() {
+        @Override
+        public boolean visitFile(@NotNull VirtualFile file) {
+          if (!file.isDirectory() || isIgnored(file)) return false;
+          parents.add(stack.isEmpty() ? -1 : stack.get(stack.size() - 1));
+          stack.add(ids.size());
+          ids.add(getId(file));
+          names.add(file.getName());
+          ends.add(0);
+          return true;
+        }
+
+        @Override
+        public void afterChildrenVisited(@NotNull VirtualFile file) {
+          ends.set(stack.remove(stack.size() - 1), ids.size());
+        }
+      });
+
+      myIds = ids.toNativeArray();
+      myNames = ArrayUtil.toStringArray(names);
+      myParents = parents.toNativeArray();
+      mySubtreeEnds = ends.toNativeArray();
+    }
   }
 
   private boolean isExcludeRootForModule(@NotNull Module module, VirtualFile excludeRoot) {
@@ -493,6 +631,12 @@ public class DirectoryIndexImpl extends DirectoryIndex {
                                              @Nullable final String packageName,
                                              @NotNull final VirtualFile sourceRoot,
                                              @Nullable final ProgressIndicator progress) {
+      JarDirectories directories = getJarDirectories(dir);
+      if (directories != null) {
+        fillMapWithLibrarySources(directories, packageName, sourceRoot, progress);
+        return;
+      }
+
       VfsUtilCore.visitChildrenRecursively(dir, new VirtualFileVisitor<String>() {
         { setValueForChildren(packageName); }
 
@@ -522,6 +666,37 @@ public class DirectoryIndexImpl extends DirectoryIndex {
       });
     }
 
+    // same as the visitor above, over the cached directories of a jar
+    private void fillMapWithLibrarySources(@NotNull JarDirectories directories,
+                                           @Nullable String packageName,
+                                           @NotNull VirtualFile sourceRoot,
+                                           @Nullable ProgressIndicator progress) {
+      String[] packages = new String[directories.myIds.length];
+      int i = 0;
+      while (i < directories.myIds.length) {
+        if (progress != null) progress.checkCanceled();
+        int dirId = directories.myIds[i];
+        DirectoryInfo info = getOrCreateDirInfo(dirId);
+
+        if (info.isInLibrarySource()) {
+          String definedPackage = myDirToPackageName.get(dirId);
+          if (definedPackage != null && definedPackage.isEmpty()) {
+            i = directories.mySubtreeEnds[i];
+            continue;
+          }
+        }
+
+        info = info.withInLibrarySource(true)
+        .withSourceRoot(sourceRoot);
+        storeInfo(info, dirId);
+
+        String newPackageName = i == 0 ? packageName : getPackageNameForSubdir(packages[directories.myParents[i]], directories.myNames[i]);
+        setPackageName(dirId, newPackageName);
+        packages[i] = newPackageName;
+        i++;
+      }
+    }
+
     private void initLibraryClasses(Module module, ProgressIndicator progress) {
       progress.checkCanceled();
       progress.setText2(ProjectBundle.message("project.index.processing.library.classes.progress", module.getName()));
@@ -540,6 +715,12 @@ public class DirectoryIndexImpl extends DirectoryIndex {
                                              @NotNull final String packageName,
                                              @NotNull final VirtualFile classRoot,
                                              @Nullable final ProgressIndicator progress) {
+      JarDirectories directories = getJarDirectories(dir);
+      if (directories != null) {
+        fillMapWithLibraryClasses(directories, packageName, classRoot, progress);
+        return;
+      }
+
       VfsUtilCore.visitChildrenRecursively(dir, new VirtualFileVisitor<String>() {
         { setValueForChildren(packageName); }
 
@@ -571,6 +752,38 @@ public class DirectoryIndexImpl extends DirectoryIndex {
       });
     }
 
+    // same as the visitor above, over the cached directories of a jar
+    private void fillMapWithLibraryClasses(@NotNull JarDirectories directories,
+                                           @NotNull String packageName,
+                                           @NotNull VirtualFile classRoot,
+                                           @Nullable ProgressIndicator progress) {
+      String[] packages = new String[directories.myIds.length];
+      int i = 0;
+      while (i < directories.myIds.length) {
+        if (progress != null) progress.checkCanceled();
+        int dirId = directories.myIds[i];
+        DirectoryInfo info = getOrCreateDirInfo(dirId);
+
+        if (info.hasLibraryClassRoot()) {
+          String definedPackage = myDirToPackageName.get(dirId);
+          if (definedPackage != null && definedPackage.isEmpty()) {
+            i = directories.mySubtreeEnds[i];
+            continue;
+          }
+        }
+
+        info = info.withLibraryClassRoot(classRoot);
+        storeInfo(info, dirId);
+
+        String childPackageName = i == 0 ? packageName : getPackageNameForSubdir(packages[directories.myParents[i]], directories.myNames[i]);
+        if (!info.isInModuleSource() && !info.isInLibrarySource()) {
+          setPackageName(dirId, childPackageName);
+        }
+        packages[i] = childPackageName;
+        i++;
+      }
+    }
+
     private void initOrderEntries(@NotNull Module module,
                                   @NotNull MultiMap<VirtualFile, OrderEntry> depEntries,
                                   @NotNull MultiMap<VirtualFile, OrderEntry> libClassRootEntries,
@@ -661,6 +874,12 @@ public class DirectoryIndexImpl extends DirectoryIndex {
                                            @Nullable final VirtualFile librarySourceRoot,
                                            @Nullable final DirectoryInfo parentInfo,
                                            @Nullable final ProgressIndicator progress) {
+      JarDirectories directories = getJarDirectories(root);
+      if (directories != null) {
+        fillMapWithOrderEntries(directories, orderEntries, module, libraryClassRoot, librarySourceRoot, parentInfo, progress);
+        return;
+      }
+
       VfsUtilCore.visitChildrenRecursively(root, new DirectoryVisitor() {
         private final Stack<OrderEntry[]> myEntries = new Stack<OrderEntry[]>();
 
@@ -673,21 +892,7 @@ public class DirectoryIndexImpl extends DirectoryIndex {
 
           int dirId = getId(dir);
           DirectoryInfo info = myDirToInfoMap.get(dirId); // do not create it here!
-          if (info == null) return null;
-
-          if (module != null) {
-            if (info.getModule() != module) return null;
-            if (!info.isInModuleSource()) return null;
-          }
-          else if (libraryClassRoot != null) {
-            if (!libraryClassRoot.equals(info.getLibraryClassRoot())) return null;
-            if (info.isInModuleSource()) return null;
-          }
-          else if (librarySourceRoot != null) {
-            if (!info.isInLibrarySource()) return null;
-            if (!librarySourceRoot.equals(info.getSourceRoot())) return null;
-            if (info.hasLibraryClassRoot()) return null;
-          }
+          if (!acceptsOrderEntries(info, module, libraryClassRoot, librarySourceRoot)) return null;
 
           OrderEntry[] oldParentEntries = myEntries.isEmpty() ? null : myEntries.peek();
           OrderEntry[] oldEntries = info.getOrderEntries();
@@ -704,6 +909,57 @@ public class DirectoryIndexImpl extends DirectoryIndex {
       });
     }
 
+    // same as the visitor above, over the cached directories of a jar
+    private void fillMapWithOrderEntries(@NotNull JarDirectories directories,
+                                         @NotNull OrderEntry[] orderEntries,
+                                         @Nullable Module module,
+                                         @Nullable VirtualFile libraryClassRoot,
+                                         @Nullable VirtualFile librarySourceRoot,
+                                         @Nullable DirectoryInfo parentInfo,
+                                         @Nullable ProgressIndicator progress) {
+      OrderEntry[][] oldEntries = new OrderEntry[directories.myIds.length][];
+      int i = 0;
+      while (i < directories.myIds.length) {
+        if (progress != null) {
+          progress.checkCanceled();
+        }
+        int dirId = directories.myIds[i];
+        DirectoryInfo info = myDirToInfoMap.get(dirId);
+        if (!acceptsOrderEntries(info, module, libraryClassRoot, librarySourceRoot)) {
+          i = directories.mySubtreeEnds[i];
+          continue;
+        }
+
+        OrderEntry[] oldParentEntries = i == 0 ? null : oldEntries[directories.myParents[i]];
+        oldEntries[i] = info.getOrderEntries();
+        info = info.withOrderEntries(orderEntries, parentInfo, oldParentEntries);
+        storeInfo(info, dirId);
+        i++;
+      }
+    }
+
+    private boolean acceptsOrderEntries(@Nullable DirectoryInfo info,
+                                        @Nullable Module module,
+                                        @Nullable VirtualFile libraryClassRoot,
+                                        @Nullable VirtualFile librarySourceRoot) {
+      if (info == null) return false;
+
+      if (module != null) {
+        if (info.getModule() != module) return false;
+        if (!info.isInModuleSource()) return false;
+      }
+      else if (libraryClassRoot != null) {
+        if (!libraryClassRoot.equals(info.getLibraryClassRoot())) return false;
+        if (info.isInModuleSource()) return false;
+      }
+      else if (librarySourceRoot != null) {
+        if (!info.isInLibrarySource()) return false;
+        if (!librarySourceRoot.equals(info.getSourceRoot())) return false;
+        if (info.hasLibraryClassRoot()) return false;
+      }
+      return true;
+    }
+
     protected void doInitialize(boolean reverseAllSets/* for testing order independence*/) {
       ProgressIndicator progress = ProgressIndicatorProvider.getGlobalProgressIndicator();
       if (progress == null) progress = new EmptyProgressIndicator();
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2000-2012 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.intellij.execution.testframework.sm;
+
+import com.intellij.openapi.application.Application;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.diagnostic.Logger;
+import org.jetbrains.annotations.NotNull;
+
+import javax.swing.*;
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+/**
+ * Runs tasks in the Event Dispatch Thread, preserving the order in which they were added, like
+ * {@link SMRunnerUtil#addToInvokeLater(Runnable)} does, but posts a single event for all tasks added
+ * while the previous batch is waiting to be run. A test framework may report thousands of events per second, and posting every one
+ * of them separately floods the event queue, so that painting and user input are handled between them with a huge delay.
+ * <p/>
+ * A batch is run for {@link #FRAME_MS} at most; the rest of tasks is rescheduled, so that the UI stays responsive.
+ */
+public class BatchingInvoker {
+  private static final Logger LOG = Logger.getInstance("#com.intellij.execution.testframework.sm.BatchingInvoker");
+  private static final long FRAME_MS = 40;
+
+  private final Queue<Runnable> myTasks = new ArrayDeque<Runnable>(); // guarded by myTasks
+  private boolean myDrainScheduled; // guarded by myTasks
+
+  private final Runnable myDrain = new Runnable() {
+    @Override
+    public void run() {
+      drain(true);
+    }
+  };
+
+  public void invokeLater(@NotNull Runnable task) {
+    final Application application = ApplicationManager.getApplication();
+    if (application.isHeadlessEnvironment() && !application.isUnitTestMode()) {
+      task.run();
+      return;
+    }
+
+    if (SwingUtilities.isEventDispatchThread()) {
+      // run everything added before the task first
+      drain(false);
+      task.run();
+      return;
+    }
+
+    synchronized (myTasks) {
+      myTasks.add(task);
+      if (myDrainScheduled) return;
+      myDrainScheduled = true;
+    }
+    SwingUtilities.invokeLater(myDrain);
+  }
+
+  /**
+   * Runs all pending tasks without yielding to other events: right away if called in the Event Dispatch Thread,
+   * otherwise in a single event posted to it.
+   */
+  public void flush() {
+    if (SwingUtilities.isEventDispatchThread()) {
+      drain(false);
+      return;
+    }
+    synchronized (myTasks) {
+      if (myTasks.isEmpty()) return;
+    }
+    SwingUtilities.invokeLater(new Runnable() {
+      @Override
+      public void run() {
+        drain(false);
+      }
+    });
+  }
+
+  private void drain(boolean limitTime) {
+    final long deadline = System.currentTimeMillis() + FRAME_MS;
+    while (true) {
+      final Runnable task;
+      synchronized (myTasks) {
+        task = myTasks.poll();
+        if (task == null) {
+          if (limitTime) myDrainScheduled = false;
+          return;
+        }
+      }
+      try {
+        task.run();
+      }
+      catch (Throwable e) {
+        LOG.error(e);
+      }
+      if (limitTime && System.currentTimeMillis() > deadline) {
+        SwingUtilities.invokeLater(myDrain);
+        return;
+      }
+    }
+  }
+}
@@ -17,7 +17,7 @@ package com.intellij.execution.testframework.sm.runner;
 
 import com.intellij.execution.process.ProcessOutputTypes;
 import com.intellij.execution.testframework.Printer;
-import com.intellij.execution.testframework.sm.SMRunnerUtil;
+import com.intellij.execution.testframework.sm.BatchingInvoker;
 import com.intellij.execution.testframework.sm.SMTestRunnerConnectionUtil;
 import com.intellij.execution.testframework.sm.runner.events.*;
 import com.intellij.openapi.application.Application;
@@ -46,6 +46,7 @@ public class GeneralIdBasedToSMTRunnerEventsConvertor implements GeneralTestEven
   private final SMTestProxy.SMRootTestProxy myTestsRootProxy;
   private final Node myTestsRootNode;
   private final String myTestFrameworkName;
+  private final BatchingInvoker myInvoker = new BatchingInvoker();
   private boolean myIsTestingFinished = false;
   private TestLocationProvider myLocator = null;
   private TestProxyPrinterProvider myTestProxyPrinterProvider = null;
@@ -68,7 +69,7 @@ public class GeneralIdBasedToSMTRunnerEventsConvertor implements GeneralTestEven
   }
 
   public void onStartTesting() {
-    SMRunnerUtil.addToInvokeLater(new Runnable() {
+    myInvoker.invokeLater(new Runnable() {
       public void run() {
         myTestsRootProxy.setStarted();
 
@@ -79,7 +80,7 @@ public class GeneralIdBasedToSMTRunnerEventsConvertor implements GeneralTestEven
 
   @Override
   public void onTestsReporterAttached() {
-    SMRunnerUtil.addToInvokeLater(new Runnable() {
+    myInvoker.invokeLater(new Runnable() {
       public void run() {
         myTestsRootProxy.setTestsReporterAttached();
       }
@@ -87,7 +88,7 @@ public class GeneralIdBasedToSMTRunnerEventsConvertor implements GeneralTestEven
   }
 
   public void onFinishTesting() {
-    SMRunnerUtil.addToInvokeLater(new Runnable() {
+    myInvoker.invokeLater(new Runnable() {
       public void run() {
         if (myIsTestingFinished) {
           // has been already invoked!
@@ -111,6 +112,8 @@ public class GeneralIdBasedToSMTRunnerEventsConvertor implements GeneralTestEven
         fireOnTestingFinished();
       }
     });
+    // deliver the rest of the events at once rather than in frames; nothing is going to be added after them
+    myInvoker.flush();
   }
 
   @Override
@@ -119,7 +122,7 @@ public class GeneralIdBasedToSMTRunnerEventsConvertor implements GeneralTestEven
   }
 
   public void onTestStarted(@NotNull final TestStartedEvent testStartedEvent) {
-    SMRunnerUtil.addToInvokeLater(new Runnable() {
+    myInvoker.invokeLater(new Runnable() {
       public void run() {
         doStartNode(testStartedEvent, false);
       }
@@ -127,7 +130,7 @@ public class GeneralIdBasedToSMTRunnerEventsConvertor implements GeneralTestEven
   }
 
   public void onSuiteStarted(@NotNull final TestSuiteStartedEvent suiteStartedEvent) {
-    SMRunnerUtil.addToInvokeLater(new Runnable() {
+    myInvoker.invokeLater(new Runnable() {
       public void run() {
         doStartNode(suiteStartedEvent, true);
       }
@@ -196,7 +199,7 @@ public class GeneralIdBasedToSMTRunnerEventsConvertor implements GeneralTestEven
   }
 
   public void onTestFinished(@NotNull final TestFinishedEvent testFinishedEvent) {
-    SMRunnerUtil.addToInvokeLater(new Runnable() {
+    myInvoker.invokeLater(new Runnable() {
       public void run() {
         SMTestProxy testProxy = getProxyToFinish(testFinishedEvent);
         if (testProxy != null) {
@@ -209,7 +212,7 @@ public class GeneralIdBasedToSMTRunnerEventsConvertor implements GeneralTestEven
   }
 
   public void onSuiteFinished(@NotNull final TestSuiteFinishedEvent suiteFinishedEvent) {
-    SMRunnerUtil.addToInvokeLater(new Runnable() {
+    myInvoker.invokeLater(new Runnable() {
       public void run() {
         SMTestProxy suiteProxy = getProxyToFinish(suiteFinishedEvent);
         if (suiteProxy != null) {
@@ -232,7 +235,7 @@ public class GeneralIdBasedToSMTRunnerEventsConvertor implements GeneralTestEven
   }
 
   public void onUncapturedOutput(@NotNull final String text, final Key outputType) {
-    SMRunnerUtil.addToInvokeLater(new Runnable() {
+    myInvoker.invokeLater(new Runnable() {
       public void run() {
         Node activeNode = findActiveNode();
         SMTestProxy activeProxy = activeNode.getProxy();
@@ -250,7 +253,7 @@ public class GeneralIdBasedToSMTRunnerEventsConvertor implements GeneralTestEven
   public void onError(@NotNull final String localizedMessage,
                       @Nullable final String stackTrace,
                       final boolean isCritical) {
-    SMRunnerUtil.addToInvokeLater(new Runnable() {
+    myInvoker.invokeLater(new Runnable() {
       public void run() {
         Node activeNode = findActiveNode();
         SMTestProxy activeProxy = activeNode.getProxy();
@@ -261,7 +264,7 @@ public class GeneralIdBasedToSMTRunnerEventsConvertor implements GeneralTestEven
 
   public void onCustomProgressTestsCategory(@Nullable final String categoryName,
                                             final int testCount) {
-    SMRunnerUtil.addToInvokeLater(new Runnable() {
+    myInvoker.invokeLater(new Runnable() {
       public void run() {
         fireOnCustomProgressTestsCategory(categoryName, testCount);
       }
@@ -269,7 +272,7 @@ public class GeneralIdBasedToSMTRunnerEventsConvertor implements GeneralTestEven
   }
 
   public void onCustomProgressTestStarted() {
-    SMRunnerUtil.addToInvokeLater(new Runnable() {
+    myInvoker.invokeLater(new Runnable() {
       public void run() {
         fireOnCustomProgressTestStarted();
       }
@@ -277,7 +280,7 @@ public class GeneralIdBasedToSMTRunnerEventsConvertor implements GeneralTestEven
   }
 
   public void onCustomProgressTestFailed() {
-    SMRunnerUtil.addToInvokeLater(new Runnable() {
+    myInvoker.invokeLater(new Runnable() {
       public void run() {
         fireOnCustomProgressTestFailed();
       }
@@ -285,7 +288,7 @@ public class GeneralIdBasedToSMTRunnerEventsConvertor implements GeneralTestEven
   }
 
   public void onTestFailure(@NotNull final TestFailedEvent testFailedEvent) {
-    SMRunnerUtil.addToInvokeLater(new Runnable() {
+    myInvoker.invokeLater(new Runnable() {
       public void run() {
         Node node = findNode(testFailedEvent);
         if (node == null) {
@@ -320,7 +323,7 @@ public class GeneralIdBasedToSMTRunnerEventsConvertor implements GeneralTestEven
   }
 
   public void onTestIgnored(@NotNull final TestIgnoredEvent testIgnoredEvent) {
-    SMRunnerUtil.addToInvokeLater(new Runnable() {
+    myInvoker.invokeLater(new Runnable() {
       public void run() {
         Node node = findNode(testIgnoredEvent);
         if (node == null) {
@@ -339,7 +342,7 @@ public class GeneralIdBasedToSMTRunnerEventsConvertor implements GeneralTestEven
   }
 
   public void onTestOutput(@NotNull final TestOutputEvent testOutputEvent) {
-    SMRunnerUtil.addToInvokeLater(new Runnable() {
+    myInvoker.invokeLater(new Runnable() {
       public void run() {
         Node node = findNode(testOutputEvent);
         if (node == null) {
@@ -358,7 +361,7 @@ public class GeneralIdBasedToSMTRunnerEventsConvertor implements GeneralTestEven
   }
 
   public void onTestsCountInSuite(final int count) {
-    SMRunnerUtil.addToInvokeLater(new Runnable() {
+    myInvoker.invokeLater(new Runnable() {
       public void run() {
         fireOnTestsCountInSuite(count);
       }
@@ -460,7 +463,7 @@ public class GeneralIdBasedToSMTRunnerEventsConvertor implements GeneralTestEven
    * Remove listeners,  etc
    */
   public void dispose() {
-    SMRunnerUtil.addToInvokeLater(new Runnable() {
+    myInvoker.invokeLater(new Runnable() {
       public void run() {
         myEventsListeners.clear();
 
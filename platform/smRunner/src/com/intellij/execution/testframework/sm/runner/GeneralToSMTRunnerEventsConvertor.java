@@ -17,7 +17,7 @@ package com.intellij.execution.testframework.sm.runner;
 
 import com.intellij.execution.process.ProcessOutputTypes;
 import com.intellij.execution.testframework.AbstractTestProxy;
-import com.intellij.execution.testframework.sm.SMRunnerUtil;
+import com.intellij.execution.testframework.sm.BatchingInvoker;
 import com.intellij.execution.testframework.sm.SMTestRunnerConnectionUtil;
 import com.intellij.execution.testframework.sm.runner.events.*;
 import com.intellij.openapi.application.Application;
@@ -48,6 +48,7 @@ public class GeneralToSMTRunnerEventsConvertor implements GeneralTestEventsProce
   private final List<SMTRunnerEventsListener> myEventsListeners = new ArrayList<SMTRunnerEventsListener>();
   private final SMTestProxy.SMRootTestProxy myTestsRootNode;
   private final String myTestFrameworkName;
+  private final BatchingInvoker myInvoker = new BatchingInvoker();
   private boolean myIsTestingFinished;
   private TestLocationProvider myLocator = null;
 
@@ -66,7 +67,7 @@ public class GeneralToSMTRunnerEventsConvertor implements GeneralTestEventsProce
   }
 
   public void onStartTesting() {
-    SMRunnerUtil.addToInvokeLater(new Runnable() {
+    myInvoker.invokeLater(new Runnable() {
       public void run() {
         mySuitesStack.pushSuite(myTestsRootNode);
         myTestsRootNode.setStarted();
@@ -79,7 +80,7 @@ public class GeneralToSMTRunnerEventsConvertor implements GeneralTestEventsProce
 
   @Override
   public void onTestsReporterAttached() {
-    SMRunnerUtil.addToInvokeLater(new Runnable() {
+    myInvoker.invokeLater(new Runnable() {
       public void run() {
         myTestsRootNode.setTestsReporterAttached();
       }
@@ -87,7 +88,7 @@ public class GeneralToSMTRunnerEventsConvertor implements GeneralTestEventsProce
   }
 
   public void onFinishTesting() {
-    SMRunnerUtil.addToInvokeLater(new Runnable() {
+    myInvoker.invokeLater(new Runnable() {
       public void run() {
         if (myIsTestingFinished) {
           // has been already invoked!
@@ -111,6 +112,8 @@ public class GeneralToSMTRunnerEventsConvertor implements GeneralTestEventsProce
         fireOnTestingFinished();
       }
     });
+    // deliver the rest of the events at once rather than in frames; nothing is going to be added after them
+    myInvoker.flush();
   }
 
   @Override
@@ -118,7 +121,7 @@ public class GeneralToSMTRunnerEventsConvertor implements GeneralTestEventsProce
   }
 
   public void onTestStarted(@NotNull final TestStartedEvent testStartedEvent) {
-    SMRunnerUtil.addToInvokeLater(new Runnable() {
+    myInvoker.invokeLater(new Runnable() {
       public void run() {
         final String testName = testStartedEvent.getName();
         final String locationUrl = testStartedEvent.getLocationUrl();
@@ -154,7 +157,7 @@ public class GeneralToSMTRunnerEventsConvertor implements GeneralTestEventsProce
   }
 
   public void onSuiteStarted(@NotNull final TestSuiteStartedEvent suiteStartedEvent) {
-    SMRunnerUtil.addToInvokeLater(new Runnable() {
+    myInvoker.invokeLater(new Runnable() {
       public void run() {
         final String suiteName = suiteStartedEvent.getName();
         final String locationUrl = suiteStartedEvent.getLocationUrl();
@@ -178,7 +181,7 @@ public class GeneralToSMTRunnerEventsConvertor implements GeneralTestEventsProce
   }
 
   public void onTestFinished(@NotNull final TestFinishedEvent testFinishedEvent) {
-    SMRunnerUtil.addToInvokeLater(new Runnable() {
+    myInvoker.invokeLater(new Runnable() {
       public void run() {
         final String testName = testFinishedEvent.getName();
         final long duration = testFinishedEvent.getDuration();
@@ -202,7 +205,7 @@ public class GeneralToSMTRunnerEventsConvertor implements GeneralTestEventsProce
   }
 
   public void onSuiteFinished(@NotNull final TestSuiteFinishedEvent suiteFinishedEvent) {
-    SMRunnerUtil.addToInvokeLater(new Runnable() {
+    myInvoker.invokeLater(new Runnable() {
       public void run() {
         final String suiteName = suiteFinishedEvent.getName();
         final SMTestProxy mySuite = mySuitesStack.popSuite(suiteName);
@@ -217,7 +220,7 @@ public class GeneralToSMTRunnerEventsConvertor implements GeneralTestEventsProce
   }
 
   public void onUncapturedOutput(@NotNull final String text, final Key outputType) {
-    SMRunnerUtil.addToInvokeLater(new Runnable() {
+    myInvoker.invokeLater(new Runnable() {
       public void run() {
         final SMTestProxy currentProxy = findCurrentTestOrSuite();
 
@@ -235,7 +238,7 @@ public class GeneralToSMTRunnerEventsConvertor implements GeneralTestEventsProce
   public void onError(@NotNull final String localizedMessage,
                       @Nullable final String stackTrace,
                       final boolean isCritical) {
-    SMRunnerUtil.addToInvokeLater(new Runnable() {
+    myInvoker.invokeLater(new Runnable() {
       public void run() {
         final SMTestProxy currentProxy = findCurrentTestOrSuite();
         currentProxy.addError(localizedMessage, stackTrace, isCritical);
@@ -245,7 +248,7 @@ public class GeneralToSMTRunnerEventsConvertor implements GeneralTestEventsProce
 
   public void onCustomProgressTestsCategory(@Nullable final String categoryName,
                                             final int testCount) {
-    SMRunnerUtil.addToInvokeLater(new Runnable() {
+    myInvoker.invokeLater(new Runnable() {
       public void run() {
         fireOnCustomProgressTestsCategory(categoryName, testCount);
       }
@@ -253,7 +256,7 @@ public class GeneralToSMTRunnerEventsConvertor implements GeneralTestEventsProce
   }
 
   public void onCustomProgressTestStarted() {
-    SMRunnerUtil.addToInvokeLater(new Runnable() {
+    myInvoker.invokeLater(new Runnable() {
       public void run() {
         fireOnCustomProgressTestStarted();
       }
@@ -261,7 +264,7 @@ public class GeneralToSMTRunnerEventsConvertor implements GeneralTestEventsProce
   }
 
   public void onCustomProgressTestFailed() {
-    SMRunnerUtil.addToInvokeLater(new Runnable() {
+    myInvoker.invokeLater(new Runnable() {
       public void run() {
         fireOnCustomProgressTestFailed();
       }
@@ -269,7 +272,7 @@ public class GeneralToSMTRunnerEventsConvertor implements GeneralTestEventsProce
   }
 
   public void onTestFailure(@NotNull final TestFailedEvent testFailedEvent) {
-    SMRunnerUtil.addToInvokeLater(new Runnable() {
+    myInvoker.invokeLater(new Runnable() {
       public void run() {
         final String testName = ObjectUtils.assertNotNull(testFailedEvent.getName());
         final String localizedMessage = testFailedEvent.getLocalizedFailureMessage();
@@ -335,7 +338,7 @@ public class GeneralToSMTRunnerEventsConvertor implements GeneralTestEventsProce
   }
 
   public void onTestIgnored(@NotNull final TestIgnoredEvent testIgnoredEvent) {
-    SMRunnerUtil.addToInvokeLater(new Runnable() {
+    myInvoker.invokeLater(new Runnable() {
       public void run() {
         final String testName = ObjectUtils.assertNotNull(testIgnoredEvent.getName());
         final String ignoreComment = testIgnoredEvent.getIgnoreComment();
@@ -372,7 +375,7 @@ public class GeneralToSMTRunnerEventsConvertor implements GeneralTestEventsProce
   }
 
   public void onTestOutput(@NotNull final TestOutputEvent testOutputEvent) {
-    SMRunnerUtil.addToInvokeLater(new Runnable() {
+    myInvoker.invokeLater(new Runnable() {
       public void run() {
         final String testName = testOutputEvent.getName();
         final String text = testOutputEvent.getText();
@@ -397,7 +400,7 @@ public class GeneralToSMTRunnerEventsConvertor implements GeneralTestEventsProce
   }
 
   public void onTestsCountInSuite(final int count) {
-    SMRunnerUtil.addToInvokeLater(new Runnable() {
+    myInvoker.invokeLater(new Runnable() {
       public void run() {
         fireOnTestsCountInSuite(count);
       }
@@ -536,7 +539,7 @@ public class GeneralToSMTRunnerEventsConvertor implements GeneralTestEventsProce
    * Remove listeners,  etc
    */
   public void dispose() {
-    SMRunnerUtil.addToInvokeLater(new Runnable() {
+    myInvoker.invokeLater(new Runnable() {
       public void run() {
         myEventsListeners.clear();
 
@@ -41,19 +41,37 @@ public abstract class OutputLineSplitter {
   }
 
   public void process(final String text, final Key outputType) {
+    final int length = text.length();
+    if (length == 0) return;
     int from = 0;
-    int to = 0;
-    for (; to < text.length(); to++) {
-      if (text.charAt(to) == '\n') {
-        processLine(text.substring(from, to + 1), outputType);
-        from = to + 1;
-      }
+    int to = text.indexOf('\n');
+    if (to < 0 || to == length - 1) {
+      // a single line, which is the usual case when output is split to lines by the process handler
+      processLine(text, outputType);
+      return;
+    }
+    for (; to >= 0; to = text.indexOf('\n', from)) {
+      processLine(text.substring(from, to + 1), outputType);
+      from = to + 1;
     }
-    if (from < text.length()) {
+    if (from < length) {
       processLine(text.substring(from), outputType);
     }
   }
 
+  /**
+   * Checks whether the text, with leading whitespaces skipped, starts with the service message prefix,
+   * without copying the text.
+   */
+  public static boolean startsWithServiceMessagePrefix(@NotNull String text) {
+    final int length = text.length();
+    int start = 0;
+    while (start < length && text.charAt(start) <= ' ') {
+      start++;
+    }
+    return text.startsWith(TEAMCITY_SERVICE_MESSAGE_PREFIX, start);
+  }
+
   private void processLine(String text, Key outputType) {
     if (!myBuffers.keySet().contains(outputType)) {
       processStdOutConsistently(text, outputType);
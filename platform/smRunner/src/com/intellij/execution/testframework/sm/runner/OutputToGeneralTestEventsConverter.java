@@ -132,6 +132,10 @@ public class OutputToGeneralTestEventsConverter implements ProcessOutputConsumer
   protected boolean processServiceMessages(final String text,
                                            final Key outputType,
                                            final ServiceMessageVisitor visitor) throws ParseException {
+    if (!OutputLineSplitter.startsWithServiceMessagePrefix(text)) {
+      // most of lines are plain output, don't let the parser copy them
+      return false;
+    }
     // service message parser expects line like "##teamcity[ .... ]" without whitespaces in the end.
     final ServiceMessage message = ServiceMessage.parse(text.trim());
     if (message != null) {
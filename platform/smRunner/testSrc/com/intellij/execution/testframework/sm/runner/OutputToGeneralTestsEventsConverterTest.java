@@ -18,7 +18,10 @@ package com.intellij.execution.testframework.sm.runner;
 import com.intellij.execution.executors.DefaultRunExecutor;
 import com.intellij.execution.process.ProcessOutputTypes;
 import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.testFramework.PlatformTestUtil;
+import com.intellij.util.ThrowableRunnable;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -80,6 +83,41 @@ public class OutputToGeneralTestsEventsConverterTest extends BaseSMTRunnerTestCa
                    false);
   }
 
+  public void testPerformance_LargeTestLog() {
+    final List<String> log = createLargeTestLog(50000);
+    PlatformTestUtil.startPerformanceTest("Replaying test log with 50000 tests", 3000, new ThrowableRunnable() {
+      @Override
+      public void run() throws Exception {
+        for (String line : log) {
+          myOutputConsumer.process(line, ProcessOutputTypes.STDOUT);
+        }
+        myOutputConsumer.flushBufferBeforeTerminating();
+      }
+    }).cpuBound().assertTiming();
+  }
+
+  /**
+   * Emulates the log of a test run with verbose tests: every test prints a few lines of output besides its service messages.
+   */
+  private static List<String> createLargeTestLog(int testCount) {
+    final List<String> log = new ArrayList<String>();
+    log.add("##teamcity[enteredTheMatrix]\n");
+    log.add("##teamcity[testSuiteStarted name='suite' locationHint='java:suite://Suite']\n");
+    for (int i = 0; i < testCount; i++) {
+      final String name = "test" + i;
+      log.add("##teamcity[testStarted name='" + name + "' locationHint='java:test://Suite." + name + "']\n");
+      for (int j = 0; j < 3; j++) {
+        log.add("[main] INFO  com.example.Service - processing request " + j + " of " + name + "\n");
+      }
+      if (i % 100 == 0) {
+        log.add("##teamcity[testFailed name='" + name + "' message='expected:<1> but was:<2>' details='at Suite." + name + "(Suite.java:42)']\n");
+      }
+      log.add("##teamcity[testFinished name='" + name + "' duration='1']\n");
+    }
+    log.add("##teamcity[testSuiteFinished name='suite']\n");
+    return log;
+  }
+
   private void doCheckOutptut(String outputStr, String expected, boolean splitByLines) {
     final List<String> lines;
     if (splitByLines) {
@@ -122,4 +122,10 @@ public class MockApplicationEx extends MockApplication implements ApplicationEx
   public boolean tryRunReadAction(@NotNull Runnable runnable) {
     return false;
   }
+
+  @Override
+  public boolean tryRunReadActionWithWriteActionPriority(@NotNull Runnable action) {
+    action.run();
+    return true;
+  }
 }
@@ -28,6 +28,7 @@ import java.util.concurrent.*;
 
 public class BaseOSProcessHandler extends ProcessHandler {
   private static final Logger LOG = Logger.getInstance("#com.intellij.execution.process.OSProcessHandlerBase");
+  private static final boolean ourBlockingReadByDefault = "true".equals(System.getProperty("idea.process.output.blocking.read"));
 
   @NotNull protected final Process myProcess;
   @Nullable protected final String myCommandLine;
@@ -50,6 +51,25 @@ public class BaseOSProcessHandler extends ProcessHandler {
     return ExecutorServiceHolder.ourThreadExecutorsService.submit(task);
   }
 
+  /**
+   * Override this method to read process output with blocking reads instead of polling the streams.
+   * Blocking reads deliver output without a delay and don't wake up an idle process' reader threads, but a stream which is
+   * inherited by a child process may stay open after the process is terminated; the termination is reported anyway then,
+   * with a short delay.
+   */
+  protected boolean useBlockingRead() {
+    return ourBlockingReadByDefault;
+  }
+
+  /**
+   * Override this method to deliver process output to {@link ProcessListener#onTextAvailable} in chunks of all text read at once
+   * instead of line by line. That saves a lot of events for processes with massive output, but listeners
+   * should not expect the text to end with a line separator then.
+   */
+  protected boolean splitOutputToLines() {
+    return true;
+  }
+
   @NotNull
   public Process getProcess() {
     return myProcess;
@@ -240,7 +260,7 @@ public class BaseOSProcessHandler extends ProcessHandler {
     private final Key myProcessOutputType;
 
     private SimpleOutputReader(@NotNull Reader reader, @NotNull Key processOutputType) {
-      super(reader);
+      super(reader, useBlockingRead(), splitOutputToLines());
       myProcessOutputType = processOutputType;
       start();
     }
@@ -23,24 +23,55 @@ import java.io.IOException;
 import java.io.Reader;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
+ * Reads process output and passes it to {@link #onTextAvailable(String)}.
+ * <p/>
+ * By default, the reader polls the stream: it reads everything that is {@link Reader#ready() ready} and sleeps for a while.
+ * This is the only safe way when the stream may stay open after the process is terminated (e.g. when it's inherited by
+ * a child process), but it costs a wakeup every few milliseconds for every running process. In the blocking mode the reader
+ * blocks on the stream instead, so an idle process costs nothing and new output is delivered without a delay.
+ * <p/>
+ * Independently of the mode, the read text is either split to lines, each line delivered separately, or delivered
+ * in chunks of all text available at once, which produces much less events for a process with a lot of short lines of output.
+ *
  * @author traff
  */
 public abstract class BaseOutputReader {
   private static final Logger LOG = Logger.getInstance("#com.intellij.util.io.BaseOutputReader");
 
+  /**
+   * Time to wait in the blocking mode for the stream end after the reader is {@link #stop() stopped}.
+   */
+  private static final int BLOCKING_STOP_TIMEOUT_MS = 1000;
+
   protected final Reader myReader;
   protected volatile boolean isStopped = false;
 
   private final char[] myBuffer = new char[8192];
   private final StringBuilder myTextBuffer = new StringBuilder();
   private boolean skipLF = false;
+  private final boolean myBlocking;
+  private final boolean mySplitToLines;
 
   private Future<?> myFinishedFuture = null;
+  private volatile boolean myWaitingForData;
+  private volatile int myBlockingReadCount;
 
   public BaseOutputReader(@NotNull Reader reader) {
+    this(reader, false, true);
+  }
+
+  /**
+   * @param blocking      whether the reader should block on the stream instead of polling it
+   * @param splitToLines  whether every line should be delivered to {@link #onTextAvailable(String)} separately
+   */
+  public BaseOutputReader(@NotNull Reader reader, boolean blocking, boolean splitToLines) {
     myReader = reader;
+    myBlocking = blocking;
+    mySplitToLines = splitToLines;
   }
 
   protected void start() {
@@ -55,8 +86,21 @@ public abstract class BaseOutputReader {
 
   protected abstract Future<?> executeOnPooledThread(Runnable runnable);
 
+  public boolean isBlocking() {
+    return myBlocking;
+  }
+
   protected void doRun() {
     try {
+      if (myBlocking) {
+        while (readBlocking()) {
+          if (isStopped && !myReader.ready()) {
+            break;
+          }
+        }
+        return;
+      }
+
       while (true) {
         boolean read = readAvailable();
 
@@ -89,42 +133,94 @@ public abstract class BaseOutputReader {
    * @exception  IOException  If an I/O error occurs
    */
   protected final boolean readAvailable() throws IOException {
-    char[] buffer = myBuffer;
-    StringBuilder token = myTextBuffer;
-    token.setLength(0);
-
     boolean read = false;
     while (myReader.ready()) {
-      int n = myReader.read(buffer);
+      int n = myReader.read(myBuffer);
       if (n <= 0) break;
       read = true;
+      processChars(n);
+    }
+    flushText();
+    return read;
+  }
 
-      for (int i = 0; i < n; i++) {
-        char c = buffer[i];
-        if (skipLF && c != '\n') {
-          token.append('\r');
-        }
+  /**
+   * Blocks until some data is available, then reads as much data as possible without further blocking.
+   * @return false if the end of the stream has been reached
+   * @exception  IOException  If an I/O error occurs
+   */
+  protected final boolean readBlocking() throws IOException {
+    myWaitingForData = true;
+    int n;
+    try {
+      n = myReader.read(myBuffer);
+    }
+    finally {
+      myWaitingForData = false;
+      myBlockingReadCount++;
+    }
+    if (n < 0) {
+      flushText();
+      return false;
+    }
+    processChars(n);
+    while (myReader.ready()) {
+      n = myReader.read(myBuffer);
+      if (n < 0) {
+        flushText();
+        return false;
+      }
+      if (n == 0) break;
+      processChars(n);
+    }
+    flushText();
+    return true;
+  }
 
-        if (c == '\r') {
-          skipLF = true;
-        }
-        else {
-          skipLF = false;
-          token.append(c);
-        }
+  /**
+   * @return true if the reader is blocked on the stream after all previously read text has been delivered
+   */
+  protected boolean isWaitingForData() {
+    return myWaitingForData;
+  }
 
-        if (c == '\n') {
-          onTextAvailable(token.toString());
-          token.setLength(0);
-        }
+  /**
+   * @return number of completed blocking reads, to tell whether the reader has been {@link #isWaitingForData() waiting} all the time
+   */
+  protected int getBlockingReadCount() {
+    return myBlockingReadCount;
+  }
+
+  private void processChars(int n) {
+    char[] buffer = myBuffer;
+    StringBuilder token = myTextBuffer;
+    for (int i = 0; i < n; i++) {
+      char c = buffer[i];
+      if (skipLF && c != '\n') {
+        token.append('\r');
+      }
+
+      if (c == '\r') {
+        skipLF = true;
+      }
+      else {
+        skipLF = false;
+        token.append(c);
+      }
+
+      if (c == '\n' && mySplitToLines) {
+        onTextAvailable(token.toString());
+        token.setLength(0);
       }
     }
+  }
 
+  private void flushText() {
+    StringBuilder token = myTextBuffer;
     if (token.length() != 0) {
       onTextAvailable(token.toString());
       token.setLength(0);
     }
-    return read;
   }
 
   protected abstract void onTextAvailable(@NotNull String text);
@@ -133,12 +229,24 @@ public abstract class BaseOutputReader {
     isStopped = true;
   }
 
+  /**
+   * Waits until the reading is finished. In the blocking mode, the stream may stay open after the process is terminated,
+   * so a {@link #stop() stopped} reader is waited for a limited time only; the reading continues in background then.
+   */
   public void waitFor() throws InterruptedException {
     try {
-      myFinishedFuture.get();
+      if (myBlocking && isStopped) {
+        myFinishedFuture.get(BLOCKING_STOP_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+      }
+      else {
+        myFinishedFuture.get();
+      }
     }
     catch (ExecutionException e) {
       LOG.error(e);
     }
+    catch (TimeoutException e) {
+      LOG.info("The stream is still open after " + BLOCKING_STOP_TIMEOUT_MS + "ms");
+    }
   }
 }
@@ -33,8 +33,23 @@ public abstract class OutputReader extends BaseOutputReader {
     start();
   }
 
+  public OutputReader(@NotNull Reader reader, boolean blocking, boolean splitToLines) {
+    super(reader, blocking, splitToLines);
+    start();
+  }
+
   protected void doRun() {
     try {
+      if (isBlocking()) {
+        while (readBlocking()) {
+          if (isStopped && !myReader.ready()) {
+            break;
+          }
+        }
+        myReadFullySemaphore.up();
+        return;
+      }
+
       while (true) {
         boolean read = readAvailable();
 
@@ -69,11 +84,20 @@ public abstract class OutputReader extends BaseOutputReader {
 
   public void readFully() throws InterruptedException {
     myReadFullySemaphore.down();
+    int readCount = -1;
     while (!myReadFullySemaphore.waitForUnsafe(10)) {
       if (isStopped) {
         waitFor();
         return;
       }
+      if (isBlocking()) {
+        // the reader doesn't report that it has read everything, so check that it has been blocked on the stream for a while
+        if (isWaitingForData() && readCount == getBlockingReadCount()) {
+          myReadFullySemaphore.up();
+          return;
+        }
+        readCount = isWaitingForData() ? getBlockingReadCount() : -1;
+      }
     }
   }
 
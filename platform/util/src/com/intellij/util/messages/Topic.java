@@ -34,15 +34,24 @@ public class Topic<L> {
   private final String myDisplayName;
   private final Class<L> myListenerClass;
   private final BroadcastDirection myBroadcastDirection;
+  private final DeliveryMode myDeliveryMode;
 
   public Topic(@NonNls @NotNull String displayName, @NotNull Class<L> listenerClass) {
     this(displayName, listenerClass, BroadcastDirection.TO_CHILDREN);
   }
 
   public Topic(@NonNls @NotNull String displayName, @NotNull Class<L> listenerClass, final BroadcastDirection broadcastDirection) {
+    this(displayName, listenerClass, broadcastDirection, DeliveryMode.SYNC);
+  }
+
+  public Topic(@NonNls @NotNull String displayName,
+               @NotNull Class<L> listenerClass,
+               final BroadcastDirection broadcastDirection,
+               @NotNull DeliveryMode deliveryMode) {
     myDisplayName = displayName;
     myListenerClass = listenerClass;
     myBroadcastDirection = broadcastDirection;
+    myDeliveryMode = deliveryMode;
   }
 
   /**
@@ -86,6 +95,24 @@ public class Topic<L> {
     return new Topic<L>(displayName, listenerClass, direction);
   }
 
+  public static <L> Topic<L> createAsync(@NonNls @NotNull String displayName, @NotNull Class<L> listenerClass, boolean coalesce) {
+    return new Topic<L>(displayName, listenerClass, BroadcastDirection.TO_CHILDREN,
+                        coalesce ? DeliveryMode.ASYNC_COALESCED : DeliveryMode.ASYNC);
+  }
+
+  /**
+   * @return    delivery strategy configured for the current topic. Default value is {@link DeliveryMode#SYNC}
+   * @see DeliveryMode
+   */
+  @NotNull
+  public DeliveryMode getDeliveryMode() {
+    return myDeliveryMode;
+  }
+
+  public boolean isDeliveredAsynchronously() {
+    return myDeliveryMode != DeliveryMode.SYNC;
+  }
+
   /**
    * @return    broadcasting strategy configured for the current topic. Default value is {@link BroadcastDirection#TO_CHILDREN}
    * @see BroadcastDirection
@@ -139,4 +166,28 @@ public class Topic<L> {
      */
     TO_PARENT
   }
+
+  /**
+   * Defines the thread on which subscribers of the topic receive messages.
+   */
+  public enum DeliveryMode {
+
+    /**
+     * Subscribers are notified on the publishing thread before the publisher call returns.
+     */
+    SYNC,
+
+    /**
+     * Publisher call returns immediately; subscribers are notified in publishing order on a dedicated background thread,
+     * several pending messages being delivered in one batch. Listeners of such topics must be thread-safe and must not
+     * rely on any state of the publisher at the moment of the call.
+     */
+    ASYNC,
+
+    /**
+     * Same as {@link #ASYNC}, but equal messages (the same listener method with equal arguments) pending for the same
+     * subscriber are delivered only once per batch. Suitable for 'something has changed' kind of notifications.
+     */
+    ASYNC_COALESCED
+  }
 }
\ No newline at end of file
@@ -20,15 +20,15 @@
 package com.intellij.util.messages.impl;
 
 import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.util.containers.ConcurrentHashMap;
 import com.intellij.util.messages.MessageBusConnection;
 import com.intellij.util.messages.MessageHandler;
 import com.intellij.util.messages.Topic;
 
 import java.lang.reflect.Method;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
 
 public class MessageBusConnectionImpl implements MessageBusConnection {
   private static final Logger LOG = Logger.getInstance("#com.intellij.util.messages.impl.MessageBusConnectionImpl");
@@ -36,7 +36,9 @@ public class MessageBusConnectionImpl implements MessageBusConnection {
   private final MessageBusImpl myBus;
   private final ThreadLocal<Queue<Message>> myPendingMessages = new QueueThreadLocal();
   private MessageHandler myDefaultHandler;
-  private final Map<Topic, Object> mySubscriptions = new HashMap<Topic, Object>();
+  // read by the asynchronous delivery thread while other threads subscribe
+  private final ConcurrentMap<Topic, Object> mySubscriptions = new ConcurrentHashMap<Topic, Object>();
+  private volatile boolean myDisconnected;
 
   public MessageBusConnectionImpl(MessageBusImpl bus) {
     myBus = bus;
@@ -44,7 +46,7 @@ public class MessageBusConnectionImpl implements MessageBusConnection {
 
   @Override
   public <L> void subscribe(Topic<L> topic, L handler) throws IllegalStateException {
-    if (mySubscriptions.put(topic, handler) != null) {
+    if (mySubscriptions.putIfAbsent(topic, handler) != null) {
       throw new IllegalStateException("Subscription to " + topic + " already exists");
     }
     myBus.notifyOnSubscription(this, topic);
@@ -72,6 +74,7 @@ public class MessageBusConnectionImpl implements MessageBusConnection {
 
   @Override
   public void disconnect() {
+    myDisconnected = true;
     Queue<Message> jobs = myPendingMessages.get();
     myPendingMessages.remove();
     myBus.notifyConnectionTerminated(this);
@@ -96,9 +99,25 @@ public class MessageBusConnectionImpl implements MessageBusConnection {
     final Message messageOnLocalQueue = myPendingMessages.get().poll();
     assert messageOnLocalQueue == message;
 
+    invokeListener(message);
+  }
+
+  /**
+   * Delivers message of an {@link Topic#isDeliveredAsynchronously() asynchronous} topic; such messages
+   * bypass the thread-local pending queue since they are dispatched on the bus delivery thread.
+   */
+  void deliverAsyncMessage(Message message) {
+    if (myDisconnected) return;
+    invokeListener(message);
+  }
+
+  private void invokeListener(Message message) {
     final Topic topic = message.getTopic();
     final Object handler = mySubscriptions.get(topic);
+    if (handler == null) return;
 
+    MessageDeliveryStatistics statistics = MessageDeliveryStatistics.getInstance();
+    long start = statistics.isEnabled() ? System.nanoTime() : 0;
     try {
       Method listenerMethod = message.getListenerMethod();
 
@@ -115,6 +134,11 @@ public class MessageBusConnectionImpl implements MessageBusConnection {
     catch(Throwable e) {
       LOG.error(e.getCause());
     }
+    finally {
+      if (start != 0) {
+        statistics.recordDelivery(topic, handler, System.nanoTime() - start);
+      }
+    }
   }
 
   void scheduleMessageDelivery(Message message) {
@@ -33,12 +33,12 @@ import org.jetbrains.annotations.NotNull;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
-import java.util.Iterator;
-import java.util.List;
-import java.util.Queue;
+import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 public class MessageBusImpl implements MessageBus {
   private static final Logger LOG = Logger.getInstance("#com.intellij.util.messages.impl.MessageBusImpl");
@@ -54,13 +54,21 @@ public class MessageBusImpl implements MessageBus {
     new ConcurrentHashMap<Topic, List<MessageBusConnectionImpl>>();
   private final List<MessageBusImpl> myChildBuses = ContainerUtil.createEmptyCOWList();
 
+  /**
+   * Messages of {@link Topic#isDeliveredAsynchronously() asynchronous} topics are queued here and delivered in batches
+   * on the shared delivery thread, so a slow listener does not stall the publisher.
+   */
+  private static final ExecutorService ourAsyncDeliveryExecutor = ConcurrencyUtil.newSingleThreadExecutor("MessageBus async delivery");
+  private final Queue<DeliveryJob> myAsyncQueue = new ConcurrentLinkedQueue<DeliveryJob>();
+  private final AtomicBoolean myAsyncDeliveryScheduled = new AtomicBoolean();
+
   private static final Object NA = new Object();
   private MessageBusImpl myParentBus;
 
   //is used for debugging purposes
   @SuppressWarnings({"UnusedDeclaration", "FieldCanBeLocal"})
   private final Object myOwner;
-  private boolean myDisposed;
+  private volatile boolean myDisposed;
 
   @SuppressWarnings("UnusedDeclaration")
   public MessageBusImpl() {
@@ -172,6 +180,7 @@ public class MessageBusImpl implements MessageBus {
       LOG.error("Not delivered events in the queue: " + jobs);
     }
     myMessageQueue.remove();
+    myAsyncQueue.clear();
     if (myParentBus != null) {
       myParentBus.notifyChildBusDisposed(this);
       myParentBus = null;
@@ -187,10 +196,18 @@ public class MessageBusImpl implements MessageBus {
     checkNotDisposed();
     final Topic topic = message.getTopic();
     final List<MessageBusConnectionImpl> topicSubscribers = mySubscribers.get(topic);
-    if (topicSubscribers != null) {
-      for (MessageBusConnectionImpl subscriber : topicSubscribers) {
-        myMessageQueue.get().offer(new DeliveryJob(subscriber, message));
-        subscriber.scheduleMessageDelivery(message);
+    if (topicSubscribers != null && !topicSubscribers.isEmpty()) {
+      if (topic.isDeliveredAsynchronously()) {
+        for (MessageBusConnectionImpl subscriber : topicSubscribers) {
+          myAsyncQueue.offer(new DeliveryJob(subscriber, message));
+        }
+        scheduleAsyncDelivery();
+      }
+      else {
+        for (MessageBusConnectionImpl subscriber : topicSubscribers) {
+          myMessageQueue.get().offer(new DeliveryJob(subscriber, message));
+          subscriber.scheduleMessageDelivery(message);
+        }
       }
     }
 
@@ -238,6 +255,45 @@ public class MessageBusImpl implements MessageBus {
     }
   }
 
+  private void scheduleAsyncDelivery() {
+    if (myAsyncDeliveryScheduled.compareAndSet(false, true)) {
+      ourAsyncDeliveryExecutor.execute(new Runnable() {
+        @Override
+        public void run() {
+          deliverAsyncMessages();
+        }
+      });
+    }
+  }
+
+  private void deliverAsyncMessages() {
+    do {
+      myAsyncDeliveryScheduled.set(false);
+      List<DeliveryJob> batch = new ArrayList<DeliveryJob>();
+      Set<Object> coalesced = null;
+      while (true) {
+        DeliveryJob job = myAsyncQueue.poll();
+        if (job == null) break;
+        if (job.message.getTopic().getDeliveryMode() == Topic.DeliveryMode.ASYNC_COALESCED) {
+          if (coalesced == null) coalesced = new HashSet<Object>();
+          Object[] args = job.message.getArgs();
+          List<Object> key = Arrays.<Object>asList(job.connection, job.message.getListenerMethod(),
+                                           args == null ? Collections.emptyList() : Arrays.asList(args));
+          if (!coalesced.add(key)) {
+            continue;
+          }
+        }
+        batch.add(job);
+      }
+
+      for (DeliveryJob job : batch) {
+        if (myDisposed) return;
+        job.connection.deliverAsyncMessage(job.message);
+      }
+    }
+    while (!myAsyncQueue.isEmpty() && myAsyncDeliveryScheduled.compareAndSet(false, true));
+  }
+
   public void notifyOnSubscription(final MessageBusConnectionImpl connection, final Topic topic) {
     checkNotDisposed();
     List<MessageBusConnectionImpl> topicSubscribers = mySubscribers.get(topic);
@@ -255,7 +311,12 @@ public class MessageBusImpl implements MessageBus {
     }
     if (myDisposed) return;
 
-    final Iterator<DeliveryJob> i = myMessageQueue.get().iterator();
+    removeJobs(myMessageQueue.get(), connection);
+    removeJobs(myAsyncQueue, connection);
+  }
+
+  private static void removeJobs(Queue<DeliveryJob> queue, MessageBusConnectionImpl connection) {
+    final Iterator<DeliveryJob> i = queue.iterator();
     while (i.hasNext()) {
       final DeliveryJob job = i.next();
       if (job.connection == connection) {
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2000-2012 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.intellij.util.messages.impl;
+
+import com.intellij.util.ConcurrencyUtil;
+import com.intellij.util.messages.Topic;
+import org.jetbrains.annotations.NonNls;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collects time spent in message bus listeners, per topic and per listener class.
+ * <p/>
+ * Disabled by default; enable with <code>-Didea.message.bus.statistics=true</code> or {@link #setEnabled(boolean)}.
+ */
+public class MessageDeliveryStatistics {
+  private static final MessageDeliveryStatistics ourInstance = new MessageDeliveryStatistics();
+
+  private volatile boolean myEnabled = "true".equals(System.getProperty("idea.message.bus.statistics"));
+  private final ConcurrentMap<String, Counter> myTopicCounters = new ConcurrentHashMap<String, Counter>();
+  private final ConcurrentMap<String, Counter> myListenerCounters = new ConcurrentHashMap<String, Counter>();
+
+  @NotNull
+  public static MessageDeliveryStatistics getInstance() {
+    return ourInstance;
+  }
+
+  public boolean isEnabled() {
+    return myEnabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    myEnabled = enabled;
+  }
+
+  public void reset() {
+    myTopicCounters.clear();
+    myListenerCounters.clear();
+  }
+
+  void recordDelivery(@NotNull Topic topic, @NotNull Object handler, long nanos) {
+    getCounter(myTopicCounters, topic.getDisplayName()).add(nanos);
+    getCounter(myListenerCounters, topic.getDisplayName() + ":" + handler.getClass().getName()).add(nanos);
+  }
+
+  private static Counter getCounter(ConcurrentMap<String, Counter> counters, String key) {
+    Counter counter = counters.get(key);
+    if (counter == null) {
+      counter = ConcurrencyUtil.cacheOrGet(counters, key, new Counter(key));
+    }
+    return counter;
+  }
+
+  /**
+   * @return    counters keyed by topic display name, sorted by total delivery time descending
+   */
+  @NotNull
+  public List<Counter> getTopicCounters() {
+    return sorted(myTopicCounters.values());
+  }
+
+  /**
+   * @return    counters keyed by <code>topic:listenerClass</code>, sorted by total delivery time descending
+   */
+  @NotNull
+  public List<Counter> getListenerCounters() {
+    return sorted(myListenerCounters.values());
+  }
+
+  private static List<Counter> sorted(Collection<Counter> counters) {
+    List<Counter> result = new ArrayList<Counter>(counters);
+    Collections.sort(result, new Comparator<Counter>() {
+      @Override
+      public int compare(Counter o1, Counter o2) {
+        long t1 = o1.getTotalNanos();
+        long t2 = o2.getTotalNanos();
+        return t1 < t2 ? 1 : t1 == t2 ? 0 : -1;
+      }
+    });
+    return result;
+  }
+
+  @NonNls
+  @NotNull
+  public String dump() {
+    StringBuilder builder = new StringBuilder();
+    builder.append("Topics:\n");
+    for (Counter counter : getTopicCounters()) {
+      builder.append("  ").append(counter).append('\n');
+    }
+    builder.append("Listeners:\n");
+    for (Counter counter : getListenerCounters()) {
+      builder.append("  ").append(counter).append('\n');
+    }
+    return builder.toString();
+  }
+
+  public static class Counter {
+    private final String myKey;
+    private final AtomicLong myCount = new AtomicLong();
+    private final AtomicLong myTotalNanos = new AtomicLong();
+    private final AtomicLong myMaxNanos = new AtomicLong();
+
+    private Counter(@NotNull String key) {
+      myKey = key;
+    }
+
+    private void add(long nanos) {
+      myCount.incrementAndGet();
+      myTotalNanos.addAndGet(nanos);
+      long max;
+      do {
+        max = myMaxNanos.get();
+      }
+      while (nanos > max && !myMaxNanos.compareAndSet(max, nanos));
+    }
+
+    @NotNull
+    public String getKey() {
+      return myKey;
+    }
+
+    public long getCount() {
+      return myCount.get();
+    }
+
+    public long getTotalNanos() {
+      return myTotalNanos.get();
+    }
+
+    public long getMaxNanos() {
+      return myMaxNanos.get();
+    }
+
+    @NonNls
+    public String toString() {
+      return myKey + ": " + getCount() + " deliveries, total " + getTotalNanos() / 1000000 + "ms, max " + getMaxNanos() / 1000000 + "ms";
+    }
+  }
+}
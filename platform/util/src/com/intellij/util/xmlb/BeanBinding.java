@@ -43,10 +43,12 @@ class BeanBinding implements Binding {
   private static final Logger LOG = Logger.getInstance("#com.intellij.util.xmlb.BeanBinding");
 
   private static final ConcurrentHashMap<Class, SoftReference<List<Accessor>>> ourAccessorCache = new ConcurrentHashMap<Class, SoftReference<List<Accessor>>>();
+  private static final ConcurrentHashMap<Class, List<Accessor>> ourStrongAccessorCache = new ConcurrentHashMap<Class, List<Accessor>>();
 
   private final String myTagName;
-  private final Map<Binding, Accessor> myPropertyBindings = new HashMap<Binding, Accessor>();
   private final List<Binding> myPropertyBindingsList = new ArrayList<Binding>();
+  private final List<Accessor> myPropertyAccessorsList = new ArrayList<Accessor>();
+  private final List<SerializationFilter> myPropertyFiltersList = new ArrayList<SerializationFilter>();
   private final Class<?> myBeanClass;
   @NonNls private static final String CLASS_PROPERTY = "class";
   private final Accessor myAccessor;
@@ -68,7 +70,23 @@ class BeanBinding implements Binding {
     for (Accessor accessor : getAccessors(beanClass)) {
       final Binding binding = createBindingByAccessor(accessor);
       myPropertyBindingsList.add(binding);
-      myPropertyBindings.put(binding, accessor);
+      myPropertyAccessorsList.add(accessor);
+      myPropertyFiltersList.add(createPropertyFilter(accessor));
+    }
+  }
+
+  @Nullable
+  private static SerializationFilter createPropertyFilter(Accessor accessor) {
+    final Property property = XmlSerializerImpl.findAnnotation(accessor.getAnnotations(), Property.class);
+    if (property == null) return null;
+    try {
+      return property.filter().newInstance();
+    }
+    catch (InstantiationException e) {
+      throw new XmlSerializationException(e);
+    }
+    catch (IllegalAccessException e) {
+      throw new XmlSerializationException(e);
     }
   }
 
@@ -81,23 +99,13 @@ class BeanBinding implements Binding {
   }
 
   public void serializeInto(final Object o, final Element element, SerializationFilter filter) {
-    for (Binding binding : myPropertyBindingsList) {
-      Accessor accessor = myPropertyBindings.get(binding);
+    for (int i = 0, size = myPropertyBindingsList.size(); i < size; i++) {
+      Binding binding = myPropertyBindingsList.get(i);
+      Accessor accessor = myPropertyAccessorsList.get(i);
       if (!filter.accepts(accessor, o)) continue;
 
-      //todo: optimize. Cache it.
-      final Property property = XmlSerializerImpl.findAnnotation(accessor.getAnnotations(), Property.class);
-      if (property != null) {
-        try {
-          if (!property.filter().newInstance().accepts(accessor, o)) continue;
-        }
-        catch (InstantiationException e) {
-          throw new XmlSerializationException(e);
-        }
-        catch (IllegalAccessException e) {
-          throw new XmlSerializationException(e);
-        }
-      }
+      final SerializationFilter propertyFilter = myPropertyFiltersList.get(i);
+      if (propertyFilter != null && !propertyFilter.accepts(accessor, o)) continue;
 
       Object node = binding.serialize(o, element, filter);
       if (node != element) {
@@ -133,7 +141,7 @@ class BeanBinding implements Binding {
     assert nodes.get(0) instanceof Element : "Wrong node: " + nodes;
     Element e = (Element)nodes.get(0);
 
-    ArrayList<Binding> bindings = new ArrayList<Binding>(myPropertyBindings.keySet());
+    List<Binding> bindings = myPropertyBindingsList;
 
     MultiMap<Binding, Object> data = new MultiMap<Binding, Object>();
 
@@ -197,21 +205,34 @@ class BeanBinding implements Binding {
 
   @NotNull
   static List<Accessor> getAccessors(Class<?> aClass) {
+    if (XmlSerializerImpl.ourStrongBindingCache) {
+      List<Accessor> accessors = ourStrongAccessorCache.get(aClass);
+      if (accessors == null) {
+        accessors = collectAccessors(aClass);
+        ourStrongAccessorCache.put(aClass, accessors);
+      }
+      return accessors;
+    }
+
     final SoftReference<List<Accessor>> reference = ourAccessorCache.get(aClass);
     List<Accessor> accessors = reference == null ? null : reference.get();
     if (accessors != null) {
       return accessors;
     }
 
-    accessors = ContainerUtil.newArrayList();
+    accessors = collectAccessors(aClass);
+    ourAccessorCache.put(aClass, new SoftReference<List<Accessor>>(accessors));
+
+    return accessors;
+  }
+
+  private static List<Accessor> collectAccessors(Class<?> aClass) {
+    List<Accessor> accessors = ContainerUtil.newArrayList();
 
     if (aClass != Rectangle.class) {   // special case for Rectangle.class to avoid infinite recursion during serialization due to bounds() method
       collectPropertyAccessors(aClass, accessors);
     }
     collectFieldAccessors(aClass, accessors);
-
-    ourAccessorCache.put(aClass, new SoftReference<List<Accessor>>(accessors));
-
     return accessors;
   }
 
@@ -19,6 +19,7 @@ package com.intellij.util.xmlb;
 import org.jetbrains.annotations.NonNls;
 
 import java.lang.annotation.Annotation;
+import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Field;
 import java.lang.reflect.Type;
 
@@ -27,6 +28,18 @@ class FieldAccessor implements Accessor {
 
   public FieldAccessor(Field myField) {
     this.myField = myField;
+    makeAccessible(myField);
+  }
+
+  /**
+   * Suppresses per-call access checks; reflective reads and writes of serialized beans are hot on save/load.
+   */
+  static void makeAccessible(AccessibleObject object) {
+    try {
+      object.setAccessible(true);
+    }
+    catch (SecurityException ignored) {
+    }
   }
 
   public Object read(Object o) {
@@ -44,6 +44,10 @@ class PropertyAccessor implements Accessor {
     myType = type;
     myReadMethod = readMethod;
     myWriteMethod = writeMethod;
+    FieldAccessor.makeAccessible(readMethod);
+    if (writeMethod != null) {
+      FieldAccessor.makeAccessible(writeMethod);
+    }
     myGenericType = myReadMethod.getGenericReturnType();
   }
 
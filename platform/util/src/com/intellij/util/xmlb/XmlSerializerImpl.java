@@ -33,6 +33,13 @@ class XmlSerializerImpl {
   private final SerializationFilter filter;
   private static SoftReference<Map<Pair<Type, Accessor>, Binding>> ourBindings;
 
+  /**
+   * When set, bindings are held strongly and never recomputed; the set of serializable bean classes is bounded by
+   * the loaded components, so keeping them avoids repeated reflection on every save/load under memory pressure.
+   */
+  static final boolean ourStrongBindingCache = "true".equals(System.getProperty("idea.xmlb.strong.bindings"));
+  private static final Map<Pair<Type, Accessor>, Binding> ourStrongBindings = new ConcurrentHashMap<Pair<Type, Accessor>, Binding>();
+
   public XmlSerializerImpl(SerializationFilter filter) {
     this.filter = filter;
   }
@@ -87,6 +94,8 @@ class XmlSerializerImpl {
   }
 
   private static Map<Pair<Type, Accessor>, Binding> getBindingCacheMap() {
+    if (ourStrongBindingCache) return ourStrongBindings;
+
     SoftReference<Map<Pair<Type, Accessor>, Binding>> ref = ourBindings;
     Map<Pair<Type, Accessor>, Binding> map = ref == null ? null : ref.get();
     if (map == null) {
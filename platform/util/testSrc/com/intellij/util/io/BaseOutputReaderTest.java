@@ -0,0 +1,113 @@
+/*
+ * Copyright 2000-2012 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.intellij.util.io;
+
+import junit.framework.TestCase;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class BaseOutputReaderTest extends TestCase {
+  private static final String TEXT = "first\r\nsecond\nthird\rfourth";
+
+  private ExecutorService myExecutor;
+
+  @Override
+  protected void setUp() throws Exception {
+    super.setUp();
+    myExecutor = Executors.newCachedThreadPool();
+  }
+
+  @Override
+  protected void tearDown() throws Exception {
+    myExecutor.shutdownNow();
+    super.tearDown();
+  }
+
+  public void testPollingSplitToLines() throws Exception {
+    List<String> chunks = read(false, true);
+    assertEquals(TEXT.replace("\r\n", "\n"), join(chunks));
+    assertEquals("first\n", chunks.get(0));
+    assertEquals("second\n", chunks.get(1));
+  }
+
+  public void testBlockingSplitToLines() throws Exception {
+    List<String> chunks = read(true, true);
+    assertEquals(TEXT.replace("\r\n", "\n"), join(chunks));
+    assertEquals("first\n", chunks.get(0));
+    assertEquals("second\n", chunks.get(1));
+  }
+
+  public void testBlockingBatched() throws Exception {
+    List<String> chunks = read(true, false);
+    assertEquals(Collections.singletonList(TEXT.replace("\r\n", "\n")), chunks);
+  }
+
+  private List<String> read(boolean blocking, boolean splitToLines) throws Exception {
+    final List<String> chunks = Collections.synchronizedList(new ArrayList<String>());
+    TestReader reader = new TestReader(new StringReader(TEXT), blocking, splitToLines, chunks);
+    reader.start();
+    if (!blocking) {
+      // a polling reader doesn't stop at the stream end
+      assertTrue(reader.myAllTextRead.await(10, TimeUnit.SECONDS));
+      reader.stop();
+    }
+    reader.waitFor();
+    return chunks;
+  }
+
+  private static String join(List<String> chunks) {
+    StringBuilder builder = new StringBuilder();
+    for (String chunk : chunks) {
+      builder.append(chunk);
+    }
+    return builder.toString();
+  }
+
+  private class TestReader extends BaseOutputReader {
+    private final List<String> myChunks;
+    private final CountDownLatch myAllTextRead = new CountDownLatch(1);
+    private int myTextLength;
+
+    private TestReader(@NotNull Reader reader, boolean blocking, boolean splitToLines, @NotNull List<String> chunks) {
+      super(reader, blocking, splitToLines);
+      myChunks = chunks;
+    }
+
+    @Override
+    protected Future<?> executeOnPooledThread(Runnable runnable) {
+      return myExecutor.submit(runnable);
+    }
+
+    @Override
+    protected void onTextAvailable(@NotNull String text) {
+      myChunks.add(text);
+      myTextLength += text.length();
+      if (myTextLength == TEXT.replace("\r\n", "\n").length()) {
+        myAllTextRead.countDown();
+      }
+    }
+  }
+}
@@ -20,10 +20,16 @@
 package com.intellij.util.messages;
 
 import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.util.messages.impl.MessageDeliveryStatistics;
 import junit.framework.TestCase;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
 public class MessageBusTest extends TestCase {
   private MessageBus myBus;
@@ -197,6 +203,89 @@ public class MessageBusTest extends TestCase {
                  "C2T1Handler:t12");
   }
   
+  public void testAsyncTopicDeliveredOnBackgroundThread() throws Exception {
+    final Topic<T1Listener> topic = Topic.createAsync("async", T1Listener.class, false);
+    final Semaphore delivered = new Semaphore(0);
+    final Thread publisherThread = Thread.currentThread();
+    final List<String> log = Collections.synchronizedList(new ArrayList<String>());
+    myBus.connect().subscribe(topic, new T1Listener() {
+      @Override
+      public void t11() {
+        log.add(Thread.currentThread() == publisherThread ? "sync" : "async");
+        delivered.release();
+      }
+
+      @Override
+      public void t12() {
+        t11();
+      }
+    });
+
+    myBus.syncPublisher(topic).t11();
+    myBus.syncPublisher(topic).t12();
+    assertTrue(delivered.tryAcquire(2, 10, TimeUnit.SECONDS));
+    assertEquals(Arrays.asList("async", "async"), log);
+  }
+
+  public void testCoalescingAsyncTopic() throws Exception {
+    final Topic<T1Listener> topic = Topic.createAsync("coalescing", T1Listener.class, true);
+    final CountDownLatch firstDeliveryStarted = new CountDownLatch(1);
+    final CountDownLatch releaseListener = new CountDownLatch(1);
+    final Semaphore delivered = new Semaphore(0);
+    myBus.connect().subscribe(topic, new T1Listener() {
+      @Override
+      public void t11() {
+        firstDeliveryStarted.countDown();
+        try {
+          releaseListener.await();
+        }
+        catch (InterruptedException e) {
+          throw new RuntimeException(e);
+        }
+        delivered.release();
+      }
+
+      @Override
+      public void t12() {
+        delivered.release();
+      }
+    });
+
+    T1Listener publisher = myBus.syncPublisher(topic);
+    publisher.t11();
+    assertTrue(firstDeliveryStarted.await(10, TimeUnit.SECONDS));
+    // delivered as one batch after the listener is released
+    publisher.t12();
+    publisher.t12();
+    publisher.t12();
+    releaseListener.countDown();
+
+    assertTrue(delivered.tryAcquire(2, 10, TimeUnit.SECONDS));
+    assertFalse(delivered.tryAcquire(1, 200, TimeUnit.MILLISECONDS));
+  }
+
+  public void testDeliveryStatistics() {
+    MessageDeliveryStatistics statistics = MessageDeliveryStatistics.getInstance();
+    boolean wasEnabled = statistics.isEnabled();
+    statistics.setEnabled(true);
+    try {
+      myBus.connect().subscribe(TOPIC1, new T1Handler("c"));
+      myBus.syncPublisher(TOPIC1).t11();
+      myBus.syncPublisher(TOPIC1).t12();
+
+      MessageDeliveryStatistics.Counter topicCounter = null;
+      for (MessageDeliveryStatistics.Counter counter : statistics.getTopicCounters()) {
+        if (counter.getKey().equals(TOPIC1.getDisplayName())) topicCounter = counter;
+      }
+      assertNotNull(statistics.dump(), topicCounter);
+      assertTrue(topicCounter.getCount() >= 2);
+      assertTrue(statistics.dump().contains(T1Handler.class.getName()));
+    }
+    finally {
+      statistics.setEnabled(wasEnabled);
+    }
+  }
+
   private void assertEvents(String... expected) {
     String joinExpected = StringUtil.join(expected, "\n");
     String joinActual = StringUtil.join(myLog, "\n");
@@ -851,6 +851,55 @@ public class XmlSerializerTest extends TestCase {
     assertSerializer(bean, "<BeanWithPropertyFilter />", "Serialization failure", null);
   }
 
+  public static class BeanWithSeveralPropertyFilters {
+    public String FIRST = "first";
+    @Property(
+      filter = CountingPropertyFilter.class
+    )
+    public String SECOND = "second";
+    public String THIRD = "skip";
+  }
+  public static class CountingPropertyFilter implements SerializationFilter {
+    private static int ourInstances;
+
+    public CountingPropertyFilter() {
+      ourInstances++;
+    }
+
+    @Override
+    public boolean accepts(Accessor accessor, Object bean) {
+      return !accessor.read(bean).equals("skip");
+    }
+  }
+  public void testPropertyFilterAppliedToItsPropertyOnly() {
+    BeanWithSeveralPropertyFilters bean = new BeanWithSeveralPropertyFilters();
+
+    doSerializerTest(
+      "<BeanWithSeveralPropertyFilters>\n" +
+      "  <option name=\"FIRST\" value=\"first\" />\n" +
+      "  <option name=\"SECOND\" value=\"second\" />\n" +
+      "  <option name=\"THIRD\" value=\"skip\" />\n" +
+      "</BeanWithSeveralPropertyFilters>", bean);
+
+    bean.SECOND = "skip";
+
+    assertSerializer(bean,
+      "<BeanWithSeveralPropertyFilters>\n" +
+      "  <option name=\"FIRST\" value=\"first\" />\n" +
+      "  <option name=\"THIRD\" value=\"skip\" />\n" +
+      "</BeanWithSeveralPropertyFilters>", null);
+  }
+  public void testPropertyFilterIsNotCreatedOnEverySerialization() {
+    BeanWithSeveralPropertyFilters bean = new BeanWithSeveralPropertyFilters();
+    serialize(bean, null);
+    int instances = CountingPropertyFilter.ourInstances;
+
+    for (int i = 0; i < 10; i++) {
+      serialize(bean, null);
+    }
+    assertEquals(instances, CountingPropertyFilter.ourInstances);
+  }
+
   public static class BeanWithJDOMElement {
     public String STRING_V = "hello";
     @Tag("actions")
@@ -634,7 +634,13 @@ public class ChangeListManagerImpl extends ChangeListManagerEx implements Projec
         final FoldersCutDownWorker foldersCutDownWorker = new FoldersCutDownWorker();
         try {
           builder.setCurrent(scope, foldersCutDownWorker);
-          changeProvider.getChanges(scope, builder, myUpdateChangesProgressIndicator, gate);
+          final List<VcsDirtyScopeImpl> rootScopes = ParallelChangesCollector.ENABLED ? ParallelChangesCollector.splitScope(scope) : null;
+          if (rootScopes != null) {
+            ParallelChangesCollector.collect(changeProvider, rootScopes, builder, gate, myUpdateChangesProgressIndicator);
+          }
+          else {
+            changeProvider.getChanges(scope, builder, myUpdateChangesProgressIndicator, gate);
+          }
         }
         catch (final VcsException e) {
           handleUpdateException(e);
@@ -0,0 +1,410 @@
+/*
+ * Copyright 2000-2012 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.intellij.openapi.vcs.changes;
+
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.RuntimeInterruptedException;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.progress.util.ProgressWrapper;
+import com.intellij.openapi.util.Factory;
+import com.intellij.openapi.vcs.FilePath;
+import com.intellij.openapi.vcs.FileStatus;
+import com.intellij.openapi.vcs.VcsException;
+import com.intellij.openapi.vcs.VcsKey;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.util.Consumer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.swing.*;
+import java.io.File;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * Runs the change provider of a VCS concurrently for every root of a dirty scope, on a bounded number of pooled threads,
+ * so that refreshing the status of many roots takes about the time of the slowest one.
+ * <p/>
+ * The provider reports into builders which only record the calls. The calls are replayed into the real builder in the
+ * order of the roots once all the roots are done, so the change list worker and the file holders are only updated by
+ * the change list updater thread, as they are without concurrency. The gate given to the provider is synchronized.
+ * Every thread runs the provider under a wrapper of the caller's progress indicator, so that the provider can check
+ * for cancellation via {@link ProgressManager#checkCanceled()} on pooled threads too.
+ */
+class ParallelChangesCollector {
+  private static final Logger LOG = Logger.getInstance("#com.intellij.openapi.vcs.changes.ParallelChangesCollector");
+
+  static final boolean ENABLED = "true".equals(System.getProperty("idea.vcs.parallel.roots"));
+  private static final int MAX_THREADS = Math.max(2, Math.min(8, Runtime.getRuntime().availableProcessors()));
+
+  private ParallelChangesCollector() {
+  }
+
+  /**
+   * @return scopes of the roots to run the provider for, or null if the scope should be processed as a whole
+   */
+  @Nullable
+  static List<VcsDirtyScopeImpl> splitScope(@NotNull VcsDirtyScope scope) {
+    if (!(scope instanceof VcsDirtyScopeImpl) || scope.getVcs().allowsNestedRoots()) return null;
+    final List<VcsDirtyScopeImpl> scopes = ((VcsDirtyScopeImpl)scope).splitByRoots();
+    return scopes == null || scopes.size() < 2 ? null : scopes;
+  }
+
+  static void collect(@NotNull final ChangeProvider provider,
+                      @NotNull List<VcsDirtyScopeImpl> scopes,
+                      @NotNull ChangelistBuilder builder,
+                      @NotNull ChangeListManagerGate gate,
+                      @NotNull final ProgressIndicator indicator) throws VcsException {
+    final ChangeListManagerGate synchronizedGate = new SynchronizedGate(gate);
+    final List<RootTask> tasks = new ArrayList<RootTask>(scopes.size());
+    for (VcsDirtyScopeImpl scope : scopes) {
+      tasks.add(new RootTask(scope, new RecordingBuilder(builder.reportChangesOutsideProject())));
+    }
+
+    final Queue<RootTask> queue = new ConcurrentLinkedQueue<RootTask>(tasks);
+    final Runnable worker = new Runnable() {
+      @Override
+      public void run() {
+        ProgressManager.getInstance().runProcess(new Runnable() {
+          @Override
+          public void run() {
+            RootTask task;
+            while ((task = queue.poll()) != null) {
+              if (indicator.isCanceled()) return;
+              task.run(provider, synchronizedGate, indicator);
+            }
+          }
+        }, ProgressWrapper.wrap(indicator));
+      }
+    };
+    final List<Future<?>> futures = new ArrayList<Future<?>>();
+    for (int i = 1; i < Math.min(MAX_THREADS, tasks.size()); i++) {
+      futures.add(ApplicationManager.getApplication().executeOnPooledThread(worker));
+    }
+    worker.run();
+    for (Future<?> future : futures) {
+      try {
+        future.get();
+      }
+      catch (InterruptedException e) {
+        throw new RuntimeInterruptedException(e);
+      }
+      catch (ExecutionException e) {
+        LOG.error(e.getCause());
+      }
+    }
+    indicator.checkCanceled();
+
+    if (LOG.isDebugEnabled()) {
+      logTimings(tasks);
+    }
+
+    VcsException exception = null;
+    for (RootTask task : tasks) {
+      task.myBuilder.replay(builder);
+      if (task.myThrowable instanceof VcsException) {
+        if (exception == null) exception = (VcsException)task.myThrowable;
+      }
+      else if (task.myThrowable instanceof RuntimeException) {
+        throw (RuntimeException)task.myThrowable;
+      }
+      else if (task.myThrowable instanceof Error) {
+        throw (Error)task.myThrowable;
+      }
+    }
+    if (exception != null) throw exception;
+  }
+
+  private static void logTimings(List<RootTask> tasks) {
+    final List<RootTask> sorted = new ArrayList<RootTask>(tasks);
+    Collections.sort(sorted, new Comparator<RootTask>() {
+      @Override
+      public int compare(RootTask t1, RootTask t2) {
+        return t1.myTime > t2.myTime ? -1 : t1.myTime == t2.myTime ? 0 : 1;
+      }
+    });
+    final StringBuilder sb = new StringBuilder("Changes collected for " + tasks.size() + " roots:");
+    for (RootTask task : sorted) {
+      sb.append("\n  ").append(task.myScope.getAffectedContentRoots()).append(": ").append(task.myTime).append(" ms");
+    }
+    LOG.debug(sb.toString());
+  }
+
+  private static class RootTask {
+    private final VcsDirtyScopeImpl myScope;
+    private final RecordingBuilder myBuilder;
+    private volatile Throwable myThrowable;
+    private volatile long myTime;
+
+    private RootTask(@NotNull VcsDirtyScopeImpl scope, @NotNull RecordingBuilder builder) {
+      myScope = scope;
+      myBuilder = builder;
+    }
+
+    private void run(ChangeProvider provider, ChangeListManagerGate gate, ProgressIndicator indicator) {
+      final long start = System.currentTimeMillis();
+      try {
+        provider.getChanges(myScope, myBuilder, indicator, gate);
+      }
+      catch (ProcessCanceledException ignore) {
+      }
+      catch (Throwable t) {
+        myThrowable = t;
+      }
+      finally {
+        myTime = System.currentTimeMillis() - start;
+      }
+    }
+  }
+
+  private static class RecordingBuilder implements ChangelistBuilder {
+    private final boolean myReportChangesOutsideProject;
+    private final List<Consumer<ChangelistBuilder>> myCalls = Collections.synchronizedList(new ArrayList<Consumer<ChangelistBuilder>>());
+
+    private RecordingBuilder(boolean reportChangesOutsideProject) {
+      myReportChangesOutsideProject = reportChangesOutsideProject;
+    }
+
+    private void replay(@NotNull ChangelistBuilder builder) {
+      for (Consumer<ChangelistBuilder> call : myCalls) {
+        call.consume(builder);
+      }
+    }
+
+    @Override
+    public void processChange(final Change change, final VcsKey vcsKey) {
+      myCalls.add(new Consumer<ChangelistBuilder>() {
+        @Override
+        public void consume(ChangelistBuilder builder) {
+          builder.processChange(change, vcsKey);
+        }
+      });
+    }
+
+    @Override
+    public void processChangeInList(final Change change, @Nullable final ChangeList changeList, final VcsKey vcsKey) {
+      myCalls.add(new Consumer<ChangelistBuilder>() {
+        @Override
+        public void consume(ChangelistBuilder builder) {
+          builder.processChangeInList(change, changeList, vcsKey);
+        }
+      });
+    }
+
+    @Override
+    public void processChangeInList(final Change change, final String changeListName, final VcsKey vcsKey) {
+      myCalls.add(new Consumer<ChangelistBuilder>() {
+        @Override
+        public void consume(ChangelistBuilder builder) {
+          builder.processChangeInList(change, changeListName, vcsKey);
+        }
+      });
+    }
+
+    @Override
+    public void removeRegisteredChangeFor(final FilePath path) {
+      myCalls.add(new Consumer<ChangelistBuilder>() {
+        @Override
+        public void consume(ChangelistBuilder builder) {
+          builder.removeRegisteredChangeFor(path);
+        }
+      });
+    }
+
+    @Override
+    public void processUnversionedFile(final VirtualFile file) {
+      myCalls.add(new Consumer<ChangelistBuilder>() {
+        @Override
+        public void consume(ChangelistBuilder builder) {
+          builder.processUnversionedFile(file);
+        }
+      });
+    }
+
+    @Override
+    public void processLocallyDeletedFile(final FilePath file) {
+      myCalls.add(new Consumer<ChangelistBuilder>() {
+        @Override
+        public void consume(ChangelistBuilder builder) {
+          builder.processLocallyDeletedFile(file);
+        }
+      });
+    }
+
+    @Override
+    public void processLocallyDeletedFile(final LocallyDeletedChange locallyDeletedChange) {
+      myCalls.add(new Consumer<ChangelistBuilder>() {
+        @Override
+        public void consume(ChangelistBuilder builder) {
+          builder.processLocallyDeletedFile(locallyDeletedChange);
+        }
+      });
+    }
+
+    @Override
+    public void processModifiedWithoutCheckout(final VirtualFile file) {
+      myCalls.add(new Consumer<ChangelistBuilder>() {
+        @Override
+        public void consume(ChangelistBuilder builder) {
+          builder.processModifiedWithoutCheckout(file);
+        }
+      });
+    }
+
+    @Override
+    public void processIgnoredFile(final VirtualFile file) {
+      myCalls.add(new Consumer<ChangelistBuilder>() {
+        @Override
+        public void consume(ChangelistBuilder builder) {
+          builder.processIgnoredFile(file);
+        }
+      });
+    }
+
+    @Override
+    public void processLockedFolder(final VirtualFile file) {
+      myCalls.add(new Consumer<ChangelistBuilder>() {
+        @Override
+        public void consume(ChangelistBuilder builder) {
+          builder.processLockedFolder(file);
+        }
+      });
+    }
+
+    @Override
+    public void processLogicallyLockedFolder(final VirtualFile file, final LogicalLock logicalLock) {
+      myCalls.add(new Consumer<ChangelistBuilder>() {
+        @Override
+        public void consume(ChangelistBuilder builder) {
+          builder.processLogicallyLockedFolder(file, logicalLock);
+        }
+      });
+    }
+
+    @Override
+    public void processSwitchedFile(final VirtualFile file, final String branch, final boolean recursive) {
+      myCalls.add(new Consumer<ChangelistBuilder>() {
+        @Override
+        public void consume(ChangelistBuilder builder) {
+          builder.processSwitchedFile(file, branch, recursive);
+        }
+      });
+    }
+
+    @Override
+    public void processRootSwitch(final VirtualFile file, final String branch) {
+      myCalls.add(new Consumer<ChangelistBuilder>() {
+        @Override
+        public void consume(ChangelistBuilder builder) {
+          builder.processRootSwitch(file, branch);
+        }
+      });
+    }
+
+    @Override
+    public boolean reportChangesOutsideProject() {
+      return myReportChangesOutsideProject;
+    }
+
+    @Override
+    public void reportAdditionalInfo(final String text) {
+      myCalls.add(new Consumer<ChangelistBuilder>() {
+        @Override
+        public void consume(ChangelistBuilder builder) {
+          builder.reportAdditionalInfo(text);
+        }
+      });
+    }
+
+    @Override
+    public void reportAdditionalInfo(final Factory<JComponent> infoComponent) {
+      myCalls.add(new Consumer<ChangelistBuilder>() {
+        @Override
+        public void consume(ChangelistBuilder builder) {
+          builder.reportAdditionalInfo(infoComponent);
+        }
+      });
+    }
+  }
+
+  private static class SynchronizedGate implements ChangeListManagerGate {
+    private final ChangeListManagerGate myGate;
+
+    private SynchronizedGate(@NotNull ChangeListManagerGate gate) {
+      myGate = gate;
+    }
+
+    @Override
+    public synchronized List<LocalChangeList> getListsCopy() {
+      return myGate.getListsCopy();
+    }
+
+    @Override
+    public synchronized LocalChangeList findChangeList(String name) {
+      return myGate.findChangeList(name);
+    }
+
+    @Override
+    public synchronized LocalChangeList addChangeList(String name, String comment) {
+      return myGate.addChangeList(name, comment);
+    }
+
+    @Override
+    public synchronized LocalChangeList findOrCreateList(String name, String comment) {
+      return myGate.findOrCreateList(name, comment);
+    }
+
+    @Override
+    public synchronized void editComment(String name, String comment) {
+      myGate.editComment(name, comment);
+    }
+
+    @Override
+    public synchronized void editName(String oldName, String newName) {
+      myGate.editName(oldName, newName);
+    }
+
+    @Override
+    public synchronized void moveChanges(String toList, Collection<Change> changes) {
+      myGate.moveChanges(toList, changes);
+    }
+
+    @Override
+    public synchronized void setListsToDisappear(Collection<String> names) {
+      myGate.setListsToDisappear(names);
+    }
+
+    @Override
+    public synchronized FileStatus getStatus(VirtualFile file) {
+      return myGate.getStatus(file);
+    }
+
+    @Override
+    public synchronized FileStatus getStatus(File file) {
+      return myGate.getStatus(file);
+    }
+
+    @Override
+    public synchronized void setDefaultChangeList(@NotNull String list) {
+      myGate.setDefaultChangeList(list);
+    }
+  }
+}
@@ -124,6 +124,35 @@ public class VcsDirtyScopeImpl extends VcsModifiableDirtyScope {
     return myAffectedContentRoots;
   }
 
+  /**
+   * @return scopes containing the dirty files and directories of one VCS root each,
+   *         or null if some of the dirty files are not under a VCS root
+   */
+  @Nullable
+  public List<VcsDirtyScopeImpl> splitByRoots() {
+    final Set<VirtualFile> roots = new LinkedHashSet<VirtualFile>(myAffectedContentRoots);
+    roots.addAll(myDirtyDirectoriesRecursively.keySet());
+    roots.addAll(myDirtyFiles.keySet());
+    if (roots.contains(null)) return null;
+
+    final List<VcsDirtyScopeImpl> result = new ArrayList<VcsDirtyScopeImpl>(roots.size());
+    for (VirtualFile root : roots) {
+      final VcsDirtyScopeImpl scope = new VcsDirtyScopeImpl(myVcs, myProject);
+      final THashSet<FilePath> dirs = myDirtyDirectoriesRecursively.get(root);
+      if (dirs != null) {
+        scope.myDirtyDirectoriesRecursively.put(root, new THashSet<FilePath>((Collection<FilePath>)dirs));
+      }
+      final THashSet<FilePath> files = myDirtyFiles.get(root);
+      if (files != null) {
+        scope.myDirtyFiles.put(root, new THashSet<FilePath>((Collection<FilePath>)files));
+      }
+      scope.myAffectedContentRoots.add(root);
+      scope.myWasEverythingDirty = myWasEverythingDirty;
+      result.add(scope);
+    }
+    return result;
+  }
+
   public Project getProject() {
     return myProject;
   }
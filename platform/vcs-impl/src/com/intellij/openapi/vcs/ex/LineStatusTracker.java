@@ -30,6 +30,7 @@ import com.intellij.openapi.fileEditor.FileEditor;
 import com.intellij.openapi.fileEditor.FileEditorManager;
 import com.intellij.openapi.progress.ProcessCanceledException;
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Computable;
 import com.intellij.openapi.util.Key;
 import com.intellij.openapi.util.TextRange;
 import com.intellij.openapi.util.text.StringUtil;
@@ -38,6 +39,7 @@ import com.intellij.openapi.vcs.changes.VcsDirtyScopeManager;
 import com.intellij.openapi.vcs.history.VcsRevisionNumber;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.ui.EditorNotificationPanel;
+import com.intellij.util.Alarm;
 import com.intellij.util.diff.FilesTooBigForDiffException;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -55,6 +57,8 @@ import java.util.ListIterator;
 public class LineStatusTracker {
   private static final Logger LOG = Logger.getInstance("#com.intellij.openapi.vcs.ex.LineStatusTracker");
   private static final Key<CanNotCalculateDiffPanel> PANEL_KEY = new Key<CanNotCalculateDiffPanel>("LineStatusTracker.CanNotCalculateDiffPanel");
+  private static final int RECALCULATE_DELAY = 1000;
+  private static final int MAX_RECALCULATE_DELAY = 60 * 1000;
 
   private final Object myLock = new Object();
   // true -> have contents
@@ -78,6 +82,9 @@ public class LineStatusTracker {
   private FileEditorManager myFileEditorManager;
   private final VirtualFile myVirtualFile;
   private boolean myReleased = false;
+  // retries the whole file diff in background while the ranges can't be calculated
+  private final Alarm myRecalculateAlarm = new Alarm(Alarm.ThreadToUse.SHARED_THREAD);
+  private final RecalculationPolicy myRecalculationPolicy = new RecalculationPolicy();
 
   private LineStatusTracker(final Document document, final Document upToDateDocument, final Project project, final VirtualFile virtualFile) {
     myVirtualFile = virtualFile;
@@ -108,6 +115,7 @@ public class LineStatusTracker {
         myUpToDateDocument.setReadOnly(false);
         myUpToDateDocument.replaceString(0, myUpToDateDocument.getTextLength(), upToDateContent);
         myUpToDateDocument.setReadOnly(true);
+        myRecalculationPolicy.reset();
         reinstallRanges();
 
         if (myDocumentListener == null) {
@@ -142,19 +150,83 @@ public class LineStatusTracker {
       removeAnathema();
       removeHighlightersFromMarkupModel();
       try {
-        myRanges = new RangesBuilder(myDocument, myUpToDateDocument).getRanges();
+        myRanges = new ArrayList<Range>(new RangesBuilder(myDocument, myUpToDateDocument).getRanges());
       }
       catch (FilesTooBigForDiffException e) {
         myRanges.clear();
         installAnathema();
+        myRecalculationPolicy.failed(myDocument.getModificationStamp(), myUpToDateDocument.getModificationStamp());
         return;
       }
+      myRecalculationPolicy.reset();
       for (final Range range : myRanges) {
         range.setHighlighter(createHighlighter(range));
       }
     }
   }
 
+  private void scheduleRecalculation() {
+    myRecalculateAlarm.cancelAllRequests();
+    myRecalculateAlarm.addRequest(new Runnable() {
+      @Override
+      public void run() {
+        recalculateInBackground();
+      }
+    }, myRecalculationPolicy.getDelay());
+  }
+
+  /**
+   * Diffs the whole file once the document stops changing, and installs the ranges if neither the document
+   * nor the base revision changed meanwhile. Used while the incremental update can't be done; the diff isn't repeated
+   * for the texts it has already failed for, see {@link RecalculationPolicy}.
+   */
+  private void recalculateInBackground() {
+    final List<String> lines = new ArrayList<String>();
+    final List<String> upToDateLines = new ArrayList<String>();
+    final long[] stamps = new long[2];
+    final boolean applicable = myApplication.runReadAction(new Computable<Boolean>() {
+      @Override
+      public Boolean compute() {
+        synchronized (myLock) {
+          if (myReleased || !myAnathemaThrown || myBulkUpdate || BaseLoadState.LOADED != myBaseLoaded) return false;
+          lines.addAll(new DocumentWrapper(myDocument).getLines());
+          upToDateLines.addAll(new DocumentWrapper(myUpToDateDocument).getLines());
+          stamps[0] = myDocument.getModificationStamp();
+          stamps[1] = myUpToDateDocument.getModificationStamp();
+          return myRecalculationPolicy.isWorthTrying(stamps[0], stamps[1]);
+        }
+      }
+    });
+    if (!applicable) return;
+
+    final List<Range> ranges;
+    try {
+      ranges = new ArrayList<Range>(new RangesBuilder(lines, upToDateLines, 0, 0).getRanges());
+    }
+    catch (FilesTooBigForDiffException e) {
+      myRecalculationPolicy.failed(stamps[0], stamps[1]);
+      return;
+    }
+
+    myApplication.invokeLater(new Runnable() {
+      @Override
+      public void run() {
+        synchronized (myLock) {
+          if (myReleased || !myAnathemaThrown || myBulkUpdate || BaseLoadState.LOADED != myBaseLoaded) return;
+          if (myDocument.getModificationStamp() != stamps[0] || myUpToDateDocument.getModificationStamp() != stamps[1]) return;
+
+          myRecalculationPolicy.reset();
+          removeAnathema();
+          removeHighlightersFromMarkupModel();
+          myRanges = ranges;
+          for (Range range : myRanges) {
+            range.setHighlighter(createHighlighter(range));
+          }
+        }
+      }
+    });
+  }
+
   private void removeAnathema() {
     if (! myAnathemaThrown) return;
     myAnathemaThrown = false;
@@ -201,6 +273,7 @@ public class LineStatusTracker {
   }
 
   public void release() {
+    myRecalculateAlarm.cancelAllRequests();
     synchronized (myLock) {
       if (myDocumentListener != null) {
         myDocument.removeDocumentListener(myDocumentListener);
@@ -306,7 +379,7 @@ public class LineStatusTracker {
 
           myLinesBeforeChange = myDocument.getLineNumber(e.getOffset() + e.getOldLength()) - myDocument.getLineNumber(e.getOffset());
 
-          Range firstChangedRange = getLastRangeBeforeLine(myFirstChangedLine);
+          Range firstChangedRange = getLastRangeBeforeLine(myRanges, myFirstChangedLine);
 
           if (firstChangedRange == null) {
             myUpToDateFirstLine = myFirstChangedLine;
@@ -319,7 +392,7 @@ public class LineStatusTracker {
             myUpToDateFirstLine = firstChangedRange.getUOffset2() + myFirstChangedLine - firstChangedRange.getOffset2();
           }
 
-          Range myLastChangedRange = getLastRangeBeforeLine(myLastChangedLine);
+          Range myLastChangedRange = getLastRangeBeforeLine(myRanges, myLastChangedLine);
 
           if (myLastChangedRange == null) {
             myUpToDateLastLine = myLastChangedLine;
@@ -336,22 +409,16 @@ public class LineStatusTracker {
       }
     }
 
-    @Nullable
-    private Range getLastRangeBeforeLine(int line) {
-      Range result = null;
-      for (Range range : myRanges) {
-        if (range.isMoreThen(line)) return result;
-        result = range;
-      }
-      return result;
-    }
-
     @Override
     public void documentChanged(final DocumentEvent e) {
       myApplication.assertWriteAccessAllowed();
 
       synchronized (myLock) {
         if (myReleased) return;
+        if (myAnathemaThrown && !myBulkUpdate && BaseLoadState.LOADED == myBaseLoaded) {
+          scheduleRecalculation();
+          return;
+        }
         if (myBulkUpdate || myAnathemaThrown || BaseLoadState.LOADED != myBaseLoaded) return;
         try {
 
@@ -359,17 +426,19 @@ public class LineStatusTracker {
           int linesAfterChange = line - myDocument.getLineNumber(e.getOffset());
           int linesShift = linesAfterChange - myLinesBeforeChange;
 
-          List<Range> rangesAfterChange = getRangesAfter(myRanges, myLastChangedLine);
-          List<Range> rangesBeforeChange = getRangesBefore(myRanges, myFirstChangedLine);
-
-          List<Range> changedRanges = getChangedRanges(myFirstChangedLine, myLastChangedLine);
-
-          int newSize = rangesBeforeChange.size() + changedRanges.size() + rangesAfterChange.size();
-          if (myRanges.size() != newSize) {
+          int firstChangedIndex = getFirstRangeNotBefore(myRanges, myFirstChangedLine);
+          int firstIndexAfterChange = getFirstRangeAfter(myRanges, myLastChangedLine);
+          if (firstChangedIndex > firstIndexAfterChange) {
             LOG.info("Ranges: " + myRanges + "; first changed line: " + myFirstChangedLine + "; last changed line: " + myLastChangedLine);
             LOG.assertTrue(false);
+            reinstallRanges();
+            return;
           }
 
+          List<Range> rangesBeforeChange = myRanges.subList(0, firstChangedIndex);
+          List<Range> changedRanges = myRanges.subList(firstChangedIndex, firstIndexAfterChange);
+          List<Range> rangesAfterChange = myRanges.subList(firstIndexAfterChange, myRanges.size());
+
 
           myLastChangedLine += linesShift;
 
@@ -381,15 +450,22 @@ public class LineStatusTracker {
           if (!changedRanges.equals(newChangedRanges)) {
             replaceRanges(changedRanges, newChangedRanges);
 
-            myRanges = new ArrayList<Range>();
+            List<Range> ranges = new ArrayList<Range>(rangesBeforeChange.size() + newChangedRanges.size() + rangesAfterChange.size());
+            ranges.addAll(rangesBeforeChange);
+            ranges.addAll(newChangedRanges);
+            ranges.addAll(rangesAfterChange);
 
-            myRanges.addAll(rangesBeforeChange);
-            myRanges.addAll(newChangedRanges);
-            myRanges.addAll(rangesAfterChange);
+            // only the new ranges and their neighbours may need merging, the rest was merged before
+            int mergeFrom = Math.max(0, firstChangedIndex - 1);
+            int mergeTo = Math.min(ranges.size(), firstChangedIndex + newChangedRanges.size() + 1);
+            List<Range> merged = mergeRanges(ranges.subList(mergeFrom, mergeTo));
 
-            myRanges = mergeRanges(myRanges);
+            myRanges = new ArrayList<Range>(ranges.size());
+            myRanges.addAll(ranges.subList(0, mergeFrom));
+            myRanges.addAll(merged);
+            myRanges.addAll(ranges.subList(mergeTo, ranges.size()));
 
-            for (Range range : myRanges) {
+            for (Range range : merged) {
               if (!range.hasHighlighter()) range.setHighlighter(createHighlighter(range));
             }
 
@@ -414,6 +490,7 @@ public class LineStatusTracker {
         } catch (FilesTooBigForDiffException e1) {
           installAnathema();
           removeHighlightersFromMarkupModel();
+          myRecalculationPolicy.failed(myDocument.getModificationStamp(), myUpToDateDocument.getModificationStamp());
         }
       }
     }
@@ -536,6 +613,61 @@ public class LineStatusTracker {
     }
   }
 
+  /**
+   * @return the last range which is not more than the line, the ranges are sorted and don't overlap
+   */
+  @Nullable
+  static Range getLastRangeBeforeLine(@NotNull List<Range> ranges, int line) {
+    int low = 0;
+    int high = ranges.size();
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (ranges.get(middle).isMoreThen(line)) {
+        high = middle;
+      }
+      else {
+        low = middle + 1;
+      }
+    }
+    return low == 0 ? null : ranges.get(low - 1);
+  }
+
+  /**
+   * @return index of the first range ending at the line or after it, i.e. the ranges before it are {@link #getRangesBefore before} the line
+   */
+  static int getFirstRangeNotBefore(@NotNull List<Range> ranges, int line) {
+    int low = 0;
+    int high = ranges.size();
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (ranges.get(middle).getOffset2() >= line) {
+        high = middle;
+      }
+      else {
+        low = middle + 1;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * @return index of the first range starting after the line, i.e. the ranges starting from it are {@link #getRangesAfter after} the line
+   */
+  static int getFirstRangeAfter(@NotNull List<Range> ranges, int line) {
+    int low = 0;
+    int high = ranges.size();
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (ranges.get(middle).getOffset1() > line) {
+        high = middle;
+      }
+      else {
+        low = middle + 1;
+      }
+    }
+    return low;
+  }
+
   public static List<Range> getRangesBefore(List<Range> ranges, int line) {
     ArrayList<Range> result = new ArrayList<Range>();
 
@@ -656,6 +788,37 @@ public class LineStatusTracker {
     }
   }
 
+  /**
+   * Decides when to retry a whole file diff which failed with {@link FilesTooBigForDiffException}. The diff isn't retried
+   * until the document or the base revision changes, and the delay before a retry doubles with every failure,
+   * so that typing in a file which is too big to diff doesn't make it diffed again and again.
+   */
+  static class RecalculationPolicy {
+    private int myFailures;
+    private long myFailedStamp = -1;
+    private long myFailedBaseStamp = -1;
+
+    synchronized void failed(long stamp, long baseStamp) {
+      myFailures++;
+      myFailedStamp = stamp;
+      myFailedBaseStamp = baseStamp;
+    }
+
+    synchronized void reset() {
+      myFailures = 0;
+      myFailedStamp = -1;
+      myFailedBaseStamp = -1;
+    }
+
+    synchronized boolean isWorthTrying(long stamp, long baseStamp) {
+      return stamp != myFailedStamp || baseStamp != myFailedBaseStamp;
+    }
+
+    synchronized int getDelay() {
+      return (int)Math.min(MAX_RECALCULATE_DELAY, (long)RECALCULATE_DELAY << Math.min(Math.max(myFailures - 1, 0), 16));
+    }
+  }
+
   public static enum BaseLoadState {
     LOADING,
     FAILED,
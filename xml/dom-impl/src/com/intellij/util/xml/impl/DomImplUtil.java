@@ -15,11 +15,13 @@
  */
 package com.intellij.util.xml.impl;
 
+import com.intellij.lang.ASTNode;
 import com.intellij.openapi.diagnostic.Logger;
 import com.intellij.openapi.util.Condition;
 import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiInvalidElementAccessException;
+import com.intellij.psi.impl.source.tree.CompositeElement;
 import com.intellij.psi.impl.source.tree.TreeElement;
 import com.intellij.psi.xml.XmlFile;
 import com.intellij.psi.xml.XmlTag;
@@ -314,4 +316,12 @@ public class DomImplUtil {
       tag = (XmlTag)parentTag;
     }
   }
+
+  /**
+   * @return a number changed on every change inside the tag, or -1 if such changes can't be tracked
+   */
+  static int getSubtreeModificationCount(@NotNull XmlTag tag) {
+    final ASTNode node = tag.getNode();
+    return node instanceof CompositeElement ? ((CompositeElement)node).getModificationCount() : -1;
+  }
 }
@@ -80,6 +80,7 @@ public abstract class DomInvocationHandler<T extends AbstractDomChildDescription
   private final InvocationCache myInvocationCache;
   private volatile Converter myScalarConverter = null;
   private volatile SmartFMap<Method, Invocation> myAccessorInvocations = SmartFMap.emptyMap();
+  private volatile SmartFMap<AbstractCollectionChildDescription, CachedCollectionChildren> myCollectionChildren = SmartFMap.emptyMap();
   @Nullable protected final Stub myStub;
 
   protected DomInvocationHandler(Type type, DomParentStrategy parentStrategy,
@@ -819,8 +820,17 @@ public abstract class DomInvocationHandler<T extends AbstractDomChildDescription
     XmlTag tag = getXmlTag();
     if (tag == null) return Collections.emptyList();
 
+    final int tagModCount = DomImplUtil.getSubtreeModificationCount(tag);
+    final long structureModCount = myManager.getStructureModificationCount();
+    final CachedCollectionChildren cached = myCollectionChildren.get(description);
+    if (cached != null && cached.isUpToDate(tag, tagModCount, structureModCount)) {
+      return cached.myChildren;
+    }
+
     final List<XmlTag> subTags = tagsGetter.fun(this);
-    if (subTags.isEmpty()) return Collections.emptyList();
+    if (subTags.isEmpty()) {
+      return cacheCollectionChildren(description, tag, tagModCount, structureModCount, Collections.<DomElement>emptyList());
+    }
 
     List<DomElement> elements = new ArrayList<DomElement>(subTags.size());
     for (XmlTag subTag : subTags) {
@@ -834,7 +844,42 @@ public abstract class DomInvocationHandler<T extends AbstractDomChildDescription
         elements.add(semElement.getProxy());
       }
     }
-    return Collections.unmodifiableList(elements);
+    return cacheCollectionChildren(description, tag, tagModCount, structureModCount, Collections.unmodifiableList(elements));
+  }
+
+  private List<DomElement> cacheCollectionChildren(AbstractCollectionChildDescription description,
+                                                   XmlTag tag,
+                                                   int tagModCount,
+                                                   long structureModCount,
+                                                   List<DomElement> children) {
+    if (tagModCount >= 0) {
+      final CachedCollectionChildren cached = new CachedCollectionChildren(tag, tagModCount, structureModCount, children);
+      myCollectionChildren = myCollectionChildren.plus(description, cached);
+    }
+    return children;
+  }
+
+  /**
+   * Collection children of a tag, valid while nothing inside the tag is changed and there are no structure changes,
+   * see {@link DomManagerImpl#getStructureModificationCount()}. Edits elsewhere in the file (e.g. in sibling tags)
+   * don't invalidate them, so the children of unchanged tags needn't be looked up again after each keystroke.
+   */
+  private static class CachedCollectionChildren {
+    private final XmlTag myTag;
+    private final int myTagModCount;
+    private final long myStructureModCount;
+    private final List<DomElement> myChildren;
+
+    CachedCollectionChildren(XmlTag tag, int tagModCount, long structureModCount, List<DomElement> children) {
+      myTag = tag;
+      myTagModCount = tagModCount;
+      myStructureModCount = structureModCount;
+      myChildren = children;
+    }
+
+    boolean isUpToDate(XmlTag tag, int tagModCount, long structureModCount) {
+      return myTag == tag && myTagModCount == tagModCount && myStructureModCount == structureModCount;
+    }
   }
 
   private static class StableCopyFactory<T extends DomElement> implements NullableFactory<T> {
@@ -23,6 +23,7 @@ import com.intellij.pom.event.PomModelEvent;
 import com.intellij.pom.event.PomModelListener;
 import com.intellij.pom.xml.XmlAspect;
 import com.intellij.pom.xml.XmlChangeSet;
+import com.intellij.pom.xml.events.*;
 import com.intellij.psi.*;
 import com.intellij.psi.impl.PsiManagerEx;
 import com.intellij.psi.xml.XmlAttribute;
@@ -76,6 +77,7 @@ public final class DomManagerImpl extends DomManager {
   private final PsiFileFactory myFileFactory;
 
   private long myModificationCount;
+  private long myStructureModificationCount;
   private boolean myChanging;
   private final ProjectFileIndex myFileIndex;
   private final SemService mySemService;
@@ -90,10 +92,11 @@ public final class DomManagerImpl extends DomManager {
       public void modelChanged(PomModelEvent event) {
         final XmlChangeSet changeSet = (XmlChangeSet)event.getChangeSet(xmlAspect);
         if (changeSet != null && !myChanging) {
+          final boolean structural = !isTagContentsChange(changeSet);
           for (XmlFile file : changeSet.getChangedFiles()) {
             DomFileElementImpl<DomElement> element = getCachedFileElement(file);
             if (element != null) {
-              fireEvent(new DomEvent(element, false));
+              fireEvent(new DomEvent(element, false), structural);
             }
           }
         }
@@ -248,11 +251,49 @@ public final class DomManagerImpl extends DomManager {
   }
 
   final void fireEvent(DomEvent event) {
+    fireEvent(event, true);
+  }
+
+  private void fireEvent(DomEvent event, boolean structural) {
     if (mySemService.isInsideAtomicChange()) return;
     myModificationCount++;
+    if (structural) {
+      myStructureModificationCount++;
+    }
     myListeners.getMulticaster().eventOccured(event);
   }
 
+  /**
+   * @return true if the changes can only affect the tags they are made in: the sub-tags of other tags, even of the
+   * ancestors of the changed ones, stay the same. Changes of namespace declarations, tag headers and the document
+   * as a whole can change the sub-tags found by name anywhere below them, so they aren't.
+   */
+  private static boolean isTagContentsChange(@NotNull XmlChangeSet changeSet) {
+    for (XmlChange change : changeSet.getChanges()) {
+      if (change instanceof XmlTextChanged || change instanceof XmlTagChildAdd || change instanceof XmlTagChildRemoved) {
+        continue;
+      }
+      if (change instanceof XmlTagChildChanged && !(((XmlTagChildChanged)change).getChild() instanceof XmlTag)) {
+        continue;
+      }
+      if (change instanceof XmlAttributeSet && !isNamespaceDeclaration(((XmlAttributeSet)change).getName())) {
+        continue;
+      }
+      if (change instanceof XmlElementChanged) {
+        final XmlElement element = ((XmlElementChanged)change).getElement();
+        if (element instanceof XmlAttribute && !((XmlAttribute)element).isNamespaceDeclaration()) {
+          continue;
+        }
+      }
+      return false;
+    }
+    return true;
+  }
+
+  private static boolean isNamespaceDeclaration(@Nullable String attributeName) {
+    return attributeName != null && (attributeName.equals("xmlns") || attributeName.startsWith("xmlns:"));
+  }
+
   public final DomGenericInfo getGenericInfo(final Type type) {
     return myApplicationComponent.getStaticGenericInfo(type);
   }
@@ -483,6 +524,14 @@ public final class DomManagerImpl extends DomManager {
     return myApplicationComponent.getTypeChooserManager();
   }
 
+  /**
+   * @return a number changed on DOM changes which can affect the sub-tags of unchanged tags, e.g. on namespace declaration
+   * changes, but not on the changes inside tags made by typing
+   */
+  final long getStructureModificationCount() {
+    return myStructureModificationCount;
+  }
+
   public long getModificationCount() {
     return myModificationCount + PsiManager.getInstance(myProject).getModificationTracker().getOutOfCodeBlockModificationCount();
   }
@@ -491,6 +540,7 @@ public final class DomManagerImpl extends DomManager {
     mySemService.performAtomicChange(change);
     if (!mySemService.isInsideAtomicChange()) {
       myModificationCount++;
+      myStructureModificationCount++;
     }
   }
 
@@ -666,6 +666,63 @@ public class TreeIncrementalUpdateTest extends DomTestCase {
   }
 
 
+  public void testEditKeepsSiblingCollectionChildren() throws Throwable {
+    final MyElement rootElement = createPhysicalElement("<?xml version='1.0' encoding='UTF-8'?>\n" +
+                                                        "<a>\n" +
+                                                        " <child-element><boy/><boy/></child-element>\n" +
+                                                        " <child-element><girl/></child-element>\n" +
+                                                        "</a>");
+    final MyElement edited = rootElement.getChildElements().get(0);
+    final MyElement sibling = rootElement.getChildElements().get(1);
+    assertEquals(2, edited.getBoys().size());
+    final List<MyElement> girls = sibling.getGirls();
+    assertEquals(1, girls.size());
+
+    final XmlTag boyTag = edited.getBoys().get(1).getXmlTag();
+    assertNotNull(boyTag);
+    final int offset = boyTag.getTextRange().getEndOffset();
+    new WriteCommandAction(getProject()) {
+      @Override
+      protected void run(Result result) throws Throwable {
+        final Document document = getDocument(DomUtil.getFile(rootElement));
+        document.insertString(offset, "<boy/>");
+        commitDocument(document);
+      }
+    }.execute();
+
+    assertEquals(3, rootElement.getChildElements().get(0).getBoys().size());
+    assertTrue(sibling.isValid());
+    assertSame(girls, sibling.getGirls());
+  }
+
+  public void testNamespaceDeclarationChangeResetsCollectionChildren() throws Throwable {
+    final MyElement rootElement = createPhysicalElement("<?xml version='1.0' encoding='UTF-8'?>\n" +
+                                                        "<a>\n" +
+                                                        " <child-element xmlns:x=\"foo\"><boy/></child-element>\n" +
+                                                        " <child-element><girl/></child-element>\n" +
+                                                        "</a>");
+    final MyElement edited = rootElement.getChildElements().get(0);
+    final MyElement sibling = rootElement.getChildElements().get(1);
+    final List<MyElement> girls = sibling.getGirls();
+    assertEquals(1, girls.size());
+
+    final XmlTag tag = edited.getXmlTag();
+    assertNotNull(tag);
+    final int offset = tag.getAttribute("xmlns:x").getValueElement().getValueTextRange().getEndOffset();
+    new WriteCommandAction(getProject()) {
+      @Override
+      protected void run(Result result) throws Throwable {
+        final Document document = getDocument(DomUtil.getFile(rootElement));
+        document.insertString(offset, "o");
+        commitDocument(document);
+      }
+    }.execute();
+
+    assertTrue(sibling.isValid());
+    assertNotSame(girls, sibling.getGirls());
+    assertEquals(girls, sibling.getGirls());
+  }
+
   public interface MyElement extends DomElement{
     MyElement getChild();
     @SubTag(value="child",index=1) MyElement getChild2();